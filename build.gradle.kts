@@ -8,6 +8,7 @@ plugins {
     id("com.github.spotbugs") version "6.0.25"
     jacoco
     id("info.solidsoft.pitest") version "1.15.0"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "nu.csse.sqe"
@@ -25,6 +26,29 @@ tasks.named<JavaExec>("run") {
     standardInput = System.`in`
 }
 
+// Usage: ./gradlew simulate --args="<games> <players> <seed> <strategy>"
+tasks.register<JavaExec>("simulate") {
+    group = "application"
+    description = "Runs headless bot-vs-bot games without console input."
+    mainClass = "domain.HeadlessSimulation"
+    classpath = sourceSets.main.get().runtimeClasspath
+}
+
+// Usage: ./gradlew tournament --args="<games> <players> <threads> <seed> <strategies> <card balance file>"
+tasks.register<JavaExec>("tournament") {
+    group = "application"
+    description = "Runs bot strategies against each other on every core."
+    mainClass = "domain.TournamentRunner"
+    classpath = sourceSets.main.get().runtimeClasspath
+}
+
+// Usage: ./gradlew serve --args="<port> <threads>"
+tasks.register<JavaExec>("serve") {
+    group = "application"
+    description = "Hosts many games for remote players over a line protocol."
+    mainClass = "domain.TableSocketServer"
+    classpath = sourceSets.main.get().runtimeClasspath
+}
 
 dependencies {
     implementation("com.puppycrawl.tools:checkstyle:10.18.2")
@@ -32,6 +56,7 @@ dependencies {
     testImplementation("org.junit.jupiter:junit-jupiter")
     // https://mvnrepository.com/artifact/org.easymock/easymock
     testImplementation("org.easymock:easymock:5.4.0")
+    testImplementation("org.openjdk.jmh:jmh-core:1.37")
     spotbugs("com.github.spotbugs:spotbugs:4.8.6")
     spotbugsPlugins("com.h3xstream.findsecbugs:findsecbugs-plugin:1.13.0")
 }
@@ -50,6 +75,12 @@ tasks.test {
     useJUnitPlatform()
 }
 
+// BenchmarkSmokeTest runs every benchmark method once, so tests see the jmh classes
+sourceSets.test {
+    compileClasspath += sourceSets["jmh"].output
+    runtimeClasspath += sourceSets["jmh"].output
+}
+
 tasks.withType<Checkstyle>().configureEach {
     reports {
         xml.required = false
@@ -97,6 +128,27 @@ tasks.spotbugsTest {
     }
 }
 
+// Usage: ./gradlew jmh (or -Pjmh.includes=Deck to run a single benchmark class)
+jmh {
+    jmhVersion = "1.37"
+    fork = 1
+    warmupIterations = 3
+    warmup = "1s"
+    iterations = 5
+    timeOnIteration = "1s"
+    profilers = listOf("gc")
+    resultFormat = "JSON"
+    resultsFile = layout.buildDirectory.file("reports/jmh/results.json")
+    includeTests = false
+    if (project.hasProperty("jmh.includes")) {
+        includes = listOf(project.property("jmh.includes").toString())
+    }
+}
+
+tasks.named("spotbugsJmh") {
+    enabled = false
+}
+
 jacoco {
     toolVersion = "0.8.13"
 }
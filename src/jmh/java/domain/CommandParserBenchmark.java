@@ -0,0 +1,48 @@
+package domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class CommandParserBenchmark {
+	private static final CardType[] HAND = {CardType.DEFUSE, CardType.SKIP,
+			CardType.SEE_THE_FUTURE, CardType.ALTER_THE_FUTURE};
+
+	@Param({"draw", "play skip", "play  see the future", "play futu"})
+	public String line;
+
+	private final CommandParser parser = new CommandParser();
+	private Player player;
+
+	@Setup
+	public void dealHand() {
+		CardFactory cardFactory = new CardFactory();
+		player = new Player(new Hand());
+		for (CardType cardType : HAND) {
+			player.addCardToHand(cardFactory.createCard(cardType));
+		}
+	}
+
+	@Benchmark
+	public CommandParser.Command parse() {
+		return parser.parse(line);
+	}
+
+	@Benchmark
+	public CardType parseAndResolveCard() {
+		if (parser.parse(line) != CommandParser.Command.PLAY) {
+			return null;
+		}
+		return parser.resolveArgument(player);
+	}
+}
@@ -0,0 +1,119 @@
+package domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class DeckBenchmark {
+	private static final int NUMBER_OF_PLAYERS = 4;
+	private static final int CARDS_PER_INVOCATION = 40;
+	private static final long SEED = 42L;
+
+	@Param({"list", "ordinal"})
+	public String deckKind;
+
+	private List<Card> initialCards;
+	private Card insertedCard;
+	private List<Integer> topThreeIndices;
+	private Deck deck;
+
+	@State(Scope.Thread)
+	public static class FreshDeck {
+		private Deck deck;
+
+		@Setup(Level.Invocation)
+		public void resetDeck(DeckBenchmark benchmark) {
+			deck = benchmark.createDeck(benchmark.initialCards);
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class ShuffleRandom {
+		@Param({"secure", "fast"})
+		public String randomKind;
+
+		private GameRandom random;
+
+		@Setup(Level.Trial)
+		public void createRandom() {
+			random = "secure".equals(randomKind)
+					? new SecureGameRandom() : new FastGameRandom(SEED);
+		}
+	}
+
+	@Setup(Level.Trial)
+	public void createCards() {
+		CardFactory cardFactory = new CardFactory();
+		initialCards = new ArrayList<>(
+				GameEngine.createInitialDeck(cardFactory, NUMBER_OF_PLAYERS));
+		initialCards.addAll(cardFactory.createCards(CardType.EXPLODING_KITTEN,
+				NUMBER_OF_PLAYERS - 1));
+		if (initialCards.size() < CARDS_PER_INVOCATION) {
+			throw new IllegalStateException("Deck has fewer than "
+					+ CARDS_PER_INVOCATION + " cards to draw");
+		}
+		insertedCard = cardFactory.createCard(CardType.DEFUSE);
+		int top = initialCards.size() - 1;
+		topThreeIndices = List.of(top - 2, top, top - 1);
+	}
+
+	@Setup(Level.Iteration)
+	public void createDeck() {
+		deck = createDeck(initialCards);
+	}
+
+	private Deck createDeck(List<Card> cards) {
+		return "ordinal".equals(deckKind) ? new OrdinalDeck(cards) : new ListDeck(cards);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(CARDS_PER_INVOCATION)
+	public void draw(FreshDeck freshDeck, Blackhole blackhole) {
+		for (int card = 0; card < CARDS_PER_INVOCATION; card++) {
+			blackhole.consume(freshDeck.deck.draw());
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(CARDS_PER_INVOCATION)
+	public int insertCardAt(FreshDeck freshDeck) {
+		Deck freshCards = freshDeck.deck;
+		for (int card = 0; card < CARDS_PER_INVOCATION; card++) {
+			freshCards.insertCardAt(insertedCard, freshCards.getDeckSize() / 2);
+		}
+		return freshCards.getDeckSize();
+	}
+
+	@Benchmark
+	public Deck shuffleDeck(ShuffleRandom shuffleRandom) {
+		deck.shuffleDeck(shuffleRandom.random);
+		return deck;
+	}
+
+	@Benchmark
+	public Deck moveAllExplodingKittensToTop() {
+		deck.moveAllExplodingKittensToTop();
+		return deck;
+	}
+
+	@Benchmark
+	public Deck rearrangeTopThreeCards() {
+		deck.rearrangeTopThreeCards(topThreeIndices);
+		return deck;
+	}
+}
@@ -0,0 +1,105 @@
+package domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class EndgameSolverBenchmark {
+	private static final int NUMBER_OF_PLAYERS = 2;
+	private static final int POSITIONS = 32;
+	private static final int LOG2_ENTRIES = 16;
+	private static final long SEED = 23L;
+	private static final CardType[] POOL = {
+		CardType.NORMAL,
+		CardType.NORMAL,
+		CardType.SEE_THE_FUTURE,
+		CardType.SHUFFLE,
+		CardType.SKIP,
+		CardType.ATTACK,
+		CardType.REVERSE,
+		CardType.BURY,
+		CardType.SWAP_TOP_AND_BOTTOM,
+		CardType.NUKE,
+		CardType.ALTER_THE_FUTURE,
+		CardType.FAVOR,
+		CardType.DEFUSE
+	};
+
+	@Param({"6", "10"})
+	public int deckSize;
+
+	@Param({"3"})
+	public int handSize;
+
+	private final TranspositionTable table = new TranspositionTable(LOG2_ENTRIES);
+	private final EndgameSolver solver = new EndgameSolver(table);
+	private final List<Deck> decks = new ArrayList<>();
+	private final List<PlayerManager> playerManagers = new ArrayList<>();
+	private final List<TurnManager> turnManagers = new ArrayList<>();
+	private int next;
+
+	@Setup(Level.Trial)
+	public void createPositions() {
+		SplittableRandom random = new SplittableRandom(SEED);
+		CardFactory cardFactory = new CardFactory();
+		for (int position = 0; position < POSITIONS; position++) {
+			List<Card> cards = new ArrayList<>();
+			for (int i = 1; i < deckSize; i++) {
+				CardType cardType = POOL[random.nextInt(POOL.length)];
+				cards.add(cardFactory.createCard(cardType));
+			}
+			cards.add(random.nextInt(deckSize),
+					cardFactory.createCard(CardType.EXPLODING_KITTEN));
+			Deck deck = new ListDeck(cards);
+			PlayerManager playerManager = new PlayerManager(deck);
+			playerManager.addPlayers(NUMBER_OF_PLAYERS);
+			for (Player player : playerManager.getPlayers()) {
+				for (int i = 0; i < handSize; i++) {
+					CardType cardType = POOL[random.nextInt(POOL.length)];
+					player.addCardToHand(cardFactory.createCard(cardType));
+				}
+			}
+			TurnManager turnManager = new CircularTurnManager();
+			turnManager.setPlayerManager(playerManager);
+			turnManager.setRequiredTurns(1);
+			decks.add(deck);
+			playerManagers.add(playerManager);
+			turnManagers.add(turnManager);
+		}
+	}
+
+	@Setup(Level.Invocation)
+	public void nextPosition() {
+		next = (next + 1) % POSITIONS;
+	}
+
+	@Benchmark
+	public EndgameSolver.Solution solveCold() {
+		table.clear();
+		return solve();
+	}
+
+	@Benchmark
+	public EndgameSolver.Solution solveWarm() {
+		return solve();
+	}
+
+	private EndgameSolver.Solution solve() {
+		return solver.solve(decks.get(next), playerManagers.get(next),
+				turnManagers.get(next));
+	}
+}
@@ -0,0 +1,64 @@
+package domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class HandBenchmark {
+	private static final CardType[] STARTING_HAND = {CardType.DEFUSE,
+			CardType.ATTACK, CardType.SKIP, CardType.SKIP, CardType.FAVOR,
+			CardType.SEE_THE_FUTURE, CardType.NORMAL, CardType.NUKE};
+
+	private Hand hand;
+	private Card addedCard;
+
+	@State(Scope.Thread)
+	public static class PlayerInput {
+		@Param({"skip", "see the future", "futu", "taco cat"})
+		public String cardName;
+	}
+
+	@Setup(Level.Iteration)
+	public void dealHand() {
+		CardFactory cardFactory = new CardFactory();
+		hand = new Hand();
+		for (CardType cardType : STARTING_HAND) {
+			hand.addCard(cardFactory.createCard(cardType));
+		}
+		addedCard = cardFactory.createCard(CardType.SHUFFLE);
+	}
+
+	@Benchmark
+	public Hand addCard() {
+		hand.addCard(addedCard);
+		return hand;
+	}
+
+	@Benchmark
+	public Hand addAndRemoveCard() {
+		hand.addCard(addedCard);
+		hand.removeCard(addedCard);
+		return hand;
+	}
+
+	@Benchmark
+	public int getNumberOfCards() {
+		return hand.getNumberOfCards();
+	}
+
+	@Benchmark
+	public CardType parseCardType(PlayerInput input) {
+		return hand.parseCardType(input.cardName);
+	}
+}
@@ -0,0 +1,50 @@
+package domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class IsmctsBenchmark {
+	private static final int NUMBER_OF_PLAYERS = 4;
+	private static final int ITERATIONS = 1_000;
+	private static final long TIME_BUDGET_MILLIS = 60_000;
+	private static final int TURNS_BEFORE_DECISION = 6;
+	private static final long SEED = 17L;
+
+	@Param({"1", "4"})
+	public int parallelism;
+
+	private IsmctsDecisionMaker decisionMaker;
+	private Player player;
+
+	@Setup(Level.Trial)
+	public void startGame() {
+		GameEngine game = GameEngine.createHeadlessGame(NUMBER_OF_PLAYERS,
+				new RandomDecisionMaker(new SplittableRandom(SEED)),
+				new FastGameRandom(SEED));
+		game.initializeGame();
+		for (int turn = 0; turn < TURNS_BEFORE_DECISION; turn++) {
+			game.playTurn();
+		}
+		player = game.getTurnManager().getCurrentActivePlayer();
+		decisionMaker = new IsmctsDecisionMaker(new SplittableRandom(SEED), ITERATIONS,
+				TIME_BUDGET_MILLIS, parallelism);
+	}
+
+	@Benchmark
+	public String chooseCommand() {
+		return decisionMaker.chooseCommand(player);
+	}
+}
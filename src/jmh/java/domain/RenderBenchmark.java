@@ -0,0 +1,54 @@
+package domain;
+
+import locale.LocaleManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import ui.ConsoleRenderer;
+import ui.UserInterface;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class RenderBenchmark {
+	private static final CardType[] STARTING_HAND = {CardType.DEFUSE,
+			CardType.ATTACK, CardType.SKIP, CardType.SKIP, CardType.FAVOR,
+			CardType.SEE_THE_FUTURE, CardType.NORMAL, CardType.NUKE};
+
+	@Param({"EVERY_WRITE", "EVERY_FRAME", "NULL"})
+	public String sinkKind;
+
+	private ConsoleRenderer renderer;
+	private UserInterface userInterface;
+	private Player player;
+
+	@Setup
+	public void createFrame() {
+		renderer = "NULL".equals(sinkKind)
+				? ConsoleRenderer.nullRenderer()
+				: ConsoleRenderer.buffered(OutputStream.nullOutputStream(),
+						ConsoleRenderer.FlushPolicy.valueOf(sinkKind));
+		userInterface = new UserInterface(new LocaleManager(), renderer);
+		CardFactory cardFactory = new CardFactory();
+		player = new Player(new Hand());
+		for (CardType cardType : STARTING_HAND) {
+			player.addCardToHand(cardFactory.createCard(cardType));
+		}
+	}
+
+	@Benchmark
+	public ConsoleRenderer renderTurn() {
+		userInterface.displayPlayerHand(player);
+		userInterface.displayInstructions();
+		renderer.endFrame();
+		return renderer;
+	}
+}
@@ -0,0 +1,55 @@
+package domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class ReplayBenchmark {
+	private static final long SEED = 42L;
+
+	@Param({"4", "100"})
+	public int numberOfPlayers;
+
+	private Path logFile;
+	private GameReplayer replayer;
+
+	@Setup
+	public void recordGame() throws IOException {
+		logFile = Files.createTempFile("replay-benchmark", ".log");
+		Files.delete(logFile);
+		GameEngine gameEngine = GameEngine.createHeadlessGame(numberOfPlayers,
+				new RandomDecisionMaker(new SplittableRandom(SEED)),
+				new FastGameRandom(SEED));
+		try (GameEventLog eventLog = GameEventLog.create(logFile)) {
+			gameEngine.setEventListener(eventLog);
+			gameEngine.initializeGame();
+			gameEngine.runGameLoop();
+		}
+		replayer = GameReplayer.open(logFile);
+	}
+
+	@TearDown
+	public void deleteLog() throws IOException {
+		Files.deleteIfExists(logFile);
+	}
+
+	@Benchmark
+	public GameEngine replayAll() {
+		return replayer.replayAll();
+	}
+}
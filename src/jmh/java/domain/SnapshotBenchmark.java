@@ -0,0 +1,56 @@
+package domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.ByteBuffer;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class SnapshotBenchmark {
+	private static final long SEED = 42L;
+	private static final int TURNS_BEFORE_SNAPSHOT = 10;
+
+	@Param({"4", "100"})
+	public int numberOfPlayers;
+
+	private GameEngine gameEngine;
+	private ByteBuffer buffer;
+
+	@Setup
+	public void startGame() {
+		gameEngine = GameEngine.createHeadlessGame(numberOfPlayers,
+				new RandomDecisionMaker(new SplittableRandom(SEED)),
+				new FastGameRandom(SEED));
+		gameEngine.initializeGame();
+		for (int i = 0; i < TURNS_BEFORE_SNAPSHOT; i++) {
+			gameEngine.playTurn();
+		}
+		buffer = ByteBuffer.allocateDirect(GameSnapshot.sizeOf(gameEngine));
+	}
+
+	@Benchmark
+	public ByteBuffer save() {
+		buffer.clear();
+		GameSnapshot.save(gameEngine, buffer);
+		return buffer;
+	}
+
+	@Benchmark
+	public GameEngine saveAndRestore() {
+		buffer.clear();
+		GameSnapshot.save(gameEngine, buffer);
+		buffer.flip();
+		GameSnapshot.restore(gameEngine, buffer);
+		return gameEngine;
+	}
+}
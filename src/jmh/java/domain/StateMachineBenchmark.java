@@ -0,0 +1,75 @@
+package domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class StateMachineBenchmark {
+	private static final long SEED = 42L;
+	private static final int NUMBER_OF_PLAYERS = 4;
+
+	@Param({"1000", "10000"})
+	public int numberOfGames;
+
+	private long round;
+
+	@Benchmark
+	public int interleaveGamesOnOneThread() {
+		GameStateMachine[] games = new GameStateMachine[numberOfGames];
+		DecisionMaker[] players = new DecisionMaker[numberOfGames];
+		long seed = SEED + round++ * numberOfGames;
+		for (int game = 0; game < numberOfGames; game++) {
+			games[game] = GameStateMachine.create(NUMBER_OF_PLAYERS,
+					new FastGameRandom(seed + game));
+			players[game] = new RandomDecisionMaker(new SplittableRandom(seed + game));
+		}
+		int inputs = 0;
+		int running = numberOfGames;
+		while (running > 0) {
+			running = 0;
+			for (int game = 0; game < numberOfGames; game++) {
+				if (!games[game].isGameOver()) {
+					games[game].submit(answer(games[game], players[game]));
+					inputs++;
+					running++;
+				}
+			}
+		}
+		return inputs;
+	}
+
+	private static String answer(GameStateMachine game, DecisionMaker players) {
+		Player player = game.getGameEngine().getPlayerManager()
+				.getPlayerByIndex(game.getAwaitingSeat());
+		switch (game.getState()) {
+			case AWAITING_COMMAND:
+				return players.chooseCommand(player);
+			case AWAITING_FAVOR_TARGET:
+				return Integer.toString(players.choosePlayerToTakeCardFrom(player,
+						game.getMaximum()));
+			case AWAITING_FAVOR_CARD:
+				CardType cardType = players.chooseCardToGive(player);
+				return cardType == null ? "" : cardType.name();
+			case AWAITING_REARRANGE_INDEX:
+				return Integer.toString(players.chooseRearrangeIndex(player,
+						game.getPosition(), game.getMinimum(),
+						game.getMaximum()));
+			case AWAITING_BURY_INDEX:
+				return Integer.toString(players.chooseBuryIndex(player,
+						game.getMaximum()));
+			default:
+				return Integer.toString(players.chooseKittenPlacement(player,
+						game.getMaximum()));
+		}
+	}
+}
@@ -0,0 +1,88 @@
+package domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class StrategyBenchmark {
+	private static final int NUMBER_OF_PLAYERS = 4;
+	private static final int DECK_SIZE = 12;
+	private static final long SEED = 7L;
+	private static final CardType[] HAND = {CardType.DEFUSE, CardType.ATTACK,
+			CardType.SKIP, CardType.FAVOR, CardType.ALTER_THE_FUTURE, CardType.NORMAL};
+
+	@Param({"random", "greedy-defuse-hoarder", "probability-aware"})
+	public String strategy;
+
+	private DecisionMaker decisionMaker;
+	private Player player;
+	private int minIndex;
+	private int maxIndex;
+
+	@Setup(Level.Trial)
+	public void seatPlayers() {
+		CardFactory cardFactory = new CardFactory();
+		List<Card> cards = new ArrayList<>();
+		for (int i = 0; i < DECK_SIZE; i++) {
+			cards.add(cardFactory.createCard(i % NUMBER_OF_PLAYERS == 0
+					? CardType.EXPLODING_KITTEN : CardType.NORMAL));
+		}
+		PlayerManager playerManager = new PlayerManager(new OrdinalDeck(cards));
+		playerManager.addPlayers(NUMBER_OF_PLAYERS);
+		for (Player seated : playerManager.getPlayers()) {
+			for (CardType cardType : HAND) {
+				seated.addCardToHand(cardFactory.createCard(cardType));
+			}
+		}
+		player = playerManager.getPlayerByIndex(0);
+		decisionMaker = PlayerStrategy.forName(strategy)
+				.create(new SplittableRandom(SEED));
+		maxIndex = DECK_SIZE - 1;
+		minIndex = maxIndex - 2;
+	}
+
+	@Benchmark
+	public String chooseCommand() {
+		return decisionMaker.chooseCommand(player);
+	}
+
+	@Benchmark
+	public int choosePlayerToTakeCardFrom() {
+		return decisionMaker.choosePlayerToTakeCardFrom(player, NUMBER_OF_PLAYERS - 1);
+	}
+
+	@Benchmark
+	public CardType chooseCardToGive() {
+		return decisionMaker.chooseCardToGive(player);
+	}
+
+	@Benchmark
+	public int chooseRearrangeIndices() {
+		int sum = 0;
+		for (int position = 0; position <= maxIndex - minIndex; position++) {
+			sum += decisionMaker.chooseRearrangeIndex(player, position,
+					minIndex, maxIndex);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public int chooseKittenPlacement() {
+		return decisionMaker.chooseKittenPlacement(player, DECK_SIZE)
+				+ decisionMaker.chooseBuryIndex(player, DECK_SIZE);
+	}
+}
@@ -0,0 +1,57 @@
+package domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class TurnManagerBenchmark {
+	@Param({"2", "5"})
+	public int numberOfPlayers;
+
+	@Param({"queue", "circular"})
+	public String turnManagerKind;
+
+	private TurnManager turnManager;
+	private List<Player> players;
+
+	@Setup(Level.Iteration)
+	public void seatPlayers() {
+		PlayerManager playerManager = new PlayerManager(new ListDeck(List.of()));
+		playerManager.addPlayers(numberOfPlayers);
+		players = playerManager.getPlayers();
+		turnManager = "circular".equals(turnManagerKind)
+				? new CircularTurnManager() : new TurnManager();
+		turnManager.setPlayerManager(playerManager);
+	}
+
+	@Benchmark
+	public TurnManager advanceToNextPlayer() {
+		turnManager.advanceToNextPlayer();
+		return turnManager;
+	}
+
+	@Benchmark
+	public TurnManager reverseOrder() {
+		turnManager.reverseOrder();
+		return turnManager;
+	}
+
+	@Benchmark
+	public TurnManager addTurnForCurrentPlayer() {
+		turnManager.addTurnForCurrentPlayer();
+		turnManager.syncWith(players);
+		return turnManager;
+	}
+}
@@ -1,6 +1,8 @@
 package domain;
 
 public class AlterTheFutureCard extends Card {
+	private static final CardEffect EFFECT = new AlterTheFutureEffect();
+
 
 	public AlterTheFutureCard() {
 		super(CardType.ALTER_THE_FUTURE);
@@ -8,7 +10,7 @@ public class AlterTheFutureCard extends Card {
 
 	@Override
 	public CardEffect createEffect() {
-		return new AlterTheFutureEffect();
+		return EFFECT;
 	}
 
 	private static class AlterTheFutureEffect implements CardEffect {
@@ -1,6 +1,8 @@
 package domain;
 
 public class AttackCard extends Card {
+	private static final CardEffect EFFECT = new AttackEffect();
+
 
 	public AttackCard() {
 		super(CardType.ATTACK);
@@ -8,7 +10,7 @@ public class AttackCard extends Card {
 
 	@Override
 	public CardEffect createEffect() {
-		return new AttackEffect();
+		return EFFECT;
 	}
 
 	private static class AttackEffect implements CardEffect {
@@ -1,13 +1,15 @@
 package domain;
 
 public class BuryCard extends Card {
+	private static final CardEffect EFFECT = new BuryEffect();
+
 	public BuryCard() {
 		super(CardType.BURY);
 	}
 
 	@Override
 	public CardEffect createEffect() {
-		return new BuryEffect();
+		return EFFECT;
 	}
 
 	private static class BuryEffect implements CardEffect {
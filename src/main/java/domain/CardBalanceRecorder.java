@@ -0,0 +1,65 @@
+package domain;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+final class CardBalanceRecorder implements GameEventListener {
+	private static final CardType[] CARD_TYPES = CardType.values();
+
+	private final CardBalanceStats stats;
+	private int[][] plays = new int[0][];
+	private boolean[][] held = new boolean[0][];
+	private TurnManager turnManager;
+
+	CardBalanceRecorder(CardBalanceStats stats) {
+		this.stats = stats;
+	}
+
+	void countTurnsOf(TurnManager turnManager) {
+		this.turnManager = Objects.requireNonNull(turnManager,
+				"turnManager must not be null");
+	}
+
+	@Override
+	public void onGameStarted(long seed, int numberOfPlayers, Deck deck) {
+		if (plays.length < numberOfPlayers) {
+			plays = new int[numberOfPlayers][CARD_TYPES.length];
+			held = new boolean[numberOfPlayers][CARD_TYPES.length];
+		}
+		for (int seat = 0; seat < plays.length; seat++) {
+			Arrays.fill(plays[seat], 0);
+			Arrays.fill(held[seat], false);
+		}
+	}
+
+	@Override
+	public void onCardPlayed(int playerIndex, CardType cardType) {
+		plays[playerIndex][cardType.ordinal()]++;
+	}
+
+	@Override
+	public void onCardAcquired(int playerIndex, CardType cardType) {
+		held[playerIndex][cardType.ordinal()] = true;
+	}
+
+	@Override
+	public void onPlayerEliminated(int playerIndex) {
+		stats.recordElimination(currentTurn());
+	}
+
+	void finishGame(PlayerManager playerManager, int winningSeat) {
+		int numberOfPlayers = playerManager.getNumberOfPlayers();
+		for (int seat = 0; seat < numberOfPlayers; seat++) {
+			for (CardType cardType : CARD_TYPES) {
+				int type = cardType.ordinal();
+				stats.recordCard(cardType, plays[seat][type], held[seat][type],
+						seat == winningSeat);
+			}
+		}
+		stats.recordGame(currentTurn());
+	}
+
+	private int currentTurn() {
+		return turnManager.getTurnsEnded() + 1;
+	}
+}
@@ -0,0 +1,161 @@
+package domain;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Objects;
+
+public class CardBalanceStats {
+	private static final CardType[] CARD_TYPES = CardType.values();
+	private static final String CSV_HEADER = "card_type,plays,played_seats,played_win_rate,"
+			+ "held_seats,held_win_rate,win_rate_delta";
+	private static final String[] JSON_FIELDS = {
+		"plays",
+		"playedSeats",
+		"playedWinRate",
+		"heldSeats",
+		"heldWinRate",
+		"winRateDelta"
+	};
+
+	private final long[] plays = new long[CARD_TYPES.length];
+	private final long[] playedSeats = new long[CARD_TYPES.length];
+	private final long[] playedWins = new long[CARD_TYPES.length];
+	private final long[] heldSeats = new long[CARD_TYPES.length];
+	private final long[] heldWins = new long[CARD_TYPES.length];
+	private long gamesPlayed;
+	private long turns;
+	private long eliminations;
+	private long eliminationTurns;
+
+	void recordCard(CardType cardType, int timesPlayed, boolean held, boolean won) {
+		int type = cardType.ordinal();
+		int win = won ? 1 : 0;
+		if (timesPlayed > 0) {
+			plays[type] += timesPlayed;
+			playedSeats[type]++;
+			playedWins[type] += win;
+		} else if (held) {
+			heldSeats[type]++;
+			heldWins[type] += win;
+		}
+	}
+
+	void recordElimination(int turn) {
+		eliminations++;
+		eliminationTurns += turn;
+	}
+
+	void recordGame(int gameTurns) {
+		gamesPlayed++;
+		turns += gameTurns;
+	}
+
+	public void merge(CardBalanceStats other) {
+		Objects.requireNonNull(other, "Stats cannot be null");
+		for (int type = 0; type < CARD_TYPES.length; type++) {
+			plays[type] += other.plays[type];
+			playedSeats[type] += other.playedSeats[type];
+			playedWins[type] += other.playedWins[type];
+			heldSeats[type] += other.heldSeats[type];
+			heldWins[type] += other.heldWins[type];
+		}
+		gamesPlayed += other.gamesPlayed;
+		turns += other.turns;
+		eliminations += other.eliminations;
+		eliminationTurns += other.eliminationTurns;
+	}
+
+	public long getGamesPlayed() {
+		return gamesPlayed;
+	}
+
+	public double getAverageGameLength() {
+		return gamesPlayed == 0 ? 0 : (double) turns / gamesPlayed;
+	}
+
+	public double getAverageEliminationTurn() {
+		return eliminations == 0 ? 0 : (double) eliminationTurns / eliminations;
+	}
+
+	public long getPlays(CardType cardType) {
+		return plays[cardType.ordinal()];
+	}
+
+	public double getPlayedWinRate(CardType cardType) {
+		int type = cardType.ordinal();
+		return rate(playedWins[type], playedSeats[type]);
+	}
+
+	public double getHeldWinRate(CardType cardType) {
+		int type = cardType.ordinal();
+		return rate(heldWins[type], heldSeats[type]);
+	}
+
+	public double getWinRateDelta(CardType cardType) {
+		return getPlayedWinRate(cardType) - getHeldWinRate(cardType);
+	}
+
+	public void writeCsv(Appendable out) throws IOException {
+		Objects.requireNonNull(out, "Output cannot be null");
+		out.append(CSV_HEADER).append('\n');
+		for (CardType cardType : CARD_TYPES) {
+			if (isReported(cardType)) {
+				out.append(cardType.name());
+				for (String value : valuesOf(cardType)) {
+					out.append(',').append(value);
+				}
+				out.append('\n');
+			}
+		}
+	}
+
+	public void writeJson(Appendable out) throws IOException {
+		Objects.requireNonNull(out, "Output cannot be null");
+		out.append("{\"games\":").append(Long.toString(gamesPlayed))
+				.append(",\"averageGameLength\":")
+				.append(format(getAverageGameLength()))
+				.append(",\"averageEliminationTurn\":")
+				.append(format(getAverageEliminationTurn()))
+				.append(",\"cards\":[");
+		String separator = "";
+		for (CardType cardType : CARD_TYPES) {
+			if (isReported(cardType)) {
+				out.append(separator).append("{\"cardType\":\"")
+						.append(cardType.name()).append('"');
+				String[] values = valuesOf(cardType);
+				for (int i = 0; i < values.length; i++) {
+					out.append(",\"").append(JSON_FIELDS[i]).append("\":")
+							.append(values[i]);
+				}
+				out.append('}');
+				separator = ",";
+			}
+		}
+		out.append("]}\n");
+	}
+
+	private String[] valuesOf(CardType cardType) {
+		int type = cardType.ordinal();
+		return new String[] {
+			Long.toString(plays[type]),
+			Long.toString(playedSeats[type]),
+			format(getPlayedWinRate(cardType)),
+			Long.toString(heldSeats[type]),
+			format(getHeldWinRate(cardType)),
+			format(getWinRateDelta(cardType))
+		};
+	}
+
+	private static boolean isReported(CardType cardType) {
+		return cardType != CardType.EXPLODING_KITTEN
+				&& cardType != CardType.UNKNOWN_CARD_FOR_TEST;
+	}
+
+	private static double rate(long wins, long seats) {
+		return seats == 0 ? 0 : (double) wins / seats;
+	}
+
+	private static String format(double value) {
+		return String.format(Locale.ROOT, "%.6f", value);
+	}
+}
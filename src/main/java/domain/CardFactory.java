@@ -4,7 +4,39 @@ import java.util.ArrayList;
 import java.util.List;
 
 public class CardFactory {
+	private static final Card[] CARDS_BY_TYPE = createCardsByType();
+
 	public Card createCard(CardType type) {
+		Card card = CARDS_BY_TYPE[type.ordinal()];
+		if (card == null) {
+			throw new IllegalArgumentException("Unknown card type: " + type);
+		}
+		return card;
+	}
+
+	public List<Card> createCards(CardType type, int numberOfCards) {
+		if (numberOfCards <= 0) {
+			throw new
+					IllegalArgumentException("Number of cards must be above 0");
+		}
+		List<Card> cards = new ArrayList<>(numberOfCards);
+		for (int i = 0; i < numberOfCards; i++) {
+			cards.add(createCard(type));
+		}
+
+		return cards;
+	}
+
+	private static Card[] createCardsByType() {
+		CardType[] types = CardType.values();
+		Card[] cards = new Card[types.length];
+		for (CardType type : types) {
+			cards[type.ordinal()] = newCard(type);
+		}
+		return cards;
+	}
+
+	private static Card newCard(CardType type) {
 		switch (type) {
 			case NORMAL:
 				return new NormalCard();
@@ -32,20 +64,7 @@ public class CardFactory {
 				return new ReverseCard();
 			case SWAP_TOP_AND_BOTTOM:
 					return new SwapTopAndBottomCard();
-			default: throw new IllegalArgumentException("Unknown card type: " + type);
+			default: return null;
 		}
 	}
-
-	public List<Card> createCards(CardType type, int numberOfCards) {
-		if (numberOfCards <= 0) {
-			throw new
-					IllegalArgumentException("Number of cards must be above 0");
-		}
-		List<Card> cards = new ArrayList<>(numberOfCards);
-		for (int i = 0; i < numberOfCards; i++) {
-			cards.add(createCard(type));
-		}
-
-		return cards;
-	}
 }
\ No newline at end of file
@@ -0,0 +1,193 @@
+package domain;
+
+import locale.LocaleManager;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+final class CardNameIndex {
+	private static final CardType[] CARD_TYPES = CardType.values();
+	private static final int LETTERS = 26;
+	private static final int SEPARATOR = LETTERS;
+	private static final int ALPHABET = LETTERS + 1;
+	private static final int INITIAL_NODES = 1024;
+	private static final int MARK = -2;
+	private static final int FOLDED_CHARS = 0x370;
+	private static final byte[] SYMBOLS = foldedSymbols();
+	private static final int[] CHILDREN;
+	private static final int[] EXACT;
+	private static final int[] PREFIX;
+	private static final int[] SUBSTRING;
+
+	static {
+		Builder builder = new Builder();
+		for (CardType cardType : CARD_TYPES) {
+			builder.addName(cardType.name(), cardType);
+			for (String name : LocaleManager.getAllCardNames(cardType)) {
+				builder.addName(name, cardType);
+			}
+		}
+		CHILDREN = Arrays.copyOf(builder.children, builder.nodes * ALPHABET);
+		EXACT = Arrays.copyOf(builder.exact, builder.nodes);
+		PREFIX = Arrays.copyOf(builder.prefix, builder.nodes);
+		SUBSTRING = Arrays.copyOf(builder.substring, builder.nodes);
+	}
+
+	private CardNameIndex() {
+	}
+
+	static CardType resolve(CharSequence text, int start, int end) {
+		int node = find(text, start, end);
+		if (node <= 0 || Integer.bitCount(EXACT[node]) != 1) {
+			return null;
+		}
+		return CARD_TYPES[Integer.numberOfTrailingZeros(EXACT[node])];
+	}
+
+	static int match(CharSequence text, int start, int end, int presentTypes) {
+		int node = find(text, start, end);
+		if (node <= 0) {
+			return 0;
+		}
+		if (EXACT[node] != 0) {
+			return EXACT[node] & presentTypes;
+		}
+		int prefixMatches = PREFIX[node] & presentTypes;
+		return prefixMatches != 0 ? prefixMatches : SUBSTRING[node] & presentTypes;
+	}
+
+	static List<CardType> toCardTypes(int cardTypes) {
+		List<CardType> list = new ArrayList<>(Integer.bitCount(cardTypes));
+		for (int remaining = cardTypes; remaining != 0; remaining &= remaining - 1) {
+			list.add(CARD_TYPES[Integer.numberOfTrailingZeros(remaining)]);
+		}
+		return list;
+	}
+
+	static boolean isSpace(char c) {
+		return c <= ' ';
+	}
+
+	private static int find(CharSequence text, int start, int end) {
+		int node = 0;
+		boolean separated = false;
+		for (int i = start; i < end; i++) {
+			int symbol = symbolOf(text.charAt(i));
+			if (symbol == MARK) {
+				continue;
+			}
+			if (symbol < 0) {
+				return -1;
+			}
+			if (symbol == SEPARATOR) {
+				separated = node != 0;
+				continue;
+			}
+			if (separated) {
+				node = CHILDREN[node * ALPHABET + SEPARATOR];
+				separated = false;
+				if (node == 0) {
+					return -1;
+				}
+			}
+			node = CHILDREN[node * ALPHABET + symbol];
+			if (node == 0) {
+				return -1;
+			}
+		}
+		return node;
+	}
+
+	private static int symbolOf(char c) {
+		return c < FOLDED_CHARS ? SYMBOLS[c] : -1;
+	}
+
+	private static byte[] foldedSymbols() {
+		byte[] symbols = new byte[FOLDED_CHARS];
+		for (char c = 0; c < FOLDED_CHARS; c++) {
+			String decomposed = Normalizer.normalize(String.valueOf(c),
+					Normalizer.Form.NFD);
+			symbols[c] = (byte) (Character.getType(c) == Character.NON_SPACING_MARK
+					? MARK : asciiSymbolOf(decomposed.charAt(0)));
+		}
+		return symbols;
+	}
+
+	private static int asciiSymbolOf(char c) {
+		if (c >= 'A' && c <= 'Z') {
+			return c - 'A';
+		}
+		if (c >= 'a' && c <= 'z') {
+			return c - 'a';
+		}
+		return c == '_' || c == '-' || isSpace(c) ? SEPARATOR : -1;
+	}
+
+	static final class Builder {
+		private int[] children = new int[INITIAL_NODES * ALPHABET];
+		private int[] exact = new int[INITIAL_NODES];
+		private int[] prefix = new int[INITIAL_NODES];
+		private int[] substring = new int[INITIAL_NODES];
+		private int nodes = 1;
+
+		void addName(String name, CardType cardType) {
+			int[] symbols = normalize(name);
+			int bit = 1 << cardType.ordinal();
+			for (int first = 0; first < symbols.length; first++) {
+				int node = 0;
+				for (int i = first; i < symbols.length; i++) {
+					node = child(node, symbols[i]);
+					substring[node] |= bit;
+					if (first == 0) {
+						prefix[node] |= bit;
+					}
+				}
+				if (first == 0 && symbols.length > 0) {
+					exact[node] |= bit;
+				}
+			}
+		}
+
+		private int child(int node, int symbol) {
+			int edge = node * ALPHABET + symbol;
+			if (children[edge] == 0) {
+				if (nodes == exact.length) {
+					grow();
+				}
+				children[edge] = nodes++;
+			}
+			return children[edge];
+		}
+
+		private void grow() {
+			int capacity = exact.length * 2;
+			children = Arrays.copyOf(children, capacity * ALPHABET);
+			exact = Arrays.copyOf(exact, capacity);
+			prefix = Arrays.copyOf(prefix, capacity);
+			substring = Arrays.copyOf(substring, capacity);
+		}
+
+		private static int[] normalize(String name) {
+			int[] symbols = new int[name.length()];
+			int length = 0;
+			for (int i = 0; i < name.length(); i++) {
+				char c = name.charAt(i);
+				int symbol = symbolOf(c);
+				if (symbol == -1 && Character.isLetterOrDigit(c)) {
+					throw new IllegalArgumentException(
+							"Card name cannot be indexed: " + name);
+				}
+				boolean repeated = length == 0 || symbols[length - 1] == SEPARATOR;
+				if (symbol >= 0 && !(symbol == SEPARATOR && repeated)) {
+					symbols[length++] = symbol;
+				}
+			}
+			if (length > 0 && symbols[length - 1] == SEPARATOR) {
+				length--;
+			}
+			return Arrays.copyOf(symbols, length);
+		}
+	}
+}
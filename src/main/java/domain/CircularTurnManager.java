@@ -0,0 +1,260 @@
+package domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+public class CircularTurnManager extends TurnManager {
+	private final Map<Player, Integer> seatByPlayer;
+	private Player[] players;
+	private int[] next;
+	private int[] previous;
+	private int[] pendingTurns;
+	private int pendingTurnsTotal;
+	private int activeCount;
+	private int head;
+	private int current;
+	private boolean reversed;
+
+	public CircularTurnManager() {
+		this.seatByPlayer = new IdentityHashMap<>();
+		this.players = new Player[0];
+		this.current = -1;
+	}
+
+	@Override
+	Player getCurrentActivePlayer() {
+		if (current < 0) {
+			throw new IllegalStateException("TurnManager not initialized");
+		}
+		return players[current];
+	}
+
+	@Override
+	public void setPlayerManager(PlayerManager playerManager) {
+		Objects.requireNonNull(playerManager,
+				"PlayerManager cannot be null");
+
+		List<Player> playerList = playerManager.getPlayers();
+		if (playerList.isEmpty()) {
+			throw new IllegalArgumentException("No players provided");
+		}
+		seatPlayers(playerList);
+	}
+
+	@Override
+	public void endTurnWithoutDraw() {
+		checkPlayers();
+		if (isUnderAttack()) {
+			incrementTurnsTaken();
+		} else {
+			advanceToNextPlayer();
+		}
+	}
+
+	@Override
+	public void endTurnWithoutDrawForAttacks() {
+		checkPlayers();
+		int remainingTurns = getRequiredTurns() - getCurrentPlayerTurnsTaken();
+		advanceToNextPlayer();
+		setRequiredTurns(remainingTurns + 2);
+		setCurrentPlayerTurnsTaken(0);
+	}
+
+	@Override
+	public void advanceToNextPlayer() {
+		getCurrentActivePlayer();
+		countTurnEnded();
+		if (pendingTurns[current] > 0) {
+			pendingTurns[current]--;
+			pendingTurnsTotal--;
+			return;
+		}
+		current = following(current);
+	}
+
+	@Override
+	public void syncWith(List<Player> activePlayers) {
+		Objects.requireNonNull(activePlayers, "Active players list cannot be null");
+		if (activePlayers.isEmpty()) {
+			throw new IllegalArgumentException("No players provided");
+		}
+
+		if (isCurrentPlayerEliminatedFrom(activePlayers)) {
+			removeEliminatedCurrentPlayer();
+		} else {
+			seatPlayers(activePlayers);
+		}
+	}
+
+	@Override
+	public void removeEliminatedCurrentPlayer() {
+		checkPlayers();
+		if (activeCount == 1) {
+			throw new IllegalStateException("Cannot remove the last player");
+		}
+		int eliminated = current;
+		next[previous[eliminated]] = next[eliminated];
+		previous[next[eliminated]] = previous[eliminated];
+		seatByPlayer.remove(players[eliminated]);
+		if (pendingTurnsTotal > 0) {
+			Arrays.fill(pendingTurns, 0);
+			pendingTurnsTotal = 0;
+		}
+		activeCount--;
+		if (eliminated == head) {
+			head = next[head];
+		}
+		current = head;
+		reversed = false;
+		countTurnEnded();
+	}
+
+	@Override
+	void checkTurnOrder(List<Player> turnOrder) {
+		seatsInTurnOrder(turnOrder);
+	}
+
+	@Override
+	void restoreTurnOrder(List<Player> turnOrder) {
+		List<Player> seats = seatsInTurnOrder(turnOrder);
+		List<Player> seatsById = new ArrayList<>(seats);
+		seatsById.sort(Comparator.comparingInt(player -> player.id));
+		seatPlayers(seatsById);
+
+		current = seatByPlayer.get(seats.get(0));
+		reversed = seats.size() > 2 && next[current] != seatByPlayer.get(seats.get(1));
+		int seat = current;
+		for (int i = 1; i < turnOrder.size(); i++) {
+			if (turnOrder.get(i) == turnOrder.get(i - 1)) {
+				pendingTurns[seat]++;
+				pendingTurnsTotal++;
+			} else {
+				seat = following(seat);
+			}
+		}
+	}
+
+	@Override
+	public void addTurnForCurrentPlayer() {
+		getCurrentActivePlayer();
+		if (activeCount > 1) {
+			pendingTurns[current]++;
+			pendingTurnsTotal++;
+		}
+	}
+
+	@Override
+	public List<Player> getTurnOrder() {
+		checkPlayers();
+		List<Player> turnOrder = new ArrayList<>(activeCount + pendingTurnsTotal);
+		int seat = current;
+		for (int i = 0; i < activeCount; i++) {
+			for (int turn = 0; turn <= pendingTurns[seat]; turn++) {
+				turnOrder.add(players[seat]);
+			}
+			seat = following(seat);
+		}
+		return turnOrder;
+	}
+
+	@Override
+	public int getTurnsFor(Player player) {
+		Objects.requireNonNull(player, "Player cannot be null");
+		Integer seat = seatByPlayer.get(player);
+		if (seat == null) {
+			return 0;
+		}
+		return 1 + pendingTurns[seat];
+	}
+
+	@Override
+	public void reverseOrder() {
+		checkPlayers();
+		reversed = !reversed;
+		current = following(current);
+		countTurnEnded();
+	}
+
+	private void seatPlayers(List<Player> playerList) {
+		int numberOfPlayers = playerList.size();
+		if (players.length < numberOfPlayers) {
+			players = new Player[numberOfPlayers];
+			next = new int[numberOfPlayers];
+			previous = new int[numberOfPlayers];
+			pendingTurns = new int[numberOfPlayers];
+		}
+		pendingTurnsTotal = 0;
+		seatByPlayer.clear();
+		for (int seat = 0; seat < numberOfPlayers; seat++) {
+			players[seat] = playerList.get(seat);
+			pendingTurns[seat] = 0;
+			next[seat] = (seat + 1) % numberOfPlayers;
+			previous[seat] = (seat + numberOfPlayers - 1) % numberOfPlayers;
+			seatByPlayer.put(players[seat], seat);
+		}
+		activeCount = numberOfPlayers;
+		head = 0;
+		current = 0;
+		reversed = false;
+	}
+
+	private boolean isCurrentPlayerEliminatedFrom(List<Player> activePlayers) {
+		if (current < 0 || pendingTurnsTotal > 0
+				|| activePlayers.size() != activeCount - 1
+				|| players[current].isInGame()) {
+			return false;
+		}
+		int newHead = current == head ? next[head] : head;
+		return players[newHead] == activePlayers.get(0);
+	}
+
+	private static List<Player> seatsInTurnOrder(List<Player> turnOrder) {
+		if (turnOrder.isEmpty()) {
+			throw new IllegalArgumentException("No players provided");
+		}
+		List<Player> seats = new ArrayList<>(turnOrder.size());
+		Map<Player, Integer> positions = new IdentityHashMap<>();
+		for (Player player : turnOrder) {
+			if (seats.isEmpty() || seats.get(seats.size() - 1) != player) {
+				positions.put(player, seats.size());
+				seats.add(player);
+			}
+		}
+		if (positions.size() != seats.size()) {
+			throw new IllegalArgumentException(
+					"Extra turns must directly follow the player's own turn");
+		}
+
+		List<Player> seatsById = new ArrayList<>(seats);
+		seatsById.sort(Comparator.comparingInt(player -> player.id));
+		int count = seats.size();
+		boolean clockwise = true;
+		boolean counterClockwise = count > 2;
+		for (int i = 0; i < count; i++) {
+			int position = positions.get(seatsById.get(i));
+			int following = positions.get(seatsById.get((i + 1) % count));
+			clockwise &= following == (position + 1) % count;
+			counterClockwise &= following == (position + count - 1) % count;
+		}
+		if (!clockwise && !counterClockwise) {
+			throw new IllegalArgumentException(
+					"Turn order does not follow the seating order");
+		}
+		return seats;
+	}
+
+	private int following(int seat) {
+		return reversed ? previous[seat] : next[seat];
+	}
+
+	private void checkPlayers() {
+		if (current < 0) {
+			throw new IllegalStateException("No players to manage");
+		}
+	}
+}
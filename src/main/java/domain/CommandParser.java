@@ -0,0 +1,150 @@
+package domain;
+
+final class CommandParser {
+	enum Command {
+		PLAY("play"),
+		DRAW("draw"),
+		HELP("help"),
+		HAND("hand"),
+		STATUS("status"),
+		QUIT("quit"),
+		EMPTY(""),
+		UNKNOWN("");
+
+		private final String keyword;
+
+		Command(String keyword) {
+			this.keyword = keyword;
+		}
+	}
+
+	private static final Command[] KEYWORD_COMMANDS = {
+		Command.PLAY,
+		Command.DRAW,
+		Command.HELP,
+		Command.HAND,
+		Command.STATUS,
+		Command.QUIT
+	};
+
+	private static final int DECIMAL = 10;
+
+	private String input = "";
+	private int commandStart;
+	private int commandEnd;
+	private int argumentStart;
+	private int argumentEnd;
+
+	Command parse(String input) {
+		this.input = input;
+		int end = input.length();
+		while (end > 0 && CardNameIndex.isSpace(input.charAt(end - 1))) {
+			end--;
+		}
+		commandStart = skipSpaces(0, end);
+		commandEnd = commandStart;
+		while (commandEnd < end
+				&& !CardNameIndex.isSpace(input.charAt(commandEnd))) {
+			commandEnd++;
+		}
+		argumentStart = skipSpaces(commandEnd, end);
+		argumentEnd = end;
+		if (commandStart == commandEnd) {
+			return Command.EMPTY;
+		}
+		for (Command command : KEYWORD_COMMANDS) {
+			int length = command.keyword.length();
+			if (commandEnd - commandStart == length && input.regionMatches(
+					commandStart, command.keyword, 0, length)) {
+				return command;
+			}
+		}
+		return Command.UNKNOWN;
+	}
+
+	String getCommand() {
+		return input.substring(commandStart, commandEnd);
+	}
+
+	boolean hasArgument() {
+		return argumentStart < argumentEnd;
+	}
+
+	String getArgument() {
+		if (!hasCollapsibleSpaces()) {
+			return input.substring(argumentStart, argumentEnd);
+		}
+		StringBuilder argument = new StringBuilder(argumentEnd - argumentStart);
+		for (int i = argumentStart; i < argumentEnd; i++) {
+			char c = input.charAt(i);
+			if (!CardNameIndex.isSpace(c)) {
+				argument.append(c);
+			} else if (!CardNameIndex.isSpace(input.charAt(i - 1))) {
+				argument.append(' ');
+			}
+		}
+		return argument.toString();
+	}
+
+	int getNumberOfArguments() {
+		int count = 0;
+		for (int start = argumentStart; start < argumentEnd;
+				start = skipSpaces(tokenEnd(start), argumentEnd)) {
+			count++;
+		}
+		return count;
+	}
+
+	int getIntArgument(int index) {
+		int start = tokenStart(index);
+		return Integer.parseInt(input, start, tokenEnd(start), DECIMAL);
+	}
+
+	long getLongArgument(int index) {
+		int start = tokenStart(index);
+		return Long.parseLong(input, start, tokenEnd(start), DECIMAL);
+	}
+
+	CardType resolveArgument(Player player) {
+		return player.parseCardType(input, argumentStart, argumentEnd);
+	}
+
+	private boolean hasCollapsibleSpaces() {
+		for (int i = argumentStart; i < argumentEnd; i++) {
+			char c = input.charAt(i);
+			if (c != ' ' && CardNameIndex.isSpace(c)) {
+				return true;
+			}
+			if (c == ' ' && CardNameIndex.isSpace(input.charAt(i + 1))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private int tokenStart(int index) {
+		int start = argumentStart;
+		for (int i = 0; i < index && start < argumentEnd; i++) {
+			start = skipSpaces(tokenEnd(start), argumentEnd);
+		}
+		if (start == argumentEnd) {
+			throw new IllegalArgumentException("Missing argument " + index);
+		}
+		return start;
+	}
+
+	private int tokenEnd(int start) {
+		int end = start;
+		while (end < argumentEnd && !CardNameIndex.isSpace(input.charAt(end))) {
+			end++;
+		}
+		return end;
+	}
+
+	private int skipSpaces(int start, int end) {
+		while (start < end && CardNameIndex.isSpace(input.charAt(start))) {
+			start++;
+		}
+		return start;
+	}
+}
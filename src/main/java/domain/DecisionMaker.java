@@ -0,0 +1,15 @@
+package domain;
+
+public interface DecisionMaker {
+	String chooseCommand(Player player);
+
+	int choosePlayerToTakeCardFrom(Player player, int maxPlayerIndex);
+
+	CardType chooseCardToGive(Player giver);
+
+	int chooseBuryIndex(Player player, int deckSize);
+
+	int chooseRearrangeIndex(Player player, int position, int minIndex, int maxIndex);
+
+	int chooseKittenPlacement(Player player, int deckSize);
+}
@@ -0,0 +1,7 @@
+package domain;
+
+import java.util.SplittableRandom;
+
+public interface DecisionMakerFactory {
+	DecisionMaker create(SplittableRandom random);
+}
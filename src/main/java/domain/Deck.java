@@ -1,185 +1,64 @@
 package domain;
 
-import java.util.*;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
 
-public class Deck {
-	private final List<Card> deck;
+public abstract class Deck {
+	private static final int CARDS_TO_REARRANGE = 3;
 
-	public Deck(List<Card> cardList) {
-		Objects.requireNonNull(cardList, "List of Cards cannot be null");
-		this.deck = new ArrayList<>(cardList);
-	}
+	final KittenTracker kittenTracker = new KittenTracker();
 
-	public Card getCardAt(int index) {
-		if (isIndexOutOfBounds(index) || isIndexEqualToDeckSize(index)) {
-			throw new IndexOutOfBoundsException("Index out of bounds");
-		}
-		return this.deck.get(index);
-	}
+	public abstract Card getCardAt(int index);
 
-	public Card peekTop() {
-		if (deck.isEmpty()) {
-			throw new NoSuchElementException("Deck is empty");
-		}
-		return this.deck.get(deck.size() - 1);
-	}
+	public abstract Card peekTop();
 
 	public List<Card> peekTopTwoCards() {
 		return peekTopCards(2);
 	}
 
 	public List<Card> peekTopThreeCards() {
-		final int numberToLookUp = 3;
-		return peekTopCards(numberToLookUp);
+		return peekTopCards(CARDS_TO_REARRANGE);
 	}
 
-	public Card draw() {
-		if (this.deck.isEmpty()) {
-			throw new NoSuchElementException("Deck is empty");
-		}
-
-		return this.deck.remove(this.deck.size() - 1);
-	}
+	public abstract Card draw();
 
-	public void insertCardAt(Card card, int index) {
-		Objects.requireNonNull(card, "Card type cannot be null");
-		if (isIndexOutOfBounds(index)) {
-			throw new IndexOutOfBoundsException("Index out of bounds");
-		}
-		this.deck.add(index, card);
-	}
+	public abstract void insertCardAt(Card card, int index);
 
-	public int getDeckSize() {
-		return this.deck.size();
-	}
+	public abstract int getDeckSize();
 
 	public void shuffleDeck(Random rand) {
 		Objects.requireNonNull(rand, "Random cannot be null");
-		//Fischer Yates Algorithm
-		for (int deckIndex = deck.size() - 1; deckIndex > 0; deckIndex--) {
-			int indexToSwap = rand.nextInt(deckIndex + 1);
-			Card temporaryCard = deck.get(indexToSwap);
-			deck.set(indexToSwap, deck.get(deckIndex));
-			deck.set(deckIndex, temporaryCard);
-		}
+		shuffleDeck((GameRandom) rand::nextInt);
 	}
 
-	public void rearrangeTopThreeCards(List<Integer> newIndices) {
-		if (this.deck.isEmpty()) {
-			throw new NoSuchElementException("Deck is empty");
-		}
-		checkIndicesList(newIndices);
-
-		List<Card> rearrangedTopThreeCards = new ArrayList<>();
-		for (int index : newIndices) {
-			checkIndex(index);
-			rearrangedTopThreeCards.add(this.deck.get(index));
-		}
+	public abstract void shuffleDeck(GameRandom rand);
 
-		int topIndex = this.deck.size() - 1;
-		for (int i = 0; i < newIndices.size(); i++) {
-			this.deck.set(topIndex - i, rearrangedTopThreeCards.get(i));
-		}
-	}
+	public abstract void rearrangeTopThreeCards(List<Integer> newIndices);
 
-	public void swapTopAndBottom() {
-		if (deck.isEmpty()) {
-			throw new NoSuchElementException("Deck is empty");
-		}
+	public abstract void swapTopAndBottom();
 
-		int topIndex = deck.size() - 1;
-		Card topCard = deck.get(topIndex);
+	public abstract void moveAllExplodingKittensToTop();
 
-		int bottomIndex = 0;
-		Card bottomCard = deck.get(bottomIndex);
+	abstract void writeTo(ByteBuffer target);
 
-		deck.set(topIndex, bottomCard);
-		deck.set(bottomIndex, topCard);
-	}
+	abstract void restoreFrom(ByteBuffer source, int size, CardFactory cardFactory);
 
-	private boolean isIndexOutOfBounds(int index) {
-		return index < 0 || index > this.deck.size();
-	}
+	abstract List<Card> peekTopCards(int count);
 
-	private boolean isIndexEqualToDeckSize(int index) {
-		return this.deck.size() == index;
+	void revealCardAt(int seat, int index) {
+		kittenTracker.reveal(seat, index, isKitten(getCardAt(index)));
 	}
 
-	private List<Card> peekTopCards (int count) {
-		if (deck.isEmpty()) {
-			throw new NoSuchElementException("Deck is empty");
+	void revealTopCards(int seat, int count) {
+		int topIndex = getDeckSize() - 1;
+		for (int depth = 0; depth < count && depth <= topIndex; depth++) {
+			revealCardAt(seat, topIndex - depth);
 		}
-		ArrayList<Card> cardList = new ArrayList<>();
-		int cardCount = 1;
-		int cardsToAdd = count;
-		while (cardsToAdd > 0) {
-			if (this.deck.size() < cardCount) {
-				return cardList;
-			}
-			cardList.add(this.deck.get(deck.size() - cardCount));
-			cardCount++;
-			cardsToAdd--;
-		}
-		return cardList;
-	}
-
-	private void checkIndicesList(List<Integer> indicesList) {
-		if (areTooManyIndices(indicesList)) {
-			throw new IllegalArgumentException(
-					"Number of indices is larger than the deck size");
-		}
-
-		if (areIndicesDuplicate(indicesList)) {
-			throw new IllegalArgumentException("Duplicate indices are not allowed");
-		}
-	}
-
-	private Boolean areTooManyIndices(List<Integer> indices) {
-		return indices.size() > this.deck.size();
-	}
-
-	private Boolean areIndicesDuplicate(List<Integer> indices) {
-		Set<Integer> uniqueIndices = new HashSet<>(indices);
-		return (uniqueIndices.size() < indices.size());
 	}
 
-	private void checkIndex(int index) {
-		if (isIndexNotAllowed(index)) {
-			throw new IllegalArgumentException(
-					"With deck size s, indices must be [s - 1, s - 3]");
-		}
-		if (index < 0) {
-			throw new IllegalArgumentException(
-					"Negative indices are not allowed");
-		}
-	}
-
-	private Boolean isIndexNotAllowed(int index) {
-		int indexForTopCard = this.deck.size() - 1;
-		int indexForSecondCardFromTop = this.deck.size() - 2;
-		final int cardsToRearrange = 3;
-		int indexForThirdCardFromTop = this.deck.size() - cardsToRearrange;
-		List<Integer> allowedIndices = new ArrayList<>(
-				List.of(indexForTopCard,
-						indexForSecondCardFromTop,
-						indexForThirdCardFromTop));
-		return !allowedIndices.contains(index);
-	}
-
-	public void moveAllExplodingKittensToTop() {
-		List<Card> explodingKittens = new ArrayList<>();
-		List<Card> otherCards = new ArrayList<>();
-
-		for (Card card : deck) {
-			if (card.getCardType() == CardType.EXPLODING_KITTEN) {
-				explodingKittens.add(card);
-			} else {
-				otherCards.add(card);
-			}
-		}
-
-		deck.clear();
-		deck.addAll(otherCards);
-		deck.addAll(explodingKittens);
+	static boolean isKitten(Card card) {
+		return card.getCardType() == CardType.EXPLODING_KITTEN;
 	}
 }
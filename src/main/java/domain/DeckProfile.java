@@ -0,0 +1,208 @@
+package domain;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+public final class DeckProfile {
+	public static final String STANDARD = "standard";
+
+	private static final String RESOURCE_DIRECTORY = "/decks/";
+	private static final String RESOURCE_EXTENSION = ".properties";
+	private static final String STARTING_HAND_SIZE = "startingHandSize";
+	private static final String EXTRA_DEFUSES = "extraDefuses";
+	private static final String TARGET_NUMBER_OF_CARDS = "targetNumberOfCards";
+	private static final CardType[] DECK_ORDER = {
+		CardType.ATTACK,
+		CardType.SKIP,
+		CardType.FAVOR,
+		CardType.SHUFFLE,
+		CardType.BURY,
+		CardType.REVERSE,
+		CardType.SEE_THE_FUTURE,
+		CardType.ALTER_THE_FUTURE,
+		CardType.NUKE,
+		CardType.SWAP_TOP_AND_BOTTOM,
+		CardType.DEFUSE,
+		CardType.NORMAL
+	};
+	private static final Map<String, DeckProfile> PROFILES = new ConcurrentHashMap<>();
+
+	private final String name;
+	private final int[] counts;
+	private final int startingHandSize;
+	private final int targetNumberOfCards;
+	private final AtomicReferenceArray<byte[]> deckTemplates =
+			new AtomicReferenceArray<>(LobbyMode.LARGE.getMaxPlayers() + 1);
+
+	private DeckProfile(String name, int[] counts, int startingHandSize,
+			int targetNumberOfCards) {
+		this.name = name;
+		this.counts = counts;
+		this.startingHandSize = startingHandSize;
+		this.targetNumberOfCards = targetNumberOfCards;
+	}
+
+	public static DeckProfile standard() {
+		return forName(STANDARD);
+	}
+
+	public static DeckProfile forName(String name) {
+		Objects.requireNonNull(name, "Deck profile name cannot be null");
+		return PROFILES.computeIfAbsent(name, DeckProfile::load);
+	}
+
+	static DeckProfile fromProperties(String name, Properties properties) {
+		int[] counts = new int[CardType.values().length];
+		int startingHandSize = 0;
+		int extraDefuses = 0;
+		int targetNumberOfCards = 0;
+		for (String key : properties.stringPropertyNames()) {
+			int value = parseCount(name, key, properties.getProperty(key));
+			if (key.equals(STARTING_HAND_SIZE)) {
+				startingHandSize = value;
+			} else if (key.equals(EXTRA_DEFUSES)) {
+				extraDefuses = value;
+			} else if (key.equals(TARGET_NUMBER_OF_CARDS)) {
+				targetNumberOfCards = value;
+			} else {
+				counts[parseCardType(name, key).ordinal()] = value;
+			}
+		}
+		counts[CardType.DEFUSE.ordinal()] = extraDefuses;
+		return new DeckProfile(name, counts, startingHandSize, targetNumberOfCards);
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public int getCount(CardType cardType) {
+		return counts[cardType.ordinal()];
+	}
+
+	public int getStartingHandSize() {
+		return startingHandSize;
+	}
+
+	public int getExtraDefuses() {
+		return counts[CardType.DEFUSE.ordinal()];
+	}
+
+	public List<Card> createCards(CardFactory cardFactory, int numberOfPlayers) {
+		List<Card> deck = new ArrayList<>();
+		for (CardType cardType : DECK_ORDER) {
+			int count = counts[cardType.ordinal()];
+			if (count > 0) {
+				deck.addAll(cardFactory.createCards(cardType, count));
+			}
+		}
+		int numberOfCardsNeeded = deck.size()
+				- (targetNumberOfCards - numberOfPlayers);
+		if (numberOfCardsNeeded > 0) {
+			deck.addAll(cardFactory.createCards(CardType.NORMAL,
+					numberOfCardsNeeded));
+		}
+		return deck;
+	}
+
+	public Deck createDeck(int numberOfPlayers) {
+		byte[] template = deckTemplate(numberOfPlayers);
+		return new OrdinalDeck(template, template.length);
+	}
+
+	private byte[] deckTemplate(int numberOfPlayers) {
+		if (numberOfPlayers < 0 || numberOfPlayers >= deckTemplates.length()) {
+			return createDeckTemplate(numberOfPlayers);
+		}
+		byte[] template = deckTemplates.get(numberOfPlayers);
+		if (template == null) {
+			template = createDeckTemplate(numberOfPlayers);
+			deckTemplates.set(numberOfPlayers, template);
+		}
+		return template;
+	}
+
+	private byte[] createDeckTemplate(int numberOfPlayers) {
+		LobbyMode lobbyMode = LobbyMode.forNumberOfPlayers(numberOfPlayers);
+		int numberOfDecks = lobbyMode.getNumberOfDecks(numberOfPlayers);
+		int playersPerDeck = (numberOfPlayers + numberOfDecks - 1) / numberOfDecks;
+		byte[] single = createSingleDeckTemplate(playersPerDeck);
+		byte[] template = new byte[single.length * numberOfDecks];
+		for (int deck = 0; deck < numberOfDecks; deck++) {
+			System.arraycopy(single, 0, template, deck * single.length, single.length);
+		}
+		return template;
+	}
+
+	private byte[] createSingleDeckTemplate(int numberOfPlayers) {
+		int size = 0;
+		for (int count : counts) {
+			size += count;
+		}
+		int numberOfCardsNeeded = Math.max(0,
+				size - (targetNumberOfCards - numberOfPlayers));
+		int normalCards = counts[CardType.NORMAL.ordinal()] + numberOfCardsNeeded;
+		byte[] template = new byte[size + numberOfCardsNeeded];
+		int index = 0;
+		for (CardType cardType : DECK_ORDER) {
+			int count = cardType == CardType.NORMAL
+					? normalCards : counts[cardType.ordinal()];
+			Arrays.fill(template, index, index + count, (byte) cardType.ordinal());
+			index += count;
+		}
+		return template;
+	}
+
+	private static DeckProfile load(String name) {
+		String resource = RESOURCE_DIRECTORY + name + RESOURCE_EXTENSION;
+		try (InputStream in = DeckProfile.class.getResourceAsStream(resource)) {
+			if (in == null) {
+				throw new IllegalArgumentException("Unknown deck profile: " + name);
+			}
+			Properties properties = new Properties();
+			try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+				properties.load(reader);
+			}
+			return fromProperties(name, properties);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static int parseCount(String name, String key, String value) {
+		int count;
+		try {
+			count = Integer.parseInt(value.trim());
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("Deck profile " + name
+					+ " has a non-numeric value for " + key, e);
+		}
+		if (count < 0) {
+			throw new IllegalArgumentException("Deck profile " + name
+					+ " has a negative value for " + key);
+		}
+		return count;
+	}
+
+	private static CardType parseCardType(String name, String key) {
+		for (CardType cardType : DECK_ORDER) {
+			if (cardType != CardType.DEFUSE && cardType.name().equals(key)) {
+				return cardType;
+			}
+		}
+		throw new IllegalArgumentException("Deck profile " + name
+				+ " has an unknown key: " + key);
+	}
+}
@@ -0,0 +1,11 @@
+package domain;
+
+interface DeferredChoices {
+	void awaitFavorTarget(GameContext context, int maxPlayerIndex);
+
+	void awaitRearrangement(GameContext context, int cardsToRearrange);
+
+	void awaitBuryIndex(GameContext context, Card card, int deckSize);
+
+	void awaitKittenPlacement(Player player, Card explodingKitten, int deckSize);
+}
@@ -1,13 +1,15 @@
 package domain;
 
 public class DefuseCard extends Card {
+	private static final CardEffect EFFECT = new DefuseEffect();
+
 	public DefuseCard() {
 		super(CardType.DEFUSE);
 	}
 
 	@Override
 	public CardEffect createEffect() {
-		return new DefuseEffect();
+		return EFFECT;
 	}
 
 	private static class DefuseEffect implements CardEffect {
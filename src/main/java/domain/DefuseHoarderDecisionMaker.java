@@ -0,0 +1,102 @@
+package domain;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class DefuseHoarderDecisionMaker implements DecisionMaker {
+	private static final CardType[] MOST_VALUABLE_FIRST = {
+		CardType.DEFUSE,
+		CardType.SKIP,
+		CardType.ATTACK,
+		CardType.ALTER_THE_FUTURE,
+		CardType.FAVOR,
+		CardType.SEE_THE_FUTURE,
+		CardType.SWAP_TOP_AND_BOTTOM,
+		CardType.BURY,
+		CardType.SHUFFLE
+	};
+	private static final CardType[] GIVE_ORDER = createGiveOrder();
+
+	@Override
+	public String chooseCommand(Player player) {
+		if (player.hasCardType(CardType.FAVOR) && hasOpponentWithCards(player)) {
+			return RandomDecisionMaker.playCommand(CardType.FAVOR);
+		}
+		return RandomDecisionMaker.DRAW_COMMAND;
+	}
+
+	@Override
+	public int choosePlayerToTakeCardFrom(Player player, int maxPlayerIndex) {
+		return Math.max(0, largestHandOpponent(player, maxPlayerIndex));
+	}
+
+	@Override
+	public CardType chooseCardToGive(Player giver) {
+		return leastValuableCard(giver);
+	}
+
+	@Override
+	public int chooseBuryIndex(Player player, int deckSize) {
+		return 0;
+	}
+
+	@Override
+	public int chooseRearrangeIndex(Player player, int position,
+			int minIndex, int maxIndex) {
+		return maxIndex - position;
+	}
+
+	@Override
+	public int chooseKittenPlacement(Player player, int deckSize) {
+		return deckSize;
+	}
+
+	static boolean hasOpponentWithCards(Player player) {
+		return largestHandOpponent(player, -1) >= 0;
+	}
+
+	static int largestHandOpponent(Player player, int maxPlayerIndex) {
+		PlayerManager playerManager = player.playerManager;
+		if (playerManager == null) {
+			return -1;
+		}
+		int lastIndex = maxPlayerIndex < 0
+				? playerManager.getNumberOfPlayers() - 1 : maxPlayerIndex;
+		int chosen = -1;
+		int mostCards = 0;
+		for (int index = 0; index <= lastIndex; index++) {
+			if (index == player.id || !playerManager.isPlayerActive(index)) {
+				continue;
+			}
+			int cards = playerManager.getPlayerByIndex(index).getNumberOfCards();
+			if (cards > mostCards) {
+				mostCards = cards;
+				chosen = index;
+			}
+		}
+		return chosen;
+	}
+
+	static CardType leastValuableCard(Player giver) {
+		for (CardType cardType : GIVE_ORDER) {
+			if (giver.hasCardType(cardType)) {
+				return cardType;
+			}
+		}
+		return null;
+	}
+
+	private static CardType[] createGiveOrder() {
+		List<CardType> order = new ArrayList<>();
+		for (CardType cardType : CardType.values()) {
+			if (cardType != CardType.EXPLODING_KITTEN
+					&& !List.of(MOST_VALUABLE_FIRST).contains(cardType)) {
+				order.add(cardType);
+			}
+		}
+		for (int i = MOST_VALUABLE_FIRST.length - 1; i >= 0; i--) {
+			order.add(MOST_VALUABLE_FIRST[i]);
+		}
+		return order.toArray(new CardType[0]);
+	}
+}
@@ -0,0 +1,606 @@
+package domain;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+
+public final class EndgameSolver {
+	public static final int MAX_DECK_SIZE = 64;
+
+	private static final int DEFAULT_LOG2_ENTRIES = 18;
+	private static final int LOSS = -1;
+	private static final int DRAW = 0;
+	private static final int WIN = 1;
+	private static final int VALUE_BITS = 2;
+	private static final int VALUE_MASK = (1 << VALUE_BITS) - 1;
+	private static final int VALUE_OFFSET = 2;
+	private static final int ACTION_BITS = 8;
+	private static final int ACTION_MASK = (1 << ACTION_BITS) - 1;
+	private static final int DRAW_ACTION = 0;
+	private static final int MAX_CARDS_TO_REARRANGE = 3;
+	private static final int COUNTER_KEYS = 32;
+	private static final int HAND_COUNT_KEYS = 64;
+	private static final long KEY_SEED = 0x5DEECE66DL;
+
+	private static final CardType[] CARD_TYPES = CardType.values();
+	private static final int NUMBER_OF_CARD_TYPES = CARD_TYPES.length;
+	private static final int KITTEN = CardType.EXPLODING_KITTEN.ordinal();
+	private static final int DEFUSE = CardType.DEFUSE.ordinal();
+	private static final int FAVOR = CardType.FAVOR.ordinal();
+	private static final int FODDER = CardType.NORMAL.ordinal();
+	private static final CardType[] TURN_ENDING_PLAYS = {
+		CardType.SKIP,
+		CardType.ATTACK,
+		CardType.REVERSE
+	};
+	private static final CardType[] SEARCHED_PLAYS = {
+		CardType.SKIP,
+		CardType.ATTACK,
+		CardType.REVERSE,
+		CardType.BURY,
+		CardType.SWAP_TOP_AND_BOTTOM,
+		CardType.NUKE,
+		CardType.ALTER_THE_FUTURE,
+		CardType.FAVOR
+	};
+	private static final int[][][] PERMUTATIONS = {
+		{{}},
+		{{0}},
+		{{0, 1}, {1, 0}},
+		{{0, 1, 2}, {0, 2, 1}, {1, 0, 2}, {1, 2, 0}, {2, 0, 1}, {2, 1, 0}}
+	};
+
+	private static final long[][] DECK_KEYS = new long[MAX_DECK_SIZE][NUMBER_OF_CARD_TYPES];
+	private static final long[][][] HAND_KEYS =
+			new long[2][NUMBER_OF_CARD_TYPES][HAND_COUNT_KEYS];
+	private static final long[] REQUIRED_TURNS_KEYS = new long[COUNTER_KEYS];
+	private static final long[] TURNS_TAKEN_KEYS = new long[COUNTER_KEYS];
+
+	static {
+		SplittableRandom random = new SplittableRandom(KEY_SEED);
+		for (long[] keys : DECK_KEYS) {
+			fill(keys, random);
+		}
+		for (long[][] side : HAND_KEYS) {
+			for (long[] keys : side) {
+				fill(keys, random);
+			}
+		}
+		fill(REQUIRED_TURNS_KEYS, random);
+		fill(TURNS_TAKEN_KEYS, random);
+	}
+
+	private final TranspositionTable table;
+	private State[] frames = new State[0];
+	private int rootMove;
+	private long nodes;
+
+	public EndgameSolver() {
+		this(new TranspositionTable(DEFAULT_LOG2_ENTRIES));
+	}
+
+	public EndgameSolver(TranspositionTable table) {
+		this.table = Objects.requireNonNull(table, "Transposition table cannot be null");
+	}
+
+	public Solution solve(GameStateMachine game) {
+		Objects.requireNonNull(game, "Game cannot be null");
+		if (game.getState() != GameStateMachine.State.AWAITING_COMMAND) {
+			throw new IllegalStateException("Endgames are solved between commands");
+		}
+		GameEngine gameEngine = game.getGameEngine();
+		return solve(gameEngine.getDeck(), gameEngine.getPlayerManager(),
+				gameEngine.getTurnManager());
+	}
+
+	Solution solve(Deck deck, PlayerManager playerManager, TurnManager turnManager) {
+		List<Player> players = playerManager.getActivePlayers();
+		if (players.size() != 2) {
+			throw new IllegalArgumentException(
+					"Endgames are solved for exactly two active players");
+		}
+		if (turnManager.getTurnOrder().size() != 2) {
+			throw new IllegalArgumentException("Extra queued turns are not supported");
+		}
+		int deckSize = deck.getDeckSize();
+		if (deckSize > MAX_DECK_SIZE) {
+			throw new IllegalArgumentException(
+					"Endgames are solved for at most "
+							+ MAX_DECK_SIZE + " cards");
+		}
+		Player mover = turnManager.getCurrentActivePlayer();
+		Player opponent = players.get(0) == mover ? players.get(1) : players.get(0);
+
+		nodes = 0;
+		State root = frame(0);
+		int kittens = 0;
+		for (int index = 0; index < deckSize; index++) {
+			root.deck[index] = (byte) canonical(deck.getCardAt(index).getCardType());
+			if (root.deck[index] == KITTEN) {
+				kittens++;
+			}
+		}
+		root.size = deckSize;
+		Arrays.fill(root.hands, (byte) 0);
+		for (CardType cardType : CARD_TYPES) {
+			root.hands[canonical(cardType)] += (byte) countOf(mover, cardType);
+			root.hands[NUMBER_OF_CARD_TYPES + canonical(cardType)] +=
+					(byte) countOf(opponent, cardType);
+		}
+		int favors = root.hand(0, FAVOR) + root.hand(1, FAVOR);
+		for (int index = 0; index < deckSize; index++) {
+			if (root.deck[index] == FAVOR) {
+				favors++;
+			}
+		}
+		for (int side = 0; side < 2; side++) {
+			int fodder = side * NUMBER_OF_CARD_TYPES + FODDER;
+			root.hands[fodder] = (byte) Math.min(root.hands[fodder], favors);
+		}
+		root.mover = 0;
+		root.requiredTurns = turnManager.getRequiredTurns();
+		root.turnsTaken = turnManager.getCurrentPlayerTurnsTaken();
+		root.rehash();
+
+		if (kittens == 0) {
+			return new Solution(-1, DRAW_ACTION, new int[0]);
+		}
+		int value = search(0);
+		int winningSeat = value == WIN ? mover.id : value == LOSS ? opponent.id : -1;
+		return new Solution(winningSeat, rootMove & ACTION_MASK,
+				choicesFor(root, rootMove));
+	}
+
+	long getNodes() {
+		return nodes;
+	}
+
+	private int search(int depth) {
+		long firstNode = nodes++;
+		State state = frames[depth];
+		int mover = state.mover;
+		boolean kittenOnTop = state.top() == KITTEN;
+		if (!state.hasPlays(mover) && (!kittenOnTop || state.hand(mover, DEFUSE) == 0)) {
+			if (depth == 0) {
+				rootMove = DRAW_ACTION;
+			}
+			return kittenOnTop ? LOSS : safeDrawValue(depth);
+		}
+		long data = table.probe(state.key());
+		if (data != 0) {
+			if (depth == 0) {
+				rootMove = (int) (data >>> VALUE_BITS);
+			}
+			return (int) (data & VALUE_MASK) - VALUE_OFFSET;
+		}
+		int best = LOSS - 1;
+		int bestMove = DRAW_ACTION;
+		if (!kittenOnTop) {
+			best = safeDrawValue(depth);
+		}
+		for (int i = 0; i < TURN_ENDING_PLAYS.length && best < WIN; i++) {
+			CardType cardType = TURN_ENDING_PLAYS[i];
+			if (state.hand(mover, cardType.ordinal()) > 0) {
+				State child = play(depth, cardType);
+				if (cardType == CardType.SKIP) {
+					child.endTurnWithoutDraw();
+				} else if (cardType == CardType.ATTACK) {
+					child.attack();
+				} else {
+					child.reverse();
+				}
+				int value = valueOf(depth);
+				if (value > best) {
+					best = value;
+					bestMove = actionOf(cardType);
+				}
+			}
+		}
+		if (best < WIN && state.hand(mover, CardType.BURY.ordinal()) > 0) {
+			int top = state.top();
+			for (int index = 0; index < state.size && best < WIN; index++) {
+				if (index > 0 && state.deck[index - 1] == top) {
+					continue;
+				}
+				State child = play(depth, CardType.BURY);
+				child.insert(index, child.pop());
+				child.endTurnWithoutDraw();
+				int value = valueOf(depth);
+				if (value > best) {
+					best = value;
+					bestMove = actionOf(CardType.BURY) | index << ACTION_BITS;
+				}
+			}
+		}
+		if (best < WIN && state.hand(mover, CardType.SWAP_TOP_AND_BOTTOM.ordinal()) > 0) {
+			play(depth, CardType.SWAP_TOP_AND_BOTTOM).swapTopAndBottom();
+			int value = valueOf(depth);
+			if (value > best) {
+				best = value;
+				bestMove = actionOf(CardType.SWAP_TOP_AND_BOTTOM);
+			}
+		}
+		if (best < WIN && state.hand(mover, CardType.NUKE.ordinal()) > 0) {
+			play(depth, CardType.NUKE).moveKittensToTop();
+			int value = valueOf(depth);
+			if (value > best) {
+				best = value;
+				bestMove = actionOf(CardType.NUKE);
+			}
+		}
+		if (best < WIN && state.hand(mover, CardType.ALTER_THE_FUTURE.ordinal()) > 0) {
+			int[][] permutations =
+					PERMUTATIONS[Math.min(MAX_CARDS_TO_REARRANGE, state.size)];
+			for (int p = 0; p < permutations.length && best < WIN; p++) {
+				if (repeatsEarlierOrder(state, permutations, p)) {
+					continue;
+				}
+				State child = play(depth, CardType.ALTER_THE_FUTURE);
+				int top = state.size - 1;
+				int[] permutation = permutations[p];
+				for (int i = 0; i < permutation.length; i++) {
+					child.set(top - i, state.deck[top - permutation[i]]);
+				}
+				int value = valueOf(depth);
+				if (value > best) {
+					best = value;
+					bestMove = actionOf(CardType.ALTER_THE_FUTURE)
+							| p << ACTION_BITS;
+				}
+			}
+		}
+		if (best < WIN && state.hand(mover, CardType.FAVOR.ordinal()) > 0) {
+			int value = favorValue(depth);
+			if (value > best) {
+				best = value;
+				bestMove = actionOf(CardType.FAVOR);
+			}
+		}
+		if (kittenOnTop && state.hand(mover, DEFUSE) == 0) {
+			best = Math.max(best, LOSS);
+		} else if (kittenOnTop) {
+			for (int index = 0; index < state.size && best < WIN; index++) {
+				if (index > 0 && state.deck[index - 1] == KITTEN) {
+					continue;
+				}
+				State child = child(depth);
+				child.pop();
+				child.addToHand(mover, DEFUSE, -1);
+				child.insert(index, KITTEN);
+				child.advance();
+				int value = valueOf(depth);
+				if (value > best) {
+					best = value;
+					bestMove = DRAW_ACTION | index << ACTION_BITS;
+				}
+			}
+		}
+		if (depth == 0) {
+			rootMove = bestMove;
+		}
+		table.store(state.key(), (long) bestMove << VALUE_BITS | (best + VALUE_OFFSET),
+				Long.SIZE - Long.numberOfLeadingZeros(nodes - firstNode));
+		return best;
+	}
+
+	private int safeDrawValue(int depth) {
+		State child = child(depth);
+		child.addToHand(child.mover, child.pop(), 1);
+		child.advance();
+		return valueOf(depth);
+	}
+
+	private int favorValue(int depth) {
+		State state = frames[depth];
+		int mover = state.mover;
+		int giver = 1 - mover;
+		if (state.handSize(giver) == 0) {
+			play(depth, CardType.FAVOR);
+			return valueOf(depth);
+		}
+		int worst = WIN + 1;
+		for (int cardType = 0; cardType < NUMBER_OF_CARD_TYPES && worst > LOSS;
+				cardType++) {
+			if (state.hand(giver, cardType) > 0) {
+				State child = play(depth, CardType.FAVOR);
+				child.addToHand(giver, cardType, -1);
+				child.addToHand(mover, cardType, 1);
+				worst = Math.min(worst, valueOf(depth));
+			}
+		}
+		return worst;
+	}
+
+	private State play(int depth, CardType cardType) {
+		State child = child(depth);
+		child.addToHand(child.mover, cardType.ordinal(), -1);
+		return child;
+	}
+
+	private State child(int depth) {
+		State child = frame(depth + 1);
+		child.copyFrom(frames[depth]);
+		return child;
+	}
+
+	private int valueOf(int depth) {
+		int value = search(depth + 1);
+		return frames[depth + 1].mover == frames[depth].mover ? value : -value;
+	}
+
+	private State frame(int depth) {
+		if (depth >= frames.length) {
+			int length = frames.length;
+			frames = Arrays.copyOf(frames, Math.max(depth + 1, length * 2));
+			for (int i = length; i < frames.length; i++) {
+				frames[i] = new State();
+			}
+		}
+		return frames[depth];
+	}
+
+	private static int[] choicesFor(State root, int move) {
+		int action = move & ACTION_MASK;
+		int choice = move >>> ACTION_BITS;
+		int topIndex = root.size - 1;
+		if (action == DRAW_ACTION) {
+			return root.top() == KITTEN && root.hand(0, DEFUSE) > 0
+					? new int[] {choice} : new int[0];
+		}
+		CardType cardType = CARD_TYPES[action - 1];
+		if (cardType == CardType.BURY) {
+			return new int[] {choice};
+		}
+		if (cardType != CardType.ALTER_THE_FUTURE) {
+			return new int[0];
+		}
+		int[] permutation =
+				PERMUTATIONS[Math.min(MAX_CARDS_TO_REARRANGE, root.size)][choice];
+		int[] indices = new int[permutation.length];
+		for (int i = 0; i < permutation.length; i++) {
+			indices[i] = topIndex - permutation[i];
+		}
+		return indices;
+	}
+
+	private static boolean repeatsEarlierOrder(State state, int[][] permutations, int p) {
+		int top = state.size - 1;
+		for (int q = 0; q < p; q++) {
+			boolean same = true;
+			for (int i = 0; i < permutations[p].length && same; i++) {
+				same = state.deck[top - permutations[p][i]]
+						== state.deck[top - permutations[q][i]];
+			}
+			if (same) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static int canonical(CardType cardType) {
+		switch (cardType) {
+			case EXPLODING_KITTEN:
+			case DEFUSE:
+			case ATTACK:
+			case SKIP:
+			case FAVOR:
+			case ALTER_THE_FUTURE:
+			case NUKE:
+			case REVERSE:
+			case BURY:
+			case SWAP_TOP_AND_BOTTOM:
+				return cardType.ordinal();
+			default:
+				return FODDER;
+		}
+	}
+
+	private static int actionOf(CardType cardType) {
+		return cardType.ordinal() + 1;
+	}
+
+	private static int countOf(Player player, CardType cardType) {
+		return player.hand.getCountOfCardType(cardType);
+	}
+
+	private static void fill(long[] keys, SplittableRandom random) {
+		for (int i = 0; i < keys.length; i++) {
+			keys[i] = random.nextLong();
+		}
+	}
+
+	public static final class Solution {
+		private final int winningSeat;
+		private final String command;
+		private final int[] choices;
+
+		Solution(int winningSeat, int action, int[] choices) {
+			this.winningSeat = winningSeat;
+			this.command = action == DRAW_ACTION ? RandomDecisionMaker.DRAW_COMMAND
+					: RandomDecisionMaker.playCommand(CARD_TYPES[action - 1]);
+			this.choices = choices;
+		}
+
+		public int getWinningSeat() {
+			return winningSeat;
+		}
+
+		public String getCommand() {
+			return command;
+		}
+
+		public int[] getChoices() {
+			return choices.clone();
+		}
+	}
+
+	private static final class State {
+		private final byte[] deck = new byte[MAX_DECK_SIZE];
+		private final byte[] hands = new byte[2 * NUMBER_OF_CARD_TYPES];
+		private int size;
+		private int mover;
+		private int requiredTurns;
+		private int turnsTaken;
+		private final long[] handHashes = new long[2 * 2];
+		private long hash;
+
+		void copyFrom(State other) {
+			System.arraycopy(other.deck, 0, deck, 0, other.size);
+			System.arraycopy(other.hands, 0, hands, 0, hands.length);
+			size = other.size;
+			mover = other.mover;
+			requiredTurns = other.requiredTurns;
+			turnsTaken = other.turnsTaken;
+			hash = other.hash;
+			System.arraycopy(other.handHashes, 0, handHashes, 0, handHashes.length);
+		}
+
+		void rehash() {
+			hash = turnKey(requiredTurns, turnsTaken);
+			for (int index = 0; index < size; index++) {
+				hash ^= DECK_KEYS[index][deck[index]];
+			}
+			Arrays.fill(handHashes, 0);
+			for (int index = 0; index < hands.length; index++) {
+				int side = index / NUMBER_OF_CARD_TYPES;
+				int type = index % NUMBER_OF_CARD_TYPES;
+				handHashes[side * 2] ^= handKey(0, type, hands[index]);
+				handHashes[side * 2 + 1] ^= handKey(1, type, hands[index]);
+			}
+		}
+
+		long key() {
+			return hash ^ handHashes[mover * 2] ^ handHashes[(1 - mover) * 2 + 1];
+		}
+
+		int top() {
+			return deck[size - 1];
+		}
+
+		int pop() {
+			size--;
+			hash ^= DECK_KEYS[size][deck[size]];
+			return deck[size];
+		}
+
+		void insert(int index, int cardType) {
+			for (int i = size - 1; i >= index; i--) {
+				hash ^= DECK_KEYS[i][deck[i]] ^ DECK_KEYS[i + 1][deck[i]];
+				deck[i + 1] = deck[i];
+			}
+			deck[index] = (byte) cardType;
+			hash ^= DECK_KEYS[index][cardType];
+			size++;
+		}
+
+		void set(int index, int cardType) {
+			hash ^= DECK_KEYS[index][deck[index]] ^ DECK_KEYS[index][cardType];
+			deck[index] = (byte) cardType;
+		}
+
+		int hand(int side, int cardType) {
+			return hands[side * NUMBER_OF_CARD_TYPES + cardType];
+		}
+
+		boolean hasPlays(int side) {
+			for (CardType cardType : SEARCHED_PLAYS) {
+				if (hand(side, cardType.ordinal()) > 0) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		int handSize(int side) {
+			int cards = 0;
+			for (int cardType = 0; cardType < NUMBER_OF_CARD_TYPES; cardType++) {
+				cards += hand(side, cardType);
+			}
+			return cards;
+		}
+
+		void addToHand(int side, int cardType, int delta) {
+			int count = hand(side, cardType);
+			for (int role = 0; role < 2; role++) {
+				handHashes[side * 2 + role] ^= handKey(role, cardType, count)
+						^ handKey(role, cardType, count + delta);
+			}
+			hands[side * NUMBER_OF_CARD_TYPES + cardType] = (byte) (count + delta);
+		}
+
+		void advance() {
+			setTurn(1 - mover, requiredTurns, turnsTaken);
+		}
+
+		void endTurnWithoutDraw() {
+			if (isUnderAttack()) {
+				incrementTurnsTaken();
+			} else {
+				advance();
+			}
+		}
+
+		void attack() {
+			setTurn(1 - mover, requiredTurns - turnsTaken + 2, 0);
+		}
+
+		void reverse() {
+			if (isUnderAttack()) {
+				incrementTurnsTaken();
+			}
+			advance();
+		}
+
+		void swapTopAndBottom() {
+			int top = top();
+			set(size - 1, deck[0]);
+			set(0, top);
+		}
+
+		void moveKittensToTop() {
+			int kittens = 0;
+			int otherCards = 0;
+			for (int index = 0; index < size; index++) {
+				if (deck[index] == KITTEN) {
+					kittens++;
+				} else {
+					set(otherCards++, deck[index]);
+				}
+			}
+			for (int index = size - kittens; index < size; index++) {
+				set(index, KITTEN);
+			}
+		}
+
+		private boolean isUnderAttack() {
+			return requiredTurns > 1 && turnsTaken < requiredTurns;
+		}
+
+		private void incrementTurnsTaken() {
+			if (turnsTaken + 1 >= requiredTurns) {
+				setTurn(1 - mover, 1, 0);
+			} else {
+				setTurn(mover, requiredTurns, turnsTaken + 1);
+			}
+		}
+
+		private void setTurn(int nextMover, int nextRequiredTurns, int nextTurnsTaken) {
+			hash ^= turnKey(requiredTurns, turnsTaken)
+					^ turnKey(nextRequiredTurns, nextTurnsTaken);
+			mover = nextMover;
+			requiredTurns = nextRequiredTurns;
+			turnsTaken = nextTurnsTaken;
+		}
+
+		private static long turnKey(int requiredTurns, int turnsTaken) {
+			return REQUIRED_TURNS_KEYS[requiredTurns & (COUNTER_KEYS - 1)]
+					^ TURNS_TAKEN_KEYS[turnsTaken & (COUNTER_KEYS - 1)];
+		}
+
+		private static long handKey(int role, int cardType, int count) {
+			return HAND_KEYS[role][cardType][count & (HAND_COUNT_KEYS - 1)];
+		}
+	}
+}
@@ -0,0 +1,22 @@
+package domain;
+
+import java.util.SplittableRandom;
+
+public final class FastGameRandom implements GameRandom {
+	private final long seed;
+	private final SplittableRandom random;
+
+	public FastGameRandom(long seed) {
+		this.seed = seed;
+		this.random = new SplittableRandom(seed);
+	}
+
+	public long getSeed() {
+		return seed;
+	}
+
+	@Override
+	public int nextInt(int bound) {
+		return random.nextInt(bound);
+	}
+}
@@ -1,11 +1,13 @@
 package domain;
 
 public class FavorCard extends Card {
+	private static final CardEffect EFFECT = new FavorEffect();
+
 	public FavorCard() { super(CardType.FAVOR); }
 
 	@Override
 	public CardEffect createEffect() {
-		return new FavorCard.FavorEffect();
+		return EFFECT;
 	}
 
 	private static class FavorEffect implements CardEffect {
@@ -6,7 +6,6 @@ import java.security.SecureRandom;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.Random;
 
 public class GameContext {
 	private final TurnManager turnManager;
@@ -15,10 +14,29 @@ public class GameContext {
 	private final Player currentPlayer;
 	private final UserInterface userInterface;
 	private final CardFactory cardFactory;
+	private final DecisionMaker decisionMaker;
+	private final GameRandom random;
+	private DeferredChoices deferredChoices;
+	private GameEventListener eventListener;
+	private static final SecureRandom DEFAULT_RANDOM = new SecureRandom();
 
 	public GameContext(TurnManager turnManager, PlayerManager playerManager,
 		Deck deck, Player currentPlayer,
 		UserInterface userInterface, CardFactory cardFactory) {
+		this(turnManager, playerManager, deck, currentPlayer,
+				userInterface, cardFactory, null);
+	}
+
+	public GameContext(TurnManager turnManager, PlayerManager playerManager,
+		Deck deck, Player currentPlayer, UserInterface userInterface,
+		CardFactory cardFactory, DecisionMaker decisionMaker) {
+		this(turnManager, playerManager, deck, currentPlayer,
+				userInterface, cardFactory, decisionMaker, null);
+	}
+
+	public GameContext(TurnManager turnManager, PlayerManager playerManager,
+		Deck deck, Player currentPlayer, UserInterface userInterface,
+		CardFactory cardFactory, DecisionMaker decisionMaker, GameRandom random) {
 		this.turnManager = Objects.requireNonNull(turnManager,
 				"TurnManager cannot be null");
 		this.playerManager = Objects.requireNonNull(playerManager,
@@ -29,6 +47,8 @@ public class GameContext {
 				"Current player cannot be null");
 		this.userInterface = userInterface;
 		this.cardFactory = Objects.requireNonNull(cardFactory);
+		this.decisionMaker = decisionMaker;
+		this.random = random;
 	}
 
 	public GameContext(Player currentPlayer) {
@@ -39,12 +59,22 @@ public class GameContext {
 		this.deck = null;
 		this.userInterface = null;
 		this.cardFactory = null;
+		this.decisionMaker = null;
+		this.random = null;
 	}
 
 	Player getCurrentPlayer() {
 		return currentPlayer;
 	}
 
+	void reportEventsTo(GameEventListener eventListener) {
+		this.eventListener = eventListener;
+	}
+
+	void deferChoicesTo(DeferredChoices deferredChoices) {
+		this.deferredChoices = deferredChoices;
+	}
+
 	public void endTurnWithoutDrawing() {
 		if (turnManager != null) {
 			turnManager.endTurnWithoutDraw();
@@ -65,24 +95,42 @@ public class GameContext {
 
 	public void transferCardBetweenPlayers() {
 		int maxPlayerIndex = playerManager.getNumberOfPlayers() - 1;
+		if (deferredChoices != null) {
+			deferredChoices.awaitFavorTarget(this, maxPlayerIndex);
+			return;
+		}
+		transferCardFrom(chooseFavorGiver(maxPlayerIndex));
+	}
 
+	Player chooseFavorGiver(int maxPlayerIndex) {
 		String playerMessage = userInterface.getPlayerIndexPrompt(maxPlayerIndex);
-		Player playerGiver = getPlayerFromUserInput(playerMessage, maxPlayerIndex);
+		return getPlayerFromUserInput(playerMessage, maxPlayerIndex);
+	}
+
+	void transferCardFrom(Player playerGiver) {
 		String cardMessage = userInterface.getCardTransferPrompt();
 		Card cardToTransfer = getCardFromUserInput(cardMessage, playerGiver);
 		playerGiver.removeCardFromHand(cardToTransfer);
 		currentPlayer.addCardToHand(cardToTransfer);
+		if (eventListener != null) {
+			eventListener.onCardAcquired(currentPlayer.id,
+					cardToTransfer.getCardType());
+		}
 	}
 
 	public void viewTopTwoCardsFromDeck() {
 		List<Card> topTwoCards = deck.peekTopTwoCards();
+		deck.revealTopCards(currentPlayer.id, topTwoCards.size());
 		int deckSize = deck.getDeckSize();
 		userInterface.displayCardsFromDeck(topTwoCards, deckSize);
 	}
 
 	public void shuffleDeckFromDeck() {
-		Random random = new SecureRandom();
-		deck.shuffleDeck(random);
+		if (random == null) {
+			deck.shuffleDeck(DEFAULT_RANDOM);
+		} else {
+			deck.shuffleDeck(random);
+		}
 	}
 
 	public void reverseOrderPreservingAttackState() {
@@ -98,8 +146,17 @@ public class GameContext {
 		List<Card> topThreeCards = deck.peekTopThreeCards();
 		userInterface.displayCardsFromDeck(topThreeCards,
 				deck.getDeckSize());
-		List<Integer> indices = getIndicesFromUserInput(topThreeCards);
+		if (deferredChoices != null) {
+			deferredChoices.awaitRearrangement(this, topThreeCards.size());
+			return;
+		}
+		rearrangeTopCards(topThreeCards.size());
+	}
+
+	void rearrangeTopCards(int cardsToRearrange) {
+		List<Integer> indices = getIndicesFromUserInput(cardsToRearrange);
 		deck.rearrangeTopThreeCards(indices);
+		deck.revealTopCards(currentPlayer.id, indices.size());
 	}
 
 	public void swapTopAndBottomDeckCards() {
@@ -109,11 +166,19 @@ public class GameContext {
 	public void buryCardImplementation() {
 		Card topCard = deck.draw();
 		userInterface.displayDrawnCard(topCard);
+		if (deferredChoices != null) {
+			deferredChoices.awaitBuryIndex(this, topCard, deck.getDeckSize());
+			return;
+		}
+		buryCard(topCard);
+	}
 
+	void buryCard(Card topCard) {
 		int deckSize = deck.getDeckSize();
 		int insertIndex = getBuryCardIndexFromUserInput(deckSize);
 
 		deck.insertCardAt(topCard, insertIndex);
+		deck.revealCardAt(currentPlayer.id, insertIndex);
 		endTurnWithoutDrawing();
 	}
 
@@ -128,9 +193,17 @@ public class GameContext {
 	}
 
 	private Card getCardFromUserInput(String message, Player player) {
-		userInterface.displayPlayerHand(player);
-		String cardTypeInput = userInterface.getUserInput(message);
-		CardType cardType = player.parseCardType(cardTypeInput);
+		CardType cardType;
+		if (decisionMaker != null) {
+			cardType = decisionMaker.chooseCardToGive(player);
+			if (cardType != null && !player.hasCardType(cardType)) {
+				cardType = null;
+			}
+		} else {
+			userInterface.displayPlayerHand(player);
+			String cardTypeInput = userInterface.getUserInput(message);
+			cardType = player.parseCardType(cardTypeInput);
+		}
 		if (cardType == null) {
 			throw new IllegalArgumentException(
 					"Inputted card type is invalid or was not found in Hand");
@@ -139,6 +212,10 @@ public class GameContext {
 	}
 
 	private Player getPlayerFromUserInput(String message, int maxPlayerIndex) {
+		if (decisionMaker != null) {
+			return playerManager.getPlayerByIndex(decisionMaker
+					.choosePlayerToTakeCardFrom(currentPlayer, maxPlayerIndex));
+		}
 		int playerIndex = userInterface.getNumericUserInput(message, 0, maxPlayerIndex);
 		userInterface.displayPlayerChangeMessage(playerIndex);
 		return playerManager.getPlayerByIndex(playerIndex);
@@ -146,27 +223,39 @@ public class GameContext {
 	}
 
 	private int getBuryCardIndexFromUserInput(int deckSize) {
+		if (decisionMaker != null) {
+			return decisionMaker.chooseBuryIndex(currentPlayer, deckSize);
+		}
 		String message = userInterface.getBuryCardPrompt(deckSize);
 		return userInterface.getNumericUserInput(message, 0, deckSize);
 	}
 
-	private List<Integer> getIndicesFromUserInput(List<Card> topThreeCards) {
+	private List<Integer> getIndicesFromUserInput(int cardsToRearrange) {
 		int deckSize = deck.getDeckSize();
 
-		final int cardsToRearrange = topThreeCards.size();
 		int minCardIndex = deckSize - cardsToRearrange;
 		int maxCardIndex = deckSize - 1;
 
 		List<Integer> indices = new ArrayList<>();
 
 		for (int i = 0; i < cardsToRearrange; i++) {
-			String messageForPlayer = userInterface
-					.getRearrangePrompt(i, minCardIndex, maxCardIndex);
-			indices.add(userInterface.getNumericUserInput
-					(messageForPlayer, minCardIndex, maxCardIndex));
+			indices.add(getRearrangeIndexFromUserInput(i,
+					minCardIndex, maxCardIndex));
 		}
 
 		return indices;
 	}
 
+	private int getRearrangeIndexFromUserInput(int position,
+		int minCardIndex, int maxCardIndex) {
+		if (decisionMaker != null) {
+			return decisionMaker.chooseRearrangeIndex(currentPlayer,
+					position, minCardIndex, maxCardIndex);
+		}
+		String messageForPlayer = userInterface
+				.getRearrangePrompt(position, minCardIndex, maxCardIndex);
+		return userInterface.getNumericUserInput
+				(messageForPlayer, minCardIndex, maxCardIndex);
+	}
+
 }
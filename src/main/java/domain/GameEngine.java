@@ -1,10 +1,16 @@
 package domain;
 
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
 import java.util.*;
 import java.security.SecureRandom;
+import java.util.function.Function;
 
 import locale.LocaleManager;
+import ui.ConsoleRenderer;
+import ui.SilentUserInterface;
 import ui.UserInterface;
 
 public class GameEngine {
@@ -14,9 +20,18 @@ public class GameEngine {
 	private final Deck deck;
 	private final UserInterface userInterface;
 	private final CardFactory cardFactory;
-	private final SecureRandom secureRandom;
+	private GameRandom random;
 	private boolean gameRunning = true;
 	private final LocaleManager localeManager;
+	private DecisionMaker decisionMaker;
+	private GameEventListener eventListener;
+	private DeferredChoices deferredChoices;
+	private long recordedSeed;
+	private final Map<Player, GameContext> gameContexts = new IdentityHashMap<>();
+	private ConsoleRenderer renderer = new ConsoleRenderer();
+	private DeckProfile deckProfile = DeckProfile.standard();
+	private final CommandParser commandParser = new CommandParser();
+	private final StringBuilder playArgument = new StringBuilder();
 
 	public GameEngine(
 			TurnManager turnManager,
@@ -26,6 +41,21 @@ public class GameEngine {
 			CardFactory cardFactory,
 			SecureRandom secureRandom,
 			LocaleManager localeManager
+	) {
+		this(turnManager, playerManager, deck, userInterface, cardFactory,
+				secureRandom == null ? null : new SecureGameRandom(secureRandom),
+				localeManager, null);
+	}
+
+	public GameEngine(
+			TurnManager turnManager,
+			PlayerManager playerManager,
+			Deck deck,
+			UserInterface userInterface,
+			CardFactory cardFactory,
+			GameRandom random,
+			LocaleManager localeManager,
+			DecisionMaker decisionMaker
 	) {
 		this.cardManager = new CardManager();
 		this.turnManager = Objects.requireNonNull(turnManager,
@@ -37,9 +67,9 @@ public class GameEngine {
 		this.userInterface = userInterface;
 		this.cardFactory = Objects.requireNonNull(cardFactory,
 				"cardFactory must not be null");
-		// We need this in order to satisfy the spotsbug error
-		this.secureRandom = new SecureRandom();
+		this.random = random == null ? new SecureGameRandom() : random;
 		this.localeManager = localeManager;
+		this.decisionMaker = decisionMaker;
 	}
 
 	public void playCard(Player player, Card card) {
@@ -48,105 +78,154 @@ public class GameEngine {
 
 		GameContext gameContext = createGameContext(player);
 		cardManager.playCard(card, player, gameContext);
+		if (eventListener != null) {
+			eventListener.onCardPlayed(playerManager.getPlayerIndex(player),
+					card.getCardType());
+		}
 	}
 
 	public void initializeGame() {
 		List<Player> players = playerManager.getPlayers();
-		final int NUMBER_OF_STARTING_CARDS = 4;
 		int explodingKittensCount = players.size() - 1;
 
-		initializeHandPerPlayers(players, NUMBER_OF_STARTING_CARDS);
+		if (eventListener != null) {
+			eventListener.onGameStarted(recordedSeed, players.size(), deck);
+		}
+		initializeHandPerPlayers(players, deckProfile.getStartingHandSize());
 		insertExplodingKittenPerPlayers(explodingKittensCount);
 
 		gameRunning = true;
 		userInterface.displayHelp();
+		renderer.endFrame();
 	}
 
 	public void runGameLoop() {
 		while (gameRunning) {
-			Player currentPlayer = turnManager.getCurrentActivePlayer();
+			playTurn();
+		}
+		renderer.flush();
+	}
 
-			if (!currentPlayer.isInGame()) {
-				handlePlayerGetsEliminated();
-				continue;
-			}
+	public void playTurn() {
+		Player currentPlayer = turnManager.getCurrentActivePlayer();
 
-			displayGameState(currentPlayer);
+		if (!currentPlayer.isInGame()) {
+			handlePlayerGetsEliminated();
+			return;
+		}
 
-			String input = userInterface.getUserInput();
-			processCommand(input, currentPlayer);
+		displayGameState(currentPlayer);
 
-			checkWinCondition();
-		}
+		String input = readCommand(currentPlayer);
+		processCommand(input, currentPlayer);
+
+		checkWinCondition();
 	}
 
 	public boolean getIsGameRunning() {
 		return this.gameRunning;
 	}
 
+	PlayerManager getPlayerManager() {
+		return playerManager;
+	}
+
+	Deck getDeck() {
+		return deck;
+	}
+
+	TurnManager getTurnManager() {
+		return turnManager;
+	}
+
+	CardFactory getCardFactory() {
+		return cardFactory;
+	}
+
+	public void setRenderer(ConsoleRenderer renderer) {
+		this.renderer = Objects.requireNonNull(renderer,
+				"renderer must not be null");
+	}
+
+	public void setEventListener(GameEventListener eventListener) {
+		Objects.requireNonNull(eventListener, "eventListener must not be null");
+		if (this.eventListener != null) {
+			throw new IllegalStateException("Event listener already set");
+		}
+		this.eventListener = eventListener;
+		this.recordedSeed = random instanceof FastGameRandom
+				? ((FastGameRandom) random).getSeed() : 0L;
+		this.random = new RecordingGameRandom(random, eventListener);
+		if (isHeadless()) {
+			this.decisionMaker = new RecordingDecisionMaker(decisionMaker,
+					eventListener);
+		}
+		if (userInterface != null) {
+			userInterface.recordInputs(eventListener);
+		}
+		gameContexts.clear();
+	}
+
+	void deferChoicesTo(DeferredChoices deferredChoices) {
+		this.deferredChoices = Objects.requireNonNull(deferredChoices,
+				"deferredChoices must not be null");
+		gameContexts.clear();
+	}
+
 	public void setGameRunning(boolean shouldStopGame) {
 		this.gameRunning = shouldStopGame;
 	}
 
 	public void handleQuitCommand() {
-		String quitMessage = getMessage("game.quit.thanks");
-		System.out.println(quitMessage);
+		if (!isHeadless()) {
+			String quitMessage = getMessage("game.quit.thanks");
+			renderer.println(quitMessage);
+		}
 		setGameRunning(false);
 	}
 
-	public static List<Card> createInitialDeck
-			(CardFactory cardFactory, int numberOfPlayers) {
+	public static List<Card> createInitialDeck(CardFactory cardFactory,
+			int numberOfPlayers, LobbyMode lobbyMode) {
+		return createInitialDeck(cardFactory, numberOfPlayers, lobbyMode,
+				DeckProfile.standard());
+	}
 
-		List<Card> deck = new ArrayList<>();
-		final int NUMBER_OF_ESSENTIAL_CARDS = 4;
-		final int NUMBER_OF_NUKE_CARDS = 1;
-		final int NUMBER_OF_EXTRA_DEFUSE_CARDS = 2;
-		final int NUMBER_OF_SEE_THE_CARDS = 5;
-		deck.addAll(cardFactory
-				.createCards(CardType.ATTACK, NUMBER_OF_ESSENTIAL_CARDS));
-		deck.addAll(cardFactory
-				.createCards(CardType.SKIP, NUMBER_OF_ESSENTIAL_CARDS));
-		deck.addAll(cardFactory
-				.createCards(CardType.FAVOR, NUMBER_OF_ESSENTIAL_CARDS));
-		deck.addAll(cardFactory
-				.createCards(CardType.SHUFFLE, NUMBER_OF_ESSENTIAL_CARDS));
-		deck.addAll(cardFactory
-				.createCards(CardType.BURY, NUMBER_OF_ESSENTIAL_CARDS));
-		deck.addAll(cardFactory
-				.createCards(CardType.REVERSE, NUMBER_OF_ESSENTIAL_CARDS));
-		deck.addAll(cardFactory
-				.createCards(CardType.SEE_THE_FUTURE,
-						NUMBER_OF_SEE_THE_CARDS));
-		deck.addAll(cardFactory
-				.createCards(CardType.ALTER_THE_FUTURE,
-						NUMBER_OF_ESSENTIAL_CARDS));
-		deck.addAll(cardFactory
-				.createCards(CardType.NUKE, NUMBER_OF_NUKE_CARDS));
-		deck.addAll(cardFactory
-				.createCards(CardType.SWAP_TOP_AND_BOTTOM,
-						NUMBER_OF_ESSENTIAL_CARDS));
-		// We're giving the players two extra defusing in the deck
-		deck.addAll(cardFactory
-				.createCards
-						(CardType.DEFUSE, NUMBER_OF_EXTRA_DEFUSE_CARDS));
-
-		int currentCards = deck.size();
-		final int TARGET_NUMBER_OF_CARDS = 56;
-		int targetNumberOfCards = TARGET_NUMBER_OF_CARDS - numberOfPlayers;
-		int numberOfCardsNeeded = currentCards - targetNumberOfCards;
-
-		if (numberOfCardsNeeded > 0) {
-			deck.addAll(cardFactory.createCards(CardType.NORMAL,
-					numberOfCardsNeeded));
+	public static List<Card> createInitialDeck(CardFactory cardFactory,
+			int numberOfPlayers, LobbyMode lobbyMode, DeckProfile deckProfile) {
+		Objects.requireNonNull(lobbyMode, "lobbyMode must not be null");
+		Objects.requireNonNull(deckProfile, "deckProfile must not be null");
+		int numberOfDecks = lobbyMode.getNumberOfDecks(numberOfPlayers);
+		if (numberOfDecks == 1) {
+			return deckProfile.createCards(cardFactory, numberOfPlayers);
 		}
 
+		int playersPerDeck = (numberOfPlayers + numberOfDecks - 1) / numberOfDecks;
+		List<Card> deck = new ArrayList<>();
+		for (int i = 0; i < numberOfDecks; i++) {
+			deck.addAll(deckProfile.createCards(cardFactory, playersPerDeck));
+		}
 		return deck;
 	}
 
+	public static List<Card> createInitialDeck
+			(CardFactory cardFactory, int numberOfPlayers) {
+		return DeckProfile.standard().createCards(cardFactory, numberOfPlayers);
+	}
+
 	public static GameEngine createNewGame() {
+		return createNewGame(LobbyMode.STANDARD);
+	}
+
+	public static GameEngine createNewGame(LobbyMode lobbyMode) {
+		return createNewGame(lobbyMode, ConsoleRenderer.FlushPolicy.EVERY_FRAME);
+	}
+
+	public static GameEngine createNewGame(LobbyMode lobbyMode,
+			ConsoleRenderer.FlushPolicy flushPolicy) {
 		LocaleManager localeManager = new LocaleManager();
 
-		UserInterface userInterface = new UserInterface(localeManager);
+		ConsoleRenderer renderer = ConsoleRenderer.buffered(System.out, flushPolicy);
+		UserInterface userInterface = new UserInterface(localeManager, renderer);
 
 		String localeMessage = localeManager.get("choose.locale");
 		int locale = userInterface.getNumericUserInput(localeMessage, 1, 2);
@@ -155,72 +234,145 @@ public class GameEngine {
 		CardFactory cardFactory = new CardFactory();
 
 		userInterface.displayWelcome();
-		int numberOfPlayers = userInterface.getNumberOfPlayers();
+		int numberOfPlayers = lobbyMode == LobbyMode.STANDARD
+				? userInterface.getNumberOfPlayers()
+				: userInterface.getNumberOfPlayers(lobbyMode);
 
 		List<Card> startingDeck = createInitialDeck(cardFactory,
-				numberOfPlayers);
+				numberOfPlayers, lobbyMode);
+
+		GameRandom random = new SecureGameRandom();
+		Deck deck = new ListDeck(startingDeck);
+		deck.shuffleDeck(random);
+
+		PlayerManager playerManager = new PlayerManager(deck, lobbyMode);
+		TurnManager turnManager = new CircularTurnManager();
+		playerManager.addPlayers(numberOfPlayers);
+		turnManager.setPlayerManager(playerManager);
+		playerManager.setTurnManager(turnManager);
+
+		GameEngine gameEngine = new GameEngine(turnManager, playerManager, deck,
+				userInterface, cardFactory, random, localeManager, null);
+		gameEngine.setRenderer(renderer);
+		return gameEngine;
+	}
+
+	public static GameEngine createHeadlessGame(int numberOfPlayers,
+			DecisionMaker decisionMaker, GameRandom random) {
+		Objects.requireNonNull(decisionMaker, "decisionMaker must not be null");
+		return createHeadlessGame(numberOfPlayers,
+				players -> decisionMaker, random);
+	}
+
+	public static GameEngine createHeadlessGame(
+			DecisionMaker[] seatDecisionMakers, GameRandom random) {
+		return createHeadlessGame(seatDecisionMakers, random, DeckProfile.standard());
+	}
+
+	public static GameEngine createHeadlessGame(DecisionMaker[] seatDecisionMakers,
+			GameRandom random, DeckProfile deckProfile) {
+		Objects.requireNonNull(seatDecisionMakers,
+				"seatDecisionMakers must not be null");
+		return createHeadlessGame(seatDecisionMakers.length,
+				players -> new SeatedDecisionMaker(players, seatDecisionMakers),
+				random, deckProfile);
+	}
+
+	private static GameEngine createHeadlessGame(int numberOfPlayers,
+			Function<List<Player>, DecisionMaker> decisionMakerForPlayers,
+			GameRandom random) {
+		return createHeadlessGame(numberOfPlayers, decisionMakerForPlayers, random,
+				DeckProfile.standard());
+	}
 
-		// We need this in order to satisfy the spotsbug error
-		SecureRandom secureRandom = new SecureRandom();
-		Deck deck = new Deck(startingDeck);
-		deck.shuffleDeck(secureRandom);
+	private static GameEngine createHeadlessGame(int numberOfPlayers,
+			Function<List<Player>, DecisionMaker> decisionMakerForPlayers,
+			GameRandom random, DeckProfile deckProfile) {
+		Objects.requireNonNull(random, "random must not be null");
+		Objects.requireNonNull(deckProfile, "deckProfile must not be null");
+		Deck deck = deckProfile.createDeck(numberOfPlayers);
+		deck.shuffleDeck(random);
+		GameEngine gameEngine = createHeadlessGame(deck, numberOfPlayers,
+				decisionMakerForPlayers, random);
+		gameEngine.deckProfile = deckProfile;
+		return gameEngine;
+	}
 
-		PlayerManager playerManager = new PlayerManager(deck);
-		TurnManager turnManager = new TurnManager();
+	static GameEngine createHeadlessGame(Deck deck, int numberOfPlayers,
+			Function<List<Player>, DecisionMaker> decisionMakerForPlayers,
+			GameRandom random) {
+		CardFactory cardFactory = new CardFactory();
+		LobbyMode lobbyMode = LobbyMode.forNumberOfPlayers(numberOfPlayers);
+		PlayerManager playerManager = new PlayerManager(deck, lobbyMode);
+		TurnManager turnManager = new CircularTurnManager();
 		playerManager.addPlayers(numberOfPlayers);
 		turnManager.setPlayerManager(playerManager);
+		playerManager.setTurnManager(turnManager);
 
-		return new GameEngine(turnManager, playerManager, deck, userInterface,
-				cardFactory, secureRandom, localeManager);
+		return new GameEngine(turnManager, playerManager, deck,
+				new SilentUserInterface(), cardFactory, random, null,
+				decisionMakerForPlayers.apply(playerManager.getPlayers()));
 	}
 
 	public void showAvailableCardTypes(Player player) {
 		Objects.requireNonNull(player, "Player cannot be null");
+		if (isHeadless()) {
+			return;
+		}
 		List<CardType> available = player.getAvailableCardTypes();
 		if (!available.isEmpty()) {
 
-			System.out.print(getMessage("game.available.cards"));
+			renderer.print(getMessage("game.available.cards"));
 			for (int i = 0; i < available.size(); i++) {
-				System.out.print(available.get(i)
+				renderer.print(available.get(i)
 						.name().toLowerCase()
 						.replace("_", " "));
 				if (i < available.size() - 1) {
-					System.out.print(", ");
+					renderer.print(", ");
 				}
 			}
-			System.out.println();
+			renderer.println();
 		}
 	}
 
 	public void displayGameState(Player currentPlayer) {
+		if (isHeadless()) {
+			return;
+		}
 		final int NUMBER_OF_EQUAL_SIGNS = 40;
-		System.out.println("\n" + "=".repeat(NUMBER_OF_EQUAL_SIGNS));
+		renderer.println("\n" + "=".repeat(NUMBER_OF_EQUAL_SIGNS));
 
-		int currentPlayerIndex = playerManager.getPlayers().indexOf(currentPlayer);
-		System.out.println(getMessage("turn.of.player") + currentPlayerIndex);
-		System.out.println("=".repeat(NUMBER_OF_EQUAL_SIGNS));
+		int currentPlayerIndex = playerManager.getPlayerIndex(currentPlayer);
+		renderer.println(getMessage("turn.of.player") + currentPlayerIndex);
+		renderer.println("=".repeat(NUMBER_OF_EQUAL_SIGNS));
 
-		System.out.println(getMessage("players.remaining")
-				+ playerManager.getActivePlayers().size());
+		renderer.println(getMessage("players.remaining")
+				+ playerManager.getNumberOfActivePlayers());
 		displayIndexesOfActivePlayers();
 
-		System.out.println(getMessage("cards.in.deck")
+		renderer.println(getMessage("cards.in.deck")
 				+ deck.getDeckSize());
 		userInterface.displayPlayerHand(currentPlayer);
 		userInterface.displayInstructions();
 	}
 
 	public void displayGameStatus() {
-		System.out.println("\n" +
+		if (isHeadless()) {
+			return;
+		}
+		renderer.println("\n" +
 				getMessage("status.title"));
-		List<Player> activePlayers = playerManager.getActivePlayers();
-		System.out.println(getMessage("active.players") + activePlayers.size());
-		System.out.println(getMessage("cards.in.deck") + deck.getDeckSize());
+		renderer.println(getMessage("active.players")
+				+ playerManager.getNumberOfActivePlayers());
+		renderer.println(getMessage("cards.in.deck") + deck.getDeckSize());
 		Player current = turnManager.getCurrentActivePlayer();
-		System.out.printf(getMessage("status.current.player.cards")
+		renderer.printf(getMessage("status.current.player.cards")
 				+ "%n", current.getNumberOfCards());
+		final int PERCENT = 100;
+		renderer.printf(getMessage("status.kitten.chance") + "%n",
+				Math.round(PERCENT * current.getDrawExplosionChance()));
 
-		System.out.println("==================\n");
+		renderer.println("==================\n");
 	}
 
 
@@ -230,27 +382,79 @@ public class GameEngine {
 
 		final int MINIMUM_NUMBER_OF_PARTS = 2;
 		if (parts.length < MINIMUM_NUMBER_OF_PARTS) {
-			userInterface.displayError
-					(getMessage("command.play.usage"));
+			if (!isHeadless()) {
+				userInterface.displayError
+						(getMessage("command.play.usage"));
+			}
 			return;
 		}
 
-		String cardTypeName = String.join(" ", Arrays.copyOfRange(parts,
-				1, parts.length));
-		CardType cardTypeToPlay = currentPlayer.parseCardType(cardTypeName);
+		if (parts.length == MINIMUM_NUMBER_OF_PARTS) {
+			playCardNamed(currentPlayer,
+					currentPlayer.parseCardType(parts[1]), parts[1]);
+			return;
+		}
+		playArgument.setLength(0);
+		playArgument.append(parts[1]);
+		for (int i = MINIMUM_NUMBER_OF_PARTS; i < parts.length; i++) {
+			playArgument.append(' ').append(parts[i]);
+		}
+		playCardNamed(currentPlayer,
+				currentPlayer.parseCardType(playArgument, 0, playArgument.length()),
+				playArgument);
+	}
+
+	private void playCardNamed(Player currentPlayer, CardType cardTypeToPlay,
+			CharSequence cardTypeName) {
+		if (cardTypeToPlay == null) {
+			displayUnresolvedCard(currentPlayer, cardTypeName.toString());
+			return;
+		}
+		playCardOfType(currentPlayer, cardTypeToPlay);
+	}
 
+	private void playArgumentCard(Player currentPlayer) {
+		CardType cardTypeToPlay = commandParser.resolveArgument(currentPlayer);
+		if (cardTypeToPlay == null) {
+			displayUnresolvedCard(currentPlayer, commandParser.getArgument());
+			return;
+		}
+		playCardOfType(currentPlayer, cardTypeToPlay);
+	}
+
+	private void playCardOfType(Player currentPlayer, CardType cardTypeToPlay) {
 		Card cardToPlay = cardFactory.createCard(cardTypeToPlay);
 		playCard(currentPlayer, cardToPlay);
 		userInterface.displayCardPlayed(cardToPlay);
 	}
 
+	private void displayUnresolvedCard(Player currentPlayer, String cardTypeName) {
+		if (isHeadless()) {
+			return;
+		}
+		List<CardType> matches = currentPlayer.getMatchingCardTypes(cardTypeName);
+		if (matches.size() < 2) {
+			userInterface.displayError(String.format(
+					getMessage("card.error.not.in.hand"), cardTypeName));
+			return;
+		}
+		StringJoiner names = new StringJoiner(", ");
+		for (CardType cardType : matches) {
+			names.add(localeManager.getCardName(cardType));
+		}
+		userInterface.displayError(String.format(getMessage("card.error.ambiguous"),
+				cardTypeName, names));
+	}
+
 	public void handleDrawCommand(Player currentPlayer) {
 		Objects.requireNonNull(currentPlayer, "Player cannot be null");
 
 		final int DECK_SIZE_OF_ZERO = 0;
 		if (deck.getDeckSize() == DECK_SIZE_OF_ZERO) {
-			userInterface.displayError(
-					getMessage("deck.empty"));
+			if (!isHeadless()) {
+				userInterface.displayError(
+						getMessage("deck.empty"));
+			}
 			return;
 		}
 
@@ -261,6 +465,11 @@ public class GameEngine {
 			handleExplodingKittenDrawWithUI(currentPlayer, drawnCard);
 		} else {
 			currentPlayer.addCardToHand(drawnCard);
+			if (eventListener != null) {
+				eventListener.onCardAcquired(
+						playerManager.getPlayerIndex(currentPlayer),
+						drawnCard.getCardType());
+			}
 			turnManager.advanceToNextPlayer();
 		}
 	}
@@ -270,21 +479,46 @@ public class GameEngine {
 		if (currentPlayer.hasCardType(CardType.DEFUSE)) {
 			currentPlayer.removeDefuseCard();
 			userInterface.displayDefuseUsed();
-			int position = getPlayerChoiceForKittenPlacement();
-			deck.insertCardAt(explodingKitten, position);
+			if (deferredChoices != null) {
+				deferredChoices.awaitKittenPlacement(currentPlayer, explodingKitten,
+						deck.getDeckSize());
+				return;
+			}
+			placeExplodingKitten(currentPlayer, explodingKitten);
+		} else {
+			if (!isHeadless()) {
+				renderer.println(getMessage("exploding.kitten.no.defuse"));
+			}
+			eliminatePlayer(currentPlayer);
+		}
+	}
 
+	void placeExplodingKitten(Player currentPlayer, Card explodingKitten) {
+		int position = getPlayerChoiceForKittenPlacement();
+		deck.insertCardAt(explodingKitten, position);
+		deck.revealCardAt(currentPlayer.id, position);
+
+		if (!isHeadless()) {
 			userInterface.displaySuccess(
 					getMessage("exploding.kitten.placed") +
 							position);
-			turnManager.advanceToNextPlayer();
-		} else {
-			System.out.println(getMessage("exploding.kitten.no.defuse"));
-			playerManager.removePlayerFromGame(currentPlayer);
+		}
+		turnManager.advanceToNextPlayer();
+	}
+
+	void eliminatePlayer(Player player) {
+		playerManager.removePlayerFromGame(player);
+		if (eventListener != null) {
+			eventListener.onPlayerEliminated(playerManager.getPlayerIndex(player));
 		}
 	}
 
 	public int getPlayerChoiceForKittenPlacement() {
 		int deckSize = deck.getDeckSize();
+		if (isHeadless()) {
+			return decisionMaker.chooseKittenPlacement(
+					turnManager.getCurrentActivePlayer(), deckSize);
+		}
 		String message = String.format(
 				getMessage("exploding.kitten.insert.prompt"), deckSize);
 		final int MIN = 0;
@@ -292,44 +526,60 @@ public class GameEngine {
 	}
 
 	public void processCommand(String input, Player currentPlayer) {
-		if (input == null || input.trim().isEmpty()) {
-			userInterface.
-					displayError(getMessage("command.error.empty"));
+		if (eventListener != null) {
+			eventListener.onCommand(playerManager.getPlayerIndex(currentPlayer),
+					input == null ? "" : input);
+		}
+		CommandParser.Command command = input == null
+				? CommandParser.Command.EMPTY : commandParser.parse(input);
+		if (command == CommandParser.Command.EMPTY) {
+			if (!isHeadless()) {
+				userInterface.
+						displayError(getMessage("command.error.empty"));
+			}
 			return;
 		}
-		String cleanedInput = input.trim().replaceAll("\\s+", " ");
-		String[] parts = cleanedInput.split(" ");
-		String command = parts[0];
 
 		try {
 			switch (command) {
-				case "play":
-					handlePlayCommand(parts, currentPlayer);
+				case PLAY:
+					if (commandParser.hasArgument()) {
+						playArgumentCard(currentPlayer);
+					} else if (!isHeadless()) {
+						userInterface.displayError(
+								getMessage("command.play.usage"));
+					}
 					break;
-				case "help":
+				case HELP:
 					userInterface.displayHelp();
 					break;
-				case "hand":
+				case HAND:
 					userInterface.displayPlayerHand(currentPlayer);
 					break;
-				case "draw":
+				case DRAW:
 					handleDrawCommand(currentPlayer);
 					break;
-				case "status":
+				case STATUS:
 					displayGameStatus();
 					break;
-				case "quit":
+				case QUIT:
 					handleQuitCommand();
 					break;
 				default:
+					if (isHeadless()) {
+						break;
+					}
 					String unknownMessage = String.format(
 							getMessage("command.error.unknown"),
-							command);
+							commandParser.getCommand());
 					userInterface
 							.displayError
 							(unknownMessage);
 			}
 		} catch (Exception e) {
+			if (isHeadless()) {
+				return;
+			}
 			String errorMessage = String.format(
 					getMessage("command.error.exception"),
 					e.getMessage());
@@ -340,31 +590,65 @@ public class GameEngine {
 
 
 	public void handlePlayerGetsEliminated() {
-		List<Player> activePlayers = playerManager.getActivePlayers();
-		turnManager.syncWith(activePlayers);
+		turnManager.removeEliminatedCurrentPlayer();
 	}
 
 	public void checkWinCondition() {
-		List<Player> activePlayers = playerManager.getActivePlayers();
-		if (activePlayers.size() <= 1) {
+		int numberOfActivePlayers = playerManager.getNumberOfActivePlayers();
+		if (numberOfActivePlayers <= 1) {
 			gameRunning = false;
-			if (activePlayers.size() == 1) {
-				System.out.println(getMessage("game.over.win"));
+			if (isHeadless()) {
+				return;
+			}
+			if (numberOfActivePlayers == 1) {
+				renderer.println(getMessage("game.over.win"));
 			} else {
-				System.out.println(getMessage("game.over.lose"));
+				renderer.println(getMessage("game.over.lose"));
 			}
 		}
 	}
 
+	public int getWinningPlayerIndex() {
+		if (playerManager.getNumberOfActivePlayers() != 1) {
+			return -1;
+		}
+		return playerManager.getNextActivePlayerIndex(0);
+	}
+
 	private GameContext createGameContext(Player player) {
-		return new GameContext(
+		GameContext gameContext = gameContexts.get(player);
+		if (gameContext == null) {
+			gameContext = newGameContext(player);
+			gameContexts.put(player, gameContext);
+		}
+		return gameContext;
+	}
+
+	private GameContext newGameContext(Player player) {
+		GameContext gameContext = new GameContext(
 				turnManager,
 				playerManager,
 				deck,
 				player,
 				userInterface,
-				cardFactory
+				cardFactory,
+				decisionMaker,
+				random
 		);
+		gameContext.deferChoicesTo(deferredChoices);
+		gameContext.reportEventsTo(eventListener);
+		return gameContext;
+	}
+
+	private String readCommand(Player currentPlayer) {
+		if (isHeadless()) {
+			return decisionMaker.chooseCommand(currentPlayer);
+		}
+		return userInterface.getUserInput();
+	}
+
+	private boolean isHeadless() {
+		return decisionMaker != null;
 	}
 
 	private void initializeHandPerPlayers(List<Player> players, int startingCardCount) {
@@ -374,13 +658,26 @@ public class GameEngine {
 			}
 
 			player.addCardToHand(cardFactory.createCard(CardType.DEFUSE));
+			if (eventListener != null) {
+				reportDealtHand(player);
+			}
+		}
+	}
+
+	private void reportDealtHand(Player player) {
+		int playerIndex = playerManager.getPlayerIndex(player);
+		for (CardType cardType : CardType.values()) {
+			int count = player.hand.getCountOfCardType(cardType);
+			for (int card = 0; card < count; card++) {
+				eventListener.onCardAcquired(playerIndex, cardType);
+			}
 		}
 	}
 
 	private void insertExplodingKittenPerPlayers(int explodingKittensCount) {
 		for (int i = 0; i < explodingKittensCount; i++) {
 			deck.insertCardAt(cardFactory.createCard(CardType.EXPLODING_KITTEN),
-					secureRandom.nextInt(deck.getDeckSize()));
+					random.nextInt(deck.getDeckSize()));
 		}
 	}
 
@@ -392,7 +689,7 @@ public class GameEngine {
 				activePlayerIndexes.add(i);
 			}
 		}
-		System.out.println(getMessage("active.players.indices")
+		renderer.println(getMessage("active.players.indices")
 				+ activePlayerIndexes);
 	}
 
@@ -401,7 +698,24 @@ public class GameEngine {
 	}
 
 	public static void main(String[] args) {
-		GameEngine game = createNewGame();
+		LobbyMode lobbyMode = args.length > 0
+				? LobbyMode.valueOf(args[0].toUpperCase(Locale.ROOT))
+				: LobbyMode.STANDARD;
+		ConsoleRenderer.FlushPolicy flushPolicy = args.length > 1
+				? ConsoleRenderer.FlushPolicy.valueOf(
+						args[1].toUpperCase(Locale.ROOT))
+				: ConsoleRenderer.FlushPolicy.EVERY_FRAME;
+		GameEngine game = createNewGame(lobbyMode, flushPolicy);
+		if (args.length > 2) {
+			try (GameEventLog eventLog = GameEventLog.create(Path.of(args[2]))) {
+				game.setEventListener(eventLog);
+				game.initializeGame();
+				game.runGameLoop();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+			return;
+		}
 		game.initializeGame();
 		game.runGameLoop();
 	}
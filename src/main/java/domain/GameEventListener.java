@@ -0,0 +1,27 @@
+package domain;
+
+public interface GameEventListener {
+	default void onGameStarted(long seed, int numberOfPlayers, Deck deck) {
+	}
+
+	default void onCommand(int playerIndex, String command) {
+	}
+
+	default void onNumericChoice(int choice) {
+	}
+
+	default void onTextInput(String input) {
+	}
+
+	default void onRandom(int bound, int value) {
+	}
+
+	default void onCardPlayed(int playerIndex, CardType cardType) {
+	}
+
+	default void onCardAcquired(int playerIndex, CardType cardType) {
+	}
+
+	default void onPlayerEliminated(int playerIndex) {
+	}
+}
@@ -0,0 +1,108 @@
+package domain;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+public final class GameEventLog implements GameEventListener, Closeable {
+	static final int MAGIC = 0x454B4C47;
+	static final byte VERSION = 1;
+	static final byte GAME_STARTED = 1;
+	static final byte COMMAND = 2;
+	static final byte NUMERIC_CHOICE = 3;
+	static final byte TEXT_INPUT = 4;
+	static final byte RANDOM = 5;
+
+	private final DataOutputStream out;
+
+	private GameEventLog(DataOutputStream out) {
+		this.out = out;
+	}
+
+	public static GameEventLog create(Path logFile) throws IOException {
+		Objects.requireNonNull(logFile, "Log file cannot be null");
+		DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+				Files.newOutputStream(logFile, StandardOpenOption.CREATE_NEW,
+						StandardOpenOption.WRITE)));
+		out.writeInt(MAGIC);
+		out.writeByte(VERSION);
+		return new GameEventLog(out);
+	}
+
+	@Override
+	public void onGameStarted(long seed, int numberOfPlayers, Deck deck) {
+		try {
+			out.writeByte(GAME_STARTED);
+			out.writeLong(seed);
+			out.writeInt(numberOfPlayers);
+			int deckSize = deck.getDeckSize();
+			out.writeInt(deckSize);
+			for (int i = 0; i < deckSize; i++) {
+				out.writeByte(deck.getCardAt(i).getCardType().ordinal());
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@Override
+	public void onCommand(int playerIndex, String command) {
+		try {
+			out.writeByte(COMMAND);
+			out.writeInt(playerIndex);
+			writeString(command);
+			out.flush();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@Override
+	public void onNumericChoice(int choice) {
+		try {
+			out.writeByte(NUMERIC_CHOICE);
+			out.writeInt(choice);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@Override
+	public void onTextInput(String input) {
+		try {
+			out.writeByte(TEXT_INPUT);
+			writeString(input);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@Override
+	public void onRandom(int bound, int value) {
+		try {
+			out.writeByte(RANDOM);
+			out.writeInt(bound);
+			out.writeInt(value);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		out.close();
+	}
+
+	private void writeString(String text) throws IOException {
+		byte[] bytes = (text == null ? "" : text).getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+}
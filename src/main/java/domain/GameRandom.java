@@ -0,0 +1,5 @@
+package domain;
+
+public interface GameRandom {
+	int nextInt(int bound);
+}
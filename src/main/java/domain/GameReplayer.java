@@ -0,0 +1,210 @@
+package domain;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+public final class GameReplayer {
+	private static final CardType[] CARD_TYPES = CardType.values();
+
+	private final ByteBuffer log;
+	private final long seed;
+	private final int numberOfPlayers;
+	private final byte[] deckOrdinals;
+	private final int firstEventPosition;
+
+	private GameReplayer(ByteBuffer log) {
+		this.log = log;
+		if (log.remaining() < Integer.BYTES + 1 || log.getInt() != GameEventLog.MAGIC) {
+			throw new IllegalArgumentException("Not a game event log");
+		}
+		if (log.get() != GameEventLog.VERSION) {
+			throw new IllegalArgumentException("Unsupported game event log version");
+		}
+		if (!log.hasRemaining() || log.get() != GameEventLog.GAME_STARTED) {
+			throw new IllegalArgumentException("Game event log has no game");
+		}
+		this.seed = log.getLong();
+		this.numberOfPlayers = log.getInt();
+		this.deckOrdinals = new byte[log.getInt()];
+		log.get(deckOrdinals);
+		for (byte ordinal : deckOrdinals) {
+			if (ordinal < 0 || ordinal >= CARD_TYPES.length) {
+				throw new IllegalArgumentException("Unknown card in event log");
+			}
+		}
+		this.firstEventPosition = log.position();
+	}
+
+	public static GameReplayer open(Path logFile) throws IOException {
+		Objects.requireNonNull(logFile, "Log file cannot be null");
+		try (FileChannel channel = FileChannel.open(logFile,
+				StandardOpenOption.READ)) {
+			return new GameReplayer(channel.map(
+					FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+		}
+	}
+
+	public long getSeed() {
+		return seed;
+	}
+
+	public int getNumberOfPlayers() {
+		return numberOfPlayers;
+	}
+
+	public GameEngine replayAll() {
+		return replay(Long.MAX_VALUE);
+	}
+
+	public GameEngine replay(long numberOfCommands) {
+		if (numberOfCommands < 0) {
+			throw new IllegalArgumentException("Number of commands cannot be negative");
+		}
+		ByteBuffer events = log.duplicate();
+		events.position(firstEventPosition);
+		ReplayCursor cursor = new ReplayCursor(events);
+
+		GameEngine gameEngine = GameEngine.createHeadlessGame(createDeck(),
+				numberOfPlayers, cursor::bind, cursor);
+		gameEngine.initializeGame();
+		while (gameEngine.getIsGameRunning()
+				&& cursor.commandsReplayed < numberOfCommands
+				&& events.hasRemaining()) {
+			gameEngine.playTurn();
+			cursor.checkInSync();
+		}
+		return gameEngine;
+	}
+
+	private Deck createDeck() {
+		CardFactory cardFactory = new CardFactory();
+		List<Card> cards = new ArrayList<>(deckOrdinals.length);
+		for (byte ordinal : deckOrdinals) {
+			cards.add(cardFactory.createCard(CARD_TYPES[ordinal]));
+		}
+		return new OrdinalDeck(cards);
+	}
+
+	private static final class ReplayCursor implements DecisionMaker, GameRandom {
+		private final ByteBuffer events;
+		private List<Player> players;
+		private long commandsReplayed;
+		private IllegalStateException divergence;
+
+		ReplayCursor(ByteBuffer events) {
+			this.events = events;
+		}
+
+		DecisionMaker bind(List<Player> players) {
+			this.players = players;
+			return this;
+		}
+
+		void checkInSync() {
+			if (divergence != null) {
+				throw divergence;
+			}
+		}
+
+		@Override
+		public String chooseCommand(Player player) {
+			expect(GameEventLog.COMMAND);
+			int playerIndex = readInt();
+			String command = readString();
+			if (playerIndex < 0 || playerIndex >= players.size()
+					|| players.get(playerIndex) != player) {
+				throw diverged("command " + commandsReplayed
+						+ " was logged for player " + playerIndex);
+			}
+			commandsReplayed++;
+			return command;
+		}
+
+		@Override
+		public int choosePlayerToTakeCardFrom(Player player, int maxPlayerIndex) {
+			return nextNumericChoice();
+		}
+
+		@Override
+		public CardType chooseCardToGive(Player giver) {
+			expect(GameEventLog.TEXT_INPUT);
+			return giver.parseCardType(readString());
+		}
+
+		@Override
+		public int chooseBuryIndex(Player player, int deckSize) {
+			return nextNumericChoice();
+		}
+
+		@Override
+		public int chooseRearrangeIndex(Player player, int position,
+				int minIndex, int maxIndex) {
+			return nextNumericChoice();
+		}
+
+		@Override
+		public int chooseKittenPlacement(Player player, int deckSize) {
+			return nextNumericChoice();
+		}
+
+		@Override
+		public int nextInt(int bound) {
+			expect(GameEventLog.RANDOM);
+			int loggedBound = readInt();
+			int value = readInt();
+			if (loggedBound != bound) {
+				throw diverged("random bound " + bound
+						+ " was logged as " + loggedBound);
+			}
+			return value;
+		}
+
+		private int nextNumericChoice() {
+			expect(GameEventLog.NUMERIC_CHOICE);
+			return readInt();
+		}
+
+		private void expect(byte eventType) {
+			if (!events.hasRemaining()) {
+				throw diverged("log ended before event " + eventType);
+			}
+			byte loggedType = events.get();
+			if (loggedType != eventType) {
+				throw diverged("expected event " + eventType
+						+ " but found " + loggedType);
+			}
+		}
+
+		private int readInt() {
+			if (events.remaining() < Integer.BYTES) {
+				throw diverged("log ended inside an event");
+			}
+			return events.getInt();
+		}
+
+		private String readString() {
+			int length = readInt();
+			if (length < 0 || events.remaining() < length) {
+				throw diverged("log ended inside an event");
+			}
+			byte[] bytes = new byte[length];
+			events.get(bytes);
+			return new String(bytes, StandardCharsets.UTF_8);
+		}
+
+		private IllegalStateException diverged(String reason) {
+			if (divergence == null) {
+				divergence = new IllegalStateException(
+						"Replay diverged from log: " + reason);
+			}
+			return divergence;
+		}
+	}
+}
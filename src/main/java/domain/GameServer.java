@@ -0,0 +1,95 @@
+package domain;
+
+import java.io.Closeable;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+public final class GameServer implements Closeable {
+	private final ExecutorService executor;
+	private final RandomProvider randomProvider;
+	private final Map<Long, GameTable> tables;
+	private final AtomicLong nextTableId;
+
+	public GameServer(int numberOfThreads) {
+		this(numberOfThreads, RandomProvider.secure());
+	}
+
+	public GameServer(int numberOfThreads, RandomProvider randomProvider) {
+		if (numberOfThreads < 1) {
+			throw new IllegalArgumentException("At least one thread is required");
+		}
+		this.randomProvider = Objects.requireNonNull(randomProvider,
+				"randomProvider must not be null");
+		this.executor = Executors.newFixedThreadPool(numberOfThreads);
+		this.tables = new ConcurrentHashMap<>();
+		this.nextTableId = new AtomicLong();
+	}
+
+	public GameTable openTable(int numberOfPlayers, GameTable.Listener listener) {
+		GameRandom random;
+		synchronized (randomProvider) {
+			random = randomProvider.nextGameRandom();
+		}
+		GameTable table = new GameTable(nextTableId.getAndIncrement(),
+				numberOfPlayers, random, listener);
+		tables.put(table.getId(), table);
+		schedule(table);
+		return table;
+	}
+
+	public void submit(long tableId, int seat, String line) {
+		GameTable table = getTable(tableId);
+		table.submit(seat, line);
+		schedule(table);
+	}
+
+	public void inspect(long tableId, Consumer<GameTable> inspection) {
+		GameTable table = getTable(tableId);
+		table.inspect(inspection);
+		schedule(table);
+	}
+
+	public int getNumberOfOpenTables() {
+		return tables.size();
+	}
+
+	public boolean awaitTermination(long timeout, TimeUnit unit)
+			throws InterruptedException {
+		executor.shutdown();
+		return executor.awaitTermination(timeout, unit);
+	}
+
+	@Override
+	public void close() {
+		executor.shutdownNow();
+	}
+
+	private GameTable getTable(long tableId) {
+		GameTable table = tables.get(tableId);
+		if (table == null) {
+			throw new IllegalArgumentException("No open table with id " + tableId);
+		}
+		return table;
+	}
+
+	private void schedule(GameTable table) {
+		if (table.tryStartAdvance()) {
+			executor.execute(() -> advance(table));
+		}
+	}
+
+	private void advance(GameTable table) {
+		do {
+			table.advance();
+			if (table.isFinished()) {
+				tables.remove(table.getId());
+			}
+		} while (table.finishAdvance());
+	}
+}
@@ -0,0 +1,242 @@
+package domain;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+public final class GameSnapshot {
+	static final int MAGIC = 0x454B534E;
+	static final byte VERSION = 1;
+
+	private static final int NUMBER_OF_CARD_TYPES = CardType.values().length;
+	private static final int VERSION_OFFSET = Integer.BYTES;
+	private static final int RUNNING_OFFSET = VERSION_OFFSET + Byte.BYTES;
+	private static final int PLAYERS_OFFSET = RUNNING_OFFSET + Byte.BYTES;
+	private static final int CARD_TYPES_OFFSET = PLAYERS_OFFSET + Short.BYTES;
+	private static final int DECK_SIZE_OFFSET = CARD_TYPES_OFFSET + Byte.BYTES;
+	private static final int HEADER_BYTES = DECK_SIZE_OFFSET + Integer.BYTES;
+	private static final int PLAYER_BYTES = Byte.BYTES + NUMBER_OF_CARD_TYPES * Short.BYTES;
+	private static final int TURN_BYTES = 3 * Integer.BYTES;
+
+	private GameSnapshot() {
+	}
+
+	public static int sizeOf(GameEngine gameEngine) {
+		Objects.requireNonNull(gameEngine, "gameEngine must not be null");
+		return sizeOf(gameEngine.getDeck(), gameEngine.getPlayerManager(),
+				gameEngine.getTurnManager());
+	}
+
+	static int sizeOf(Deck deck, PlayerManager playerManager, TurnManager turnManager) {
+		return sizeOf(deck.getDeckSize(), playerManager.getNumberOfPlayers(),
+				turnManager.getTurnOrder().size());
+	}
+
+	public static ByteBuffer save(GameEngine gameEngine) {
+		ByteBuffer target = ByteBuffer.allocate(sizeOf(gameEngine));
+		save(gameEngine, target);
+		target.flip();
+		return target;
+	}
+
+	public static void save(GameEngine gameEngine, ByteBuffer target) {
+		Objects.requireNonNull(gameEngine, "gameEngine must not be null");
+		Objects.requireNonNull(target, "target must not be null");
+		save(gameEngine.getDeck(), gameEngine.getPlayerManager(),
+				gameEngine.getTurnManager(), gameEngine.getIsGameRunning(), target);
+	}
+
+	static void save(Deck deck, PlayerManager playerManager, TurnManager turnManager,
+			boolean running, ByteBuffer target) {
+		List<Player> turnOrder = turnManager.getTurnOrder();
+		List<Player> players = playerManager.getPlayers();
+
+		target.putInt(MAGIC);
+		target.put(VERSION);
+		target.put((byte) (running ? 1 : 0));
+		target.putShort((short) players.size());
+		target.put((byte) NUMBER_OF_CARD_TYPES);
+		target.putInt(deck.getDeckSize());
+		deck.writeTo(target);
+
+		for (Player player : players) {
+			target.put((byte) (player.isInGame() ? 1 : 0));
+			player.hand.writeTo(target);
+		}
+
+		target.putInt(turnManager.getRequiredTurns());
+		target.putInt(turnManager.getCurrentPlayerTurnsTaken());
+		target.putInt(turnOrder.size());
+		for (Player player : turnOrder) {
+			target.putShort((short) playerManager.getPlayerIndex(player));
+		}
+	}
+
+	public static void restore(GameEngine gameEngine, ByteBuffer source) {
+		Objects.requireNonNull(gameEngine, "gameEngine must not be null");
+		Objects.requireNonNull(source, "source must not be null");
+		PlayerManager playerManager = gameEngine.getPlayerManager();
+		int numberOfPlayers = playerManager.getNumberOfPlayers();
+		int start = source.position();
+		if (source.remaining() < HEADER_BYTES || source.getInt(start) != MAGIC
+				|| source.get(start + VERSION_OFFSET) != VERSION) {
+			throw new IllegalArgumentException("Not a game snapshot");
+		}
+		if (source.getShort(start + PLAYERS_OFFSET) != numberOfPlayers) {
+			throw new IllegalArgumentException(
+					"Snapshot was taken with a different number of players");
+		}
+		if (source.get(start + CARD_TYPES_OFFSET) != NUMBER_OF_CARD_TYPES) {
+			throw new IllegalArgumentException(
+					"Snapshot was taken with a different set of cards");
+		}
+		int deckSize = source.getInt(start + DECK_SIZE_OFFSET);
+		if (deckSize < 0 || deckSize > source.remaining()) {
+			throw new IllegalArgumentException("Snapshot is truncated");
+		}
+		int fixedSize = sizeOf(deckSize, numberOfPlayers, 0);
+		if (source.remaining() < fixedSize) {
+			throw new IllegalArgumentException("Snapshot is truncated");
+		}
+		int turnOrderSize = source.getInt(start + fixedSize - Integer.BYTES);
+		if (turnOrderSize <= 0 || turnOrderSize > source.remaining()
+				|| source.remaining() < fixedSize + turnOrderSize * Short.BYTES) {
+			throw new IllegalArgumentException("Snapshot is truncated");
+		}
+		int playersStart = start + HEADER_BYTES + deckSize;
+		int turnsStart = start + fixedSize - TURN_BYTES;
+		checkCardTypes(source, start + HEADER_BYTES, deckSize);
+		checkHands(source, playersStart, numberOfPlayers);
+		if (source.getInt(turnsStart) < 0
+				|| source.getInt(turnsStart + Integer.BYTES) < 0) {
+			throw new IllegalArgumentException("Turn counts cannot be negative");
+		}
+		List<Player> players = playerManager.getPlayers();
+		List<Player> turnOrder = new ArrayList<>(turnOrderSize);
+		for (int i = 0; i < turnOrderSize; i++) {
+			int seat = source.getShort(start + fixedSize + i * Short.BYTES);
+			if (seat < 0 || seat >= numberOfPlayers) {
+				throw new IllegalArgumentException("Unknown seat in snapshot");
+			}
+			turnOrder.add(players.get(seat));
+		}
+		TurnManager turnManager = gameEngine.getTurnManager();
+		turnManager.checkTurnOrder(turnOrder);
+
+		source.position(start + HEADER_BYTES);
+		gameEngine.getDeck().restoreFrom(source, deckSize, gameEngine.getCardFactory());
+		for (int index = 0; index < numberOfPlayers; index++) {
+			playerManager.restoreActiveStatus(index, source.get() != 0);
+			players.get(index).hand.restoreFrom(source);
+		}
+		turnManager.setRequiredTurns(source.getInt(turnsStart));
+		turnManager.setCurrentPlayerTurnsTaken(source.getInt(turnsStart + Integer.BYTES));
+		turnManager.restoreTurnOrder(turnOrder);
+		source.position(start + fixedSize + turnOrderSize * Short.BYTES);
+		gameEngine.setGameRunning(source.get(start + RUNNING_OFFSET) != 0);
+	}
+
+	static void determinize(ByteBuffer snapshot, int observerSeat, boolean[] knownPositions,
+			GameRandom random, byte[] hiddenCards) {
+		int start = snapshot.position();
+		int numberOfPlayers = snapshot.getShort(start + PLAYERS_OFFSET);
+		int deckSize = snapshot.getInt(start + DECK_SIZE_OFFSET);
+		int deckStart = start + HEADER_BYTES;
+		int playersStart = deckStart + deckSize;
+		byte kitten = (byte) CardType.EXPLODING_KITTEN.ordinal();
+
+		int hidden = 0;
+		int hiddenDeckSize = 0;
+		for (int index = 0; index < deckSize; index++) {
+			if (isKnown(knownPositions, index)) {
+				continue;
+			}
+			hiddenDeckSize++;
+			byte ordinal = snapshot.get(deckStart + index);
+			if (ordinal != kitten) {
+				hiddenCards[hidden++] = ordinal;
+			}
+		}
+		for (int seat = 0; seat < numberOfPlayers; seat++) {
+			int player = playersStart + seat * PLAYER_BYTES;
+			if (seat == observerSeat || snapshot.get(player) == 0) {
+				continue;
+			}
+			for (int type = 0; type < NUMBER_OF_CARD_TYPES; type++) {
+				int count = snapshot.getShort(
+						player + Byte.BYTES + type * Short.BYTES);
+				for (int i = 0; i < count; i++) {
+					hiddenCards[hidden++] = (byte) type;
+				}
+			}
+		}
+		shuffle(hiddenCards, 0, hidden, random);
+
+		int dealt = 0;
+		for (int seat = 0; seat < numberOfPlayers; seat++) {
+			int player = playersStart + seat * PLAYER_BYTES;
+			if (seat == observerSeat || snapshot.get(player) == 0) {
+				continue;
+			}
+			int handSize = 0;
+			for (int type = 0; type < NUMBER_OF_CARD_TYPES; type++) {
+				int slot = player + Byte.BYTES + type * Short.BYTES;
+				handSize += snapshot.getShort(slot);
+				snapshot.putShort(slot, (short) 0);
+			}
+			for (int i = 0; i < handSize; i++) {
+				int slot = player + Byte.BYTES + hiddenCards[dealt++] * Short.BYTES;
+				snapshot.putShort(slot, (short) (snapshot.getShort(slot) + 1));
+			}
+		}
+		for (int i = hidden; i < dealt + hiddenDeckSize; i++) {
+			hiddenCards[i] = kitten;
+		}
+		shuffle(hiddenCards, dealt, hiddenDeckSize, random);
+		for (int index = 0; index < deckSize; index++) {
+			if (!isKnown(knownPositions, index)) {
+				snapshot.put(deckStart + index, hiddenCards[dealt++]);
+			}
+		}
+	}
+
+	private static boolean isKnown(boolean[] knownPositions, int index) {
+		return index < knownPositions.length && knownPositions[index];
+	}
+
+	private static void shuffle(byte[] cards, int from, int count, GameRandom random) {
+		for (int i = count - 1; i > 0; i--) {
+			int j = from + random.nextInt(i + 1);
+			byte temporary = cards[from + i];
+			cards[from + i] = cards[j];
+			cards[j] = temporary;
+		}
+	}
+
+	private static int sizeOf(int deckSize, int numberOfPlayers, int turnOrderSize) {
+		return HEADER_BYTES + deckSize + numberOfPlayers * PLAYER_BYTES
+				+ TURN_BYTES + turnOrderSize * Short.BYTES;
+	}
+
+	private static void checkHands(ByteBuffer source, int position, int numberOfPlayers) {
+		for (int seat = 0; seat < numberOfPlayers; seat++) {
+			int counts = position + seat * PLAYER_BYTES + Byte.BYTES;
+			for (int type = 0; type < NUMBER_OF_CARD_TYPES; type++) {
+				if (source.getShort(counts + type * Short.BYTES) < 0) {
+					throw new IllegalArgumentException(
+							"Card count cannot be negative");
+				}
+			}
+		}
+	}
+
+	private static void checkCardTypes(ByteBuffer source, int position, int deckSize) {
+		for (int i = position; i < position + deckSize; i++) {
+			byte ordinal = source.get(i);
+			if (ordinal < 0 || ordinal >= NUMBER_OF_CARD_TYPES) {
+				throw new IllegalArgumentException("Unknown card in snapshot");
+			}
+		}
+	}
+}
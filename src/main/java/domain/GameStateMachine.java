@@ -0,0 +1,332 @@
+package domain;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Objects;
+
+public final class GameStateMachine {
+	public enum State {
+		AWAITING_COMMAND,
+		AWAITING_FAVOR_TARGET,
+		AWAITING_FAVOR_CARD,
+		AWAITING_REARRANGE_INDEX,
+		AWAITING_BURY_INDEX,
+		AWAITING_KITTEN_PLACEMENT,
+		GAME_OVER
+	}
+
+	private static final int MAX_CARDS_TO_REARRANGE = 3;
+
+	private final SubmittedChoices submittedChoices = new SubmittedChoices();
+	private final GameEngine gameEngine;
+	private final PlayerManager playerManager;
+	private final TurnManager turnManager;
+	private final Deck deck;
+	private State state;
+	private Player awaitingPlayer;
+	private GameContext pendingContext;
+	private Player favorGiver;
+	private Card heldCard;
+	private int minimum;
+	private int maximum;
+	private int position;
+	private int cardsToRearrange;
+
+	private GameStateMachine(Deck deck, int numberOfPlayers, GameRandom random) {
+		this.gameEngine = GameEngine.createHeadlessGame(deck, numberOfPlayers,
+				players -> submittedChoices, random);
+		this.gameEngine.deferChoicesTo(new Prompts());
+		this.playerManager = gameEngine.getPlayerManager();
+		this.turnManager = gameEngine.getTurnManager();
+		this.deck = gameEngine.getDeck();
+	}
+
+	public static GameStateMachine create(int numberOfPlayers, GameRandom random) {
+		Objects.requireNonNull(random, "random must not be null");
+		Deck deck = DeckProfile.standard().createDeck(numberOfPlayers);
+		deck.shuffleDeck(random);
+		return create(deck, numberOfPlayers, random);
+	}
+
+	static GameStateMachine create(Deck deck, int numberOfPlayers, GameRandom random) {
+		GameStateMachine stateMachine = new GameStateMachine(deck, numberOfPlayers,
+				random);
+		stateMachine.gameEngine.initializeGame();
+		stateMachine.finishCommand();
+		return stateMachine;
+	}
+
+	static GameStateMachine forSearch(int numberOfPlayers, GameRandom random) {
+		return new GameStateMachine(new OrdinalDeck(new ArrayList<>()), numberOfPlayers,
+				random);
+	}
+
+	public State getState() {
+		return state;
+	}
+
+	public boolean isGameOver() {
+		return state == State.GAME_OVER;
+	}
+
+	public int getAwaitingSeat() {
+		return awaitingPlayer == null ? -1 : playerManager.getPlayerIndex(awaitingPlayer);
+	}
+
+	public int getMinimum() {
+		return minimum;
+	}
+
+	public int getMaximum() {
+		return maximum;
+	}
+
+	public int getPosition() {
+		return position;
+	}
+
+	public int getNumberOfPlayers() {
+		return playerManager.getNumberOfPlayers();
+	}
+
+	public int getWinningSeat() {
+		return gameEngine.getWinningPlayerIndex();
+	}
+
+	GameEngine getGameEngine() {
+		return gameEngine;
+	}
+
+	Player getAwaitingPlayer() {
+		return awaitingPlayer;
+	}
+
+	void restore(ByteBuffer snapshot) {
+		int start = snapshot.position();
+		GameSnapshot.restore(gameEngine, snapshot);
+		snapshot.position(start);
+		finishCommand();
+	}
+
+	boolean play(DecisionMaker decisionMaker) {
+		Player player = awaitingPlayer;
+		switch (state) {
+			case AWAITING_COMMAND:
+				runCommand(decisionMaker.chooseCommand(player));
+				return true;
+			case AWAITING_FAVOR_TARGET:
+				return submitChoice(decisionMaker.choosePlayerToTakeCardFrom(player,
+						maximum));
+			case AWAITING_FAVOR_CARD:
+				CardType cardType = decisionMaker.chooseCardToGive(player);
+				giveFavorCard(cardType != null && player.hasCardType(cardType)
+						? cardType : null);
+				return true;
+			case AWAITING_REARRANGE_INDEX:
+				return submitChoice(decisionMaker.chooseRearrangeIndex(player,
+						position, minimum, maximum));
+			case AWAITING_BURY_INDEX:
+				return submitChoice(decisionMaker.chooseBuryIndex(player, maximum));
+			case AWAITING_KITTEN_PLACEMENT:
+				return submitChoice(decisionMaker.chooseKittenPlacement(player,
+						maximum));
+			default:
+				throw new IllegalStateException("Game is over");
+		}
+	}
+
+	public boolean submit(String input) {
+		Objects.requireNonNull(input, "input must not be null");
+		switch (state) {
+			case AWAITING_COMMAND:
+				runCommand(input);
+				return true;
+			case AWAITING_FAVOR_CARD:
+				giveFavorCard(awaitingPlayer.parseCardType(input));
+				return true;
+			case GAME_OVER:
+				throw new IllegalStateException("Game is over");
+			default:
+				return submitChoice(input);
+		}
+	}
+
+	public void forfeit(int seat) {
+		Player player = playerManager.getPlayerByIndex(seat);
+		if (isGameOver() || !player.isInGame()) {
+			return;
+		}
+		player.eliminate();
+		while (awaitingPlayer == player && state != State.AWAITING_COMMAND) {
+			if (state == State.AWAITING_FAVOR_CARD) {
+				giveFavorCard(null);
+			} else if (state == State.AWAITING_REARRANGE_INDEX) {
+				submitChoice(minimum + position);
+			} else {
+				submitChoice(minimum);
+			}
+		}
+		if (state == State.AWAITING_COMMAND) {
+			finishCommand();
+			return;
+		}
+		gameEngine.checkWinCondition();
+		if (!gameEngine.getIsGameRunning()) {
+			finishCommand();
+		}
+	}
+
+	private boolean submitChoice(String input) {
+		int choice;
+		try {
+			choice = Integer.parseInt(input.trim());
+		} catch (NumberFormatException e) {
+			return false;
+		}
+		return submitChoice(choice);
+	}
+
+	private boolean submitChoice(int choice) {
+		if (choice < minimum || choice > maximum) {
+			return false;
+		}
+		submittedChoices.choices[position] = choice;
+		try {
+			switch (state) {
+				case AWAITING_FAVOR_TARGET:
+					favorGiver = pendingContext.chooseFavorGiver(maximum);
+					await(State.AWAITING_FAVOR_CARD, favorGiver, 0, 0);
+					return true;
+				case AWAITING_REARRANGE_INDEX:
+					if (++position < cardsToRearrange) {
+						return true;
+					}
+					pendingContext.rearrangeTopCards(cardsToRearrange);
+					break;
+				case AWAITING_BURY_INDEX:
+					pendingContext.buryCard(heldCard);
+					break;
+				default:
+					gameEngine.placeExplodingKitten(awaitingPlayer, heldCard);
+					break;
+			}
+		} catch (RuntimeException e) {
+			heldCard = null;
+		}
+		finishCommand();
+		return true;
+	}
+
+	private void runCommand(String input) {
+		gameEngine.processCommand(input, awaitingPlayer);
+		if (state == State.AWAITING_COMMAND) {
+			finishCommand();
+		}
+	}
+
+	private void giveFavorCard(CardType cardType) {
+		submittedChoices.cardType = cardType;
+		try {
+			pendingContext.transferCardFrom(favorGiver);
+		} catch (RuntimeException e) {
+			favorGiver = null;
+		}
+		finishCommand();
+	}
+
+	private void finishCommand() {
+		pendingContext = null;
+		favorGiver = null;
+		heldCard = null;
+		submittedChoices.cardType = null;
+		gameEngine.checkWinCondition();
+		while (gameEngine.getIsGameRunning()
+				&& !turnManager.getCurrentActivePlayer().isInGame()) {
+			gameEngine.handlePlayerGetsEliminated();
+		}
+		if (gameEngine.getIsGameRunning()) {
+			await(State.AWAITING_COMMAND, turnManager.getCurrentActivePlayer(), 0, 0);
+		} else {
+			state = State.GAME_OVER;
+			awaitingPlayer = null;
+		}
+	}
+
+	private void await(State nextState, Player player, int minimumChoice,
+			int maximumChoice) {
+		state = nextState;
+		awaitingPlayer = player;
+		minimum = minimumChoice;
+		maximum = maximumChoice;
+		position = 0;
+	}
+
+	private final class Prompts implements DeferredChoices {
+		@Override
+		public void awaitFavorTarget(GameContext context, int maxPlayerIndex) {
+			pendingContext = context;
+			await(State.AWAITING_FAVOR_TARGET, context.getCurrentPlayer(), 0,
+					maxPlayerIndex);
+		}
+
+		@Override
+		public void awaitRearrangement(GameContext context, int cards) {
+			pendingContext = context;
+			cardsToRearrange = cards;
+			int deckSize = deck.getDeckSize();
+			await(State.AWAITING_REARRANGE_INDEX, context.getCurrentPlayer(),
+					deckSize - cards, deckSize - 1);
+		}
+
+		@Override
+		public void awaitBuryIndex(GameContext context, Card card, int deckSize) {
+			pendingContext = context;
+			heldCard = card;
+			await(State.AWAITING_BURY_INDEX, context.getCurrentPlayer(), 0, deckSize);
+		}
+
+		@Override
+		public void awaitKittenPlacement(Player player, Card explodingKitten,
+				int deckSize) {
+			heldCard = explodingKitten;
+			await(State.AWAITING_KITTEN_PLACEMENT, player, 0, deckSize);
+		}
+	}
+
+	private static final class SubmittedChoices implements DecisionMaker {
+		private final int[] choices = new int[MAX_CARDS_TO_REARRANGE];
+		private CardType cardType;
+
+		@Override
+		public String chooseCommand(Player player) {
+			throw new IllegalStateException(
+					"Input must be submitted to the state machine");
+		}
+
+		@Override
+		public int choosePlayerToTakeCardFrom(Player player, int maxPlayerIndex) {
+			return choices[0];
+		}
+
+		@Override
+		public CardType chooseCardToGive(Player giver) {
+			return cardType;
+		}
+
+		@Override
+		public int chooseBuryIndex(Player player, int deckSize) {
+			return choices[0];
+		}
+
+		@Override
+		public int chooseRearrangeIndex(Player player, int position,
+				int minIndex, int maxIndex) {
+			return choices[position];
+		}
+
+		@Override
+		public int chooseKittenPlacement(Player player, int deckSize) {
+			return choices[0];
+		}
+	}
+}
@@ -0,0 +1,215 @@
+package domain;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+public final class GameTable {
+	public enum InputKind {
+		COMMAND,
+		NUMBER,
+		CARD
+	}
+
+	public interface Listener {
+		default void onAwaitingInput(GameTable table, int seat, InputKind kind,
+				int minimum, int maximum) {
+		}
+
+		default void onCommandPlayed(GameTable table, int seat, String command) {
+		}
+
+		default void onInputRejected(GameTable table, int seat, String line) {
+		}
+
+		default void onGameOver(GameTable table, int winningSeat) {
+		}
+	}
+
+	static final int MAX_PENDING_INPUTS = 64;
+
+	private final long id;
+	private final GameStateMachine stateMachine;
+	private final PlayerManager playerManager;
+	private final Queue<SeatInput> inbox;
+	private final AtomicInteger pendingInputs;
+	private final Queue<Consumer<GameTable>> inspections;
+	private final AtomicBoolean scheduled;
+	private final Listener listener;
+	private final CommandParser commandParser;
+	private volatile boolean finished;
+	private boolean prompted;
+	private int pendingSeat;
+	private String pendingCommand;
+
+	GameTable(long id, int numberOfPlayers, GameRandom random, Listener listener) {
+		this.id = id;
+		this.listener = Objects.requireNonNull(listener, "listener must not be null");
+		this.stateMachine = GameStateMachine.create(numberOfPlayers, random);
+		this.playerManager = stateMachine.getGameEngine().getPlayerManager();
+		this.inbox = new ConcurrentLinkedQueue<>();
+		this.pendingInputs = new AtomicInteger();
+		this.inspections = new ConcurrentLinkedQueue<>();
+		this.scheduled = new AtomicBoolean();
+		this.commandParser = new CommandParser();
+	}
+
+	public long getId() {
+		return id;
+	}
+
+	public int getNumberOfPlayers() {
+		return playerManager.getNumberOfPlayers();
+	}
+
+	public boolean isFinished() {
+		return finished;
+	}
+
+	public List<CardType> getAvailableCardTypes(int seat) {
+		return playerManager.getPlayerByIndex(seat).getAvailableCardTypes();
+	}
+
+	public int getCardCount(int seat, CardType cardType) {
+		return playerManager.getPlayerByIndex(seat).hand.getCountOfCardType(cardType);
+	}
+
+	public int getCurrentSeat() {
+		return playerManager.getPlayerIndex(stateMachine.getGameEngine()
+				.getTurnManager().getCurrentActivePlayer());
+	}
+
+	public int getNumberOfActivePlayers() {
+		return playerManager.getNumberOfActivePlayers();
+	}
+
+	public int getDeckSize() {
+		return stateMachine.getGameEngine().getDeck().getDeckSize();
+	}
+
+	public double getDrawExplosionChance(int seat) {
+		return playerManager.getPlayerByIndex(seat).getDrawExplosionChance();
+	}
+
+	void submit(int seat, String line) {
+		if (seat < 0 || seat >= getNumberOfPlayers()) {
+			throw new IndexOutOfBoundsException("Seat out of bounds");
+		}
+		Objects.requireNonNull(line, "line must not be null");
+		if (pendingInputs.incrementAndGet() > MAX_PENDING_INPUTS) {
+			pendingInputs.decrementAndGet();
+			throw new IllegalStateException("Too many pending inputs at table " + id);
+		}
+		inbox.add(new SeatInput(seat, line));
+	}
+
+	void inspect(Consumer<GameTable> inspection) {
+		inspections.add(Objects.requireNonNull(inspection,
+				"inspection must not be null"));
+	}
+
+	boolean tryStartAdvance() {
+		return scheduled.compareAndSet(false, true);
+	}
+
+	boolean finishAdvance() {
+		scheduled.set(false);
+		return (!inbox.isEmpty() || !inspections.isEmpty()) && tryStartAdvance();
+	}
+
+	void advance() {
+		boolean inspected = false;
+		for (Consumer<GameTable> inspection = inspections.poll(); inspection != null;
+				inspection = inspections.poll()) {
+			inspection.accept(this);
+			inspected = true;
+		}
+		boolean received = false;
+		for (SeatInput input = inbox.poll(); input != null; input = inbox.poll()) {
+			pendingInputs.decrementAndGet();
+			received = true;
+			if (finished) {
+				continue;
+			}
+			if (commandParser.parse(input.line) == CommandParser.Command.QUIT) {
+				forfeit(input.seat, input.line);
+				continue;
+			}
+			if (input.seat != stateMachine.getAwaitingSeat()) {
+				listener.onInputRejected(this, input.seat, input.line);
+				continue;
+			}
+			play(input.seat, input.line);
+		}
+		if (finished || (prompted && (inspected || received))) {
+			return;
+		}
+		prompted = true;
+		listener.onAwaitingInput(this, stateMachine.getAwaitingSeat(),
+				inputKind(stateMachine.getState()), stateMachine.getMinimum(),
+				stateMachine.getMaximum());
+	}
+
+	private void play(int seat, String line) {
+		prompted = false;
+		if (stateMachine.getState() == GameStateMachine.State.AWAITING_COMMAND) {
+			pendingSeat = seat;
+			pendingCommand = line;
+		}
+		stateMachine.submit(line);
+		if (stateMachine.getState() == GameStateMachine.State.AWAITING_COMMAND
+				|| stateMachine.isGameOver()) {
+			listener.onCommandPlayed(this, pendingSeat, pendingCommand);
+		}
+		finishIfOver();
+	}
+
+	private void forfeit(int seat, String line) {
+		if (!playerManager.isPlayerActive(seat)) {
+			listener.onInputRejected(this, seat, line);
+			return;
+		}
+		prompted = false;
+		boolean midCommand = stateMachine.getState()
+				!= GameStateMachine.State.AWAITING_COMMAND;
+		stateMachine.forfeit(seat);
+		if (midCommand && (stateMachine.isGameOver() || stateMachine.getState()
+				== GameStateMachine.State.AWAITING_COMMAND)) {
+			listener.onCommandPlayed(this, pendingSeat, pendingCommand);
+		}
+		listener.onCommandPlayed(this, seat, line);
+		finishIfOver();
+	}
+
+	private void finishIfOver() {
+		if (stateMachine.isGameOver()) {
+			finished = true;
+			listener.onGameOver(this, stateMachine.getWinningSeat());
+		}
+	}
+
+	private static InputKind inputKind(GameStateMachine.State state) {
+		switch (state) {
+			case AWAITING_COMMAND:
+				return InputKind.COMMAND;
+			case AWAITING_FAVOR_CARD:
+				return InputKind.CARD;
+			default:
+				return InputKind.NUMBER;
+		}
+	}
+
+	private static final class SeatInput {
+		private final int seat;
+		private final String line;
+
+		SeatInput(int seat, String line) {
+			this.seat = seat;
+			this.line = line;
+		}
+	}
+}
@@ -1,16 +1,21 @@
 package domain;
 
+import java.nio.ByteBuffer;
 import java.util.*;
 
 public class Hand {
-	private final Map<CardType, Integer> cards;
+	private static final CardType[] CARD_TYPES = CardType.values();
+
+	private final int[] cards;
+	private int totalNumberOfCards;
+	private int presentTypes;
 
 	public Hand() {
-		this.cards = new HashMap<>();
+		this.cards = new int[CARD_TYPES.length];
 	}
 
 	public boolean isEmpty() {
-		return this.cards.isEmpty();
+		return this.totalNumberOfCards == 0;
 	}
 
 	public void addCard(Card card) {
@@ -20,56 +25,40 @@ public class Hand {
 			throw new IllegalArgumentException(
 					"Exploding Kitten should not be added to Hand");
 		}
-		this.cards.put(type, this.cards.getOrDefault(type, 0) + 1);
+		int ordinal = type.ordinal();
+		this.cards[ordinal]++;
+		this.totalNumberOfCards++;
+		this.presentTypes |= 1 << ordinal;
 	}
 
 	public boolean containsCardType(CardType cardType) {
 		Objects.requireNonNull(cardType, "CardType cannot be null");
-		return this.cards.containsKey(cardType);
+		return isPresent(cardType);
 	}
 
 	public int getNumberOfCards() {
-		int totalNumberOfCards = 0;
-		for (int count : this.cards.values()) {
-			totalNumberOfCards += count;
-		}
-		return totalNumberOfCards;
+		return this.totalNumberOfCards;
 	}
 
 	public void removeCard(Card card) {
 		Objects.requireNonNull(card, "Card cannot be null");
-
-		if (this.isEmpty()) {
-			throw new IllegalStateException("Hand empty: can not remove card");
-		}
-
-		CardType cardType = card.getCardType();
-		Integer count = this.cards.get(cardType);
-		if (!isValidCount(count)) {
-			throw new IllegalArgumentException("Card not in hand: can not remove card");
-		}
-		if (count == 1) {
-			this.cards.remove(cardType);
-		}
-		else {
-			this.cards.put(cardType, count - 1);
-		}
+		removeCardType(card.getCardType());
 	}
 
 	public void removeDefuseCard() {
-		Card defuseCard = new DefuseCard();
-		this.removeCard(defuseCard);
+		removeCardType(CardType.DEFUSE);
 	}
 
 	public int getCountOfCardType(CardType cardType) {
 		Objects.requireNonNull(cardType, "CardType cannot be null");
-		return this.cards.getOrDefault(cardType, 0);
+		return this.cards[cardType.ordinal()];
 	}
-	
+
 	public List<CardType> getAvailableCardTypes() {
-		List<CardType> availableTypes = new ArrayList<>();
-		for (CardType type : CardType.values()) {
-			if (getCountOfCardType(type) > 0) {
+		List<CardType> availableTypes =
+				new ArrayList<>(Integer.bitCount(this.presentTypes));
+		for (CardType type : CARD_TYPES) {
+			if (isPresent(type)) {
 				availableTypes.add(type);
 			}
 		}
@@ -77,31 +66,70 @@ public class Hand {
 	}
 
 	public CardType parseCardType(String input) {
-		if (input == null || input.trim().isEmpty()) {
+		if (input == null) {
+			return null;
+		}
+		return parseCardType(input, 0, input.length());
+	}
+
+	public CardType parseCardType(CharSequence text, int start, int end) {
+		int matches = CardNameIndex.match(text, start, end, this.presentTypes);
+		if (Integer.bitCount(matches) != 1) {
 			return null;
 		}
+		return CARD_TYPES[Integer.numberOfTrailingZeros(matches)];
+	}
 
-		String normalizedCardType = normalizeCardTypeName(input);
-
-		try {
-			CardType cardType = CardType.valueOf(normalizedCardType);
-			return containsCardType(cardType) ? cardType : null;
-		} catch (IllegalArgumentException error) {
-			for (CardType cardType : getAvailableCardTypes()) {
-				if (cardType.name().startsWith(normalizedCardType) ||
-						cardType.name().contains(normalizedCardType)) {
-					return cardType;
-				}
+	public List<CardType> getMatchingCardTypes(String input) {
+		return CardNameIndex.toCardTypes(matchCardTypes(input));
+	}
+
+	private int matchCardTypes(String input) {
+		if (input == null) {
+			return 0;
+		}
+		return CardNameIndex.match(input, 0, input.length(), this.presentTypes);
+	}
+
+	void writeTo(ByteBuffer target) {
+		for (int count : this.cards) {
+			target.putShort((short) count);
+		}
+	}
+
+	void restoreFrom(ByteBuffer source) {
+		this.totalNumberOfCards = 0;
+		this.presentTypes = 0;
+		for (int ordinal = 0; ordinal < this.cards.length; ordinal++) {
+			int count = source.getShort();
+			if (count < 0) {
+				throw new IllegalArgumentException("Card count cannot be negative");
+			}
+			this.cards[ordinal] = count;
+			this.totalNumberOfCards += count;
+			if (count > 0) {
+				this.presentTypes |= 1 << ordinal;
 			}
 		}
-		return null;
 	}
 
-	private boolean isValidCount (Integer count) {
-		return count != null;
+	private void removeCardType(CardType cardType) {
+		if (this.isEmpty()) {
+			throw new IllegalStateException("Hand empty: can not remove card");
+		}
+
+		int ordinal = cardType.ordinal();
+		if (this.cards[ordinal] == 0) {
+			throw new IllegalArgumentException("Card not in hand: can not remove card");
+		}
+		this.cards[ordinal]--;
+		this.totalNumberOfCards--;
+		if (this.cards[ordinal] == 0) {
+			this.presentTypes &= ~(1 << ordinal);
+		}
 	}
 
-	private String normalizeCardTypeName(String input) {
-		return input.trim().toUpperCase().replace(" ", "_");
+	private boolean isPresent(CardType cardType) {
+		return (this.presentTypes & (1 << cardType.ordinal())) != 0;
 	}
-}
\ No newline at end of file
+}
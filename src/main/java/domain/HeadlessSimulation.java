@@ -0,0 +1,99 @@
+package domain;
+
+import locale.LocaleManager;
+
+import java.util.Objects;
+import java.util.SplittableRandom;
+
+public class HeadlessSimulation {
+	private final int numberOfPlayers;
+	private final SplittableRandom random;
+	private final RandomProvider randomProvider;
+	private final DecisionMakerFactory strategy;
+	private final int[] winsPerSeat;
+	private long gamesPlayed;
+
+	public HeadlessSimulation(int numberOfPlayers, long seed) {
+		this(numberOfPlayers, seed, RandomProvider.seeded(seed));
+	}
+
+	public HeadlessSimulation(int numberOfPlayers, long seed,
+			RandomProvider randomProvider) {
+		this(numberOfPlayers, seed, randomProvider, RandomDecisionMaker::new);
+	}
+
+	public HeadlessSimulation(int numberOfPlayers, long seed,
+			RandomProvider randomProvider, DecisionMakerFactory strategy) {
+		this.numberOfPlayers = numberOfPlayers;
+		this.random = new SplittableRandom(seed);
+		this.randomProvider = Objects.requireNonNull(randomProvider,
+				"RandomProvider cannot be null");
+		this.strategy = Objects.requireNonNull(strategy, "Strategy cannot be null");
+		this.winsPerSeat = new int[numberOfPlayers];
+	}
+
+	public int playGame() {
+		DecisionMaker decisionMaker = strategy.create(random.split());
+		GameEngine game = GameEngine.createHeadlessGame(numberOfPlayers,
+				decisionMaker, randomProvider.nextGameRandom());
+		game.initializeGame();
+		game.runGameLoop();
+
+		int winningPlayerIndex = game.getWinningPlayerIndex();
+		if (winningPlayerIndex >= 0) {
+			winsPerSeat[winningPlayerIndex]++;
+		}
+		gamesPlayed++;
+		return winningPlayerIndex;
+	}
+
+	public void playGames(long numberOfGames) {
+		for (long i = 0; i < numberOfGames; i++) {
+			playGame();
+		}
+	}
+
+	public long getGamesPlayed() {
+		return gamesPlayed;
+	}
+
+	public int getWinsForSeat(int seat) {
+		if (seat < 0 || seat >= numberOfPlayers) {
+			throw new IndexOutOfBoundsException("Index out of bounds");
+		}
+		return winsPerSeat[seat];
+	}
+
+	public static void main(String[] args) {
+		final long DEFAULT_NUMBER_OF_GAMES = 100_000;
+		final int DEFAULT_NUMBER_OF_PLAYERS = 4;
+		final int NANOSECONDS_PER_MILLISECOND = 1_000_000;
+		final int MILLISECONDS_PER_SECOND = 1000;
+		final int STRATEGY_ARGUMENT = 3;
+		long numberOfGames = args.length > 0
+				? Long.parseLong(args[0]) : DEFAULT_NUMBER_OF_GAMES;
+		int numberOfPlayers = args.length > 1
+				? Integer.parseInt(args[1]) : DEFAULT_NUMBER_OF_PLAYERS;
+		long seed = args.length > 2
+				? Long.parseLong(args[2]) : System.nanoTime();
+		PlayerStrategy strategy = PlayerStrategy.forName(args.length > STRATEGY_ARGUMENT
+				? args[STRATEGY_ARGUMENT] : "random");
+
+		HeadlessSimulation simulation = new HeadlessSimulation(numberOfPlayers, seed,
+				RandomProvider.seeded(seed), strategy);
+		long start = System.nanoTime();
+		simulation.playGames(numberOfGames);
+		long elapsedMilliseconds = Math.max(1,
+				(System.nanoTime() - start) / NANOSECONDS_PER_MILLISECOND);
+
+		LocaleManager localeManager = new LocaleManager();
+		System.out.println(String.format(localeManager.get("simulation.summary"),
+				numberOfGames, numberOfPlayers, elapsedMilliseconds,
+				numberOfGames * MILLISECONDS_PER_SECOND / elapsedMilliseconds));
+		for (int seat = 0; seat < numberOfPlayers; seat++) {
+			System.out.println(String.format(
+					localeManager.get("simulation.seat.wins"),
+					seat, simulation.getWinsForSeat(seat)));
+		}
+	}
+}
@@ -0,0 +1,174 @@
+package domain;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+
+public final class IsmctsDecisionMaker implements DecisionMaker {
+	static final long DEFAULT_TIME_BUDGET_MILLIS = 30;
+
+	private final SplittableRandom random;
+	private final int maxIterations;
+	private final long timeBudgetNanos;
+	private final int parallelism;
+	private final DecisionMaker fallback = new ProbabilityAwareDecisionMaker();
+	private final IsmctsSearch[] searches;
+	private final ForkJoinTask<?>[] tasks;
+	private ByteBuffer snapshot = ByteBuffer.allocate(0);
+	private boolean[] knownPositions = new boolean[0];
+	private int lastIterations;
+	private int lastReusedTrees;
+
+	public IsmctsDecisionMaker(SplittableRandom random) {
+		this(random, Integer.MAX_VALUE, DEFAULT_TIME_BUDGET_MILLIS,
+				Runtime.getRuntime().availableProcessors());
+	}
+
+	public IsmctsDecisionMaker(SplittableRandom random, int maxIterations,
+			long timeBudgetMillis, int parallelism) {
+		this.random = Objects.requireNonNull(random, "Random cannot be null");
+		if (maxIterations < 1) {
+			throw new IllegalArgumentException("At least one iteration is required");
+		}
+		if (timeBudgetMillis < 1) {
+			throw new IllegalArgumentException("Time budget must be positive");
+		}
+		if (parallelism < 1) {
+			throw new IllegalArgumentException(
+					"At least one search thread is required");
+		}
+		this.maxIterations = maxIterations;
+		this.timeBudgetNanos = TimeUnit.MILLISECONDS.toNanos(timeBudgetMillis);
+		this.parallelism = parallelism;
+		this.searches = new IsmctsSearch[parallelism];
+		this.tasks = new ForkJoinTask<?>[parallelism];
+	}
+
+	@Override
+	public String chooseCommand(Player player) {
+		long start = System.nanoTime();
+		PlayerManager playerManager = player.playerManager;
+		if (playerManager == null || playerManager.getTurnManager() == null) {
+			return fallback.chooseCommand(player);
+		}
+		Deck deck = playerManager.getDeck();
+		TurnManager turnManager = playerManager.getTurnManager();
+		int size = GameSnapshot.sizeOf(deck, playerManager, turnManager);
+		if (snapshot.capacity() < size) {
+			snapshot = ByteBuffer.allocate(size);
+		}
+		snapshot.clear();
+		GameSnapshot.save(deck, playerManager, turnManager, true, snapshot);
+		snapshot.flip();
+
+		int hiddenCapacity = deck.getDeckSize();
+		for (Player opponent : playerManager.getPlayers()) {
+			if (opponent != player) {
+				hiddenCapacity += opponent.getNumberOfCards();
+			}
+		}
+		if (knownPositions.length < deck.getDeckSize()) {
+			knownPositions = new boolean[deck.getDeckSize()];
+		}
+		for (int index = 0; index < deck.getDeckSize(); index++) {
+			knownPositions[index] = deck.kittenTracker.isKnownTo(player.id, index);
+		}
+		search(player.id, playerManager.getNumberOfPlayers(), deck.getDeckSize(),
+				hiddenCapacity, start);
+
+		int bestAction = -1;
+		long bestVisits = 0;
+		for (int action = 0; action < IsmctsSearch.NUMBER_OF_ACTIONS; action++) {
+			long visits = 0;
+			for (IsmctsSearch search : searches) {
+				visits += search.getVisits(action);
+			}
+			if (visits > bestVisits) {
+				bestVisits = visits;
+				bestAction = action;
+			}
+		}
+		for (IsmctsSearch search : searches) {
+			search.choose(bestAction);
+		}
+		if (bestAction < 0) {
+			return fallback.chooseCommand(player);
+		}
+		return IsmctsSearch.command(bestAction);
+	}
+
+	@Override
+	public int choosePlayerToTakeCardFrom(Player player, int maxPlayerIndex) {
+		return fallback.choosePlayerToTakeCardFrom(player, maxPlayerIndex);
+	}
+
+	@Override
+	public CardType chooseCardToGive(Player giver) {
+		return fallback.chooseCardToGive(giver);
+	}
+
+	@Override
+	public int chooseBuryIndex(Player player, int deckSize) {
+		return fallback.chooseBuryIndex(player, deckSize);
+	}
+
+	@Override
+	public int chooseRearrangeIndex(Player player, int position,
+			int minIndex, int maxIndex) {
+		return fallback.chooseRearrangeIndex(player, position, minIndex, maxIndex);
+	}
+
+	@Override
+	public int chooseKittenPlacement(Player player, int deckSize) {
+		return fallback.chooseKittenPlacement(player, deckSize);
+	}
+
+	int getParallelism() {
+		return parallelism;
+	}
+
+	int getLastIterations() {
+		return lastIterations;
+	}
+
+	int getLastReusedTrees() {
+		return lastReusedTrees;
+	}
+
+	private void search(int seat, int numberOfPlayers, int deckSize, int hiddenCapacity,
+			long start) {
+		int iterationsPerSearch = (int) Math.min(Integer.MAX_VALUE,
+				((long) maxIterations + parallelism - 1) / parallelism);
+		lastReusedTrees = 0;
+		for (int index = 0; index < parallelism; index++) {
+			IsmctsSearch search = searches[index];
+			if (search == null || search.getNumberOfPlayers() != numberOfPlayers) {
+				searches[index] = new IsmctsSearch(numberOfPlayers, random.split());
+			}
+			if (searches[index].reroot(seat, deckSize)) {
+				lastReusedTrees++;
+			}
+		}
+		int[] iterations = new int[parallelism];
+		for (int index = 1; index < parallelism; index++) {
+			IsmctsSearch search = searches[index];
+			int worker = index;
+			tasks[index] = ForkJoinPool.commonPool().submit(() -> {
+				iterations[worker] = search.search(snapshot.duplicate(),
+						knownPositions, hiddenCapacity, start,
+						timeBudgetNanos, iterationsPerSearch);
+			});
+		}
+		iterations[0] = searches[0].search(snapshot.duplicate(), knownPositions,
+				hiddenCapacity, start, timeBudgetNanos, iterationsPerSearch);
+		lastIterations = iterations[0];
+		for (int index = 1; index < parallelism; index++) {
+			tasks[index].join();
+			tasks[index] = null;
+			lastIterations += iterations[index];
+		}
+	}
+}
@@ -0,0 +1,209 @@
+package domain;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+final class IsmctsSearch {
+	static final int DRAW_ACTION = 0;
+	static final int NUMBER_OF_ACTIONS = CardType.values().length + 1;
+
+	private static final CardType[] CARD_TYPES = CardType.values();
+	private static final double EXPLORATION = 0.7;
+	private static final int INITIAL_DEPTH = 64;
+
+	private final int numberOfPlayers;
+	private final FastGameRandom random;
+	private final DecisionMaker rolloutPolicy;
+	private final GameStateMachine simulation;
+	private final int[] legalActions = new int[NUMBER_OF_ACTIONS];
+	private ByteBuffer determinization = ByteBuffer.allocate(0);
+	private byte[] hiddenCards = new byte[0];
+	private Node[] path = new Node[INITIAL_DEPTH];
+	private Node root = new Node(-1, -1);
+	private Node chosen;
+	private int rootSeat = -1;
+	private int rootDeckSize = -1;
+
+	IsmctsSearch(int numberOfPlayers, SplittableRandom random) {
+		this.numberOfPlayers = numberOfPlayers;
+		this.random = new FastGameRandom(random.nextLong());
+		this.rolloutPolicy = new ProbabilityAwareDecisionMaker();
+		this.simulation = GameStateMachine.forSearch(numberOfPlayers, this.random);
+	}
+
+	int getNumberOfPlayers() {
+		return numberOfPlayers;
+	}
+
+	GameStateMachine getSimulation() {
+		return simulation;
+	}
+
+	boolean reroot(int seat, int deckSize) {
+		boolean reused = chosen != null && seat == rootSeat
+				&& deckSize == rootDeckSize && chosen.hasChildFor(seat);
+		root = reused ? chosen : new Node(-1, -1);
+		chosen = null;
+		rootSeat = seat;
+		rootDeckSize = deckSize;
+		return reused;
+	}
+
+	int search(ByteBuffer snapshot, boolean[] knownPositions, int hiddenCapacity,
+			long start, long timeBudget, int iterations) {
+		int size = snapshot.remaining();
+		if (determinization.capacity() < size) {
+			determinization = ByteBuffer.allocate(size);
+		}
+		if (hiddenCards.length < hiddenCapacity) {
+			hiddenCards = new byte[hiddenCapacity];
+		}
+		int iteration = 0;
+		while (iteration < iterations && System.nanoTime() - start < timeBudget) {
+			System.arraycopy(snapshot.array(),
+					snapshot.arrayOffset() + snapshot.position(),
+					determinization.array(), 0, size);
+			determinization.clear().limit(size);
+			GameSnapshot.determinize(determinization, rootSeat, knownPositions, random,
+					hiddenCards);
+			simulation.restore(determinization);
+			playOut();
+			iteration++;
+		}
+		return iteration;
+	}
+
+	int getVisits(int action) {
+		Node child = root.child(rootSeat, action);
+		return child == null ? 0 : child.visits;
+	}
+
+	void choose(int action) {
+		chosen = root.child(rootSeat, action);
+	}
+
+	static int playAction(CardType cardType) {
+		return cardType.ordinal() + 1;
+	}
+
+	static String command(int action) {
+		return action == DRAW_ACTION ? RandomDecisionMaker.DRAW_COMMAND
+				: RandomDecisionMaker.playCommand(CARD_TYPES[action - 1]);
+	}
+
+	private void playOut() {
+		Node node = root;
+		int depth = 0;
+		boolean expanding = true;
+		while (!simulation.isGameOver()) {
+			if (!expanding || simulation.getState()
+					!= GameStateMachine.State.AWAITING_COMMAND) {
+				simulation.play(rolloutPolicy);
+				continue;
+			}
+			node = select(node, simulation.getAwaitingSeat(),
+					simulation.getAwaitingPlayer());
+			expanding = node.visits > 0;
+			if (depth == path.length) {
+				path = Arrays.copyOf(path, depth * 2);
+			}
+			path[depth++] = node;
+			simulation.submit(command(node.action));
+		}
+		int winner = simulation.getWinningSeat();
+		for (int i = 0; i < depth; i++) {
+			path[i].visits++;
+			if (path[i].seat == winner) {
+				path[i].wins++;
+			}
+			path[i] = null;
+		}
+	}
+
+	private Node select(Node node, int seat, Player player) {
+		int count = 0;
+		legalActions[count++] = DRAW_ACTION;
+		for (CardType cardType : CARD_TYPES) {
+			if (RandomDecisionMaker.isPlayable(cardType)
+					&& player.hasCardType(cardType)) {
+				legalActions[count++] = playAction(cardType);
+			}
+		}
+
+		int untried = 0;
+		int untriedAction = -1;
+		for (int i = 0; i < count; i++) {
+			Node child = node.child(seat, legalActions[i]);
+			if (child == null) {
+				untried++;
+				if (random.nextInt(untried) == 0) {
+					untriedAction = legalActions[i];
+				}
+			} else {
+				child.availability++;
+			}
+		}
+		if (untriedAction >= 0) {
+			Node child = node.addChild(seat, untriedAction);
+			child.availability = 1;
+			return child;
+		}
+
+		Node best = null;
+		double bestScore = Double.NEGATIVE_INFINITY;
+		for (int i = 0; i < count; i++) {
+			Node child = node.child(seat, legalActions[i]);
+			if (child.visits == 0) {
+				return child;
+			}
+			double score = (double) child.wins / child.visits + EXPLORATION
+					* Math.sqrt(Math.log(child.availability) / child.visits);
+			if (score > bestScore) {
+				bestScore = score;
+				best = child;
+			}
+		}
+		return best;
+	}
+
+	private static final class Node {
+		private final int seat;
+		private final int action;
+		private int visits;
+		private int wins;
+		private int availability;
+		private Node firstChild;
+		private Node nextSibling;
+
+		Node(int seat, int action) {
+			this.seat = seat;
+			this.action = action;
+		}
+
+		Node child(int childSeat, int childAction) {
+			for (Node child = firstChild; child != null; child = child.nextSibling) {
+				if (child.seat == childSeat && child.action == childAction) {
+					return child;
+				}
+			}
+			return null;
+		}
+
+		Node addChild(int childSeat, int childAction) {
+			Node child = new Node(childSeat, childAction);
+			child.nextSibling = firstChild;
+			firstChild = child;
+			return child;
+		}
+
+		boolean hasChildFor(int childSeat) {
+			for (Node child = firstChild; child != null; child = child.nextSibling) {
+				if (child.seat == childSeat) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+}
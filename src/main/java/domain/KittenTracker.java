@@ -0,0 +1,298 @@
+package domain;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+public final class KittenTracker {
+	private static final int INITIAL_CAPACITY = 8;
+
+	private Knowledge[] seats = new Knowledge[0];
+	private int[] slotAt = new int[INITIAL_CAPACITY];
+	private long[] forgottenAt = new long[INITIAL_CAPACITY];
+	private BitSet[] knowers = new BitSet[INITIAL_CAPACITY];
+	private int[] freeSlots = new int[INITIAL_CAPACITY];
+	private int freeSlotCount;
+	private int nextSlot;
+	private long stamp;
+	private long clearedAt;
+	private int deckSize;
+	private int kittens;
+	private int kittenRunStart;
+	private int kittenRunEnd;
+	private int lonePublicKitten = -1;
+
+	public int getKittensInDeck() {
+		return kittens;
+	}
+
+	public double getDrawExplosionChance(int seat) {
+		return getKittenChance(seat, 0);
+	}
+
+	public double getKittenChance(int seat, int depth) {
+		int index = deckSize - 1 - depth;
+		if (depth < 0 || index < 0) {
+			return 0;
+		}
+		if (isPublicKitten(index)) {
+			return 1;
+		}
+		int knownCards = publicKittens();
+		int knownKittens = knownCards;
+		Knowledge knowledge = knowledgeOf(seat);
+		if (knowledge != null) {
+			int slot = slotAt[index];
+			if (knows(knowledge, slot)) {
+				return knowledge.kittenAt[slot] ? 1 : 0;
+			}
+			knownCards += knowledge.count;
+			knownKittens += knowledge.knownKittens;
+		}
+		int unknownCards = deckSize - knownCards;
+		return unknownCards == 0 ? 0 : (double) (kittens - knownKittens) / unknownCards;
+	}
+
+	boolean isKnownTo(int seat, int index) {
+		if (index < 0 || index >= deckSize) {
+			return false;
+		}
+		if (isPublicKitten(index)) {
+			return true;
+		}
+		Knowledge knowledge = knowledgeOf(seat);
+		return knowledge != null && knows(knowledge, slotAt[index]);
+	}
+
+	void reset(int size, int kittensInDeck) {
+		ensureCapacity(size + 1);
+		for (int index = 0; index < size; index++) {
+			slotAt[index] = index;
+		}
+		nextSlot = size;
+		freeSlotCount = 0;
+		deckSize = size;
+		kittens = kittensInDeck;
+		onShuffle();
+	}
+
+	void onDraw(boolean kitten) {
+		int topIndex = deckSize - 1;
+		freeSlot(slotAt[topIndex]);
+		if (kittenRunEnd == deckSize && kittenRunStart < kittenRunEnd) {
+			kittenRunEnd--;
+		}
+		if (lonePublicKitten == topIndex) {
+			lonePublicKitten = -1;
+		}
+		deckSize--;
+		if (kitten) {
+			kittens--;
+		}
+	}
+
+	void onInsert(int index, boolean kitten) {
+		if (index <= kittenRunStart) {
+			if (kittenRunStart < kittenRunEnd) {
+				kittenRunStart++;
+				kittenRunEnd++;
+			}
+		} else if (index < kittenRunEnd) {
+			kittenRunEnd = index;
+		}
+		if (lonePublicKitten >= index) {
+			lonePublicKitten++;
+		}
+		ensureCapacity(deckSize + 2);
+		System.arraycopy(slotAt, index, slotAt, index + 1, deckSize - index);
+		slotAt[index] = allocateSlot();
+		deckSize++;
+		if (kitten) {
+			kittens++;
+		}
+	}
+
+	void onShuffle() {
+		clearPublic();
+		clearPrivate();
+	}
+
+	void onTopCardsReordered(int count) {
+		int lowestIndex = Math.max(0, deckSize - count);
+		boolean allKittens = kittenRunEnd == deckSize && kittenRunStart <= lowestIndex;
+		if (!allKittens) {
+			int keptEnd = Math.min(kittenRunEnd, lowestIndex);
+			kittenRunEnd = Math.max(kittenRunStart, keptEnd);
+			if (lonePublicKitten >= lowestIndex) {
+				lonePublicKitten = -1;
+			}
+		}
+		for (int index = lowestIndex; index < deckSize; index++) {
+			forgetPrivate(slotAt[index]);
+		}
+	}
+
+	void onSwapTopAndBottom() {
+		int topIndex = deckSize - 1;
+		if (topIndex <= 0) {
+			return;
+		}
+		int bottomSlot = slotAt[0];
+		slotAt[0] = slotAt[topIndex];
+		slotAt[topIndex] = bottomSlot;
+		boolean topKitten = isPublicKitten(topIndex);
+		if (topKitten != isPublicKitten(0)) {
+			if (topKitten) {
+				movePublicKitten(topIndex, 0);
+			} else {
+				movePublicKitten(0, topIndex);
+			}
+		}
+	}
+
+	void onKittensMovedToTop() {
+		clearPrivate();
+		kittenRunStart = deckSize - kittens;
+		kittenRunEnd = deckSize;
+		lonePublicKitten = -1;
+	}
+
+	void reveal(int seat, int index, boolean kitten) {
+		if (seat < 0 || index < 0 || index >= deckSize || isPublicKitten(index)) {
+			return;
+		}
+		if (seat >= seats.length) {
+			seats = Arrays.copyOf(seats, Math.max(seat + 1, seats.length * 2));
+		}
+		if (seats[seat] == null) {
+			seats[seat] = new Knowledge();
+		}
+		Knowledge knowledge = knowledgeOf(seat);
+		int slot = slotAt[index];
+		knowledge.ensureCapacity(knowers.length);
+		if (!knows(knowledge, slot)) {
+			knowledge.count++;
+			if (knowers[slot] == null) {
+				knowers[slot] = new BitSet();
+			}
+			knowers[slot].set(seat);
+		} else if (knowledge.kittenAt[slot]) {
+			knowledge.knownKittens--;
+		}
+		knowledge.seenAt[slot] = ++stamp;
+		knowledge.kittenAt[slot] = kitten;
+		if (kitten) {
+			knowledge.knownKittens++;
+		}
+	}
+
+	private Knowledge knowledgeOf(int seat) {
+		if (seat < 0 || seat >= seats.length || seats[seat] == null) {
+			return null;
+		}
+		Knowledge knowledge = seats[seat];
+		if (knowledge.epoch != clearedAt) {
+			knowledge.epoch = clearedAt;
+			knowledge.count = 0;
+			knowledge.knownKittens = 0;
+		}
+		return knowledge;
+	}
+
+	private boolean knows(Knowledge knowledge, int slot) {
+		return slot < knowledge.seenAt.length
+				&& knowledge.seenAt[slot] > Math.max(forgottenAt[slot], clearedAt);
+	}
+
+	private boolean isPublicKitten(int index) {
+		return index == lonePublicKitten || index >= kittenRunStart && index < kittenRunEnd;
+	}
+
+	private int publicKittens() {
+		return kittenRunEnd - kittenRunStart + (lonePublicKitten >= 0 ? 1 : 0);
+	}
+
+	private void movePublicKitten(int from, int to) {
+		if (lonePublicKitten == from) {
+			lonePublicKitten = to;
+			return;
+		}
+		if (from == kittenRunStart) {
+			kittenRunStart++;
+		} else {
+			kittenRunEnd--;
+		}
+		if (to == kittenRunEnd && kittenRunStart < kittenRunEnd) {
+			kittenRunEnd++;
+		} else if (to == kittenRunStart - 1) {
+			kittenRunStart--;
+		} else if (lonePublicKitten < 0) {
+			lonePublicKitten = to;
+		}
+	}
+
+	private void forgetPrivate(int slot) {
+		BitSet slotKnowers = knowers[slot];
+		if (slotKnowers != null) {
+			for (int seat = slotKnowers.nextSetBit(0); seat >= 0;
+					seat = slotKnowers.nextSetBit(seat + 1)) {
+				Knowledge knowledge = seats[seat];
+				if (knows(knowledge, slot)) {
+					knowledge.count--;
+					if (knowledge.kittenAt[slot]) {
+						knowledge.knownKittens--;
+					}
+				}
+			}
+			slotKnowers.clear();
+		}
+		forgottenAt[slot] = ++stamp;
+	}
+
+	private int allocateSlot() {
+		if (freeSlotCount > 0) {
+			return freeSlots[--freeSlotCount];
+		}
+		return nextSlot++;
+	}
+
+	private void freeSlot(int slot) {
+		forgetPrivate(slot);
+		freeSlots[freeSlotCount++] = slot;
+	}
+
+	private void clearPublic() {
+		kittenRunStart = 0;
+		kittenRunEnd = 0;
+		lonePublicKitten = -1;
+	}
+
+	private void clearPrivate() {
+		clearedAt = ++stamp;
+	}
+
+	private void ensureCapacity(int capacity) {
+		if (capacity <= slotAt.length) {
+			return;
+		}
+		int newCapacity = Math.max(capacity, slotAt.length * 2);
+		slotAt = Arrays.copyOf(slotAt, newCapacity);
+		forgottenAt = Arrays.copyOf(forgottenAt, newCapacity);
+		knowers = Arrays.copyOf(knowers, newCapacity);
+		freeSlots = Arrays.copyOf(freeSlots, newCapacity);
+	}
+
+	private static final class Knowledge {
+		private long[] seenAt = new long[0];
+		private boolean[] kittenAt = new boolean[0];
+		private long epoch;
+		private int count;
+		private int knownKittens;
+
+		void ensureCapacity(int capacity) {
+			if (seenAt.length < capacity) {
+				seenAt = Arrays.copyOf(seenAt, capacity);
+				kittenAt = Arrays.copyOf(kittenAt, capacity);
+			}
+		}
+	}
+}
@@ -0,0 +1,39 @@
+package domain;
+
+public enum LobbyMode {
+	STANDARD(2, 5),
+	LARGE(2, 1000);
+
+	private static final int PLAYERS_PER_DECK = 5;
+
+	private final int minPlayers;
+	private final int maxPlayers;
+
+	LobbyMode(int minPlayers, int maxPlayers) {
+		this.minPlayers = minPlayers;
+		this.maxPlayers = maxPlayers;
+	}
+
+	public int getMinPlayers() {
+		return minPlayers;
+	}
+
+	public int getMaxPlayers() {
+		return maxPlayers;
+	}
+
+	public boolean allows(int numberOfPlayers) {
+		return numberOfPlayers >= minPlayers && numberOfPlayers <= maxPlayers;
+	}
+
+	public int getNumberOfDecks(int numberOfPlayers) {
+		if (this == STANDARD || numberOfPlayers <= PLAYERS_PER_DECK) {
+			return 1;
+		}
+		return (numberOfPlayers + PLAYERS_PER_DECK - 1) / PLAYERS_PER_DECK;
+	}
+
+	public static LobbyMode forNumberOfPlayers(int numberOfPlayers) {
+		return numberOfPlayers > STANDARD.maxPlayers ? LARGE : STANDARD;
+	}
+}
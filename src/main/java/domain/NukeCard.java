@@ -1,13 +1,15 @@
 package domain;
 
 public class NukeCard extends Card {
+	private static final CardEffect EFFECT = new NukeEffect();
+
 	public NukeCard() {
 		super(CardType.NUKE);
 	}
 
 	@Override
 	public CardEffect createEffect() {
-		return new NukeEffect();
+		return EFFECT;
 	}
 
 	private static class NukeEffect implements CardEffect {
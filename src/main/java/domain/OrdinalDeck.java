@@ -0,0 +1,223 @@
+package domain;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+public class OrdinalDeck extends Deck {
+	private static final int MINIMUM_CAPACITY = 16;
+	private static final int CARDS_TO_REARRANGE = 3;
+	private static final CardType[] CARD_TYPES = CardType.values();
+	private static final byte KITTEN = (byte) CardType.EXPLODING_KITTEN.ordinal();
+
+	private final Card[] cardsByType;
+	private final byte[] rearrangedTypes;
+	private byte[] cardTypes;
+	private int size;
+
+	public OrdinalDeck(List<Card> cardList) {
+		Objects.requireNonNull(cardList, "List of Cards cannot be null");
+		this.cardsByType = new Card[CARD_TYPES.length];
+		this.rearrangedTypes = new byte[CARDS_TO_REARRANGE];
+		this.cardTypes = new byte[Math.max(MINIMUM_CAPACITY, cardList.size())];
+		int kittens = 0;
+		for (Card card : cardList) {
+			cardTypes[size++] = toOrdinal(card);
+			if (isKitten(card)) {
+				kittens++;
+			}
+		}
+		kittenTracker.reset(size, kittens);
+	}
+
+	OrdinalDeck(byte[] cardTypes, int size) {
+		this.cardsByType = new Card[CARD_TYPES.length];
+		this.rearrangedTypes = new byte[CARDS_TO_REARRANGE];
+		this.cardTypes = new byte[Math.max(MINIMUM_CAPACITY, size)];
+		load(ByteBuffer.wrap(cardTypes), size, new CardFactory());
+	}
+
+	@Override
+	public Card getCardAt(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index out of bounds");
+		}
+		return cardsByType[cardTypes[index]];
+	}
+
+	@Override
+	public Card peekTop() {
+		if (size == 0) {
+			throw new NoSuchElementException("Deck is empty");
+		}
+		return cardsByType[cardTypes[size - 1]];
+	}
+
+	@Override
+	public Card draw() {
+		if (size == 0) {
+			throw new NoSuchElementException("Deck is empty");
+		}
+		size--;
+		kittenTracker.onDraw(cardTypes[size] == KITTEN);
+		return cardsByType[cardTypes[size]];
+	}
+
+	@Override
+	public void insertCardAt(Card card, int index) {
+		Objects.requireNonNull(card, "Card type cannot be null");
+		if (index < 0 || index > size) {
+			throw new IndexOutOfBoundsException("Index out of bounds");
+		}
+		if (size == cardTypes.length) {
+			cardTypes = Arrays.copyOf(cardTypes, size * 2);
+		}
+		System.arraycopy(cardTypes, index, cardTypes, index + 1, size - index);
+		cardTypes[index] = toOrdinal(card);
+		size++;
+		kittenTracker.onInsert(index, cardTypes[index] == KITTEN);
+	}
+
+	@Override
+	public int getDeckSize() {
+		return size;
+	}
+
+	@Override
+	public void shuffleDeck(GameRandom rand) {
+		Objects.requireNonNull(rand, "Random cannot be null");
+		for (int deckIndex = size - 1; deckIndex > 0; deckIndex--) {
+			int indexToSwap = rand.nextInt(deckIndex + 1);
+			swap(indexToSwap, deckIndex);
+		}
+		kittenTracker.onShuffle();
+	}
+
+	@Override
+	public void rearrangeTopThreeCards(List<Integer> newIndices) {
+		if (size == 0) {
+			throw new NoSuchElementException("Deck is empty");
+		}
+		if (newIndices.size() > size) {
+			throw new IllegalArgumentException(
+					"Number of indices is larger than the deck size");
+		}
+		if (hasDuplicates(newIndices)) {
+			throw new IllegalArgumentException("Duplicate indices are not allowed");
+		}
+
+		for (int i = 0; i < newIndices.size(); i++) {
+			int index = newIndices.get(i);
+			checkIndex(index);
+			rearrangedTypes[i] = cardTypes[index];
+		}
+
+		int topIndex = size - 1;
+		for (int i = 0; i < newIndices.size(); i++) {
+			cardTypes[topIndex - i] = rearrangedTypes[i];
+		}
+		kittenTracker.onTopCardsReordered(newIndices.size());
+	}
+
+	@Override
+	public void swapTopAndBottom() {
+		if (size == 0) {
+			throw new NoSuchElementException("Deck is empty");
+		}
+		swap(0, size - 1);
+		kittenTracker.onSwapTopAndBottom();
+	}
+
+	@Override
+	public void moveAllExplodingKittensToTop() {
+		int otherCards = 0;
+		for (int i = 0; i < size; i++) {
+			if (cardTypes[i] != KITTEN) {
+				cardTypes[otherCards++] = cardTypes[i];
+			}
+		}
+		Arrays.fill(cardTypes, otherCards, size, KITTEN);
+		kittenTracker.onKittensMovedToTop();
+	}
+
+	@Override
+	void writeTo(ByteBuffer target) {
+		target.put(cardTypes, 0, size);
+	}
+
+	@Override
+	void restoreFrom(ByteBuffer source, int size, CardFactory cardFactory) {
+		load(source, size, cardFactory);
+	}
+
+	private void load(ByteBuffer source, int size, CardFactory cardFactory) {
+		if (cardTypes.length < size) {
+			cardTypes = new byte[size];
+		}
+		source.get(cardTypes, 0, size);
+		this.size = size;
+		int kittens = 0;
+		for (int i = 0; i < size; i++) {
+			int ordinal = cardTypes[i];
+			if (cardsByType[ordinal] == null) {
+				cardsByType[ordinal] = cardFactory.createCard(CARD_TYPES[ordinal]);
+			}
+			if (ordinal == KITTEN) {
+				kittens++;
+			}
+		}
+		kittenTracker.reset(size, kittens);
+	}
+
+	private byte toOrdinal(Card card) {
+		int ordinal = card.getCardType().ordinal();
+		if (cardsByType[ordinal] == null) {
+			cardsByType[ordinal] = card;
+		}
+		return (byte) ordinal;
+	}
+
+	private void swap(int first, int second) {
+		byte temporaryType = cardTypes[first];
+		cardTypes[first] = cardTypes[second];
+		cardTypes[second] = temporaryType;
+	}
+
+	@Override
+	List<Card> peekTopCards(int count) {
+		if (size == 0) {
+			throw new NoSuchElementException("Deck is empty");
+		}
+		int cardsToAdd = Math.min(count, size);
+		List<Card> cardList = new ArrayList<>(cardsToAdd);
+		for (int cardCount = 1; cardCount <= cardsToAdd; cardCount++) {
+			cardList.add(cardsByType[cardTypes[size - cardCount]]);
+		}
+		return cardList;
+	}
+
+	private boolean hasDuplicates(List<Integer> indices) {
+		for (int i = 0; i < indices.size(); i++) {
+			for (int j = i + 1; j < indices.size(); j++) {
+				if (indices.get(i).equals(indices.get(j))) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private void checkIndex(int index) {
+		if (index < size - CARDS_TO_REARRANGE || index > size - 1) {
+			throw new IllegalArgumentException(
+					"With deck size s, indices must be [s - 1, s - 3]");
+		}
+		if (index < 0) {
+			throw new IllegalArgumentException(
+					"Negative indices are not allowed");
+		}
+	}
+}
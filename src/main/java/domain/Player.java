@@ -5,6 +5,8 @@ import java.util.List;
 public class Player {
 	Hand hand;
 	boolean activeStatus = true;
+	int id = -1;
+	PlayerManager playerManager;
 
 	Player(Hand hand) {
 		this.hand = hand;
@@ -53,6 +55,14 @@ public class Player {
 		return hand.parseCardType(input);
 	}
 
+	public CardType parseCardType(CharSequence text, int start, int end) {
+		return hand.parseCardType(text, start, end);
+	}
+
+	public List<CardType> getMatchingCardTypes(String input) {
+		return hand.getMatchingCardTypes(input);
+	}
+
 	public List<CardType> getAvailableCardTypes() {
 		return hand.getAvailableCardTypes();
 	}
@@ -61,13 +71,32 @@ public class Player {
 		return hand.isEmpty();
 	}
 
+	public double getDrawExplosionChance() {
+		return getKittenChance(0);
+	}
+
+	public double getKittenChance(int depth) {
+		Deck deck = playerManager == null ? null : playerManager.getDeck();
+		return deck == null ? 0 : deck.kittenTracker.getKittenChance(id, depth);
+	}
+
+	void eliminate() {
+		if (!this.activeStatus) {
+			return;
+		}
+		this.activeStatus = false;
+		if (this.playerManager != null) {
+			this.playerManager.playerEliminated(this);
+		}
+	}
+
 	private void handleExplodingKitten(Deck deck, Card explodingKittenCard) {
 		if (this.hand.containsCardType(CardType.DEFUSE)) {
 			this.hand.removeDefuseCard();
 			deck.insertCardAt(explodingKittenCard, 1);
 		}
 		else {
-			this.activeStatus = false;
+			eliminate();
 		}
 	}
 }
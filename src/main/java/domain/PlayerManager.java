@@ -2,19 +2,38 @@ package domain;
 
 import javax.annotation.CheckReturnValue;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
 public class PlayerManager {
 	private final Deck deck;
+	private final LobbyMode lobbyMode;
 	private final List<Player> players;
-	private static final int MIN_PLAYERS = 2;
-	private static final int MAX_PLAYERS = 5;
+	private final BitSet activePlayerIds;
+	private int numberOfActivePlayers;
+	private TurnManager turnManager;
 
 	public PlayerManager(Deck deck) {
+		this(deck, LobbyMode.STANDARD);
+	}
+
+	public PlayerManager(Deck deck, LobbyMode lobbyMode) {
 		this.deck = Objects.requireNonNull(deck, "Deck cannot be null");
+		this.lobbyMode = Objects.requireNonNull(lobbyMode,
+				"LobbyMode cannot be null");
 		this.players = new ArrayList<>();
+		this.activePlayerIds = new BitSet();
+	}
+
+	public void setTurnManager(TurnManager turnManager) {
+		this.turnManager = Objects.requireNonNull(turnManager,
+				"TurnManager cannot be null");
+	}
+
+	TurnManager getTurnManager() {
+		return turnManager;
 	}
 
 	public List<Player> getPlayers() {
@@ -22,36 +41,79 @@ public class PlayerManager {
 	}
 
 	public List<Player> getActivePlayers() {
-		List<Player> active = new ArrayList<>();
-		for (Player p : players) {
-			if (p.isInGame()) {
-				active.add(p);
-			}
+		List<Player> active = new ArrayList<>(numberOfActivePlayers);
+		for (int id = activePlayerIds.nextSetBit(0); id >= 0;
+				id = activePlayerIds.nextSetBit(id + 1)) {
+			active.add(players.get(id));
 		}
 		return active;
 	}
 
+	public int getNumberOfActivePlayers() {
+		return numberOfActivePlayers;
+	}
+
+	public int getPlayerIndex(Player player) {
+		Objects.requireNonNull(player, "Player cannot be null");
+		return isManaged(player) ? player.id : -1;
+	}
+
+	public boolean isPlayerActive(int index) {
+		if (isIndexOutOfBounds(index)) {
+			throw new IndexOutOfBoundsException("Index out of bounds");
+		}
+		return activePlayerIds.get(index);
+	}
+
+	public int getNextActivePlayerIndex(int fromIndex) {
+		if (fromIndex < 0) {
+			throw new IndexOutOfBoundsException("Index out of bounds");
+		}
+		return activePlayerIds.nextSetBit(fromIndex);
+	}
+
 	public void addPlayers(int numberOfPlayers) {
-		if (numberOfPlayers < MIN_PLAYERS || numberOfPlayers > MAX_PLAYERS) {
-			throw new IllegalArgumentException(
-					"Number of players must be between 2 and 5");
+		if (!lobbyMode.allows(numberOfPlayers)) {
+			throw new IllegalArgumentException(String.format(
+					"Number of players must be between %d and %d",
+					lobbyMode.getMinPlayers(), lobbyMode.getMaxPlayers()));
 		}
 
 		for (int i = 0; i < numberOfPlayers; i++) {
 			Hand hand = new Hand();
 			Player player = new Player(hand);
+			player.id = players.size();
+			player.playerManager = this;
 			players.add(player);
+			activePlayerIds.set(player.id);
+			numberOfActivePlayers++;
 		}
 	}
 
 	public void removePlayerFromGame(Player player) {
 		Objects.requireNonNull(player, "Player cannot be null");
 
-		if (!players.contains(player)) {
+		if (!isManaged(player)) {
 			throw new IllegalArgumentException("Player not found in game");
 		}
 
-		player.activeStatus = false;
+		player.eliminate();
+	}
+
+	void playerEliminated(Player player) {
+		if (activePlayerIds.get(player.id)) {
+			activePlayerIds.clear(player.id);
+			numberOfActivePlayers--;
+		}
+	}
+
+	void restoreActiveStatus(int index, boolean active) {
+		Player player = players.get(index);
+		player.activeStatus = active;
+		if (activePlayerIds.get(index) != active) {
+			activePlayerIds.set(index, active);
+			numberOfActivePlayers += active ? 1 : -1;
+		}
 	}
 
 	@CheckReturnValue
@@ -62,10 +124,22 @@ public class PlayerManager {
 		return players.get(index);
 	}
 
+	public LobbyMode getLobbyMode() {
+		return lobbyMode;
+	}
+
 	public int getNumberOfPlayers() {
 		return players.size();
 	}
 
+	Deck getDeck() {
+		return deck;
+	}
+
+	private boolean isManaged(Player player) {
+		return player.playerManager == this;
+	}
+
 	private boolean isIndexOutOfBounds(int index) {
 		if (index < 0) {
 			return true;
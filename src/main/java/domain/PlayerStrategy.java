@@ -0,0 +1,62 @@
+package domain;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.ServiceLoader;
+import java.util.SplittableRandom;
+
+public interface PlayerStrategy extends DecisionMakerFactory {
+	String getName();
+
+	static PlayerStrategy of(String name, DecisionMakerFactory factory) {
+		Objects.requireNonNull(name, "Strategy name cannot be null");
+		Objects.requireNonNull(factory, "Strategy cannot be null");
+		return new PlayerStrategy() {
+			@Override
+			public String getName() {
+				return name;
+			}
+
+			@Override
+			public DecisionMaker create(SplittableRandom random) {
+				return factory.create(random);
+			}
+		};
+	}
+
+	static List<PlayerStrategy> builtIn() {
+		return List.of(
+				of("random", RandomDecisionMaker::new),
+				of("greedy-defuse-hoarder",
+						random -> new DefuseHoarderDecisionMaker()),
+				of("probability-aware",
+						random -> new ProbabilityAwareDecisionMaker()));
+	}
+
+	static PlayerStrategy ismcts(int maxIterations, long timeBudgetMillis,
+			int parallelism) {
+		return of("ismcts", random -> new IsmctsDecisionMaker(random, maxIterations,
+				timeBudgetMillis, parallelism));
+	}
+
+	static List<PlayerStrategy> available() {
+		List<PlayerStrategy> strategies = new ArrayList<>(builtIn());
+		strategies.add(ismcts(Integer.MAX_VALUE,
+				IsmctsDecisionMaker.DEFAULT_TIME_BUDGET_MILLIS, 1));
+		for (PlayerStrategy strategy : ServiceLoader.load(PlayerStrategy.class)) {
+			strategies.add(strategy);
+		}
+		return strategies;
+	}
+
+	static PlayerStrategy forName(String name) {
+		Objects.requireNonNull(name, "Strategy name cannot be null");
+		for (PlayerStrategy strategy : available()) {
+			if (strategy.getName().equals(name)) {
+				return strategy;
+			}
+		}
+		throw new IllegalArgumentException("Unknown strategy: " + name);
+	}
+}
@@ -0,0 +1,133 @@
+package domain;
+
+public class ProbabilityAwareDecisionMaker implements DecisionMaker {
+	private static final CardType[] PROBES = {
+		CardType.ALTER_THE_FUTURE,
+		CardType.SEE_THE_FUTURE
+	};
+	private static final CardType[] BLIND_ESCAPES = {
+		CardType.SKIP,
+		CardType.ATTACK,
+		CardType.BURY
+	};
+	private static final CardType[] KITTEN_ESCAPES = {
+		CardType.SWAP_TOP_AND_BOTTOM,
+		CardType.BURY,
+		CardType.SKIP,
+		CardType.ATTACK,
+		CardType.SHUFFLE
+	};
+	private static final int MAX_CARDS_TO_REARRANGE = 3;
+	private static final int NO_SEAT = -1;
+	private static final double DEFAULT_RISK_THRESHOLD = 0.2;
+	private static final double DEFUSE_RISK_DISCOUNT = 0.5;
+
+	private final double riskThreshold;
+	private final int[] rearrangedIndices = new int[MAX_CARDS_TO_REARRANGE];
+	private int informedSeat = NO_SEAT;
+
+	public ProbabilityAwareDecisionMaker(double riskThreshold) {
+		this.riskThreshold = riskThreshold;
+	}
+
+	public ProbabilityAwareDecisionMaker() {
+		this(DEFAULT_RISK_THRESHOLD);
+	}
+
+	@Override
+	public String chooseCommand(Player player) {
+		boolean informed = informedSeat != NO_SEAT && informedSeat == player.id;
+		informedSeat = NO_SEAT;
+		Deck deck = deckOf(player);
+		if (deck == null || deck.getDeckSize() == 0) {
+			return RandomDecisionMaker.DRAW_COMMAND;
+		}
+		if (informed || player.getDrawExplosionChance() >= 1) {
+			return isKittenOnTop(deck) ? play(player, KITTEN_ESCAPES)
+					: RandomDecisionMaker.DRAW_COMMAND;
+		}
+		if (!player.hasCardType(CardType.DEFUSE)
+				&& player.hasCardType(CardType.FAVOR)
+				&& DefuseHoarderDecisionMaker.hasOpponentWithCards(player)) {
+			return RandomDecisionMaker.playCommand(CardType.FAVOR);
+		}
+		if (getExplosionRisk(player, deck) < riskThreshold) {
+			return RandomDecisionMaker.DRAW_COMMAND;
+		}
+		for (CardType probe : PROBES) {
+			if (player.hasCardType(probe)) {
+				informedSeat = player.id;
+				return RandomDecisionMaker.playCommand(probe);
+			}
+		}
+		return play(player, BLIND_ESCAPES);
+	}
+
+	@Override
+	public int choosePlayerToTakeCardFrom(Player player, int maxPlayerIndex) {
+		int opponent = DefuseHoarderDecisionMaker.largestHandOpponent(player,
+				maxPlayerIndex);
+		return Math.max(0, opponent);
+	}
+
+	@Override
+	public CardType chooseCardToGive(Player giver) {
+		return DefuseHoarderDecisionMaker.leastValuableCard(giver);
+	}
+
+	@Override
+	public int chooseBuryIndex(Player player, int deckSize) {
+		return 0;
+	}
+
+	@Override
+	public int chooseRearrangeIndex(Player player, int position,
+			int minIndex, int maxIndex) {
+		if (position == 0) {
+			orderKittensLast(deckOf(player), minIndex, maxIndex);
+		}
+		return rearrangedIndices[position];
+	}
+
+	@Override
+	public int chooseKittenPlacement(Player player, int deckSize) {
+		return deckSize;
+	}
+
+	double getExplosionRisk(Player player, Deck deck) {
+		double risk = deck.kittenTracker.getDrawExplosionChance(player.id);
+		return player.hasCardType(CardType.DEFUSE) ? risk * DEFUSE_RISK_DISCOUNT : risk;
+	}
+
+	private void orderKittensLast(Deck deck, int minIndex, int maxIndex) {
+		int position = 0;
+		for (int pass = 0; pass < 2; pass++) {
+			boolean kittens = pass == 1;
+			for (int index = maxIndex; index >= minIndex; index--) {
+				boolean kitten = deck != null && deck.getCardAt(index).getCardType()
+						== CardType.EXPLODING_KITTEN;
+				if (kitten == kittens) {
+					rearrangedIndices[position++] = index;
+				}
+			}
+		}
+	}
+
+	private static String play(Player player, CardType[] preferences) {
+		for (CardType cardType : preferences) {
+			if (player.hasCardType(cardType)) {
+				return RandomDecisionMaker.playCommand(cardType);
+			}
+		}
+		return RandomDecisionMaker.DRAW_COMMAND;
+	}
+
+	private static boolean isKittenOnTop(Deck deck) {
+		return deck.getCardAt(deck.getDeckSize() - 1).getCardType()
+				== CardType.EXPLODING_KITTEN;
+	}
+
+	private static Deck deckOf(Player player) {
+		return player.playerManager == null ? null : player.playerManager.getDeck();
+	}
+}
@@ -0,0 +1,120 @@
+package domain;
+
+import java.util.Objects;
+import java.util.SplittableRandom;
+
+public class RandomDecisionMaker implements DecisionMaker {
+	private static final CardType[] CARD_TYPES = CardType.values();
+	private static final String[] PLAY_COMMANDS = createPlayCommands();
+	static final String DRAW_COMMAND = "draw";
+	private static final int MAX_CARDS_TO_REARRANGE = 3;
+	private static final double DEFAULT_PLAY_CHANCE = 0.5;
+
+	private final SplittableRandom random;
+	private final double playChance;
+	private final int[] rearrangedIndices = new int[MAX_CARDS_TO_REARRANGE];
+
+	public RandomDecisionMaker(SplittableRandom random, double playChance) {
+		this.random = Objects.requireNonNull(random, "Random cannot be null");
+		this.playChance = playChance;
+	}
+
+	public RandomDecisionMaker(SplittableRandom random) {
+		this(random, DEFAULT_PLAY_CHANCE);
+	}
+
+	@Override
+	public String chooseCommand(Player player) {
+		if (random.nextDouble() >= playChance) {
+			return DRAW_COMMAND;
+		}
+		CardType cardType = pickCardType(player, true);
+		if (cardType == null) {
+			return DRAW_COMMAND;
+		}
+		return PLAY_COMMANDS[cardType.ordinal()];
+	}
+
+	@Override
+	public int choosePlayerToTakeCardFrom(Player player, int maxPlayerIndex) {
+		return random.nextInt(maxPlayerIndex + 1);
+	}
+
+	@Override
+	public CardType chooseCardToGive(Player giver) {
+		return pickCardType(giver, false);
+	}
+
+	@Override
+	public int chooseBuryIndex(Player player, int deckSize) {
+		return random.nextInt(deckSize + 1);
+	}
+
+	@Override
+	public int chooseRearrangeIndex(Player player, int position,
+			int minIndex, int maxIndex) {
+		if (position == 0) {
+			shuffleIndices(minIndex, maxIndex);
+		}
+		return rearrangedIndices[position];
+	}
+
+	@Override
+	public int chooseKittenPlacement(Player player, int deckSize) {
+		return random.nextInt(deckSize + 1);
+	}
+
+	private CardType pickCardType(Player player, boolean onlyPlayable) {
+		int candidates = 0;
+		CardType chosen = null;
+		for (CardType cardType : CARD_TYPES) {
+			if (onlyPlayable && !isPlayable(cardType)) {
+				continue;
+			}
+			if (player.getCardTypeCount(cardType) > 0) {
+				candidates++;
+				if (random.nextInt(candidates) == 0) {
+					chosen = cardType;
+				}
+			}
+		}
+		return chosen;
+	}
+
+	private void shuffleIndices(int minIndex, int maxIndex) {
+		int count = maxIndex - minIndex + 1;
+		for (int i = 0; i < count; i++) {
+			rearrangedIndices[i] = maxIndex - i;
+		}
+		for (int i = count - 1; i > 0; i--) {
+			int j = random.nextInt(i + 1);
+			int temporary = rearrangedIndices[i];
+			rearrangedIndices[i] = rearrangedIndices[j];
+			rearrangedIndices[j] = temporary;
+		}
+	}
+
+	static String playCommand(CardType cardType) {
+		return PLAY_COMMANDS[cardType.ordinal()];
+	}
+
+	static boolean isPlayable(CardType cardType) {
+		switch (cardType) {
+			case NORMAL:
+			case DEFUSE:
+			case EXPLODING_KITTEN:
+			case UNKNOWN_CARD_FOR_TEST:
+				return false;
+			default:
+				return true;
+		}
+	}
+
+	private static String[] createPlayCommands() {
+		String[] commands = new String[CARD_TYPES.length];
+		for (CardType cardType : CARD_TYPES) {
+			commands[cardType.ordinal()] = "play " + cardType.name().toLowerCase();
+		}
+		return commands;
+	}
+}
@@ -0,0 +1,16 @@
+package domain;
+
+import java.util.SplittableRandom;
+
+public interface RandomProvider {
+	GameRandom nextGameRandom();
+
+	static RandomProvider seeded(long seed) {
+		SplittableRandom gameSeeds = new SplittableRandom(seed);
+		return () -> new FastGameRandom(gameSeeds.nextLong());
+	}
+
+	static RandomProvider secure() {
+		return SecureGameRandom::new;
+	}
+}
@@ -0,0 +1,54 @@
+package domain;
+
+import java.util.Locale;
+
+final class RecordingDecisionMaker implements DecisionMaker {
+	private final DecisionMaker decisionMaker;
+	private final GameEventListener eventListener;
+
+	RecordingDecisionMaker(DecisionMaker decisionMaker,
+			GameEventListener eventListener) {
+		this.decisionMaker = decisionMaker;
+		this.eventListener = eventListener;
+	}
+
+	@Override
+	public String chooseCommand(Player player) {
+		return decisionMaker.chooseCommand(player);
+	}
+
+	@Override
+	public int choosePlayerToTakeCardFrom(Player player, int maxPlayerIndex) {
+		return record(decisionMaker.choosePlayerToTakeCardFrom(player, maxPlayerIndex));
+	}
+
+	@Override
+	public CardType chooseCardToGive(Player giver) {
+		CardType cardType = decisionMaker.chooseCardToGive(giver);
+		eventListener.onTextInput(cardType == null
+				? "" : cardType.name().toLowerCase(Locale.ROOT));
+		return cardType;
+	}
+
+	@Override
+	public int chooseBuryIndex(Player player, int deckSize) {
+		return record(decisionMaker.chooseBuryIndex(player, deckSize));
+	}
+
+	@Override
+	public int chooseRearrangeIndex(Player player, int position,
+			int minIndex, int maxIndex) {
+		return record(decisionMaker.chooseRearrangeIndex(player, position,
+				minIndex, maxIndex));
+	}
+
+	@Override
+	public int chooseKittenPlacement(Player player, int deckSize) {
+		return record(decisionMaker.chooseKittenPlacement(player, deckSize));
+	}
+
+	private int record(int choice) {
+		eventListener.onNumericChoice(choice);
+		return choice;
+	}
+}
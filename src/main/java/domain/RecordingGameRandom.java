@@ -0,0 +1,18 @@
+package domain;
+
+final class RecordingGameRandom implements GameRandom {
+	private final GameRandom random;
+	private final GameEventListener eventListener;
+
+	RecordingGameRandom(GameRandom random, GameEventListener eventListener) {
+		this.random = random;
+		this.eventListener = eventListener;
+	}
+
+	@Override
+	public int nextInt(int bound) {
+		int value = random.nextInt(bound);
+		eventListener.onRandom(bound, value);
+		return value;
+	}
+}
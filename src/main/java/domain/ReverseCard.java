@@ -1,13 +1,15 @@
 package domain;
 
 public class ReverseCard extends Card {
+	private static final CardEffect EFFECT = new ReverseEffect();
+
 	public ReverseCard() {
 		super(CardType.REVERSE);
 	}
 
 	@Override
 	public CardEffect createEffect() {
-		return new ReverseEffect();
+		return EFFECT;
 	}
 
 	private static class ReverseEffect implements CardEffect {
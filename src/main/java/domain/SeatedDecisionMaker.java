@@ -0,0 +1,56 @@
+package domain;
+
+import java.util.List;
+import java.util.Objects;
+
+public class SeatedDecisionMaker implements DecisionMaker {
+	private final List<Player> players;
+	private final DecisionMaker[] seatDecisionMakers;
+
+	public SeatedDecisionMaker(List<Player> players,
+			DecisionMaker[] seatDecisionMakers) {
+		this.players = Objects.requireNonNull(players, "Players cannot be null");
+		this.seatDecisionMakers = Objects.requireNonNull(seatDecisionMakers,
+				"Seat decision makers cannot be null").clone();
+	}
+
+	@Override
+	public String chooseCommand(Player player) {
+		return forPlayer(player).chooseCommand(player);
+	}
+
+	@Override
+	public int choosePlayerToTakeCardFrom(Player player, int maxPlayerIndex) {
+		return forPlayer(player).choosePlayerToTakeCardFrom(player, maxPlayerIndex);
+	}
+
+	@Override
+	public CardType chooseCardToGive(Player giver) {
+		return forPlayer(giver).chooseCardToGive(giver);
+	}
+
+	@Override
+	public int chooseBuryIndex(Player player, int deckSize) {
+		return forPlayer(player).chooseBuryIndex(player, deckSize);
+	}
+
+	@Override
+	public int chooseRearrangeIndex(Player player, int position,
+			int minIndex, int maxIndex) {
+		return forPlayer(player).chooseRearrangeIndex(player, position,
+				minIndex, maxIndex);
+	}
+
+	@Override
+	public int chooseKittenPlacement(Player player, int deckSize) {
+		return forPlayer(player).chooseKittenPlacement(player, deckSize);
+	}
+
+	private DecisionMaker forPlayer(Player player) {
+		int seat = player.id;
+		if (seat < 0 || seat >= seatDecisionMakers.length || players.get(seat) != player) {
+			throw new IllegalArgumentException("Player not found in game");
+		}
+		return seatDecisionMakers[seat];
+	}
+}
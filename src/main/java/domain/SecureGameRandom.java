@@ -0,0 +1,21 @@
+package domain;
+
+import java.security.SecureRandom;
+import java.util.Objects;
+
+public final class SecureGameRandom implements GameRandom {
+	private final SecureRandom random;
+
+	public SecureGameRandom() {
+		this(new SecureRandom());
+	}
+
+	public SecureGameRandom(SecureRandom random) {
+		this.random = Objects.requireNonNull(random, "SecureRandom cannot be null");
+	}
+
+	@Override
+	public int nextInt(int bound) {
+		return random.nextInt(bound);
+	}
+}
@@ -1,13 +1,15 @@
 package domain;
 
 public class SeeTheFutureCard extends Card {
+	private static final CardEffect EFFECT = new SeeTheFutureEffect();
+
 	public SeeTheFutureCard() {
 		super(CardType.SEE_THE_FUTURE);
 	}
 
 	@Override
 	public CardEffect createEffect() {
-		return new SeeTheFutureEffect();
+		return EFFECT;
 	}
 
 	private static class SeeTheFutureEffect implements CardEffect {
@@ -1,13 +1,15 @@
 package domain;
 
 public class ShuffleCard extends Card {
+	private static final CardEffect EFFECT = new ShuffleEffect();
+
 	public ShuffleCard() {
 		super(CardType.SHUFFLE);
 	}
 
 	@Override
 	public CardEffect createEffect() {
-		return new ShuffleEffect();
+		return EFFECT;
 	}
 
 	private static class ShuffleEffect implements CardEffect {
@@ -1,13 +1,15 @@
 package domain;
 
 public class SkipCard extends Card {
+	private static final CardEffect EFFECT = new SkipEffect();
+
 	public SkipCard() {
 		super(CardType.SKIP);
 	}
 
 	@Override
 	public CardEffect createEffect() {
-		return new SkipEffect();
+		return EFFECT;
 	}
 
 	private static class SkipEffect implements CardEffect {
@@ -1,13 +1,15 @@
 package domain;
 
 public class SwapTopAndBottomCard extends Card {
+	private static final CardEffect EFFECT = new SwapTopAndBottomEffect();
+
 	public SwapTopAndBottomCard() {
 		super(CardType.SWAP_TOP_AND_BOTTOM);
 	}
 
 	@Override
 	public CardEffect createEffect() {
-		return new SwapTopAndBottomCard.SwapTopAndBottomEffect();
+		return EFFECT;
 	}
 
 	private static class SwapTopAndBottomEffect implements CardEffect {
@@ -0,0 +1,515 @@
+package domain;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class TableSocketServer implements Closeable {
+	static final int MAX_LINE_BYTES = 256;
+	static final int MAX_QUEUED_BYTES = 64 * 1024;
+	private static final int IO_BUFFER_BYTES = 64 * 1024;
+	private static final int INITIAL_LINE_BYTES = 32;
+	private static final String HELP =
+			"commands play <card>, draw, hand, status, help, quit";
+	private static final CardType[] CARD_TYPES = CardType.values();
+	private static final String OPEN = "open";
+	private static final String JOIN = "join";
+
+	private final GameServer gameServer;
+	private final ServerSocketChannel serverChannel;
+	private final Selector selector;
+	private final CommandParser commandParser;
+	private final Map<Long, TableBroadcast> broadcasts;
+	private final Queue<Connection> pendingWrites;
+	private final ByteBuffer readBuffer;
+	private final ByteBuffer writeBuffer;
+	private final Thread selectorThread;
+	private final AtomicInteger numberOfConnections;
+	private volatile boolean running = true;
+
+	private TableSocketServer(GameServer gameServer, ServerSocketChannel serverChannel,
+			Selector selector) {
+		this.gameServer = gameServer;
+		this.serverChannel = serverChannel;
+		this.selector = selector;
+		this.commandParser = new CommandParser();
+		this.broadcasts = new ConcurrentHashMap<>();
+		this.pendingWrites = new ConcurrentLinkedQueue<>();
+		this.readBuffer = ByteBuffer.allocateDirect(IO_BUFFER_BYTES);
+		this.writeBuffer = ByteBuffer.allocateDirect(IO_BUFFER_BYTES);
+		this.selectorThread = new Thread(this::runSelector, "table-socket-server");
+		this.numberOfConnections = new AtomicInteger();
+	}
+
+	public static TableSocketServer start(GameServer gameServer, int port)
+			throws IOException {
+		Objects.requireNonNull(gameServer, "gameServer must not be null");
+		ServerSocketChannel serverChannel = ServerSocketChannel.open();
+		Selector selector = null;
+		try {
+			serverChannel.bind(new InetSocketAddress(
+					InetAddress.getLoopbackAddress(), port));
+			serverChannel.configureBlocking(false);
+			selector = Selector.open();
+			serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+		} catch (IOException e) {
+			serverChannel.close();
+			if (selector != null) {
+				selector.close();
+			}
+			throw e;
+		}
+		TableSocketServer server = new TableSocketServer(gameServer, serverChannel,
+				selector);
+		server.selectorThread.start();
+		return server;
+	}
+
+	public int getPort() {
+		return serverChannel.socket().getLocalPort();
+	}
+
+	public int getNumberOfConnections() {
+		return numberOfConnections.get();
+	}
+
+	@Override
+	public void close() throws IOException {
+		running = false;
+		selector.wakeup();
+		try {
+			selectorThread.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void runSelector() {
+		try (Selector ownedSelector = selector) {
+			while (running) {
+				ownedSelector.select();
+				flushPendingWrites();
+				Iterator<SelectionKey> keys =
+						ownedSelector.selectedKeys().iterator();
+				while (keys.hasNext()) {
+					SelectionKey key = keys.next();
+					keys.remove();
+					handleKey(key);
+				}
+			}
+			for (SelectionKey key : ownedSelector.keys()) {
+				key.channel().close();
+			}
+		} catch (IOException e) {
+			running = false;
+		} finally {
+			closeQuietly(serverChannel);
+		}
+	}
+
+	private void handleKey(SelectionKey key) {
+		if (!key.isValid()) {
+			return;
+		}
+		if (key.isAcceptable()) {
+			accept();
+			return;
+		}
+		Connection connection = (Connection) key.attachment();
+		try {
+			if (key.isReadable()) {
+				read(connection);
+			}
+			if (key.isValid() && key.isWritable()) {
+				write(connection);
+			}
+		} catch (IOException e) {
+			connection.close();
+		}
+	}
+
+	private void accept() {
+		SocketChannel channel = null;
+		try {
+			channel = serverChannel.accept();
+			if (channel == null) {
+				return;
+			}
+			channel.configureBlocking(false);
+			Connection connection = new Connection(channel);
+			connection.key = channel.register(selector, SelectionKey.OP_READ,
+					connection);
+			numberOfConnections.incrementAndGet();
+		} catch (IOException e) {
+			closeQuietly(channel);
+		}
+	}
+
+	private static void closeQuietly(Closeable channel) {
+		if (channel == null) {
+			return;
+		}
+		try {
+			channel.close();
+		} catch (IOException e) {
+			return;
+		}
+	}
+
+	private void read(Connection connection) throws IOException {
+		readBuffer.clear();
+		int read = connection.channel.read(readBuffer);
+		if (read < 0) {
+			connection.close();
+			return;
+		}
+		readBuffer.flip();
+		while (readBuffer.hasRemaining() && connection.isOpen()) {
+			byte next = readBuffer.get();
+			if (next == '\n') {
+				String line = connection.takeLine();
+				if (line != null) {
+					handle(connection, line);
+				}
+			} else {
+				connection.append(next);
+			}
+		}
+	}
+
+	private void write(Connection connection) throws IOException {
+		writeBuffer.clear();
+		connection.fill(writeBuffer);
+		writeBuffer.flip();
+		int written = connection.channel.write(writeBuffer);
+		connection.queuedBytes.addAndGet(-written);
+		connection.keepUnwritten(writeBuffer);
+		if (connection.hasOutput()) {
+			connection.key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+		} else {
+			connection.key.interestOps(SelectionKey.OP_READ);
+			if (connection.closeWhenFlushed) {
+				connection.close();
+			}
+		}
+	}
+
+	private void flushPendingWrites() {
+		for (Connection connection = pendingWrites.poll(); connection != null;
+				connection = pendingWrites.poll()) {
+			connection.writeScheduled.set(0);
+			if (connection.key == null || !connection.key.isValid()) {
+				continue;
+			}
+			try {
+				write(connection);
+			} catch (IOException e) {
+				connection.close();
+			}
+		}
+	}
+
+	private void handle(Connection connection, String line) {
+		CommandParser.Command command = commandParser.parse(line);
+		String lobbyVerb = command == CommandParser.Command.UNKNOWN
+				? commandParser.getCommand() : "";
+		final int joinArguments = 2;
+		try {
+			if (OPEN.equals(lobbyVerb) && commandParser.getNumberOfArguments() == 1) {
+				TableBroadcast broadcast = new TableBroadcast();
+				GameTable table = gameServer.openTable(
+						commandParser.getIntArgument(0), broadcast);
+				broadcast.seatOwners = new Connection[table.getNumberOfPlayers()];
+				broadcasts.put(table.getId(), broadcast);
+				connection.send("table " + table.getId());
+			} else if (JOIN.equals(lobbyVerb)
+					&& commandParser.getNumberOfArguments() == joinArguments) {
+				join(connection, commandParser.getLongArgument(0),
+						commandParser.getIntArgument(1));
+			} else if (command == CommandParser.Command.HELP) {
+				connection.send(HELP);
+			} else if (connection.seat < 0) {
+				connection.send("error join a table first");
+			} else if (command == CommandParser.Command.HAND) {
+				int seat = connection.seat;
+				gameServer.inspect(connection.tableId, table ->
+						connection.send(describeHand(table, seat)));
+			} else if (command == CommandParser.Command.STATUS) {
+				int seat = connection.seat;
+				gameServer.inspect(connection.tableId,
+						table -> connection.send(
+								describeStatus(table, seat)));
+			} else {
+				gameServer.submit(connection.tableId, connection.seat, line);
+			}
+		} catch (RuntimeException e) {
+			connection.send("error " + e.getMessage());
+		}
+	}
+
+	private void join(Connection connection, long tableId, int seat) {
+		TableBroadcast broadcast = broadcasts.get(tableId);
+		if (broadcast == null) {
+			throw new IllegalArgumentException("No open table with id " + tableId);
+		}
+		if (seat < 0 || seat >= broadcast.seatOwners.length) {
+			throw new IllegalArgumentException(
+					"No seat " + seat + " at table " + tableId);
+		}
+		Connection owner = broadcast.seatOwners[seat];
+		if (owner != null && owner != connection) {
+			throw new IllegalArgumentException(
+					"Seat " + seat + " at table " + tableId + " is taken");
+		}
+		if (connection.broadcast != null) {
+			connection.broadcast.leave(connection);
+		}
+		connection.tableId = tableId;
+		connection.seat = seat;
+		connection.broadcast = broadcast;
+		connection.send("joined " + tableId + " " + seat);
+		broadcast.join(connection);
+	}
+
+	private static String describeHand(GameTable table, int seat) {
+		StringBuilder hand = new StringBuilder("hand");
+		for (CardType cardType : CARD_TYPES) {
+			int count = table.getCardCount(seat, cardType);
+			if (count > 0) {
+				hand.append(' ').append(cardType.name().toLowerCase(Locale.ROOT))
+						.append('=').append(count);
+			}
+		}
+		return hand.toString();
+	}
+
+	private static String describeStatus(GameTable table, int seat) {
+		return "status " + table.getNumberOfActivePlayers() + " "
+				+ table.getDeckSize() + " " + table.getCurrentSeat() + " "
+				+ String.format(Locale.ROOT, "%.3f",
+						table.getDrawExplosionChance(seat));
+	}
+
+	private final class TableBroadcast implements GameTable.Listener {
+		private final List<Connection> players = new CopyOnWriteArrayList<>();
+		private Connection[] seatOwners = new Connection[0];
+		private volatile String lastPrompt;
+
+		void join(Connection connection) {
+			seatOwners[connection.seat] = connection;
+			players.add(connection);
+			String prompt = lastPrompt;
+			if (prompt != null) {
+				connection.send(prompt);
+			}
+		}
+
+		void leave(Connection connection) {
+			if (seatOwners[connection.seat] == connection) {
+				seatOwners[connection.seat] = null;
+			}
+			players.remove(connection);
+		}
+
+		@Override
+		public void onAwaitingInput(GameTable table, int seat,
+				GameTable.InputKind kind, int minimum, int maximum) {
+			String prompt = "await " + seat + " "
+					+ kind.name().toLowerCase(Locale.ROOT);
+			if (kind == GameTable.InputKind.NUMBER) {
+				prompt += " " + minimum + " " + maximum;
+			}
+			lastPrompt = prompt;
+			sendToAll(prompt);
+		}
+
+		@Override
+		public void onCommandPlayed(GameTable table, int seat, String command) {
+			sendToAll("played " + seat + " " + command);
+		}
+
+		@Override
+		public void onInputRejected(GameTable table, int seat, String line) {
+			for (Connection connection : players) {
+				if (connection.seat == seat) {
+					connection.send("error seat " + seat
+							+ " is not being prompted");
+				}
+			}
+		}
+
+		@Override
+		public void onGameOver(GameTable table, int winningSeat) {
+			sendToAll("over " + winningSeat);
+			broadcasts.remove(table.getId());
+		}
+
+		private void sendToAll(String message) {
+			for (Connection connection : players) {
+				if (!connection.send(message)) {
+					players.remove(connection);
+				}
+			}
+		}
+	}
+
+	private final class Connection {
+		private final SocketChannel channel;
+		private final Queue<byte[]> outbox = new ConcurrentLinkedQueue<>();
+		private final AtomicInteger queuedBytes = new AtomicInteger();
+		private final AtomicInteger writeScheduled = new AtomicInteger();
+		private SelectionKey key;
+		private byte[] line = new byte[INITIAL_LINE_BYTES];
+		private int lineLength;
+		private boolean discardingLine;
+		private byte[] unwritten;
+		private int unwrittenOffset;
+		private volatile boolean closeWhenFlushed;
+		private volatile boolean closed;
+		private long tableId = -1;
+		private volatile int seat = -1;
+		private TableBroadcast broadcast;
+
+		Connection(SocketChannel channel) {
+			this.channel = channel;
+		}
+
+		boolean isOpen() {
+			return !closed;
+		}
+
+		void append(byte next) {
+			if (discardingLine) {
+				return;
+			}
+			if (lineLength == MAX_LINE_BYTES) {
+				discardingLine = true;
+				lineLength = 0;
+				send("error line longer than " + MAX_LINE_BYTES + " bytes");
+				return;
+			}
+			if (lineLength == line.length) {
+				line = Arrays.copyOf(line,
+						Math.min(line.length * 2, MAX_LINE_BYTES));
+			}
+			line[lineLength++] = next;
+		}
+
+		String takeLine() {
+			if (discardingLine) {
+				discardingLine = false;
+				return null;
+			}
+			int length = lineLength;
+			if (length > 0 && line[length - 1] == '\r') {
+				length--;
+			}
+			lineLength = 0;
+			return new String(line, 0, length, StandardCharsets.UTF_8);
+		}
+
+		boolean send(String message) {
+			if (closed) {
+				return false;
+			}
+			byte[] bytes = (message + "\n").getBytes(StandardCharsets.UTF_8);
+			if (queuedBytes.addAndGet(bytes.length) > MAX_QUEUED_BYTES) {
+				closeWhenFlushed = true;
+				outbox.clear();
+				requestWrite();
+				return false;
+			}
+			outbox.add(bytes);
+			requestWrite();
+			return true;
+		}
+
+		void fill(ByteBuffer buffer) {
+			while (buffer.hasRemaining()) {
+				if (unwritten == null) {
+					unwritten = outbox.poll();
+					unwrittenOffset = 0;
+					if (unwritten == null) {
+						return;
+					}
+				}
+				int length = Math.min(buffer.remaining(),
+						unwritten.length - unwrittenOffset);
+				buffer.put(unwritten, unwrittenOffset, length);
+				unwrittenOffset += length;
+				if (unwrittenOffset == unwritten.length) {
+					unwritten = null;
+				}
+			}
+		}
+
+		void keepUnwritten(ByteBuffer buffer) {
+			if (!buffer.hasRemaining()) {
+				return;
+			}
+			int tail = unwritten == null ? 0 : unwritten.length - unwrittenOffset;
+			byte[] rest = new byte[buffer.remaining() + tail];
+			int restOfBuffer = buffer.remaining();
+			buffer.get(rest, 0, restOfBuffer);
+			if (unwritten != null) {
+				System.arraycopy(unwritten, unwrittenOffset, rest, restOfBuffer,
+						tail);
+			}
+			unwritten = rest;
+			unwrittenOffset = 0;
+		}
+
+		boolean hasOutput() {
+			return unwritten != null || !outbox.isEmpty();
+		}
+
+		void close() {
+			if (closed) {
+				return;
+			}
+			closed = true;
+			numberOfConnections.decrementAndGet();
+			if (broadcast != null) {
+				broadcast.leave(this);
+			}
+			key.cancel();
+			closeQuietly(channel);
+		}
+
+		private void requestWrite() {
+			if (writeScheduled.compareAndSet(0, 1)) {
+				pendingWrites.add(this);
+				selector.wakeup();
+			}
+		}
+	}
+
+	public static void main(String[] args) throws IOException, InterruptedException {
+		final int DEFAULT_PORT = 7070;
+		int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+		int threads = args.length > 1 ? Integer.parseInt(args[1])
+				: Runtime.getRuntime().availableProcessors();
+		GameServer gameServer = new GameServer(threads);
+		TableSocketServer server = start(gameServer, port);
+		System.out.println("Serving games on localhost:" + server.getPort());
+		Thread.currentThread().join();
+	}
+}
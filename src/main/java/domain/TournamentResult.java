@@ -0,0 +1,83 @@
+package domain;
+
+import java.util.Objects;
+
+public class TournamentResult {
+	final CardBalanceStats cardBalance = new CardBalanceStats();
+	private final long[] winsPerSeat;
+	private final long[] winsPerStrategy;
+	private final long[] seatsPerStrategy;
+	private long gamesPlayed;
+	private long elapsedNanoseconds;
+
+	public TournamentResult(int numberOfPlayers, int numberOfStrategies) {
+		this.winsPerSeat = new long[numberOfPlayers];
+		this.winsPerStrategy = new long[numberOfStrategies];
+		this.seatsPerStrategy = new long[numberOfStrategies];
+	}
+
+	public void recordGame(int winningSeat, int[] seatStrategies) {
+		Objects.requireNonNull(seatStrategies, "Seat strategies cannot be null");
+		for (int strategy : seatStrategies) {
+			seatsPerStrategy[strategy]++;
+		}
+		if (winningSeat >= 0) {
+			winsPerSeat[winningSeat]++;
+			winsPerStrategy[seatStrategies[winningSeat]]++;
+		}
+		gamesPlayed++;
+	}
+
+	public void merge(TournamentResult other) {
+		Objects.requireNonNull(other, "Result cannot be null");
+		if (other.winsPerSeat.length != winsPerSeat.length
+				|| other.winsPerStrategy.length != winsPerStrategy.length) {
+			throw new IllegalArgumentException(
+					"Results must have the same seats and strategies");
+		}
+		for (int seat = 0; seat < winsPerSeat.length; seat++) {
+			winsPerSeat[seat] += other.winsPerSeat[seat];
+		}
+		for (int strategy = 0; strategy < winsPerStrategy.length; strategy++) {
+			winsPerStrategy[strategy] += other.winsPerStrategy[strategy];
+			seatsPerStrategy[strategy] += other.seatsPerStrategy[strategy];
+		}
+		gamesPlayed += other.gamesPlayed;
+		cardBalance.merge(other.cardBalance);
+	}
+
+	public long getGamesPlayed() {
+		return gamesPlayed;
+	}
+
+	public long getWinsForSeat(int seat) {
+		return winsPerSeat[seat];
+	}
+
+	public double getWinRateForSeat(int seat) {
+		return gamesPlayed == 0 ? 0 : (double) winsPerSeat[seat] / gamesPlayed;
+	}
+
+	public long getWinsForStrategy(int strategy) {
+		return winsPerStrategy[strategy];
+	}
+
+	public double getWinRateForStrategy(int strategy) {
+		long seats = seatsPerStrategy[strategy];
+		return seats == 0 ? 0 : (double) winsPerStrategy[strategy] / seats;
+	}
+
+	public CardBalanceStats getCardBalance() {
+		CardBalanceStats copy = new CardBalanceStats();
+		copy.merge(cardBalance);
+		return copy;
+	}
+
+	public long getElapsedNanoseconds() {
+		return elapsedNanoseconds;
+	}
+
+	void setElapsedNanoseconds(long elapsedNanoseconds) {
+		this.elapsedNanoseconds = elapsedNanoseconds;
+	}
+}
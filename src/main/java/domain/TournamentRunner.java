@@ -0,0 +1,218 @@
+package domain;
+
+import locale.LocaleManager;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class TournamentRunner {
+	private final int numberOfPlayers;
+	private final int numberOfThreads;
+	private final List<String> strategyNames = new ArrayList<>();
+	private final List<DecisionMakerFactory> strategies = new ArrayList<>();
+	private boolean recordingCardBalance;
+	private DeckProfile deckProfile = DeckProfile.standard();
+
+	public TournamentRunner(int numberOfPlayers, int numberOfThreads) {
+		this.numberOfPlayers = numberOfPlayers;
+		this.numberOfThreads = numberOfThreads;
+	}
+
+	public void addStrategy(String name, DecisionMakerFactory factory) {
+		strategyNames.add(Objects.requireNonNull(name,
+				"Strategy name cannot be null"));
+		strategies.add(Objects.requireNonNull(factory,
+				"Strategy cannot be null"));
+	}
+
+	public void addStrategy(PlayerStrategy strategy) {
+		Objects.requireNonNull(strategy, "Strategy cannot be null");
+		addStrategy(strategy.getName(), strategy);
+	}
+
+	public void setRecordingCardBalance(boolean recordingCardBalance) {
+		this.recordingCardBalance = recordingCardBalance;
+	}
+
+	public void setDeckProfile(DeckProfile deckProfile) {
+		this.deckProfile = Objects.requireNonNull(deckProfile,
+				"Deck profile cannot be null");
+	}
+
+	public List<String> getStrategyNames() {
+		return List.copyOf(strategyNames);
+	}
+
+	public TournamentResult run(long numberOfGames, long seed) {
+		if (strategies.isEmpty()) {
+			throw new IllegalStateException("No strategies to play");
+		}
+		if (numberOfThreads < 1) {
+			throw new IllegalStateException("At least one thread is required");
+		}
+
+		long start = System.nanoTime();
+		SplittableRandom seedRandom = new SplittableRandom(seed);
+		ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads);
+		List<Future<TournamentResult>> workers = new ArrayList<>();
+		try {
+			long firstGame = 0;
+			for (int worker = 0; worker < numberOfThreads; worker++) {
+				long extraGame = worker < numberOfGames % numberOfThreads ? 1 : 0;
+				long games = numberOfGames / numberOfThreads + extraGame;
+				long workerFirstGame = firstGame;
+				SplittableRandom workerRandom = seedRandom.split();
+				workers.add(executor.submit(() ->
+						playGames(workerFirstGame, games, workerRandom)));
+				firstGame += games;
+			}
+			TournamentResult result = collect(workers);
+			result.setElapsedNanoseconds(System.nanoTime() - start);
+			return result;
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private TournamentResult collect(List<Future<TournamentResult>> workers) {
+		TournamentResult result =
+				new TournamentResult(numberOfPlayers, strategies.size());
+		try {
+			for (Future<TournamentResult> worker : workers) {
+				result.merge(worker.get());
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Tournament was interrupted", e);
+		} catch (ExecutionException e) {
+			throw new IllegalStateException("Tournament game failed", e.getCause());
+		}
+		return result;
+	}
+
+	private TournamentResult playGames(long firstGame, long numberOfGames,
+			SplittableRandom random) {
+		TournamentResult result =
+				new TournamentResult(numberOfPlayers, strategies.size());
+		RandomProvider randomProvider = RandomProvider.seeded(random.nextLong());
+		DecisionMaker[] strategyDecisionMakers = new DecisionMaker[strategies.size()];
+		for (int strategy = 0; strategy < strategies.size(); strategy++) {
+			strategyDecisionMakers[strategy] =
+					strategies.get(strategy).create(random.split());
+		}
+
+		CardBalanceRecorder recorder = recordingCardBalance
+				? new CardBalanceRecorder(result.cardBalance) : null;
+		DecisionMaker[] seatDecisionMakers = new DecisionMaker[numberOfPlayers];
+		int[] seatStrategies = new int[numberOfPlayers];
+		for (long game = firstGame; game < firstGame + numberOfGames; game++) {
+			for (int seat = 0; seat < numberOfPlayers; seat++) {
+				seatStrategies[seat] = (int) ((seat + game) % strategies.size());
+				seatDecisionMakers[seat] =
+						strategyDecisionMakers[seatStrategies[seat]];
+			}
+			GameEngine engine = GameEngine.createHeadlessGame(seatDecisionMakers,
+					randomProvider.nextGameRandom(), deckProfile);
+			if (recorder != null) {
+				engine.setEventListener(recorder);
+				recorder.countTurnsOf(engine.getTurnManager());
+			}
+			engine.initializeGame();
+			engine.runGameLoop();
+			result.recordGame(engine.getWinningPlayerIndex(), seatStrategies);
+			if (recorder != null) {
+				recorder.finishGame(engine.getPlayerManager(),
+						engine.getWinningPlayerIndex());
+			}
+		}
+		return result;
+	}
+
+	public static void main(String[] args) throws IOException {
+		final long DEFAULT_NUMBER_OF_GAMES = 100_000;
+		final int DEFAULT_NUMBER_OF_PLAYERS = 4;
+		final double CAUTIOUS_PLAY_CHANCE = 0.2;
+		final double AGGRESSIVE_PLAY_CHANCE = 0.8;
+		final double PERCENT = 100.0;
+		final double NANOSECONDS_PER_SECOND = 1e9;
+		final int SEED_ARGUMENT = 3;
+		final int STRATEGIES_ARGUMENT = 4;
+		final int CARD_BALANCE_ARGUMENT = 5;
+		long numberOfGames = args.length > 0
+				? Long.parseLong(args[0]) : DEFAULT_NUMBER_OF_GAMES;
+		int numberOfPlayers = args.length > 1
+				? Integer.parseInt(args[1]) : DEFAULT_NUMBER_OF_PLAYERS;
+		int numberOfThreads = args.length > 2 ? Integer.parseInt(args[2])
+				: Runtime.getRuntime().availableProcessors();
+		long seed = args.length > SEED_ARGUMENT
+				? Long.parseLong(args[SEED_ARGUMENT]) : System.nanoTime();
+
+		TournamentRunner runner =
+				new TournamentRunner(numberOfPlayers, numberOfThreads);
+		if (args.length > STRATEGIES_ARGUMENT) {
+			for (String name : args[STRATEGIES_ARGUMENT].split(",")) {
+				runner.addStrategy(PlayerStrategy.forName(name.trim()));
+			}
+		} else {
+			for (PlayerStrategy strategy : PlayerStrategy.builtIn()) {
+				runner.addStrategy(strategy);
+			}
+			runner.addStrategy("cautious",
+					random -> new RandomDecisionMaker(random,
+							CAUTIOUS_PLAY_CHANCE));
+			runner.addStrategy("aggressive",
+					random -> new RandomDecisionMaker(random,
+							AGGRESSIVE_PLAY_CHANCE));
+		}
+		boolean recordingCardBalance = args.length > CARD_BALANCE_ARGUMENT;
+		runner.setRecordingCardBalance(recordingCardBalance);
+		TournamentResult result = runner.run(numberOfGames, seed);
+
+		LocaleManager localeManager = new LocaleManager();
+		double seconds = result.getElapsedNanoseconds() / NANOSECONDS_PER_SECOND;
+		System.out.println(String.format(localeManager.get("tournament.summary"),
+				result.getGamesPlayed(), numberOfThreads, seconds,
+				result.getGamesPlayed() / seconds));
+		for (int seat = 0; seat < numberOfPlayers; seat++) {
+			System.out.println(String.format(localeManager.get("tournament.seat"),
+					seat, result.getWinRateForSeat(seat) * PERCENT));
+		}
+		List<String> names = runner.getStrategyNames();
+		for (int strategy = 0; strategy < names.size(); strategy++) {
+			System.out.println(String.format(localeManager.get("tournament.strategy"),
+					names.get(strategy),
+					result.getWinRateForStrategy(strategy) * PERCENT));
+		}
+		if (recordingCardBalance) {
+			Path cardBalanceFile = Path.of(args[CARD_BALANCE_ARGUMENT]);
+			CardBalanceStats cardBalance = result.getCardBalance();
+			writeCardBalance(cardBalance, cardBalanceFile);
+			String summary = localeManager.get("tournament.card.balance");
+			System.out.println(String.format(summary,
+					cardBalance.getAverageGameLength(),
+					cardBalance.getAverageEliminationTurn(),
+					cardBalanceFile));
+		}
+	}
+
+	private static void writeCardBalance(CardBalanceStats cardBalance, Path file)
+			throws IOException {
+		try (Writer out = Files.newBufferedWriter(file)) {
+			if (file.toString().endsWith(".json")) {
+				cardBalance.writeJson(out);
+			} else {
+				cardBalance.writeCsv(out);
+			}
+		}
+	}
+}
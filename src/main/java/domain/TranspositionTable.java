@@ -0,0 +1,74 @@
+package domain;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public final class TranspositionTable {
+	static final int PRIORITY_SHIFT = 56;
+	static final long DATA_MASK = (1L << PRIORITY_SHIFT) - 1;
+
+	private static final int MAX_LOG2_ENTRIES = 26;
+	private static final int HALF_LONG_BITS = 32;
+	private static final int LONGS_PER_BUCKET = 4;
+	private static final int MAX_PRIORITY = 0xFF;
+
+	private final AtomicLongArray slots;
+	private final int mask;
+
+	public TranspositionTable(int log2Entries) {
+		if (log2Entries < 1 || log2Entries > MAX_LOG2_ENTRIES) {
+			throw new IllegalArgumentException(
+					"Table size must be between 2^1 and 2^" + MAX_LOG2_ENTRIES);
+		}
+		this.slots = new AtomicLongArray(2 << log2Entries);
+		this.mask = (1 << (log2Entries - 1)) - 1;
+	}
+
+	public int getNumberOfEntries() {
+		return slots.length() / 2;
+	}
+
+	public void clear() {
+		for (int i = 0; i < slots.length(); i++) {
+			slots.setOpaque(i, 0);
+		}
+	}
+
+	long probe(long key) {
+		int bucket = bucketOf(key);
+		long data = read(bucket, key);
+		if (data == 0) {
+			data = read(bucket + 2, key);
+		}
+		return data & DATA_MASK;
+	}
+
+	void store(long key, long data, int priority) {
+		long entry = (long) Math.min(priority, MAX_PRIORITY) << PRIORITY_SHIFT
+				| data & DATA_MASK;
+		int bucket = bucketOf(key);
+		long kept = slots.getOpaque(bucket + 1);
+		long keptKey = slots.getOpaque(bucket) ^ kept;
+		if (keptKey == key) {
+			write(bucket, key, entry);
+		} else if (entry >>> PRIORITY_SHIFT >= kept >>> PRIORITY_SHIFT) {
+			write(bucket + 2, keptKey, kept);
+			write(bucket, key, entry);
+		} else {
+			write(bucket + 2, key, entry);
+		}
+	}
+
+	private void write(int slot, long key, long entry) {
+		slots.setOpaque(slot, key ^ entry);
+		slots.setOpaque(slot + 1, entry);
+	}
+
+	private long read(int slot, long key) {
+		long entry = slots.getOpaque(slot + 1);
+		return (slots.getOpaque(slot) ^ entry) == key ? entry : 0;
+	}
+
+	private int bucketOf(long key) {
+		return ((int) (key ^ (key >>> HALF_LONG_BITS)) & mask) * LONGS_PER_BUCKET;
+	}
+}
@@ -7,6 +7,7 @@ public class TurnManager {
 	private int currentPlayerTurnsTaken;
 	private int requiredTurns;
 	private Player currentPlayer;
+	private int turnsEnded;
 
 	public TurnManager() {
 		this.turnQueue = new LinkedList<>();
@@ -63,6 +64,7 @@ public class TurnManager {
 		Player current = turnQueue.poll();
 		turnQueue.offer(current);
 		this.currentPlayer = turnQueue.peek();
+		countTurnEnded();
 	}
 
 	public void syncWith(List<Player> activePlayers) {
@@ -76,6 +78,52 @@ public class TurnManager {
 		this.currentPlayer = this.turnQueue.peek();
 	}
 
+	public void removeEliminatedCurrentPlayer() {
+		Player eliminated = getCurrentActivePlayer();
+		BitSet remainingSeats = new BitSet();
+		Player[] playersBySeat = new Player[turnQueue.size()];
+		for (Player player : turnQueue) {
+			if (player != eliminated) {
+				if (player.id >= playersBySeat.length) {
+					playersBySeat = Arrays.copyOf(playersBySeat, player.id + 1);
+				}
+				playersBySeat[player.id] = player;
+				remainingSeats.set(player.id);
+			}
+		}
+		if (remainingSeats.isEmpty()) {
+			throw new IllegalStateException("Cannot remove the last player");
+		}
+		List<Player> remaining = new ArrayList<>(remainingSeats.cardinality());
+		for (int seat = remainingSeats.nextSetBit(0); seat >= 0;
+				seat = remainingSeats.nextSetBit(seat + 1)) {
+			remaining.add(playersBySeat[seat]);
+		}
+		syncWith(remaining);
+		countTurnEnded();
+	}
+
+	int getTurnsEnded() {
+		return turnsEnded;
+	}
+
+	void countTurnEnded() {
+		turnsEnded++;
+	}
+
+	void checkTurnOrder(List<Player> turnOrder) {
+		if (turnOrder.isEmpty()) {
+			throw new IllegalArgumentException("No players provided");
+		}
+	}
+
+	void restoreTurnOrder(List<Player> turnOrder) {
+		checkTurnOrder(turnOrder);
+		this.turnQueue.clear();
+		this.turnQueue.addAll(turnOrder);
+		this.currentPlayer = this.turnQueue.peek();
+	}
+
 	public void addTurnForCurrentPlayer() {
 		if (currentPlayer == null) {
 			throw new IllegalStateException("TurnManager not initialized");
@@ -113,6 +161,7 @@ public class TurnManager {
 		List<Player> players = new ArrayList<>(turnQueue);
 		Collections.reverse(players);
 		syncWith(players);
+		countTurnEnded();
 	}
 
 	public void incrementTurnsTaken() {
@@ -121,6 +170,8 @@ public class TurnManager {
 			advanceToNextPlayer();
 			requiredTurns = 1;
 			currentPlayerTurnsTaken = 0;
+		} else {
+			countTurnEnded();
 		}
 	}
 
@@ -1,13 +1,23 @@
 package locale;
 
+import domain.CardType;
+
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class LocaleManager {
-	private ResourceBundle messages;
+	private static final Map<Locale, LocaleMessages> MESSAGES_BY_LOCALE =
+			new ConcurrentHashMap<>();
+	private static final Locale[] SUPPORTED_LOCALES = {
+		new Locale("en"),
+		new Locale("en", "US")
+	};
+
+	private LocaleMessages messages;
 
 	public LocaleManager() {
 		Locale selectedLocale = new Locale("en");
-		messages = ResourceBundle.getBundle("messages", selectedLocale);
+		messages = messagesFor(selectedLocale);
 	}
 
 	public void chooseLocale(int choice) {
@@ -20,10 +30,80 @@ public class LocaleManager {
 				selectedLocale = new Locale("en");
 				break;
 		};
-		messages = ResourceBundle.getBundle("messages", selectedLocale);
+		messages = messagesFor(selectedLocale);
 	}
 
 	public String get(String key) {
-		return messages.getString(key);
+		return messages.get(key);
+	}
+
+	public String getCardName(CardType cardType) {
+		return messages.cardNames.get(cardType);
+	}
+
+	public String getCardEffect(CardType cardType) {
+		return messages.cardEffects.get(cardType);
+	}
+
+	public MessageTemplate getTemplate(String key) {
+		return messages.templates.computeIfAbsent(key,
+				templateKey -> MessageTemplate.compile(get(templateKey)));
+	}
+
+	public String format(String key, Object... args) {
+		return getTemplate(key).format(args);
+	}
+
+	public static Set<String> getAllCardNames(CardType cardType) {
+		Set<String> names = new LinkedHashSet<>();
+		for (Locale locale : SUPPORTED_LOCALES) {
+			String name = messagesFor(locale).cardNames.get(cardType);
+			if (!name.isEmpty()) {
+				names.add(name);
+			}
+		}
+		return names;
+	}
+
+	private static LocaleMessages messagesFor(Locale locale) {
+		return MESSAGES_BY_LOCALE.computeIfAbsent(locale, LocaleMessages::new);
+	}
+
+	private static final class LocaleMessages {
+		private static final String BUNDLE_NAME = "messages";
+
+		private final Map<String, String> messages;
+		private final Map<CardType, String> cardNames;
+		private final Map<CardType, String> cardEffects;
+		private final Map<String, MessageTemplate> templates;
+
+		LocaleMessages(Locale locale) {
+			ResourceBundle bundle = ResourceBundle.getBundle(BUNDLE_NAME, locale);
+			this.messages = new HashMap<>();
+			for (String key : bundle.keySet()) {
+				messages.put(key, bundle.getString(key));
+			}
+			this.cardNames = cardTable("card.name.");
+			this.cardEffects = cardTable("card.effect.");
+			this.templates = new ConcurrentHashMap<>();
+		}
+
+		String get(String key) {
+			String message = messages.get(key);
+			if (message == null) {
+				throw new MissingResourceException("Can't find resource for bundle "
+						+ BUNDLE_NAME + ", key " + key, BUNDLE_NAME, key);
+			}
+			return message;
+		}
+
+		private Map<CardType, String> cardTable(String keyPrefix) {
+			Map<CardType, String> table = new EnumMap<>(CardType.class);
+			for (CardType cardType : CardType.values()) {
+				String key = keyPrefix + cardType.name().toLowerCase(Locale.ROOT);
+				table.put(cardType, messages.getOrDefault(key, ""));
+			}
+			return table;
+		}
 	}
 }
@@ -0,0 +1,83 @@
+package locale;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.MissingFormatArgumentException;
+import java.util.Objects;
+
+public final class MessageTemplate {
+	private static final char NO_ARGUMENT = 0;
+
+	private final String pattern;
+	private final String[] literals;
+	private final char[] conversions;
+	private final boolean compiled;
+
+	private MessageTemplate(String pattern, String[] literals,
+			char[] conversions, boolean compiled) {
+		this.pattern = pattern;
+		this.literals = literals;
+		this.conversions = conversions;
+		this.compiled = compiled;
+	}
+
+	public static MessageTemplate compile(String pattern) {
+		Objects.requireNonNull(pattern, "Pattern cannot be null");
+		List<String> literals = new ArrayList<>();
+		StringBuilder literal = new StringBuilder();
+		StringBuilder conversions = new StringBuilder();
+		for (int i = 0; i < pattern.length(); i++) {
+			char current = pattern.charAt(i);
+			if (current != '%') {
+				literal.append(current);
+				continue;
+			}
+			char conversion = i + 1 < pattern.length()
+					? pattern.charAt(i + 1) : NO_ARGUMENT;
+			i++;
+			if (conversion == 's' || conversion == 'd') {
+				literals.add(literal.toString());
+				literal.setLength(0);
+				conversions.append(conversion);
+			} else if (conversion == 'n') {
+				literal.append(System.lineSeparator());
+			} else if (conversion == '%') {
+				literal.append('%');
+			} else {
+				return new MessageTemplate(pattern, null, null, false);
+			}
+		}
+		literals.add(literal.toString());
+		return new MessageTemplate(pattern, literals.toArray(new String[0]),
+				conversions.toString().toCharArray(), true);
+	}
+
+	public String getPattern() {
+		return pattern;
+	}
+
+	public int getArgumentCount() {
+		return compiled ? conversions.length : -1;
+	}
+
+	public void formatTo(StringBuilder out, Object... args) {
+		if (!compiled) {
+			out.append(String.format(pattern, args));
+			return;
+		}
+		if (args.length < conversions.length) {
+			throw new MissingFormatArgumentException(
+					"%" + conversions[args.length]);
+		}
+		for (int i = 0; i < conversions.length; i++) {
+			out.append(literals[i]).append(args[i]);
+		}
+		out.append(literals[conversions.length]);
+	}
+
+	public String format(Object... args) {
+		StringBuilder out = new StringBuilder(pattern.length());
+		formatTo(out, args);
+		return out.toString();
+	}
+}
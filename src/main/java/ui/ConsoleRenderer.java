@@ -0,0 +1,121 @@
+package ui;
+
+import locale.MessageTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+public class ConsoleRenderer {
+	private static final int INITIAL_FRAME_CAPACITY = 2048;
+	private static final int BUFFER_SIZE = 65_536;
+
+	public enum FlushPolicy {
+		EVERY_WRITE,
+		EVERY_FRAME,
+		WHEN_FULL
+	}
+
+	private final StringBuilder frame;
+	private final Writer sink;
+	private final FlushPolicy flushPolicy;
+
+	public ConsoleRenderer() {
+		this(null, FlushPolicy.EVERY_WRITE);
+	}
+
+	private ConsoleRenderer(Writer sink, FlushPolicy flushPolicy) {
+		this.frame = new StringBuilder(INITIAL_FRAME_CAPACITY);
+		this.sink = sink;
+		this.flushPolicy = flushPolicy;
+	}
+
+	public static ConsoleRenderer buffered(OutputStream out, FlushPolicy flushPolicy) {
+		Objects.requireNonNull(out, "OutputStream cannot be null");
+		Objects.requireNonNull(flushPolicy, "FlushPolicy cannot be null");
+		Writer writer = new BufferedWriter(
+				new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+		return new ConsoleRenderer(writer, flushPolicy);
+	}
+
+	public static ConsoleRenderer nullRenderer() {
+		return new ConsoleRenderer(Writer.nullWriter(), FlushPolicy.WHEN_FULL);
+	}
+
+	public FlushPolicy getFlushPolicy() {
+		return flushPolicy;
+	}
+
+	public void print(String text) {
+		frame.append(text);
+		if (flushPolicy == FlushPolicy.EVERY_WRITE) {
+			endFrame();
+		}
+	}
+
+	public void println(String text) {
+		frame.append(text).append(System.lineSeparator());
+		if (flushPolicy == FlushPolicy.EVERY_WRITE) {
+			endFrame();
+		}
+	}
+
+	public void println() {
+		println("");
+	}
+
+	public void printf(String format, Object... args) {
+		print(String.format(format, args));
+	}
+
+	public void printf(MessageTemplate template, Object... args) {
+		template.formatTo(frame, args);
+		if (flushPolicy == FlushPolicy.EVERY_WRITE) {
+			endFrame();
+		}
+	}
+
+	public void printlnError(String text) {
+		flush();
+		System.err.println(text);
+	}
+
+	public void endFrame() {
+		if (frame.length() == 0) {
+			return;
+		}
+		if (sink == null) {
+			System.out.print(frame);
+			frame.setLength(0);
+			return;
+		}
+		try {
+			sink.append(frame);
+			if (flushPolicy != FlushPolicy.WHEN_FULL) {
+				sink.flush();
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} finally {
+			frame.setLength(0);
+		}
+	}
+
+	public void flush() {
+		endFrame();
+		if (sink == null) {
+			System.out.flush();
+			return;
+		}
+		try {
+			sink.flush();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
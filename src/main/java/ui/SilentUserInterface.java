@@ -0,0 +1,139 @@
+package ui;
+
+import domain.Card;
+import domain.CardType;
+import domain.LobbyMode;
+import domain.Player;
+
+import java.util.List;
+
+public class SilentUserInterface extends UserInterface {
+	private static final String NO_CONSOLE_INPUT =
+			"Silent user interface has no console input";
+
+	public SilentUserInterface() {
+		super(null, null, ConsoleRenderer.nullRenderer());
+	}
+
+	@Override
+	public void displayWelcome() {
+	}
+
+	@Override
+	public void displayHelp() {
+	}
+
+	@Override
+	public void displayError(String message) {
+	}
+
+	@Override
+	public void displaySuccess(String message) {
+	}
+
+	@Override
+	public void displayWarning(String message) {
+	}
+
+	@Override
+	public String getUserInput() {
+		throw new IllegalStateException(NO_CONSOLE_INPUT);
+	}
+
+	@Override
+	public int getNumberOfPlayers() {
+		throw new IllegalStateException(NO_CONSOLE_INPUT);
+	}
+
+	@Override
+	public int getNumberOfPlayers(LobbyMode lobbyMode) {
+		throw new IllegalStateException(NO_CONSOLE_INPUT);
+	}
+
+	@Override
+	public void displayPlayerHand(Player player) {
+	}
+
+	@Override
+	public void displayInstructions() {
+	}
+
+	@Override
+	public void displayCardPlayed(Card card) {
+	}
+
+	@Override
+	public void displayDrawnCard(Card card) {
+	}
+
+	@Override
+	public void displayCardEffect(CardType cardType) {
+	}
+
+	@Override
+	public String formatCardName(CardType cardType) {
+		return cardType.name();
+	}
+
+	@Override
+	public void displayTurnStart(int playerNumber, int totalPlayers) {
+	}
+
+	@Override
+	public void displayDeckEmpty() {
+	}
+
+	@Override
+	public void displayDefuseUsed() {
+	}
+
+	@Override
+	public void displayPlayerEliminated() {
+	}
+
+	@Override
+	public void displayGameEnd(boolean isThereGameWinner) {
+	}
+
+	@Override
+	public String getUserInput(String message) {
+		throw new IllegalStateException(NO_CONSOLE_INPUT);
+	}
+
+	@Override
+	public int getNumericUserInput(String message, int min, int max) {
+		throw new IllegalStateException(NO_CONSOLE_INPUT);
+	}
+
+	@Override
+	public void displayCardsFromDeck(List<Card> cards, int deckSize) {
+	}
+
+	@Override
+	public String getRearrangePrompt(int position, int minIndex, int maxIndex) {
+		return "";
+	}
+
+	@Override
+	public String getPlayerIndexPrompt(int maxPlayerIndex) {
+		return "";
+	}
+
+	@Override
+	public String getCardTransferPrompt() {
+		return "";
+	}
+
+	@Override
+	public void displayPlayerChangeMessage(int newPlayerIndex) {
+	}
+
+	@Override
+	public String getBuryCardPrompt(int deckSize) {
+		return "";
+	}
+
+	@Override
+	public void displayDefusePlayError() {
+	}
+}
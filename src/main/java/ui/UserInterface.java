@@ -4,76 +4,107 @@ package ui;
 import domain.CardType;
 import domain.Player;
 import domain.Card;
+import domain.GameEventListener;
+import domain.LobbyMode;
 import locale.LocaleManager;
+import locale.MessageTemplate;
 
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Objects;
 import java.util.Scanner;
+import java.util.function.Supplier;
 
 public class UserInterface {
 	private final Scanner scanner;
+	private static final CardType[] CARD_TYPES = CardType.values();
+	private static final String[] CARD_TYPE_NAMES = createCardTypeNames();
+	private static final MessageTemplate SINGLE_CARD_ENTRY =
+			MessageTemplate.compile("	 %s (%s: %s)%n");
+	private static final MessageTemplate MULTIPLE_CARD_ENTRY =
+			MessageTemplate.compile("	 %s x%d (%s: %s)%n");
 	private static final int MAX_NUMBER_OF_PLAYERS = 5;
 	private static final int MIN_NUMBER_OF_PLAYERS = 2;
 	private LocaleManager localeManager;
+	private final ConsoleRenderer renderer;
+	private GameEventListener eventListener;
 
 	public UserInterface(LocaleManager localeManager) {
-		this.scanner = new Scanner(System.in, StandardCharsets.UTF_8);
+		this(localeManager, new ConsoleRenderer());
+	}
+
+	public UserInterface(LocaleManager localeManager, ConsoleRenderer renderer) {
+		this(localeManager, new Scanner(System.in, StandardCharsets.UTF_8), renderer);
+	}
+
+	protected UserInterface(LocaleManager localeManager, Scanner scanner) {
+		this(localeManager, scanner, new ConsoleRenderer());
+	}
+
+	protected UserInterface(LocaleManager localeManager, Scanner scanner,
+			ConsoleRenderer renderer) {
+		this.scanner = scanner;
 		this.localeManager = localeManager;
+		this.renderer = Objects.requireNonNull(renderer,
+				"ConsoleRenderer cannot be null");
+	}
+
+	public ConsoleRenderer getRenderer() {
+		return renderer;
 	}
 
 	public void displayWelcome() {
 		final String border = "=================================";
-		System.out.println(border);
-		System.out.println(getMessage("exploding.kittens"));
-		System.out.println(border + "\n");
+		renderer.println(border);
+		renderer.println(getMessage("exploding.kittens"));
+		renderer.println(border + "\n");
 	}
 
 	public void displayHelp() {
-		System.out.println();
-		System.out.println(getMessage("commands.available"));
-		System.out.println(getMessage("command.play"));
-		System.out.println(getMessage("command.draw"));
-		System.out.println(getMessage("command.hand"));
-		System.out.println(getMessage("command.status"));
-		System.out.println(getMessage("command.help"));
-		System.out.println(getMessage("command.quit"));
-		System.out.println();
+		renderer.println();
+		renderer.println(getMessage("commands.available"));
+		renderer.println(getMessage("command.play"));
+		renderer.println(getMessage("command.draw"));
+		renderer.println(getMessage("command.hand"));
+		renderer.println(getMessage("command.status"));
+		renderer.println(getMessage("command.help"));
+		renderer.println(getMessage("command.quit"));
+		renderer.println();
 	}
 
 	public void displayError(String message) {
-		System.err.println(getMessage("error") + message);
+		renderer.printlnError(getMessage("error") + message);
 	}
 
 	public void displaySuccess(String message) {
-		System.out.println(getMessage("success") + message);
+		renderer.println(getMessage("success") + message);
 	}
 
 	public void displayWarning(String message) {
-		System.err.println(getMessage("warning") + message);
+		renderer.printlnError(getMessage("warning") + message);
 	}
 
 	public String getUserInput() {
-		System.out.print("> ");
+		renderer.print("> ");
+		renderer.endFrame();
 		return scanner.nextLine();
 	}
 
 	public int getNumberOfPlayers() {
-		while (true) {
-			System.out.print(getMessage("how.many.players"));
-			String input = scanner.nextLine();
-			try {
-				int numberOfPlayers = Integer.parseInt(input);
-				if (numberOfPlayers >= MIN_NUMBER_OF_PLAYERS &&
-						numberOfPlayers <= MAX_NUMBER_OF_PLAYERS) {
-					return numberOfPlayers;
-				} else {
-					displayError(getMessage("error.players.number"));
-				}
-			} catch (NumberFormatException ignored) {
-				displayError(getMessage("error.players.number"));
-			}
-		}
+		return readNumberOfPlayers(() -> getMessage("how.many.players"),
+				() -> getMessage("error.players.number"),
+				MIN_NUMBER_OF_PLAYERS, MAX_NUMBER_OF_PLAYERS);
+	}
 
+	public int getNumberOfPlayers(LobbyMode lobbyMode) {
+		int minPlayers = lobbyMode.getMinPlayers();
+		int maxPlayers = lobbyMode.getMaxPlayers();
+		return readNumberOfPlayers(
+				() -> String.format(getMessage("how.many.players.range"),
+						minPlayers, maxPlayers),
+				() -> String.format(getMessage("error.players.range"),
+						minPlayers, maxPlayers),
+				minPlayers, maxPlayers);
 	}
 
 	public void displayPlayerHand(Player player) {
@@ -81,30 +112,29 @@ public class UserInterface {
 
 		final int NUMBER_OF_DASHES = 40;
 		final int NO_CARDS = 0;
-		System.out.println("\n" + "─".repeat(NUMBER_OF_DASHES));
-		System.out.println(getMessage("hand.title") +
+		renderer.println("\n" + "─".repeat(NUMBER_OF_DASHES));
+		renderer.println(getMessage("hand.title") +
 				" (" + total + " " +
 				getMessage("hand.cards") + "):");
-		System.out.println("─".repeat(NUMBER_OF_DASHES));
+		renderer.println("─".repeat(NUMBER_OF_DASHES));
 
 		if (total == NO_CARDS) {
-			System.out.println("  " + getMessage("hand.empty"));
+			renderer.println("  " + getMessage("hand.empty"));
 		} else {
-			for (CardType type : CardType.values()) {
+			for (CardType type : CARD_TYPES) {
 				Integer countInteger = player.getCardTypeCount(type);
 				int count = (countInteger != null) ? countInteger : 0;
 
 				if (count > 0) {
 					String cardDisplay = formatCardName(type);
-					String typeName = type.name().toLowerCase()
-							.replace("_", " ");
+					String typeName = CARD_TYPE_NAMES[type.ordinal()];
 					if (count == 1) {
-						System.out.printf("	 %s (%s: %s)%n",
+						renderer.printf(SINGLE_CARD_ENTRY,
 								cardDisplay,
 								getMessage("hand.type"),
 								typeName);
 					} else {
-						System.out.printf("	 %s x%d (%s: %s)%n",
+						renderer.printf(MULTIPLE_CARD_ENTRY,
 								cardDisplay,
 								count,
 								getMessage("hand.type"),
@@ -114,55 +144,54 @@ public class UserInterface {
 			}
 		}
 
-		System.out.println("─".repeat(NUMBER_OF_DASHES));
+		renderer.println("─".repeat(NUMBER_OF_DASHES));
 	}
 
 	public void displayInstructions() {
 		final int NUMBER_OF_DASHES = 40;
-		System.out.println(getMessage("hand.usage"));
-		System.out.println("─".repeat(NUMBER_OF_DASHES) + "\n");
+		renderer.println(getMessage("hand.usage"));
+		renderer.println("─".repeat(NUMBER_OF_DASHES) + "\n");
 	}
 
 
 	public void displayCardPlayed(Card card) {
-		System.out.println(getMessage("card.played")
+		renderer.println(getMessage("card.played")
 				+ formatCardName(card.getCardType())
 				+ "\n");
 		displayCardEffect(card.getCardType());
-		System.out.println();
+		renderer.println();
 	}
 
 	public void displayDrawnCard(Card card) {
 		if (card.getCardType() == CardType.EXPLODING_KITTEN) {
-			System.out.println(
+			renderer.println(
 					getMessage("card.drawn.exploding") +
 					formatCardName(card.getCardType()));
 		}
 
-		System.out.println(getMessage("card.drawn") +
+		renderer.println(getMessage("card.drawn") +
 				formatCardName(card.getCardType()));
-		System.out.println();
+		renderer.println();
 	}
 
 	public void displayCardEffect(CardType cardType) {
-		String key = "card.effect." + cardType.name().toLowerCase();
-		String effect = getMessage(key);
+		String effect = localeManager.getCardEffect(cardType);
 		if (!effect.isBlank()) {
-			System.out.println("   " + effect);
+			renderer.println("   " + effect);
 		}
 	}
 
 	public String formatCardName(CardType cardType) {
-		String key = "card.name." + cardType.name().toLowerCase();
-		if (getMessage(key).isBlank()) {
+		String cardName = localeManager.getCardName(cardType);
+		if (cardName.isBlank()) {
 			return cardType.toString();
-		};
-		return getMessage(key);
+		}
+		return cardName;
 	}
 
 	public void displayTurnStart(int playerNumber, int totalPlayers) {
 		String message = getMessage("turn.start");
-		System.out.println("\n" +
+		renderer.println("\n" +
 				String.format(message, playerNumber, playerNumber, totalPlayers));
 	}
 
@@ -171,39 +200,47 @@ public class UserInterface {
 	}
 
 	public void displayDefuseUsed() {
-		System.out.println(getMessage("card.defuse.used"));
-		System.out.println(getMessage("card.defuse.place.kitten"));
+		renderer.println(getMessage("card.defuse.used"));
+		renderer.println(getMessage("card.defuse.place.kitten"));
 	}
 
 
 	public void displayPlayerEliminated() {
-		System.out.println(getMessage("player.eliminated"));
-		System.out.println(getMessage("better.luck.wishes"));
+		renderer.println(getMessage("player.eliminated"));
+		renderer.println(getMessage("better.luck.wishes"));
 	}
 
 	public void displayGameEnd(boolean isThereGameWinner) {
 		final int NUMBER_OF_EQUAL_SIGNS = 50;
-		System.out.println("\n" + "=".repeat(NUMBER_OF_EQUAL_SIGNS));
+		renderer.println("\n" + "=".repeat(NUMBER_OF_EQUAL_SIGNS));
 		if (isThereGameWinner) {
-			System.out.println(getMessage("game.win"));
-			System.out.println(getMessage("game.win.survive.exploding"));
+			renderer.println(getMessage("game.win"));
+			renderer.println(getMessage("game.win.survive.exploding"));
 		} else {
-			System.out.println(getMessage("game.lose"));
-			System.out.println(getMessage("game.lose.exploded"));
+			renderer.println(getMessage("game.lose"));
+			renderer.println(getMessage("game.lose.exploded"));
 
 		}
 
-		System.out.println("=".repeat(NUMBER_OF_EQUAL_SIGNS));
-		System.out.println(getMessage("game.quit.thanks"));
-		System.out.println("=".repeat(NUMBER_OF_EQUAL_SIGNS) + "\n");
+		renderer.println("=".repeat(NUMBER_OF_EQUAL_SIGNS));
+		renderer.println(getMessage("game.quit.thanks"));
+		renderer.println("=".repeat(NUMBER_OF_EQUAL_SIGNS) + "\n");
+	}
+
+	public void recordInputs(GameEventListener eventListener) {
+		this.eventListener = eventListener;
 	}
 
 	public String getUserInput(String message) {
 		while (true) {
-			System.out.println(message);
-			System.out.print("> ");
+			renderer.println(message);
+			renderer.print("> ");
+			renderer.endFrame();
 			String input = scanner.nextLine();
 			if (!input.isEmpty()) {
+				if (eventListener != null) {
+					eventListener.onTextInput(input);
+				}
 				return input;
 			}
 		}
@@ -211,8 +248,9 @@ public class UserInterface {
 
 	public int getNumericUserInput(String message, int min, int max) {
 		while (true) {
-			System.out.println(message);
-			System.out.print("> ");
+			renderer.println(message);
+			renderer.print("> ");
+			renderer.endFrame();
 			String input = scanner.nextLine();
 			String errorMessage = String.format(
 					getMessage("error.limit.number"), min, max
@@ -222,6 +260,9 @@ public class UserInterface {
 				if (inputInt < min || inputInt > max) {
 					displayError(errorMessage);
 				} else {
+					if (eventListener != null) {
+						eventListener.onNumericChoice(inputInt);
+					}
 					return inputInt;
 				}
 			} catch (NumberFormatException e) {
@@ -239,15 +280,15 @@ public class UserInterface {
 					"deckSize is less than number of cards to display");
 		}
 		if (cards.isEmpty()) {
-			System.out.println(getMessage("no.cards.view"));
+			renderer.println(getMessage("no.cards.view"));
 			return;
 		}
-		System.out.println("\n" + getMessage("deck.view.top"));
+		renderer.println("\n" + getMessage("deck.view.top"));
 		for (int i = 0; i < cards.size(); i++) {
 			Card card = cards.get(i);
 			CardType cardTypeToDisplay = card.getCardType();
 			int index = deckSize - i - 1;
-			System.out.println(String.format(
+			renderer.println(String.format(
 					getMessage("deck.view.entry"),
 					formatCardName(cardTypeToDisplay), index));
 		}
@@ -270,7 +311,7 @@ public class UserInterface {
 	public void displayPlayerChangeMessage(int newPlayerIndex) {
 		String format = localeManager.get("player.change.message");
 		String message = String.format(format, newPlayerIndex);
-		System.out.println(message);
+		renderer.println(message);
 	}
 
 	public String getBuryCardPrompt(int deckSize) {
@@ -279,7 +320,36 @@ public class UserInterface {
 	}
 
 	public void displayDefusePlayError() {
-		System.out.println(getMessage("defuse.play.error"));
+		renderer.println(getMessage("defuse.play.error"));
+	}
+
+	private int readNumberOfPlayers(Supplier<String> prompt,
+			Supplier<String> error, int minPlayers, int maxPlayers) {
+		while (true) {
+			renderer.print(prompt.get());
+			renderer.endFrame();
+			String input = scanner.nextLine();
+			try {
+				int numberOfPlayers = Integer.parseInt(input);
+				if (numberOfPlayers >= minPlayers &&
+						numberOfPlayers <= maxPlayers) {
+					return numberOfPlayers;
+				} else {
+					displayError(error.get());
+				}
+			} catch (NumberFormatException ignored) {
+				displayError(error.get());
+			}
+		}
+	}
+
+	private static String[] createCardTypeNames() {
+		String[] cardTypeNames = new String[CARD_TYPES.length];
+		for (CardType type : CARD_TYPES) {
+			cardTypeNames[type.ordinal()] = type.name().toLowerCase()
+					.replace("_", " ");
+		}
+		return cardTypeNames;
 	}
 
 	private String getMessage(String key) {
@@ -0,0 +1,155 @@
+package domain;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BenchmarkSmokeTest {
+	private static final String BLACKHOLE_CHALLENGE = "Today's password is swordfish."
+			+ " I understand instantiating Blackholes directly is dangerous.";
+
+	@ParameterizedTest
+	@ValueSource(classes = {CommandParserBenchmark.class, DeckBenchmark.class,
+		EndgameSolverBenchmark.class, HandBenchmark.class, IsmctsBenchmark.class,
+		RenderBenchmark.class, ReplayBenchmark.class, SnapshotBenchmark.class,
+		StateMachineBenchmark.class, StrategyBenchmark.class,
+		TurnManagerBenchmark.class})
+	public void everyBenchmarkMethod_withEveryParamValue_runsOnce(Class<?> benchmark)
+			throws Exception {
+		List<Method> benchmarkMethods = new ArrayList<>();
+		for (Method method : benchmark.getMethods()) {
+			if (method.isAnnotationPresent(Benchmark.class)) {
+				benchmarkMethods.add(method);
+			}
+		}
+		benchmarkMethods.sort(Comparator.comparing(Method::getName));
+		assertFalse(benchmarkMethods.isEmpty());
+
+		for (Method method : benchmarkMethods) {
+			for (Map<Field, String> params : paramVariants(benchmark, method)) {
+				runOnce(method, params);
+			}
+		}
+	}
+
+	private static void runOnce(Method method, Map<Field, String> params)
+			throws Exception {
+		Map<Class<?>, Object> states = new LinkedHashMap<>();
+		Object[] arguments = arguments(method, states, params);
+		Object benchmark = state(method.getDeclaringClass(), states, params);
+		try {
+			method.invoke(benchmark, arguments);
+		} catch (InvocationTargetException e) {
+			throw new AssertionError(method.getDeclaringClass().getSimpleName() + "."
+					+ method.getName() + " failed with " + params.values(),
+					e.getCause());
+		}
+		for (Object state : states.values()) {
+			for (Method tearDown : annotated(state.getClass(), TearDown.class)) {
+				tearDown.invoke(state);
+			}
+		}
+	}
+
+	private static Object state(Class<?> type, Map<Class<?>, Object> states,
+			Map<Field, String> params) throws Exception {
+		Object state = states.get(type);
+		if (state != null) {
+			return state;
+		}
+		state = type.getConstructor().newInstance();
+		for (Field field : type.getFields()) {
+			if (field.isAnnotationPresent(Param.class)) {
+				String value = params.containsKey(field) ? params.get(field)
+						: field.getAnnotation(Param.class).value()[0];
+				field.set(state, convert(field.getType(), value));
+			}
+		}
+		states.put(type, state);
+		List<Method> setups = annotated(type, Setup.class);
+		setups.sort(Comparator.comparing(
+				setup -> setup.getAnnotation(Setup.class).value()));
+		for (Method setup : setups) {
+			setup.invoke(state, arguments(setup, states, params));
+		}
+		return state;
+	}
+
+	private static Object[] arguments(Method method, Map<Class<?>, Object> states,
+			Map<Field, String> params) throws Exception {
+		Class<?>[] types = method.getParameterTypes();
+		Object[] arguments = new Object[types.length];
+		for (int i = 0; i < types.length; i++) {
+			arguments[i] = types[i] == Blackhole.class
+					? new Blackhole(BLACKHOLE_CHALLENGE)
+					: state(types[i], states, params);
+		}
+		return arguments;
+	}
+
+	private static List<Map<Field, String>> paramVariants(Class<?> benchmark,
+			Method method) {
+		List<Class<?>> stateTypes = new ArrayList<>();
+		stateTypes.add(benchmark);
+		stateTypes.addAll(Arrays.asList(method.getParameterTypes()));
+		List<Map<Field, String>> variants = new ArrayList<>();
+		variants.add(Map.of());
+		for (Class<?> type : stateTypes) {
+			for (Field field : type.getFields()) {
+				Param param = field.getAnnotation(Param.class);
+				if (param == null) {
+					continue;
+				}
+				for (String value : Arrays.copyOfRange(param.value(), 1,
+						param.value().length)) {
+					variants.add(Map.of(field, value));
+				}
+			}
+		}
+		return variants;
+	}
+
+	private static List<Method> annotated(Class<?> type,
+			Class<? extends java.lang.annotation.Annotation> annotation) {
+		List<Method> methods = new ArrayList<>();
+		for (Method method : type.getMethods()) {
+			if (method.isAnnotationPresent(annotation)) {
+				methods.add(method);
+			}
+		}
+		return methods;
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static Object convert(Class<?> type, String value) {
+		if (type == int.class) {
+			return Integer.parseInt(value);
+		}
+		if (type == long.class) {
+			return Long.parseLong(value);
+		}
+		if (type == boolean.class) {
+			return Boolean.parseBoolean(value);
+		}
+		if (type.isEnum()) {
+			return Enum.valueOf((Class<? extends Enum>) type, value);
+		}
+		return value;
+	}
+}
@@ -0,0 +1,61 @@
+package domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CardBalanceRecorderTest {
+	private static final double DELTA = 1e-9;
+	private static final int THREE_PLAYERS = 3;
+
+	@Test
+	public void onCardAcquired_cardGivenAwayBeforeGameEnds_stillCountsAsHeld() {
+		CardBalanceStats stats = new CardBalanceStats();
+		CardBalanceRecorder recorder = new CardBalanceRecorder(stats);
+		PlayerManager playerManager = playersWithTurns(recorder);
+		recorder.onGameStarted(0, THREE_PLAYERS, playerManager.getDeck());
+
+		recorder.onCardAcquired(0, CardType.SKIP);
+		recorder.onCardAcquired(1, CardType.SKIP);
+		recorder.onCardPlayed(1, CardType.SKIP);
+		recorder.finishGame(playerManager, 0);
+
+		assertEquals(1, stats.getHeldWinRate(CardType.SKIP), DELTA);
+		assertEquals(0, stats.getPlayedWinRate(CardType.SKIP), DELTA);
+		assertEquals(0, stats.getHeldWinRate(CardType.NUKE), DELTA);
+	}
+
+	@Test
+	public void onPlayerEliminated_recordsTurnNotCommand() {
+		CardBalanceStats stats = new CardBalanceStats();
+		CardBalanceRecorder recorder = new CardBalanceRecorder(stats);
+		PlayerManager playerManager = playersWithTurns(recorder);
+		TurnManager turnManager = playerManager.getTurnManager();
+		recorder.onGameStarted(0, THREE_PLAYERS, playerManager.getDeck());
+
+		recorder.onCommand(0, "hand");
+		recorder.onCommand(0, "status");
+		turnManager.advanceToNextPlayer();
+		recorder.onPlayerEliminated(1);
+		playerManager.removePlayerFromGame(turnManager.getCurrentActivePlayer());
+		turnManager.removeEliminatedCurrentPlayer();
+		recorder.finishGame(playerManager, 0);
+
+		final double eliminationTurn = 2;
+		final double gameLength = 3;
+		assertEquals(eliminationTurn, stats.getAverageEliminationTurn(), DELTA);
+		assertEquals(gameLength, stats.getAverageGameLength(), DELTA);
+	}
+
+	private static PlayerManager playersWithTurns(CardBalanceRecorder recorder) {
+		PlayerManager playerManager = new PlayerManager(new ListDeck(List.of()));
+		playerManager.addPlayers(THREE_PLAYERS);
+		TurnManager turnManager = new CircularTurnManager();
+		turnManager.setPlayerManager(playerManager);
+		playerManager.setTurnManager(turnManager);
+		recorder.countTurnsOf(turnManager);
+		return playerManager;
+	}
+}
@@ -0,0 +1,93 @@
+package domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CardBalanceStatsTest {
+	private static final double DELTA = 1e-9;
+	private static final int FIRST_GAME_LENGTH = 30;
+	private static final int SECOND_GAME_LENGTH = 50;
+	private static final int EARLY_ELIMINATION = 10;
+	private static final int LATE_ELIMINATION = 20;
+
+	@Test
+	public void recordCard_splitsSeatsIntoPlayedAndHeld() {
+		CardBalanceStats stats = new CardBalanceStats();
+		stats.recordCard(CardType.SKIP, 2, true, true);
+		stats.recordCard(CardType.SKIP, 1, false, false);
+		stats.recordCard(CardType.SKIP, 0, true, false);
+		stats.recordCard(CardType.SKIP, 0, false, true);
+
+		final int plays = 3;
+		final double half = 0.5;
+		assertEquals(plays, stats.getPlays(CardType.SKIP));
+		assertEquals(half, stats.getPlayedWinRate(CardType.SKIP), DELTA);
+		assertEquals(0, stats.getHeldWinRate(CardType.SKIP), DELTA);
+		assertEquals(half, stats.getWinRateDelta(CardType.SKIP), DELTA);
+	}
+
+	@Test
+	public void emptyStats_reportZeroes() {
+		CardBalanceStats stats = new CardBalanceStats();
+		assertEquals(0, stats.getGamesPlayed());
+		assertEquals(0, stats.getAverageGameLength(), DELTA);
+		assertEquals(0, stats.getAverageEliminationTurn(), DELTA);
+		assertEquals(0, stats.getWinRateDelta(CardType.NUKE), DELTA);
+	}
+
+	@Test
+	public void merge_addsEveryCounter() {
+		CardBalanceStats first = new CardBalanceStats();
+		first.recordGame(FIRST_GAME_LENGTH);
+		first.recordElimination(EARLY_ELIMINATION);
+		first.recordCard(CardType.ATTACK, 1, false, true);
+		CardBalanceStats second = new CardBalanceStats();
+		second.recordGame(SECOND_GAME_LENGTH);
+		second.recordElimination(LATE_ELIMINATION);
+		second.recordCard(CardType.ATTACK, 0, true, true);
+
+		first.merge(second);
+
+		final double averageLength = 40;
+		final double averageElimination = 15;
+		assertEquals(2, first.getGamesPlayed());
+		assertEquals(averageLength, first.getAverageGameLength(), DELTA);
+		assertEquals(averageElimination, first.getAverageEliminationTurn(), DELTA);
+		assertEquals(1, first.getPlays(CardType.ATTACK));
+		assertEquals(1, first.getHeldWinRate(CardType.ATTACK), DELTA);
+		assertThrows(NullPointerException.class, () -> first.merge(null));
+	}
+
+	@Test
+	public void writeCsv_writesOneRowPerReportedCardType() throws IOException {
+		CardBalanceStats stats = new CardBalanceStats();
+		stats.recordCard(CardType.FAVOR, 1, false, true);
+		StringBuilder out = new StringBuilder();
+
+		stats.writeCsv(out);
+
+		String[] lines = out.toString().split("\n");
+		final int reportedCardTypes = CardType.values().length - 2;
+		assertEquals(reportedCardTypes + 1, lines.length);
+		assertTrue(lines[0].startsWith("card_type,plays,"));
+		assertTrue(out.toString().contains("FAVOR,1,1,1.000000,0,0.000000,1.000000\n"));
+		assertFalse(out.toString().contains("EXPLODING_KITTEN"));
+	}
+
+	@Test
+	public void writeJson_writesGameAndCardFields() throws IOException {
+		CardBalanceStats stats = new CardBalanceStats();
+		stats.recordGame(FIRST_GAME_LENGTH);
+		StringBuilder out = new StringBuilder();
+
+		stats.writeJson(out);
+
+		String json = out.toString();
+		assertTrue(json.startsWith("{\"games\":1,\"averageGameLength\":30.000000,"));
+		assertTrue(json.contains("{\"cardType\":\"NORMAL\",\"plays\":0,"));
+		assertTrue(json.endsWith("]}\n"));
+	}
+}
@@ -1,6 +1,8 @@
 package domain;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -204,4 +206,30 @@ public class CardFactoryTest {
 		List<Card> cards = factory.createCards(CardType.NORMAL, LARGE_BATCH_SIZE);
 		assertEquals(LARGE_BATCH_SIZE, cards.size());
 	}
+
+	@ParameterizedTest
+	@EnumSource(value = CardType.class,
+			names = {"UNKNOWN_CARD_FOR_TEST"}, mode = EnumSource.Mode.EXCLUDE)
+	public void createCard_sameTypeTwice_returnsSameInstance(CardType cardType) {
+		Card first = new CardFactory().createCard(cardType);
+		Card second = new CardFactory().createCard(cardType);
+		assertSame(first, second);
+	}
+
+	@ParameterizedTest
+	@EnumSource(value = CardType.class,
+			names = {"UNKNOWN_CARD_FOR_TEST"}, mode = EnumSource.Mode.EXCLUDE)
+	public void createEffect_calledTwice_returnsSameEffect(CardType cardType) {
+		Card card = new CardFactory().createCard(cardType);
+		assertSame(card.createEffect(), card.createEffect());
+	}
+
+	@Test
+	public void createCards_sharesOneInstancePerType() {
+		CardFactory factory = new CardFactory();
+		List<Card> cards = factory.createCards(CardType.SKIP, FIRST_BATCH_SIZE);
+		for (Card card : cards) {
+			assertSame(factory.createCard(CardType.SKIP), card);
+		}
+	}
 }
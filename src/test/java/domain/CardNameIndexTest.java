@@ -0,0 +1,140 @@
+package domain;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.text.Normalizer;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CardNameIndexTest {
+	@ParameterizedTest
+	@EnumSource(CardType.class)
+	public void resolve_enumName_returnsCardType(CardType cardType) {
+		String name = cardType.name();
+		assertEquals(cardType, CardNameIndex.resolve(name, 0, name.length()));
+	}
+
+	@ParameterizedTest
+	@EnumSource(CardType.class)
+	public void resolve_lowercaseNameWithSpaces_returnsCardType(CardType cardType) {
+		String name = cardType.name().toLowerCase(Locale.ROOT).replace('_', ' ');
+		assertEquals(cardType, CardNameIndex.resolve(name, 0, name.length()));
+	}
+
+	@Test
+	public void resolve_surroundingAndRepeatedWhitespace_returnsCardType() {
+		String input = "\t See \t the   Future ";
+		assertEquals(CardType.SEE_THE_FUTURE,
+				CardNameIndex.resolve(input, 0, input.length()));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"see _the future", "SEE__THE-future", "_see the future-",
+		"see- \tthe_ future"})
+	public void resolve_mixedSeparatorRuns_returnsCardType(String input) {
+		assertEquals(CardType.SEE_THE_FUTURE,
+				CardNameIndex.resolve(input, 0, input.length()));
+	}
+
+	@Test
+	public void match_mixedSeparatorRunInPrefix_returnsCardType() {
+		int present = bit(CardType.SWAP_TOP_AND_BOTTOM) | bit(CardType.SKIP);
+		assertEquals(bit(CardType.SWAP_TOP_AND_BOTTOM), match("swap- top", present));
+	}
+
+	@Test
+	public void resolve_range_ignoresTextOutsideRange() {
+		final int start = 5;
+		final int end = 9;
+		String input = "play skip now";
+		assertEquals(CardType.SKIP, CardNameIndex.resolve(input, start, end));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"", "   ", "att", "attacks", "skiß", "skip1"})
+	public void resolve_notAnExactName_returnsNull(String input) {
+		assertNull(CardNameIndex.resolve(input, 0, input.length()));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"skíp", "SKÍP", "Śkip"})
+	public void resolve_accentedLetters_foldToAscii(String input) {
+		assertEquals(CardType.SKIP, CardNameIndex.resolve(input, 0, input.length()));
+	}
+
+	@Test
+	public void resolve_decomposedAccent_foldsToAscii() {
+		String input = Normalizer.normalize("skíp", Normalizer.Form.NFD);
+		assertEquals(CardType.SKIP, CardNameIndex.resolve(input, 0, input.length()));
+	}
+
+	@Test
+	public void builder_nameWithLetterThatCannotFold_throwsIllegalArgumentException() {
+		CardNameIndex.Builder builder = new CardNameIndex.Builder();
+		assertThrows(IllegalArgumentException.class,
+				() -> builder.addName("straße", CardType.SKIP));
+	}
+
+	@Test
+	public void resolve_localizedName_returnsCardType() {
+		String input = "normal cat";
+		assertEquals(CardType.NORMAL, CardNameIndex.resolve(input, 0, input.length()));
+	}
+
+	@Test
+	public void match_prefix_returnsPresentTypesStartingWithInput() {
+		int present = bit(CardType.SKIP) | bit(CardType.SHUFFLE) | bit(CardType.NUKE);
+		assertEquals(bit(CardType.SKIP), match("sk", present));
+		assertEquals(bit(CardType.SKIP) | bit(CardType.SHUFFLE), match("s", present));
+	}
+
+	@Test
+	public void match_prefixBeatsSubstring() {
+		int present = bit(CardType.SHUFFLE) | bit(CardType.SEE_THE_FUTURE);
+		assertEquals(bit(CardType.SEE_THE_FUTURE), match("se", present));
+	}
+
+	@Test
+	public void match_substringOfSeveralNames_returnsEveryPresentMatch() {
+		int present = bit(CardType.SEE_THE_FUTURE) | bit(CardType.ALTER_THE_FUTURE);
+		assertEquals(present, match("the future", present));
+		assertEquals(bit(CardType.ALTER_THE_FUTURE),
+				match("the future", bit(CardType.ALTER_THE_FUTURE)));
+	}
+
+	@Test
+	public void match_substringOfLocalizedName_returnsCardType() {
+		assertEquals(bit(CardType.NORMAL), match("cat", bit(CardType.NORMAL)));
+	}
+
+	@Test
+	public void match_exactNameNotPresent_returnsNoMatch() {
+		assertEquals(0, match("defuse", bit(CardType.SKIP)));
+	}
+
+	@Test
+	public void match_noNameContainsInput_returnsNoMatch() {
+		assertEquals(0, match("taco", -1));
+		assertEquals(0, match("", -1));
+	}
+
+	@Test
+	public void toCardTypes_mask_listsTypesInDeclarationOrder() {
+		int mask = bit(CardType.NUKE) | bit(CardType.NORMAL);
+		assertEquals(List.of(CardType.NORMAL, CardType.NUKE),
+				CardNameIndex.toCardTypes(mask));
+	}
+
+	private static int match(String input, int present) {
+		return CardNameIndex.match(input, 0, input.length(), present);
+	}
+
+	private static int bit(CardType cardType) {
+		return 1 << cardType.ordinal();
+	}
+}
@@ -0,0 +1,191 @@
+package domain;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CircularTurnManagerTest {
+	private static final int FIVE_PLAYERS = 5;
+	private static final int OPERATIONS = 2000;
+
+	private CircularTurnManager turnManager;
+	private PlayerManager playerManager;
+	private List<Player> players;
+
+	@BeforeEach
+	public void setUp() {
+		turnManager = new CircularTurnManager();
+		playerManager = new PlayerManager(new ListDeck(List.of()));
+		playerManager.addPlayers(FIVE_PLAYERS);
+		players = playerManager.getPlayers();
+	}
+
+	@Test
+	public void getCurrentActivePlayer_beforeSetup_throwsIllegalStateException() {
+		Exception exception = assertThrows(IllegalStateException.class,
+				turnManager::getCurrentActivePlayer);
+		assertEquals("TurnManager not initialized", exception.getMessage());
+		assertThrows(IllegalStateException.class, turnManager::reverseOrder);
+		assertThrows(IllegalStateException.class, turnManager::endTurnWithoutDraw);
+	}
+
+	@Test
+	public void setPlayerManager_withNullPlayerManager_throwsNullPointerException() {
+		assertThrows(NullPointerException.class, () -> turnManager.setPlayerManager(null));
+	}
+
+	@Test
+	public void syncWith_withEmptyList_throwsIllegalArgumentException() {
+		assertThrows(IllegalArgumentException.class, () -> turnManager.syncWith(List.of()));
+		assertThrows(NullPointerException.class, () -> turnManager.syncWith(null));
+	}
+
+	@Test
+	public void getTurnsEnded_countsEveryTurnHandedOn() {
+		turnManager.setPlayerManager(playerManager);
+		turnManager.advanceToNextPlayer();
+		turnManager.reverseOrder();
+		turnManager.endTurnWithoutDrawForAttacks();
+		turnManager.endTurnWithoutDraw();
+		assertEquals(2 + 2, turnManager.getTurnsEnded());
+
+		playerManager.removePlayerFromGame(turnManager.getCurrentActivePlayer());
+		turnManager.removeEliminatedCurrentPlayer();
+
+		assertEquals(FIVE_PLAYERS, turnManager.getTurnsEnded());
+	}
+
+	@Test
+	public void reverseOrder_passesTurnToPreviousPlayer() {
+		turnManager.setPlayerManager(playerManager);
+		turnManager.advanceToNextPlayer();
+
+		turnManager.reverseOrder();
+
+		assertSame(players.get(0), turnManager.getCurrentActivePlayer());
+		turnManager.advanceToNextPlayer();
+		assertSame(players.get(FIVE_PLAYERS - 1), turnManager.getCurrentActivePlayer());
+	}
+
+	@Test
+	public void addTurnForCurrentPlayer_givesOneExtraTurn() {
+		turnManager.setPlayerManager(playerManager);
+
+		turnManager.addTurnForCurrentPlayer();
+
+		assertEquals(2, turnManager.getTurnsFor(players.get(0)));
+		assertEquals(List.of(players.get(0), players.get(0), players.get(1),
+				players.get(2), players.get(FIVE_PLAYERS - 2),
+				players.get(FIVE_PLAYERS - 1)), turnManager.getTurnOrder());
+		turnManager.advanceToNextPlayer();
+		assertSame(players.get(0), turnManager.getCurrentActivePlayer());
+		turnManager.advanceToNextPlayer();
+		assertSame(players.get(1), turnManager.getCurrentActivePlayer());
+		assertEquals(1, turnManager.getTurnsFor(players.get(0)));
+	}
+
+	@Test
+	public void addTurnForCurrentPlayer_withSinglePlayer_addsNothing() {
+		turnManager.syncWith(List.of(players.get(0)));
+
+		turnManager.addTurnForCurrentPlayer();
+
+		assertEquals(1, turnManager.getTurnsFor(players.get(0)));
+	}
+
+	@Test
+	public void syncWith_afterCurrentPlayerEliminated_removesOnlyThatPlayer() {
+		turnManager.setPlayerManager(playerManager);
+		turnManager.advanceToNextPlayer();
+		turnManager.advanceToNextPlayer();
+		playerManager.removePlayerFromGame(players.get(2));
+
+		turnManager.syncWith(playerManager.getActivePlayers());
+
+		assertSame(players.get(0), turnManager.getCurrentActivePlayer());
+		assertEquals(0, turnManager.getTurnsFor(players.get(2)));
+		assertEquals(List.of(players.get(0), players.get(1), players.get(FIVE_PLAYERS - 2),
+				players.get(FIVE_PLAYERS - 1)), turnManager.getTurnOrder());
+	}
+
+	@Test
+	public void getTurnsFor_unknownPlayer_returnsZero() {
+		turnManager.setPlayerManager(playerManager);
+
+		assertEquals(0, turnManager.getTurnsFor(new Player(new Hand())));
+		assertThrows(NullPointerException.class, () -> turnManager.getTurnsFor(null));
+	}
+
+	@Test
+	public void removeEliminatedCurrentPlayer_unlinksPlayerAndRestartsAtFirstSeat() {
+		turnManager.setPlayerManager(playerManager);
+		turnManager.reverseOrder();
+		turnManager.addTurnForCurrentPlayer();
+
+		turnManager.removeEliminatedCurrentPlayer();
+
+		assertSame(players.get(0), turnManager.getCurrentActivePlayer());
+		assertEquals(0, turnManager.getTurnsFor(players.get(FIVE_PLAYERS - 1)));
+		assertEquals(List.of(players.get(0), players.get(1), players.get(2),
+				players.get(FIVE_PLAYERS - 2)), turnManager.getTurnOrder());
+	}
+
+	@Test
+	public void removeEliminatedCurrentPlayer_withLastPlayer_throwsIllegalStateException() {
+		PlayerManager twoPlayerManager = new PlayerManager(new ListDeck(List.of()));
+		twoPlayerManager.addPlayers(2);
+		turnManager.setPlayerManager(twoPlayerManager);
+		turnManager.removeEliminatedCurrentPlayer();
+
+		assertThrows(IllegalStateException.class,
+				turnManager::removeEliminatedCurrentPlayer);
+	}
+
+	@Test
+	public void randomTurns_matchQueueTurnManager() {
+		TurnManager expected = new TurnManager();
+		expected.setPlayerManager(playerManager);
+		turnManager.setPlayerManager(playerManager);
+		SplittableRandom random = new SplittableRandom(FIVE_PLAYERS);
+		final int OPERATION_KINDS = 5;
+		final int ATTACK = 3;
+
+		for (int operation = 0; operation < OPERATIONS
+				&& playerManager.getActivePlayers().size() > 1; operation++) {
+			int kind = random.nextInt(OPERATION_KINDS);
+			if (kind == 0) {
+				expected.advanceToNextPlayer();
+				turnManager.advanceToNextPlayer();
+			} else if (kind == 1) {
+				expected.reverseOrder();
+				turnManager.reverseOrder();
+			} else if (kind == 2) {
+				expected.endTurnWithoutDraw();
+				turnManager.endTurnWithoutDraw();
+			} else if (kind == ATTACK) {
+				expected.endTurnWithoutDrawForAttacks();
+				turnManager.endTurnWithoutDrawForAttacks();
+			} else if (random.nextInt(OPERATION_KINDS) == 0) {
+				Player eliminated = expected.getCurrentActivePlayer();
+				playerManager.removePlayerFromGame(eliminated);
+				if (random.nextBoolean()) {
+					expected.syncWith(playerManager.getActivePlayers());
+					turnManager.syncWith(playerManager.getActivePlayers());
+				} else {
+					expected.removeEliminatedCurrentPlayer();
+					turnManager.removeEliminatedCurrentPlayer();
+				}
+			}
+			assertSame(expected.getCurrentActivePlayer(),
+					turnManager.getCurrentActivePlayer());
+			assertEquals(expected.getTurnOrder(), turnManager.getTurnOrder());
+			assertEquals(expected.getRequiredTurns(), turnManager.getRequiredTurns());
+			assertEquals(expected.getCurrentPlayerTurnsTaken(),
+					turnManager.getCurrentPlayerTurnsTaken());
+		}
+	}
+}
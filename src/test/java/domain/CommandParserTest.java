@@ -0,0 +1,100 @@
+package domain;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CommandParserTest {
+	private final CommandParser parser = new CommandParser();
+
+	@Test
+	public void parse_keywords_returnsCommands() {
+		assertEquals(CommandParser.Command.PLAY, parser.parse("play skip"));
+		assertEquals(CommandParser.Command.DRAW, parser.parse("draw"));
+		assertEquals(CommandParser.Command.HELP, parser.parse(" help "));
+		assertEquals(CommandParser.Command.HAND, parser.parse("hand"));
+		assertEquals(CommandParser.Command.STATUS, parser.parse("status"));
+		assertEquals(CommandParser.Command.QUIT, parser.parse("\tquit"));
+	}
+
+	@Test
+	public void parse_lobbyVerbs_areUnknownGameCommands() {
+		assertEquals(CommandParser.Command.UNKNOWN, parser.parse("open 2"));
+		assertEquals("open", parser.getCommand());
+		assertEquals(CommandParser.Command.UNKNOWN, parser.parse("join 1 0"));
+		assertEquals("join", parser.getCommand());
+	}
+
+	@Test
+	public void numericArguments_separatedByAnyWhitespace_areParsedInPlace() {
+		final long tableId = 12_345_678_901L;
+		final int seat = 3;
+		parser.parse("join\t12345678901   3 ");
+
+		assertEquals(2, parser.getNumberOfArguments());
+		assertEquals(tableId, parser.getLongArgument(0));
+		assertEquals(seat, parser.getIntArgument(1));
+	}
+
+	@Test
+	public void getIntArgument_missingOrNotANumber_throwsIllegalArgumentException() {
+		parser.parse("open x");
+
+		assertThrows(NumberFormatException.class, () -> parser.getIntArgument(0));
+		assertThrows(IllegalArgumentException.class, () -> parser.getIntArgument(1));
+	}
+
+	@Test
+	public void getNumberOfArguments_commandOnly_returnsZero() {
+		parser.parse("  open ");
+
+		assertEquals(0, parser.getNumberOfArguments());
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"", "   ", "\t\n"})
+	public void parse_blankInput_returnsEmpty(String input) {
+		assertEquals(CommandParser.Command.EMPTY, parser.parse(input));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"PLAY skip", "drawn", "dra", "jump"})
+	public void parse_otherWord_returnsUnknown(String input) {
+		assertEquals(CommandParser.Command.UNKNOWN, parser.parse(input));
+	}
+
+	@Test
+	public void getCommand_unknownWord_returnsFirstToken() {
+		parser.parse("  jump  high ");
+		assertEquals("jump", parser.getCommand());
+	}
+
+	@Test
+	public void getArgument_singleSpaces_returnsRestOfLine() {
+		parser.parse("play see the future  ");
+		assertTrue(parser.hasArgument());
+		assertEquals("see the future", parser.getArgument());
+	}
+
+	@Test
+	public void getArgument_repeatedWhitespace_collapsesToSingleSpaces() {
+		parser.parse("play\t  alter \t the\nfuture");
+		assertEquals("alter the future", parser.getArgument());
+	}
+
+	@Test
+	public void hasArgument_commandOnly_returnsFalse() {
+		parser.parse("play   ");
+		assertFalse(parser.hasArgument());
+	}
+
+	@Test
+	public void parse_reusedParser_forgetsPreviousLine() {
+		parser.parse("play skip");
+		parser.parse("draw");
+		assertFalse(parser.hasArgument());
+		assertEquals("draw", parser.getCommand());
+	}
+}
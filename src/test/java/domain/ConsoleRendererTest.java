@@ -0,0 +1,148 @@
+package domain;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ui.ConsoleRenderer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConsoleRendererTest {
+	private final PrintStream originalOut = System.out;
+	private ByteArrayOutputStream outContent;
+
+	@BeforeEach
+	public void setUpStreams() {
+		outContent = new ByteArrayOutputStream();
+		System.setOut(new PrintStream(outContent, true, StandardCharsets.UTF_8));
+	}
+
+	@AfterEach
+	public void restoreStreams() {
+		System.setOut(originalOut);
+	}
+
+	@Test
+	public void println_withDefaultRenderer_writesToSystemOutImmediately() {
+		ConsoleRenderer renderer = new ConsoleRenderer();
+
+		renderer.println("Turn of player 0");
+
+		assertEquals("Turn of player 0" + System.lineSeparator(),
+				outContent.toString(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void endFrame_withEveryFramePolicy_emitsWholeFrameOnce() {
+		CountingOutputStream sink = new CountingOutputStream();
+		ConsoleRenderer renderer = ConsoleRenderer.buffered(sink,
+				ConsoleRenderer.FlushPolicy.EVERY_FRAME);
+
+		renderer.println("Players remaining: 3");
+		renderer.printf("Current player has %d cards%n", 2);
+		renderer.print("> ");
+		assertEquals(0, sink.content.size());
+
+		renderer.endFrame();
+
+		assertEquals(1, sink.flushes);
+		assertEquals("Players remaining: 3" + System.lineSeparator()
+				+ String.format("Current player has 2 cards%n") + "> ",
+				sink.content.toString(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void printlnError_withPendingFrame_flushesFrameBeforeError() {
+		PrintStream originalErr = System.err;
+		ByteArrayOutputStream errContent = new ByteArrayOutputStream();
+		CountingOutputStream sink = new CountingOutputStream();
+		ConsoleRenderer renderer = ConsoleRenderer.buffered(sink,
+				ConsoleRenderer.FlushPolicy.WHEN_FULL);
+		renderer.print("> ");
+		try {
+			System.setErr(new PrintStream(errContent, true, StandardCharsets.UTF_8));
+
+			renderer.printlnError("Error: Unknown command");
+
+			assertEquals("> ", sink.content.toString(StandardCharsets.UTF_8));
+			assertEquals(1, sink.flushes);
+			assertEquals("Error: Unknown command" + System.lineSeparator(),
+					errContent.toString(StandardCharsets.UTF_8));
+		} finally {
+			System.setErr(originalErr);
+		}
+	}
+
+	@Test
+	public void endFrame_withWhenFullPolicy_leavesOutputBufferedUntilFlush() {
+		CountingOutputStream sink = new CountingOutputStream();
+		ConsoleRenderer renderer = ConsoleRenderer.buffered(sink,
+				ConsoleRenderer.FlushPolicy.WHEN_FULL);
+
+		renderer.println("Cards in deck: 20");
+		renderer.endFrame();
+		assertEquals(0, sink.content.size());
+
+		renderer.flush();
+
+		assertEquals("Cards in deck: 20" + System.lineSeparator(),
+				sink.content.toString(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void endFrame_withEveryWritePolicy_flushesEachWrite() {
+		CountingOutputStream sink = new CountingOutputStream();
+		ConsoleRenderer renderer = ConsoleRenderer.buffered(sink,
+				ConsoleRenderer.FlushPolicy.EVERY_WRITE);
+
+		renderer.print("a");
+		renderer.println("b");
+
+		assertEquals(2, sink.flushes);
+		assertEquals("ab" + System.lineSeparator(),
+				sink.content.toString(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void nullRenderer_discardsOutput() {
+		ConsoleRenderer renderer = ConsoleRenderer.nullRenderer();
+
+		renderer.println("GAME OVER!");
+		renderer.flush();
+
+		assertEquals(0, outContent.size());
+	}
+
+	@Test
+	public void buffered_withNullStream_throwsNullPointerException() {
+		NullPointerException exception = assertThrows(NullPointerException.class,
+				() -> ConsoleRenderer.buffered(null,
+						ConsoleRenderer.FlushPolicy.EVERY_FRAME));
+		assertEquals("OutputStream cannot be null", exception.getMessage());
+	}
+
+	private static final class CountingOutputStream extends OutputStream {
+		private final ByteArrayOutputStream content = new ByteArrayOutputStream();
+		private int flushes;
+
+		@Override
+		public void write(int b) {
+			content.write(b);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+			content.write(b, off, len);
+		}
+
+		@Override
+		public void flush() {
+			flushes++;
+		}
+	}
+}
@@ -0,0 +1,132 @@
+package domain;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DeckProfileTest {
+	private static final int TWO_PLAYERS = 2;
+	private static final int THREE_PLAYERS = 3;
+	private static final int LARGE_LOBBY = 12;
+	private static final int STANDARD_HAND_SIZE = 4;
+	private static final int STANDARD_EXTRA_DEFUSES = 2;
+	private static final int ESSENTIAL_CARDS = 4;
+	private static final int SEE_THE_FUTURE_CARDS = 5;
+	private static final long SEED = 9L;
+
+	private final CardFactory cardFactory = new CardFactory();
+
+	@Test
+	public void standard_matchesClassicDeck() {
+		DeckProfile profile = DeckProfile.standard();
+
+		assertEquals(DeckProfile.STANDARD, profile.getName());
+		assertEquals(STANDARD_HAND_SIZE, profile.getStartingHandSize());
+		assertEquals(STANDARD_EXTRA_DEFUSES, profile.getExtraDefuses());
+		assertEquals(ESSENTIAL_CARDS, profile.getCount(CardType.ATTACK));
+		assertEquals(SEE_THE_FUTURE_CARDS, profile.getCount(CardType.SEE_THE_FUTURE));
+		assertEquals(1, profile.getCount(CardType.NUKE));
+		assertEquals(0, profile.getCount(CardType.NORMAL));
+		assertEquals(0, profile.getCount(CardType.EXPLODING_KITTEN));
+	}
+
+	@Test
+	public void forName_calledTwice_returnsCachedProfile() {
+		assertSame(DeckProfile.forName(DeckProfile.STANDARD), DeckProfile.standard());
+	}
+
+	@Test
+	public void forName_unknownProfile_throwsIllegalArgumentException() {
+		Exception exception = assertThrows(IllegalArgumentException.class,
+				() -> DeckProfile.forName("no-such-profile"));
+		assertEquals("Unknown deck profile: no-such-profile", exception.getMessage());
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = {TWO_PLAYERS, THREE_PLAYERS, LARGE_LOBBY})
+	public void createDeck_matchesInitialDeckOrder(int numberOfPlayers) {
+		List<Card> expected = GameEngine.createInitialDeck(cardFactory, numberOfPlayers,
+				LobbyMode.forNumberOfPlayers(numberOfPlayers));
+
+		Deck deck = DeckProfile.standard().createDeck(numberOfPlayers);
+
+		assertEquals(expected.size(), deck.getDeckSize());
+		for (int i = 0; i < expected.size(); i++) {
+			assertEquals(expected.get(i).getCardType(),
+					deck.getCardAt(i).getCardType());
+		}
+	}
+
+	@Test
+	public void createDeck_calledTwice_returnsIndependentDecks() {
+		DeckProfile profile = DeckProfile.standard();
+		Deck first = profile.createDeck(THREE_PLAYERS);
+		Deck second = profile.createDeck(THREE_PLAYERS);
+
+		first.draw();
+
+		assertEquals(second.getDeckSize() - 1, first.getDeckSize());
+	}
+
+	@Test
+	public void fromProperties_customProfile_setsCountsAndHandSize() {
+		final int attacks = 10;
+		final int handSize = 2;
+		Properties properties = new Properties();
+		properties.setProperty("ATTACK", Integer.toString(attacks));
+		properties.setProperty("SKIP", "1");
+		properties.setProperty("startingHandSize", Integer.toString(handSize));
+		properties.setProperty("extraDefuses", "1");
+		properties.setProperty("targetNumberOfCards", "0");
+		DeckProfile profile = DeckProfile.fromProperties("attacks", properties);
+
+		Map<CardType, Integer> counts = new EnumMap<>(CardType.class);
+		for (Card card : profile.createCards(cardFactory, TWO_PLAYERS)) {
+			counts.merge(card.getCardType(), 1, Integer::sum);
+		}
+		final int normalCards = attacks + 1 + 1 + TWO_PLAYERS;
+		assertEquals(attacks, counts.get(CardType.ATTACK));
+		assertEquals(1, counts.get(CardType.SKIP));
+		assertEquals(1, counts.get(CardType.DEFUSE));
+		assertEquals(normalCards, counts.get(CardType.NORMAL));
+
+		DecisionMaker[] seats = new DecisionMaker[TWO_PLAYERS];
+		for (int seat = 0; seat < TWO_PLAYERS; seat++) {
+			seats[seat] = new RandomDecisionMaker(new SplittableRandom(SEED));
+		}
+		GameEngine engine = GameEngine.createHeadlessGame(seats,
+				new FastGameRandom(SEED), profile);
+		engine.initializeGame();
+		for (Player player : engine.getPlayerManager().getPlayers()) {
+			assertEquals(handSize + 1, player.getNumberOfCards());
+		}
+	}
+
+	@Test
+	public void fromProperties_unknownKey_throwsIllegalArgumentException() {
+		assertInvalid("EXPLODING_KITTEN", "1");
+		assertInvalid("DEFUSE", "1");
+		assertInvalid("jokers", "1");
+	}
+
+	@Test
+	public void fromProperties_invalidCount_throwsIllegalArgumentException() {
+		assertInvalid("ATTACK", "-1");
+		assertInvalid("ATTACK", "four");
+	}
+
+	private static void assertInvalid(String key, String value) {
+		Properties properties = new Properties();
+		properties.setProperty(key, value);
+		assertThrows(IllegalArgumentException.class,
+				() -> DeckProfile.fromProperties("broken", properties));
+	}
+}
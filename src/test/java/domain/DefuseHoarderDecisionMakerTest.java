@@ -0,0 +1,98 @@
+package domain;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DefuseHoarderDecisionMakerTest {
+	private static final int THREE_PLAYERS = 3;
+	private static final int DECK_SIZE = 10;
+
+	private final CardFactory cardFactory = new CardFactory();
+	private final DefuseHoarderDecisionMaker decisionMaker =
+			new DefuseHoarderDecisionMaker();
+	private PlayerManager playerManager;
+
+	@BeforeEach
+	public void setUp() {
+		playerManager = new PlayerManager(new OrdinalDeck(new ArrayList<>()));
+		playerManager.addPlayers(THREE_PLAYERS);
+	}
+
+	@Test
+	public void chooseCommand_withoutFavor_draws() {
+		Player player = playerWith(0, CardType.SKIP, CardType.ATTACK);
+		playerWith(1, CardType.NORMAL);
+		assertEquals("draw", decisionMaker.chooseCommand(player));
+	}
+
+	@Test
+	public void chooseCommand_withFavorAndOpponentCards_playsFavor() {
+		Player player = playerWith(0, CardType.FAVOR);
+		playerWith(1, CardType.NORMAL);
+		assertEquals("play favor", decisionMaker.chooseCommand(player));
+	}
+
+	@Test
+	public void chooseCommand_withFavorAndEmptyOpponents_draws() {
+		Player player = playerWith(0, CardType.FAVOR);
+		assertEquals("draw", decisionMaker.chooseCommand(player));
+	}
+
+	@Test
+	public void choosePlayerToTakeCardFrom_picksActiveOpponentWithMostCards() {
+		Player player = playerWith(0, CardType.NORMAL, CardType.NORMAL, CardType.NORMAL);
+		playerWith(1, CardType.NORMAL);
+		playerWith(2, CardType.NORMAL, CardType.SKIP);
+		assertEquals(2, decisionMaker.choosePlayerToTakeCardFrom(player, 2));
+
+		playerManager.removePlayerFromGame(playerManager.getPlayerByIndex(2));
+		assertEquals(1, decisionMaker.choosePlayerToTakeCardFrom(player, 2));
+	}
+
+	@Test
+	public void chooseCardToGive_keepsDefuseWhileOtherCardsRemain() {
+		Player giver = playerWith(0, CardType.DEFUSE, CardType.SKIP, CardType.NORMAL);
+		assertEquals(CardType.NORMAL, decisionMaker.chooseCardToGive(giver));
+
+		giver.removeCardFromHand(cardFactory.createCard(CardType.NORMAL));
+		assertEquals(CardType.SKIP, decisionMaker.chooseCardToGive(giver));
+
+		giver.removeCardFromHand(cardFactory.createCard(CardType.SKIP));
+		assertEquals(CardType.DEFUSE, decisionMaker.chooseCardToGive(giver));
+	}
+
+	@Test
+	public void chooseCardToGive_withEmptyHand_returnsNull() {
+		assertNull(decisionMaker.chooseCardToGive(playerManager.getPlayerByIndex(0)));
+	}
+
+	@Test
+	public void placementChoices_buryAtBottomAndKittenOnTop() {
+		Player player = playerManager.getPlayerByIndex(0);
+		assertEquals(0, decisionMaker.chooseBuryIndex(player, DECK_SIZE));
+		assertEquals(DECK_SIZE, decisionMaker.chooseKittenPlacement(player, DECK_SIZE));
+	}
+
+	@Test
+	public void chooseRearrangeIndex_keepsTheCurrentOrder() {
+		final int minIndex = 7;
+		final int maxIndex = 9;
+		Player player = playerManager.getPlayerByIndex(0);
+		for (int position = 0; position <= maxIndex - minIndex; position++) {
+			assertEquals(maxIndex - position, decisionMaker.chooseRearrangeIndex(player,
+					position, minIndex, maxIndex));
+		}
+	}
+
+	private Player playerWith(int seat, CardType... cardTypes) {
+		Player player = playerManager.getPlayerByIndex(seat);
+		for (CardType cardType : cardTypes) {
+			player.addCardToHand(cardFactory.createCard(cardType));
+		}
+		return player;
+	}
+}
@@ -0,0 +1,290 @@
+package domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.SplittableRandom;
+
+import static domain.GameTestSupport.answer;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EndgameSolverTest {
+	private static final int TWO_PLAYERS = 2;
+	private static final int THREE_PLAYERS = 3;
+	private static final int SEEDS = 40;
+	private static final int STARTING_DECK_SIZE = 14;
+	private static final int MAX_NODES_FOR_TEN_CARDS = 2_000_000;
+	private static final CardType[] POOL = {
+		CardType.NORMAL,
+		CardType.SKIP,
+		CardType.ATTACK,
+		CardType.REVERSE,
+		CardType.BURY,
+		CardType.SWAP_TOP_AND_BOTTOM,
+		CardType.NUKE,
+		CardType.ALTER_THE_FUTURE,
+		CardType.SEE_THE_FUTURE,
+		CardType.DEFUSE
+	};
+
+	private final CardFactory cardFactory = new CardFactory();
+	private final EndgameSolver solver = new EndgameSolver(new TranspositionTable(16));
+
+	@Test
+	public void solve_kittenOnTopWithSkip_skipsAndWins() {
+		Position position = new Position(CardType.NORMAL, CardType.EXPLODING_KITTEN);
+		position.give(0, CardType.SKIP);
+
+		EndgameSolver.Solution solution = position.solve();
+
+		assertEquals(0, solution.getWinningSeat());
+		assertEquals(RandomDecisionMaker.playCommand(CardType.SKIP), solution.getCommand());
+	}
+
+	@Test
+	public void solve_kittenOnTopWithoutCards_losesByDrawing() {
+		Position position = new Position(CardType.NORMAL, CardType.EXPLODING_KITTEN);
+		position.give(1, CardType.SKIP);
+
+		EndgameSolver.Solution solution = position.solve();
+
+		assertEquals(1, solution.getWinningSeat());
+		assertEquals(RandomDecisionMaker.DRAW_COMMAND, solution.getCommand());
+		assertEquals(0, solution.getChoices().length);
+	}
+
+	@Test
+	public void solve_withoutKittens_isDrawn() {
+		Position position = new Position(CardType.NORMAL, CardType.NORMAL);
+
+		EndgameSolver.Solution solution = position.solve();
+
+		assertEquals(-1, solution.getWinningSeat());
+		assertEquals(RandomDecisionMaker.DRAW_COMMAND, solution.getCommand());
+	}
+
+	@Test
+	public void solve_defusedKitten_isPlacedOnTop() {
+		Position position = new Position(CardType.NORMAL, CardType.EXPLODING_KITTEN);
+		position.give(0, CardType.DEFUSE);
+
+		EndgameSolver.Solution solution = position.solve();
+
+		assertEquals(0, solution.getWinningSeat());
+		assertEquals(RandomDecisionMaker.DRAW_COMMAND, solution.getCommand());
+		assertArrayEquals(new int[] {1}, solution.getChoices());
+	}
+
+	@Test
+	public void solve_attackAgainstSingleSkip_winsWhereSkipLoses() {
+		Position skipping = new Position(CardType.NORMAL, CardType.EXPLODING_KITTEN);
+		skipping.give(0, CardType.SKIP);
+		skipping.give(1, CardType.SKIP);
+		assertEquals(1, skipping.solve().getWinningSeat());
+
+		Position attacking = new Position(CardType.NORMAL, CardType.EXPLODING_KITTEN);
+		attacking.give(0, CardType.ATTACK);
+		attacking.give(1, CardType.SKIP);
+		EndgameSolver.Solution solution = attacking.solve();
+
+		assertEquals(0, solution.getWinningSeat());
+		assertEquals(RandomDecisionMaker.playCommand(CardType.ATTACK),
+				solution.getCommand());
+	}
+
+	@Test
+	public void solve_underAttack_needsTwoSkips() {
+		Position position = new Position(CardType.NORMAL, CardType.EXPLODING_KITTEN);
+		position.give(0, CardType.SKIP);
+		position.turnManager.setRequiredTurns(2);
+
+		assertEquals(1, position.solve().getWinningSeat());
+
+		position.give(0, CardType.SKIP);
+		assertEquals(0, position.solve().getWinningSeat());
+	}
+
+	@Test
+	public void solve_favor_stealsTheOnlySkip() {
+		Position position = new Position(CardType.EXPLODING_KITTEN);
+		position.give(0, CardType.FAVOR);
+		position.give(1, CardType.SKIP);
+
+		EndgameSolver.Solution solution = position.solve();
+
+		assertEquals(0, solution.getWinningSeat());
+		assertEquals(RandomDecisionMaker.playCommand(CardType.FAVOR),
+				solution.getCommand());
+	}
+
+	@Test
+	public void solve_bury_movesKittenAwayFromTop() {
+		Position position = new Position(CardType.NORMAL, CardType.NORMAL,
+				CardType.EXPLODING_KITTEN);
+		position.give(0, CardType.BURY);
+
+		EndgameSolver.Solution solution = position.solve();
+
+		assertEquals(0, solution.getWinningSeat());
+		assertEquals(RandomDecisionMaker.playCommand(CardType.BURY), solution.getCommand());
+		assertEquals(1, solution.getChoices().length);
+	}
+
+	@Test
+	public void solve_alterTheFuture_returnsDeckIndices() {
+		Position position = new Position(CardType.NORMAL, CardType.NORMAL,
+				CardType.EXPLODING_KITTEN);
+		position.give(0, CardType.ALTER_THE_FUTURE);
+
+		EndgameSolver.Solution solution = position.solve();
+
+		assertEquals(0, solution.getWinningSeat());
+		int[] choices = solution.getChoices();
+		Arrays.sort(choices);
+		assertArrayEquals(new int[] {0, 1, 2}, choices);
+	}
+
+	@Test
+	public void solve_sameTableTwice_answersFromTheTable() {
+		Position position = new Position(CardType.NORMAL, CardType.NORMAL,
+				CardType.EXPLODING_KITTEN, CardType.NORMAL);
+		position.give(0, CardType.SKIP, CardType.ATTACK);
+		position.give(1, CardType.DEFUSE, CardType.BURY);
+
+		EndgameSolver.Solution first = position.solve();
+		EndgameSolver.Solution second = position.solve();
+
+		assertEquals(1, solver.getNodes());
+		assertEquals(first.getWinningSeat(), second.getWinningSeat());
+		assertEquals(first.getCommand(), second.getCommand());
+		assertArrayEquals(first.getChoices(), second.getChoices());
+	}
+
+	@Test
+	public void solve_threePlayers_throwsException() {
+		Deck deck = new ListDeck(cards(CardType.EXPLODING_KITTEN));
+		PlayerManager playerManager = new PlayerManager(deck);
+		playerManager.addPlayers(THREE_PLAYERS);
+		TurnManager turnManager = new CircularTurnManager();
+		turnManager.setPlayerManager(playerManager);
+
+		assertThrows(IllegalArgumentException.class,
+				() -> solver.solve(deck, playerManager, turnManager));
+	}
+
+	@Test
+	public void solve_deckTooLarge_throwsException() {
+		CardType[] cardTypes = new CardType[EndgameSolver.MAX_DECK_SIZE + 1];
+		Arrays.fill(cardTypes, CardType.NORMAL);
+		Position position = new Position(cardTypes);
+
+		assertThrows(IllegalArgumentException.class, position::solve);
+	}
+
+	@Test
+	public void constructor_nullTable_throwsException() {
+		assertThrows(NullPointerException.class, () -> new EndgameSolver(null));
+	}
+
+	@Test
+	public void solve_tenCardDeck_staysSmall() {
+		Position position = new Position(CardType.NORMAL, CardType.SKIP, CardType.NORMAL,
+				CardType.EXPLODING_KITTEN, CardType.ATTACK, CardType.NORMAL,
+				CardType.BURY, CardType.NORMAL, CardType.DEFUSE, CardType.NORMAL);
+		position.give(0, CardType.DEFUSE, CardType.SKIP, CardType.ALTER_THE_FUTURE,
+				CardType.REVERSE, CardType.NORMAL);
+		position.give(1, CardType.DEFUSE, CardType.ATTACK, CardType.SWAP_TOP_AND_BOTTOM,
+				CardType.NUKE, CardType.FAVOR);
+
+		position.solve();
+
+		assertTrue(solver.getNodes() < MAX_NODES_FOR_TEN_CARDS);
+	}
+
+	@Test
+	public void solve_predictedWinner_beatsRandomOpponent() {
+		for (long seed = 0; seed < SEEDS; seed++) {
+			SplittableRandom random = new SplittableRandom(seed);
+			List<Card> cards = new ArrayList<>();
+			for (int i = 0; i < STARTING_DECK_SIZE; i++) {
+				CardType cardType = POOL[random.nextInt(POOL.length)];
+				cards.add(cardFactory.createCard(cardType));
+			}
+			GameStateMachine game = GameStateMachine.create(new OrdinalDeck(cards),
+					TWO_PLAYERS, new FastGameRandom(seed));
+			int winner = solver.solve(game).getWinningSeat();
+			if (winner < 0) {
+				continue;
+			}
+
+			DecisionMaker opponent = new RandomDecisionMaker(random);
+			Queue<Integer> choices = new ArrayDeque<>();
+			while (!game.isGameOver()) {
+				if (game.getAwaitingSeat() != winner) {
+					assertTrue(game.submit(answer(game, opponent)));
+				} else if (game.getState()
+						== GameStateMachine.State.AWAITING_COMMAND) {
+					EndgameSolver.Solution solution = solver.solve(game);
+					assertEquals(winner, solution.getWinningSeat());
+					for (int choice : solution.getChoices()) {
+						choices.add(choice);
+					}
+					assertTrue(game.submit(solution.getCommand()));
+				} else {
+					assertTrue(game.submit(Integer.toString(choices.remove())));
+				}
+			}
+			assertEquals(winner, game.getWinningSeat());
+		}
+	}
+
+	@Test
+	public void solution_getChoices_returnsCopy() {
+		Position position = new Position(CardType.NORMAL, CardType.EXPLODING_KITTEN);
+		position.give(0, CardType.DEFUSE);
+		EndgameSolver.Solution solution = position.solve();
+
+		int[] choices = solution.getChoices();
+		choices[0] = -1;
+
+		assertNotEquals(-1, solution.getChoices()[0]);
+	}
+
+
+	private List<Card> cards(CardType... bottomToTop) {
+		List<Card> cards = new ArrayList<>();
+		for (CardType cardType : bottomToTop) {
+			cards.add(cardFactory.createCard(cardType));
+		}
+		return cards;
+	}
+
+	private final class Position {
+		private final Deck deck;
+		private final PlayerManager playerManager;
+		private final TurnManager turnManager = new CircularTurnManager();
+
+		Position(CardType... bottomToTop) {
+			deck = new ListDeck(cards(bottomToTop));
+			playerManager = new PlayerManager(deck);
+			playerManager.addPlayers(TWO_PLAYERS);
+			turnManager.setPlayerManager(playerManager);
+			turnManager.setRequiredTurns(1);
+		}
+
+		void give(int seat, CardType... cardTypes) {
+			Player player = playerManager.getPlayerByIndex(seat);
+			for (CardType cardType : cardTypes) {
+				player.addCardToHand(cardFactory.createCard(cardType));
+			}
+		}
+
+		EndgameSolver.Solution solve() {
+			return solver.solve(deck, playerManager, turnManager);
+		}
+	}
+}
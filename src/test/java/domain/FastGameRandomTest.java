@@ -0,0 +1,40 @@
+package domain;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FastGameRandomTest {
+	private static final long SEED = 123L;
+	private static final int BOUND = 56;
+	private static final int DRAWS = 1000;
+
+	@Test
+	public void getSeed_returnsConstructorSeed() {
+		assertEquals(SEED, new FastGameRandom(SEED).getSeed());
+	}
+
+	@Test
+	public void nextInt_sameSeed_returnsSameSequence() {
+		FastGameRandom first = new FastGameRandom(SEED);
+		FastGameRandom second = new FastGameRandom(SEED);
+		for (int draw = 0; draw < DRAWS; draw++) {
+			assertEquals(first.nextInt(BOUND), second.nextInt(BOUND));
+		}
+	}
+
+	@Test
+	public void nextInt_staysWithinBound() {
+		FastGameRandom random = new FastGameRandom(SEED);
+		for (int draw = 0; draw < DRAWS; draw++) {
+			int value = random.nextInt(BOUND);
+			assertTrue(value >= 0 && value < BOUND);
+		}
+	}
+
+	@Test
+	public void nextInt_nonPositiveBound_throwsIllegalArgumentException() {
+		FastGameRandom random = new FastGameRandom(SEED);
+		assertThrows(IllegalArgumentException.class, () -> random.nextInt(0));
+	}
+}
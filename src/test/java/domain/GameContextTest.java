@@ -184,6 +184,7 @@ public class GameContextTest {
 		List<Card> expectedCardList = List.of(mockCard(testCardType));
 
 		EasyMock.expect(mockDeck.peekTopTwoCards()).andReturn(expectedCardList);
+		mockDeck.revealTopCards(mockCurrentPlayer.id, expectedCardList.size());
 		EasyMock.expect(mockDeck.getDeckSize()).andReturn(1).anyTimes();
 
 		userInterface.displayCardsFromDeck(expectedCardList, 1);
@@ -205,6 +206,7 @@ public class GameContextTest {
 		List<Card> expectedCardList = List.of(card1, card2);
 
 		EasyMock.expect(mockDeck.peekTopTwoCards()).andReturn(expectedCardList);
+		mockDeck.revealTopCards(mockCurrentPlayer.id, expectedCardList.size());
 		EasyMock.expect(mockDeck.getDeckSize()).andReturn(2).anyTimes();
 
 		userInterface.displayCardsFromDeck(expectedCardList, 2);
@@ -227,6 +229,7 @@ public class GameContextTest {
 
 		final int deckSize = 3;
 		EasyMock.expect(mockDeck.peekTopTwoCards()).andReturn(expectedCardList);
+		mockDeck.revealTopCards(mockCurrentPlayer.id, expectedCardList.size());
 		EasyMock.expect(mockDeck.getDeckSize()).andReturn(deckSize).anyTimes();
 
 		userInterface.displayCardsFromDeck(expectedCardList, deckSize);
@@ -252,6 +255,21 @@ public class GameContextTest {
 		EasyMock.verify(mockDeck);
 	}
 
+	@Test
+	public void shuffleDeckFromDeck_withGameRandom_shufflesWithGameRandom() {
+		GameRandom random = new FastGameRandom(1L);
+		GameContext fullGameContext = new GameContext(mockTurnManager,
+				mockPlayerManager, mockDeck, mockCurrentPlayer, userInterface,
+				mockCardFactory, null, random);
+
+		mockDeck.shuffleDeck(random);
+		EasyMock.expectLastCall().once();
+		EasyMock.replay(mockDeck);
+
+		fullGameContext.shuffleDeckFromDeck();
+		EasyMock.verify(mockDeck);
+	}
+
 	@Test
 	public void reverseOrderPreservingAttackState_underAttack_incrementsAndReverses() {
 		EasyMock.expect(mockTurnManager.isUnderAttack()).andReturn(true);
@@ -481,6 +499,7 @@ public class GameContextTest {
 		List<Integer> indices = List.of(0);
 		mockDeck.rearrangeTopThreeCards(indices);
 		EasyMock.expectLastCall().once();
+		mockDeck.revealTopCards(mockCurrentPlayer.id, indices.size());
 
 		EasyMock.expect(userInterface.getRearrangePrompt(
 						0, 0, 0))
@@ -625,6 +644,7 @@ public class GameContextTest {
 		List<Integer> duplicateIndices = List.of(2, 0, 1);
 		mockDeck.rearrangeTopThreeCards(duplicateIndices);
 		EasyMock.expectLastCall().once();
+		mockDeck.revealTopCards(mockCurrentPlayer.id, duplicateIndices.size());
 
 		EasyMock.replay(mockDeck, userInterface);
 
@@ -701,6 +721,7 @@ public class GameContextTest {
 		List<Integer> indices = List.of(1, 2, maxCardIndex);
 		mockDeck.rearrangeTopThreeCards(indices);
 		EasyMock.expectLastCall().once();
+		mockDeck.revealTopCards(mockCurrentPlayer.id, indices.size());
 
 		EasyMock.replay(mockDeck, userInterface);
 
@@ -746,6 +767,7 @@ public class GameContextTest {
 
 		mockDeck.insertCardAt(mockCard, 0);
 		EasyMock.expectLastCall().once();
+		mockDeck.revealCardAt(mockCurrentPlayer.id, 0);
 
 		mockTurnManager.endTurnWithoutDraw();
 		EasyMock.expectLastCall().once();
@@ -780,6 +802,7 @@ public class GameContextTest {
 
 		mockDeck.insertCardAt(mockCard, MAX_INDEX);
 		EasyMock.expectLastCall().once();
+		mockDeck.revealCardAt(mockCurrentPlayer.id, MAX_INDEX);
 
 		mockTurnManager.endTurnWithoutDraw();
 		EasyMock.expectLastCall().once();
@@ -815,6 +838,7 @@ public class GameContextTest {
 
 		mockDeck.insertCardAt(mockCard, MIDDLE_INDEX);
 		EasyMock.expectLastCall().once();
+		mockDeck.revealCardAt(mockCurrentPlayer.id, MIDDLE_INDEX);
 
 		mockTurnManager.endTurnWithoutDraw();
 		EasyMock.expectLastCall().once();
@@ -900,4 +924,131 @@ public class GameContextTest {
 
 		EasyMock.verify(userInterface);
 	}
+
+	@Test
+	public void buryCardImplementation_withDecisionMaker_usesDecisionMakerIndex() {
+		final int DECK_SIZE = 4;
+		final int BURY_INDEX = 2;
+		Card mockCard = mockCard(CardType.SKIP);
+		DecisionMaker decisionMaker = EasyMock.createMock(DecisionMaker.class);
+
+		EasyMock.expect(mockDeck.draw()).andReturn(mockCard);
+		userInterface.displayDrawnCard(mockCard);
+		EasyMock.expectLastCall();
+		EasyMock.expect(mockDeck.getDeckSize()).andReturn(DECK_SIZE);
+		EasyMock.expect(decisionMaker.chooseBuryIndex(mockCurrentPlayer, DECK_SIZE))
+				.andReturn(BURY_INDEX);
+		mockDeck.insertCardAt(mockCard, BURY_INDEX);
+		EasyMock.expectLastCall();
+		mockDeck.revealCardAt(mockCurrentPlayer.id, BURY_INDEX);
+		mockTurnManager.endTurnWithoutDraw();
+		EasyMock.expectLastCall();
+		EasyMock.replay(mockDeck, userInterface, mockTurnManager, decisionMaker);
+
+		GameContext fullGameContext = new GameContext(mockTurnManager,
+				mockPlayerManager, mockDeck, mockCurrentPlayer, userInterface,
+				mockCardFactory, decisionMaker);
+		fullGameContext.buryCardImplementation();
+
+		EasyMock.verify(mockDeck, userInterface, mockTurnManager, decisionMaker);
+	}
+
+	@Test
+	public void transferCardBetweenPlayers_withDecisionMaker_transfersChosenCard() {
+		final int GIVER_INDEX = 1;
+		Player mockPlayerGiver = EasyMock.createMock(Player.class);
+		DecisionMaker decisionMaker = EasyMock.createMock(DecisionMaker.class);
+		Card favorCard = mockCard(CardType.ATTACK);
+
+		EasyMock.expect(mockPlayerManager.getNumberOfPlayers())
+				.andReturn(DEFAULT_PLAYERS);
+		EasyMock.expect(userInterface.getPlayerIndexPrompt(DEFAULT_PLAYERS - 1))
+				.andReturn("");
+		EasyMock.expect(decisionMaker.choosePlayerToTakeCardFrom(
+				mockCurrentPlayer, DEFAULT_PLAYERS - 1)).andReturn(GIVER_INDEX);
+		EasyMock.expect(mockPlayerManager.getPlayerByIndex(GIVER_INDEX))
+				.andReturn(mockPlayerGiver);
+		EasyMock.expect(userInterface.getCardTransferPrompt()).andReturn("");
+		EasyMock.expect(decisionMaker.chooseCardToGive(mockPlayerGiver))
+				.andReturn(CardType.ATTACK);
+		EasyMock.expect(mockPlayerGiver.hasCardType(CardType.ATTACK)).andReturn(true);
+		EasyMock.expect(mockCardFactory.createCard(CardType.ATTACK)).andReturn(favorCard);
+		mockPlayerGiver.removeCardFromHand(favorCard);
+		EasyMock.expectLastCall();
+		mockCurrentPlayer.addCardToHand(favorCard);
+		EasyMock.expectLastCall();
+		EasyMock.replay(mockPlayerManager, userInterface, decisionMaker,
+				mockPlayerGiver, mockCardFactory, mockCurrentPlayer);
+
+		GameContext fullGameContext = new GameContext(mockTurnManager,
+				mockPlayerManager, mockDeck, mockCurrentPlayer, userInterface,
+				mockCardFactory, decisionMaker);
+		fullGameContext.transferCardBetweenPlayers();
+
+		EasyMock.verify(mockPlayerManager, userInterface, decisionMaker,
+				mockPlayerGiver, mockCardFactory, mockCurrentPlayer);
+	}
+
+	@Test
+	public void transferCardBetweenPlayers_withDecisionMakerChoosingMissingCard_throws() {
+		Player mockPlayerGiver = EasyMock.createMock(Player.class);
+		DecisionMaker decisionMaker = EasyMock.createMock(DecisionMaker.class);
+
+		EasyMock.expect(mockPlayerManager.getNumberOfPlayers())
+				.andReturn(DEFAULT_PLAYERS);
+		EasyMock.expect(userInterface.getPlayerIndexPrompt(DEFAULT_PLAYERS - 1))
+				.andReturn("");
+		EasyMock.expect(decisionMaker.choosePlayerToTakeCardFrom(
+				mockCurrentPlayer, DEFAULT_PLAYERS - 1)).andReturn(0);
+		EasyMock.expect(mockPlayerManager.getPlayerByIndex(0))
+				.andReturn(mockPlayerGiver);
+		EasyMock.expect(userInterface.getCardTransferPrompt()).andReturn("");
+		EasyMock.expect(decisionMaker.chooseCardToGive(mockPlayerGiver))
+				.andReturn(CardType.NUKE);
+		EasyMock.expect(mockPlayerGiver.hasCardType(CardType.NUKE)).andReturn(false);
+		EasyMock.replay(mockPlayerManager, userInterface, decisionMaker,
+				mockPlayerGiver);
+
+		GameContext fullGameContext = new GameContext(mockTurnManager,
+				mockPlayerManager, mockDeck, mockCurrentPlayer, userInterface,
+				mockCardFactory, decisionMaker);
+
+		assertThrows(IllegalArgumentException.class,
+				fullGameContext::transferCardBetweenPlayers);
+		EasyMock.verify(decisionMaker, mockPlayerGiver);
+	}
+
+	@Test
+	public void rearrangeTopThreeCardsFromDeck_withDecisionMaker_usesChosenIndices() {
+		final int DECK_SIZE = 5;
+		final int TOP_INDEX = 4;
+		final int SECOND_INDEX = 3;
+		final int THIRD_INDEX = 2;
+		List<Card> topThreeCards = List.of(mockCard(CardType.SKIP),
+				mockCard(CardType.NUKE), mockCard(CardType.FAVOR));
+		DecisionMaker decisionMaker = EasyMock.createMock(DecisionMaker.class);
+
+		EasyMock.expect(mockDeck.peekTopThreeCards()).andReturn(topThreeCards);
+		EasyMock.expect(mockDeck.getDeckSize()).andReturn(DECK_SIZE).anyTimes();
+		userInterface.displayCardsFromDeck(topThreeCards, DECK_SIZE);
+		EasyMock.expectLastCall();
+		EasyMock.expect(decisionMaker.chooseRearrangeIndex(mockCurrentPlayer,
+				0, THIRD_INDEX, TOP_INDEX)).andReturn(THIRD_INDEX);
+		EasyMock.expect(decisionMaker.chooseRearrangeIndex(mockCurrentPlayer,
+				1, THIRD_INDEX, TOP_INDEX)).andReturn(TOP_INDEX);
+		EasyMock.expect(decisionMaker.chooseRearrangeIndex(mockCurrentPlayer,
+				2, THIRD_INDEX, TOP_INDEX)).andReturn(SECOND_INDEX);
+		List<Integer> chosenIndices = List.of(THIRD_INDEX, TOP_INDEX, SECOND_INDEX);
+		mockDeck.rearrangeTopThreeCards(chosenIndices);
+		EasyMock.expectLastCall();
+		mockDeck.revealTopCards(mockCurrentPlayer.id, chosenIndices.size());
+		EasyMock.replay(mockDeck, userInterface, decisionMaker);
+
+		GameContext fullGameContext = new GameContext(mockTurnManager,
+				mockPlayerManager, mockDeck, mockCurrentPlayer, userInterface,
+				mockCardFactory, decisionMaker);
+		fullGameContext.rearrangeTopThreeCardsFromDeck();
+
+		EasyMock.verify(mockDeck, userInterface, decisionMaker);
+	}
 }
@@ -37,6 +37,7 @@ public class GameEngineTest {
 	private static final int MAX_PLAYERS = 5;
 	private static final int THREE_PLAYERS = 3;
 	private static final int FOUR_PLAYERS = 4;
+	private static final double DRAW_EXPLOSION_CHANCE = 0.25;
 
 	@BeforeEach
 	public void setUp() {
@@ -247,7 +248,7 @@ public class GameEngineTest {
 			deckField.setAccessible(true);
 			Deck deck = (Deck) deckField.get(engine);
 
-			Field listField = Deck.class.getDeclaredField("deck");
+			Field listField = ListDeck.class.getDeclaredField("deck");
 			listField.setAccessible(true);
 			@SuppressWarnings("unchecked")
 			List<Card> actualOrder = (List<Card>) listField.get(deck);
@@ -985,6 +986,7 @@ public class GameEngineTest {
 		final int INDEX_TO_INSERT_CARD_AT = 2;
 		mockDeck.insertCardAt(kitten, INDEX_TO_INSERT_CARD_AT);
 		EasyMock.expectLastCall().once();
+		mockDeck.revealCardAt(player.id, INDEX_TO_INSERT_CARD_AT);
 		mockUserInterface.displaySuccess(
 				"Exploding Kitten placed back in the deck at position 2"
 		);
@@ -1040,12 +1042,14 @@ public class GameEngineTest {
 		final int NUMBER_OF_CARDS = 5;
 		EasyMock.expect(mockCurrentPlayer
 				.getNumberOfCards()).andReturn(NUMBER_OF_CARDS);
+		EasyMock.expect(mockCurrentPlayer.getDrawExplosionChance())
+				.andReturn(DRAW_EXPLOSION_CHANCE);
 		EasyMock.replay(mockCurrentPlayer);
 
 		List<Player> activePlayers = Arrays.asList(mockCurrentPlayer,
 				EasyMock.createMock(Player.class));
-		EasyMock.expect(mockPlayerManager.getActivePlayers())
-				.andReturn(activePlayers);
+		EasyMock.expect(mockPlayerManager.getNumberOfActivePlayers())
+				.andReturn(activePlayers.size());
 		EasyMock.replay(mockPlayerManager);
 
 		final int DECK_SIZE = 15;
@@ -1064,6 +1068,8 @@ public class GameEngineTest {
 				.andReturn("Cards in deck: ");
 		EasyMock.expect(mockLocaleManager.get("status.current.player.cards"))
 				.andReturn("Current player has %d cards");
+		EasyMock.expect(mockLocaleManager.get("status.kitten.chance"))
+				.andReturn("Chance the next draw explodes: %d%%");
 		EasyMock.replay(mockLocaleManager);
 
 		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
@@ -1094,11 +1100,13 @@ public class GameEngineTest {
 		final int NUMBER_OF_CARDS_FOR_MOCK_PLAYER = 3;
 		EasyMock.expect(mockCurrentPlayer.getNumberOfCards())
 				.andReturn(NUMBER_OF_CARDS_FOR_MOCK_PLAYER);
+		EasyMock.expect(mockCurrentPlayer.getDrawExplosionChance())
+				.andReturn(DRAW_EXPLOSION_CHANCE);
 		EasyMock.replay(mockCurrentPlayer);
 
 		List<Player> activePlayers = Arrays.asList(mockCurrentPlayer);
-		EasyMock.expect(mockPlayerManager.getActivePlayers())
-				.andReturn(activePlayers);
+		EasyMock.expect(mockPlayerManager.getNumberOfActivePlayers())
+				.andReturn(activePlayers.size());
 		EasyMock.replay(mockPlayerManager);
 
 		final int NUMBER_OF_CARDS_IN_DECK = 8;
@@ -1119,6 +1127,8 @@ public class GameEngineTest {
 				.andReturn("Cards in deck: ");
 		EasyMock.expect(mockLocaleManager.get("status.current.player.cards"))
 				.andReturn("Current player has %d cards");
+		EasyMock.expect(mockLocaleManager.get("status.kitten.chance"))
+				.andReturn("Chance the next draw explodes: %d%%");
 		EasyMock.replay(mockLocaleManager);
 
 		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
@@ -1146,6 +1156,8 @@ public class GameEngineTest {
 		final int NUMBER_OF_CARDS_IN_PLAYERS_HAND = 7;
 		EasyMock.expect(mockCurrentPlayer
 				.getNumberOfCards()).andReturn(NUMBER_OF_CARDS_IN_PLAYERS_HAND);
+		EasyMock.expect(mockCurrentPlayer.getDrawExplosionChance())
+				.andReturn(DRAW_EXPLOSION_CHANCE);
 		EasyMock.replay(mockCurrentPlayer);
 
 		List<Player> activePlayers = Arrays.asList(
@@ -1155,8 +1167,8 @@ public class GameEngineTest {
 				EasyMock.createMock(Player.class),
 				EasyMock.createMock(Player.class)
 		);
-		EasyMock.expect(mockPlayerManager.getActivePlayers())
-				.andReturn(activePlayers);
+		EasyMock.expect(mockPlayerManager.getNumberOfActivePlayers())
+				.andReturn(activePlayers.size());
 		EasyMock.replay(mockPlayerManager);
 
 		EasyMock.expect(mockLocaleManager.get("status.title"))
@@ -1167,6 +1179,8 @@ public class GameEngineTest {
 				.andReturn("Cards in deck: ");
 		EasyMock.expect(mockLocaleManager.get("status.current.player.cards"))
 				.andReturn("Current player has %d cards");
+		EasyMock.expect(mockLocaleManager.get("status.kitten.chance"))
+				.andReturn("Chance the next draw explodes: %d%%");
 		EasyMock.replay(mockLocaleManager);
 
 		final int NUMBER_OF_CARDS_IN_DECK = 25;
@@ -1189,6 +1203,7 @@ public class GameEngineTest {
 			assertTrue(output.contains("Active players: 5"));
 			assertTrue(output.contains("Cards in deck: 25"));
 			assertTrue(output.contains("Current player has 7 cards"));
+			assertTrue(output.contains("Chance the next draw explodes: 25%"));
 		} finally {
 			System.setOut(originalOut);
 		}
@@ -1204,9 +1219,12 @@ public class GameEngineTest {
 
 		List<Player> activePlayers = Arrays.asList(mockCurrentPlayer,
 				mockActivePlayer());
-		EasyMock.expect(mockPlayerManager.getActivePlayers()).andReturn(activePlayers);
+		EasyMock.expect(mockPlayerManager.getNumberOfActivePlayers())
+				.andReturn(activePlayers.size());
 		EasyMock.expect(mockPlayerManager.getPlayers())
 				.andReturn(activePlayers).anyTimes();
+		EasyMock.expect(mockPlayerManager.getPlayerIndex(mockCurrentPlayer))
+				.andReturn(0);
 		EasyMock.replay(mockPlayerManager);
 
 		EasyMock.expect(mockLocaleManager.get("turn.of.player"))
@@ -1265,10 +1283,12 @@ public class GameEngineTest {
 
 		List<Player> activePlayers = Arrays.asList(mockCurrentPlayer);
 		List<Player> allPlayers = Arrays.asList(mockCurrentPlayer, mockDefeatedPlayer);
-		EasyMock.expect(mockPlayerManager.getActivePlayers())
-				.andReturn(activePlayers);
+		EasyMock.expect(mockPlayerManager.getNumberOfActivePlayers())
+				.andReturn(activePlayers.size());
 		EasyMock.expect(mockPlayerManager.getPlayers())
 				.andReturn(allPlayers).anyTimes();
+		EasyMock.expect(mockPlayerManager.getPlayerIndex(mockCurrentPlayer))
+				.andReturn(0);
 		EasyMock.replay(mockPlayerManager);
 
 		final int NUMBER_OF_CARDS_IN_DECK = 5;
@@ -1325,10 +1345,12 @@ public class GameEngineTest {
 				mockActivePlayer(),
 				mockActivePlayer()
 		);
-		EasyMock.expect(mockPlayerManager.getActivePlayers())
-				.andReturn(activePlayers);
+		EasyMock.expect(mockPlayerManager.getNumberOfActivePlayers())
+				.andReturn(activePlayers.size());
 		EasyMock.expect(mockPlayerManager.getPlayers())
 				.andReturn(activePlayers).anyTimes();
+		EasyMock.expect(mockPlayerManager.getPlayerIndex(mockCurrentPlayer))
+				.andReturn(0);
 		EasyMock.replay(mockPlayerManager);
 
 		final int NUMBER_OF_CARDS_IN_DECK = 35;
@@ -1378,10 +1400,12 @@ public class GameEngineTest {
 		EasyMock.replay(mockCurrentPlayer);
 
 		List<Player> activePlayers = Arrays.asList(mockCurrentPlayer);
-		EasyMock.expect(mockPlayerManager.getActivePlayers())
-				.andReturn(activePlayers);
+		EasyMock.expect(mockPlayerManager.getNumberOfActivePlayers())
+				.andReturn(activePlayers.size());
 		EasyMock.expect(mockPlayerManager.getPlayers())
 				.andReturn(activePlayers).anyTimes();
+		EasyMock.expect(mockPlayerManager.getPlayerIndex(mockCurrentPlayer))
+				.andReturn(0);
 		EasyMock.replay(mockPlayerManager);
 
 		final int NUMBER_OF_CARDS_IN_DECK = 0;
@@ -1430,9 +1454,12 @@ public class GameEngineTest {
 		EasyMock.replay(mockCurrentPlayer);
 
 		List<Player> activePlayers = Arrays.asList(mockCurrentPlayer);
-		EasyMock.expect(mockPlayerManager.getActivePlayers()).andReturn(activePlayers);
+		EasyMock.expect(mockPlayerManager.getNumberOfActivePlayers())
+				.andReturn(activePlayers.size());
 		EasyMock.expect(mockPlayerManager.getPlayers())
 				.andReturn(activePlayers).anyTimes();
+		EasyMock.expect(mockPlayerManager.getPlayerIndex(mockCurrentPlayer))
+				.andReturn(0);
 		EasyMock.replay(mockPlayerManager);
 
 		final int NUMBER_OF_CARDS_IN_DECK = 8;
@@ -1481,10 +1508,12 @@ public class GameEngineTest {
 		for (int i = 0; i < NUMBER_OF_PLAYERS; i++) {
 			activePlayers.add(EasyMock.createMock(Player.class));
 		}
-		EasyMock.expect(mockPlayerManager.getActivePlayers())
-				.andReturn(activePlayers);
+		EasyMock.expect(mockPlayerManager.getNumberOfActivePlayers())
+				.andReturn(activePlayers.size());
 		EasyMock.expect(mockPlayerManager.getPlayers())
 				.andReturn(activePlayers).anyTimes();
+		EasyMock.expect(mockPlayerManager.getPlayerIndex(mockCurrentPlayer))
+				.andReturn(-1);
 		EasyMock.replay(mockPlayerManager);
 
 		EasyMock.expect(mockLocaleManager.get("turn.of.player"))
@@ -1543,9 +1572,11 @@ public class GameEngineTest {
 		EasyMock.expect(mockPlayerManager.getPlayers())
 				.andReturn(players)
 				.anyTimes();
-		EasyMock.expect(mockPlayerManager.getActivePlayers())
-				.andReturn(players)
+		EasyMock.expect(mockPlayerManager.getNumberOfActivePlayers())
+				.andReturn(players.size())
 				.anyTimes();
+		EasyMock.expect(mockPlayerManager.getPlayerIndex(mockCurrentPlayer))
+				.andReturn(0);
 		EasyMock.replay(mockPlayerManager);
 
 		EasyMock.expect(mockDeck.getDeckSize())
@@ -1648,71 +1679,10 @@ public class GameEngineTest {
 	}
 
 	@Test
-	public void handlePlayerElimination_withTwoActivePlayers_syncsCorrectly() {
-		Player player1 = EasyMock.createMock(Player.class);
-		Player player2 = EasyMock.createMock(Player.class);
-		List<Player> activePlayers = Arrays.asList(player1, player2);
-
-		EasyMock.expect(mockPlayerManager.getActivePlayers())
-				.andReturn(activePlayers);
-		EasyMock.replay(mockPlayerManager);
-
-		mockTurnManager.syncWith(activePlayers);
-		EasyMock.expectLastCall();
-		EasyMock.replay(mockTurnManager);
-
-		gameEngine.handlePlayerGetsEliminated();
-
-		EasyMock.verify(mockPlayerManager, mockTurnManager);
-	}
-
-	@Test
-	public void handlePlayerElimination_withOneActivePlayer_syncsCorrectly() {
-		Player lastPlayer = EasyMock.createMock(Player.class);
-		List<Player> activePlayers = Arrays.asList(lastPlayer);
-
-		EasyMock.expect(mockPlayerManager.getActivePlayers())
-				.andReturn(activePlayers);
-		EasyMock.replay(mockPlayerManager);
-
-		mockTurnManager.syncWith(activePlayers);
-		EasyMock.expectLastCall();
-		EasyMock.replay(mockTurnManager);
-
-		gameEngine.handlePlayerGetsEliminated();
-
-		EasyMock.verify(mockPlayerManager, mockTurnManager);
-	}
-
-	@Test
-	public void handlePlayerElimination_withThreeActivePlayers_syncsCorrectly() {
-		Player player1 = EasyMock.createMock(Player.class);
-		Player player2 = EasyMock.createMock(Player.class);
-		Player player3 = EasyMock.createMock(Player.class);
-		List<Player> activePlayers = Arrays.asList(player1, player2, player3);
-
-		EasyMock.expect(mockPlayerManager.getActivePlayers()).andReturn(activePlayers);
+	public void handlePlayerElimination_removesCurrentPlayerFromTurnOrder() {
 		EasyMock.replay(mockPlayerManager);
-
-		mockTurnManager.syncWith(activePlayers);
-		EasyMock.expectLastCall();
-		EasyMock.replay(mockTurnManager);
-
-		gameEngine.handlePlayerGetsEliminated();
-
-		EasyMock.verify(mockPlayerManager, mockTurnManager);
-	}
-
-	@Test
-	public void handlePlayerElimination_verifyMethodCallOrder() {
-		Player player1 = EasyMock.createMock(Player.class);
-		List<Player> activePlayers = Arrays.asList(player1);
-
-		EasyMock.expect(mockPlayerManager.getActivePlayers()).andReturn(activePlayers);
-		mockTurnManager.syncWith(activePlayers);
+		mockTurnManager.removeEliminatedCurrentPlayer();
 		EasyMock.expectLastCall();
-
-		EasyMock.replay(mockPlayerManager);
 		EasyMock.replay(mockTurnManager);
 
 		gameEngine.handlePlayerGetsEliminated();
@@ -1721,89 +1691,28 @@ public class GameEngineTest {
 	}
 
 	@Test
-	public void handlePlayerElimination_passesExactListFromPlayerManager() {
-		Player player1 = EasyMock.createMock(Player.class);
-		Player player2 = EasyMock.createMock(Player.class);
-
-		List<Player> specificPlayerList = new ArrayList<>();
-		specificPlayerList.add(player1);
-		specificPlayerList.add(player2);
-
-		EasyMock.expect(mockPlayerManager.getActivePlayers())
-				.andReturn(specificPlayerList);
+	public void handlePlayerElimination_calledMultipleTimes_removesEachTime() {
 		EasyMock.replay(mockPlayerManager);
-		mockTurnManager.syncWith(EasyMock.same(specificPlayerList));
-		EasyMock.expectLastCall();
+		mockTurnManager.removeEliminatedCurrentPlayer();
+		EasyMock.expectLastCall().times(2);
 		EasyMock.replay(mockTurnManager);
 
 		gameEngine.handlePlayerGetsEliminated();
-
-		EasyMock.verify(mockPlayerManager, mockTurnManager);
-	}
-
-	@Test
-	public void handlePlayerElimination_withEmptyPlayerList_stillCallsSyncWith() {
-		List<Player> emptyPlayerList = new ArrayList<>();
-
-		EasyMock.expect(mockPlayerManager.getActivePlayers())
-				.andReturn(emptyPlayerList);
-		EasyMock.replay(mockPlayerManager);
-
-		mockTurnManager.syncWith(emptyPlayerList);
-		EasyMock.expectLastCall();
-		EasyMock.replay(mockTurnManager);
-
 		gameEngine.handlePlayerGetsEliminated();
 
 		EasyMock.verify(mockPlayerManager, mockTurnManager);
 	}
 
 	@Test
-	public void handlePlayerElimination_calledMultipleTimes_worksCorrectly() {
-		Player player1 = EasyMock.createMock(Player.class);
-		Player player2 = EasyMock.createMock(Player.class);
-		List<Player> twoPlayers = Arrays.asList(player1, player2);
-
-		List<Player> onePlayer = Arrays.asList(player1);
-
-		EasyMock.expect(mockPlayerManager.getActivePlayers())
-				.andReturn(twoPlayers)
-				.andReturn(onePlayer);
+	public void handlePlayerElimination_withLastPlayer_propagatesException() {
 		EasyMock.replay(mockPlayerManager);
-
-		mockTurnManager.syncWith(twoPlayers);
-		EasyMock.expectLastCall();
-		mockTurnManager.syncWith(onePlayer);
-		EasyMock.expectLastCall();
+		mockTurnManager.removeEliminatedCurrentPlayer();
+		EasyMock.expectLastCall().andThrow(
+				new IllegalStateException("Cannot remove the last player"));
 		EasyMock.replay(mockTurnManager);
 
-		gameEngine.handlePlayerGetsEliminated();
-		gameEngine.handlePlayerGetsEliminated();
-
-		EasyMock.verify(mockPlayerManager, mockTurnManager);
-	}
-
-	@Test
-	public void handlePlayerElimination_doesNotModifyPlayerList() {
-		Player player1 = EasyMock.createMock(Player.class);
-		Player player2 = EasyMock.createMock(Player.class);
-
-		List<Player> originalList = new ArrayList<>();
-		originalList.add(player1);
-		originalList.add(player2);
-		int originalSize = originalList.size();
-
-		EasyMock.expect(mockPlayerManager.getActivePlayers()).andReturn(originalList);
-		EasyMock.replay(mockPlayerManager);
-
-		mockTurnManager.syncWith(originalList);
-		EasyMock.expectLastCall();
-		EasyMock.replay(mockTurnManager);
-
-		gameEngine.handlePlayerGetsEliminated();
-		assertEquals(originalSize, originalList.size());
-		assertTrue(originalList.contains(player1));
-		assertTrue(originalList.contains(player2));
+		assertThrows(IllegalStateException.class,
+				() -> gameEngine.handlePlayerGetsEliminated());
 
 		EasyMock.verify(mockPlayerManager, mockTurnManager);
 	}
@@ -1814,8 +1723,8 @@ public class GameEngineTest {
 		Player player2 = EasyMock.createMock(Player.class);
 		List<Player> activePlayers = Arrays.asList(player1, player2);
 
-		EasyMock.expect(mockPlayerManager.getActivePlayers())
-				.andReturn(activePlayers);
+		EasyMock.expect(mockPlayerManager.getNumberOfActivePlayers())
+				.andReturn(activePlayers.size());
 		EasyMock.replay(mockPlayerManager);
 		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
 		PrintStream originalOut = System.out;
@@ -1841,8 +1750,8 @@ public class GameEngineTest {
 		Player player3 = EasyMock.createMock(Player.class);
 		List<Player> activePlayers = Arrays.asList(player1, player2, player3);
 
-		EasyMock.expect(mockPlayerManager.getActivePlayers())
-				.andReturn(activePlayers);
+		EasyMock.expect(mockPlayerManager.getNumberOfActivePlayers())
+				.andReturn(activePlayers.size());
 		EasyMock.replay(mockPlayerManager);
 		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
 		PrintStream originalOut = System.out;
@@ -1870,8 +1779,8 @@ public class GameEngineTest {
 			activePlayers.add(EasyMock.createMock(Player.class));
 		}
 
-		EasyMock.expect(mockPlayerManager.getActivePlayers())
-				.andReturn(activePlayers);
+		EasyMock.expect(mockPlayerManager.getNumberOfActivePlayers())
+				.andReturn(activePlayers.size());
 		EasyMock.replay(mockPlayerManager);
 		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
 		PrintStream originalOut = System.out;
@@ -1895,8 +1804,8 @@ public class GameEngineTest {
 		Player player1 = EasyMock.createMock(Player.class);
 		List<Player> activePlayers = Arrays.asList(player1);
 
-		EasyMock.expect(mockPlayerManager.getActivePlayers())
-				.andReturn(activePlayers);
+		EasyMock.expect(mockPlayerManager.getNumberOfActivePlayers())
+				.andReturn(activePlayers.size());
 		EasyMock.replay(mockPlayerManager);
 
 		EasyMock.expect(mockLocaleManager.get("game.over.win"))
@@ -1924,8 +1833,8 @@ public class GameEngineTest {
 	@Test
 	public void checkWinCondition_withNoActivePlayers_gameEndsWithNoWinner() {
 		List<Player> activePlayers = Arrays.asList();
-		EasyMock.expect(mockPlayerManager.getActivePlayers())
-				.andReturn(activePlayers);
+		EasyMock.expect(mockPlayerManager.getNumberOfActivePlayers())
+				.andReturn(activePlayers.size());
 		EasyMock.replay(mockPlayerManager);
 
 		EasyMock.expect(mockLocaleManager.get("game.over.lose"))
@@ -2042,7 +1951,8 @@ public class GameEngineTest {
 		EasyMock.replay(mockCard);
 
 		Player mockPlayer = EasyMock.createMock(Player.class);
-		EasyMock.expect(mockPlayer.parseCardType(cardName))
+		String input = "play " + cardName;
+		EasyMock.expect(mockPlayer.parseCardType(input, "play ".length(), input.length()))
 				.andReturn(cardType);
 		mockPlayer.removeCardFromHand(mockCard);
 		EasyMock.expectLastCall();
@@ -2062,7 +1972,7 @@ public class GameEngineTest {
 		}
 		EasyMock.replay(mockTurnManager);
 
-		gameEngine.processCommand("play " + cardName, mockPlayer);
+		gameEngine.processCommand(input, mockPlayer);
 
 		EasyMock.verify(mockPlayer, mockCardFactory, mockTurnManager,
 				mockCard, mockEffect, mockUserInterface);
@@ -2072,7 +1982,9 @@ public class GameEngineTest {
 	public void
 	processCommand_whenHandlePlayCommandThrowsException_displaysErrorMessage() {
 		Player mockPlayer = EasyMock.createMock(Player.class);
-		EasyMock.expect(mockPlayer.parseCardType("invalidcard")).andThrow(
+		String input = "play invalidcard";
+		EasyMock.expect(mockPlayer.parseCardType(input, "play ".length(),
+				input.length())).andThrow(
 				new IllegalArgumentException("Invalid card type"));
 		EasyMock.replay(mockPlayer);
 
@@ -2087,7 +1999,7 @@ public class GameEngineTest {
 		EasyMock.expectLastCall();
 		EasyMock.replay(mockUserInterface);
 
-		gameEngine.processCommand("play invalidcard", mockPlayer);
+		gameEngine.processCommand(input, mockPlayer);
 
 		EasyMock.verify(mockUserInterface, mockPlayer);
 	}
@@ -2199,7 +2111,8 @@ public class GameEngineTest {
 	public void processCommand_withMultipleSpacesInPlayCommand_DoesntFail() {
 		Player mockPlayer = EasyMock.createMock(Player.class);
 
-		EasyMock.expect(mockPlayer.parseCardType("skip"))
+		String input = "play\t  skip";
+		EasyMock.expect(mockPlayer.parseCardType(input, input.indexOf('s'), input.length()))
 				.andThrow(new IllegalArgumentException("Invalid card type"));
 
 		EasyMock.expect(mockLocaleManager.get("command.error.empty"))
@@ -2212,12 +2125,52 @@ public class GameEngineTest {
 		mockUserInterface.displayError("Error executing command: Invalid card type");
 		EasyMock.expectLastCall();
 		EasyMock.replay(mockPlayer, mockUserInterface);
-		gameEngine.processCommand("play	  skip", mockPlayer);
+		gameEngine.processCommand(input, mockPlayer);
 
 		EasyMock.verify(mockPlayer, mockUserInterface);
 	}
 
 
+	@Test
+	public void processCommand_withAmbiguousCardName_displaysMatchingCards() {
+		CardFactory cardFactory = new CardFactory();
+		Player player = new Player(new Hand());
+		player.addCardToHand(cardFactory.createCard(CardType.NORMAL));
+		player.addCardToHand(cardFactory.createCard(CardType.NUKE));
+
+		EasyMock.expect(mockLocaleManager.get("card.error.ambiguous"))
+				.andReturn("'%s' matches more than one card in your hand: %s");
+		EasyMock.expect(mockLocaleManager.getCardName(CardType.NORMAL))
+				.andReturn("Normal Cat");
+		EasyMock.expect(mockLocaleManager.getCardName(CardType.NUKE))
+				.andReturn("Nuke");
+		mockUserInterface.displayError(
+				"'n' matches more than one card in your hand: Normal Cat, Nuke");
+		EasyMock.expectLastCall();
+		EasyMock.replay(mockLocaleManager, mockUserInterface, mockCardFactory);
+
+		gameEngine.processCommand("play n", player);
+
+		EasyMock.verify(mockLocaleManager, mockUserInterface, mockCardFactory);
+		assertEquals(2, player.getNumberOfCards());
+	}
+
+	@Test
+	public void processCommand_withCardNotInHand_displaysNotInHandError() {
+		Player player = new Player(new Hand());
+		player.addCardToHand(new CardFactory().createCard(CardType.SKIP));
+
+		EasyMock.expect(mockLocaleManager.get("card.error.not.in.hand"))
+				.andReturn("No card in your hand matches '%s'");
+		mockUserInterface.displayError("No card in your hand matches 'nuke'");
+		EasyMock.expectLastCall();
+		EasyMock.replay(mockLocaleManager, mockUserInterface, mockCardFactory);
+
+		gameEngine.processCommand("play nuke", player);
+
+		EasyMock.verify(mockLocaleManager, mockUserInterface, mockCardFactory);
+	}
+
 	@Test
 	public void processCommand_withStatusCommand_displaysGameStatus() {
 		Player mockCurrentPlayer = EasyMock.createMock(Player.class);
@@ -2227,8 +2180,8 @@ public class GameEngineTest {
 		List<Player> activePlayers = Arrays.asList(mockActivePlayer1,
 				mockActivePlayer2);
 
-		EasyMock.expect(mockPlayerManager.getActivePlayers())
-				.andReturn(activePlayers);
+		EasyMock.expect(mockPlayerManager.getNumberOfActivePlayers())
+				.andReturn(activePlayers.size());
 		EasyMock.replay(mockPlayerManager);
 
 		final int EXPECTED_NUMBER_OF_CARDS = 10;
@@ -2248,11 +2201,15 @@ public class GameEngineTest {
 				.andReturn("Cards in deck: ");
 		EasyMock.expect(mockLocaleManager.get("status.current.player.cards"))
 				.andReturn("Current player has %d cards");
+		EasyMock.expect(mockLocaleManager.get("status.kitten.chance"))
+				.andReturn("Chance the next draw explodes: %d%%");
 		EasyMock.replay(mockLocaleManager);
 
 		final int EXPECTED_NUMBER_OF_CARDS_TWO = 5;
 		EasyMock.expect(mockCurrentPlayer.getNumberOfCards()).
 				andReturn(EXPECTED_NUMBER_OF_CARDS_TWO);
+		EasyMock.expect(mockCurrentPlayer.getDrawExplosionChance())
+				.andReturn(DRAW_EXPLOSION_CHANCE);
 		EasyMock.replay(mockCurrentPlayer);
 
 		EasyMock.replay(mockUserInterface);
@@ -2339,6 +2296,12 @@ public class GameEngineTest {
 		);
 	}
 
+	private long countCards(List<Card> cards, CardType cardType) {
+		return cards.stream()
+				.filter(card -> card.getCardType() == cardType)
+				.count();
+	}
+
 	private Player mockActivePlayer() {
 		Player mockPlayer = EasyMock.createMock(Player.class);
 		EasyMock.expect(mockPlayer.isInGame()).andReturn(true).anyTimes();
@@ -2352,4 +2315,129 @@ public class GameEngineTest {
 		EasyMock.replay(mockPlayer);
 		return mockPlayer;
 	}
+
+	@Test
+	public void createHeadlessGame_withNullDecisionMaker_throwsNullPointerException() {
+		NullPointerException exception = assertThrows(NullPointerException.class,
+				() -> GameEngine.createHeadlessGame(THREE_PLAYERS, null,
+						new FastGameRandom(1L)));
+		assertEquals("decisionMaker must not be null", exception.getMessage());
+	}
+
+	@Test
+	public void createHeadlessGame_runsToCompletionWithoutConsoleOutput() {
+		PrintStream originalOut = System.out;
+		PrintStream originalErr = System.err;
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		GameEngine engine;
+		try {
+			PrintStream capture = new PrintStream(outputStream, true,
+					StandardCharsets.UTF_8);
+			System.setOut(capture);
+			System.setErr(capture);
+			engine = GameEngine.createHeadlessGame(FOUR_PLAYERS,
+					new RandomDecisionMaker(new SplittableRandom(1L)),
+					new FastGameRandom(1L));
+			engine.initializeGame();
+			engine.runGameLoop();
+		} finally {
+			System.setOut(originalOut);
+			System.setErr(originalErr);
+		}
+
+		assertFalse(engine.getIsGameRunning());
+		assertEquals(0, outputStream.size());
+		int winner = engine.getWinningPlayerIndex();
+		assertTrue(winner >= 0 && winner < FOUR_PLAYERS);
+	}
+
+	@Test
+	public void createInitialDeck_inStandardMode_matchesDefaultDeck() {
+		CardFactory factory = new CardFactory();
+
+		assertEquals(GameEngine.createInitialDeck(factory, MAX_PLAYERS),
+				GameEngine.createInitialDeck(factory, MAX_PLAYERS,
+						LobbyMode.STANDARD));
+	}
+
+	@Test
+	public void createInitialDeck_inLargeMode_scalesEveryCardTypeWithPlayers() {
+		final int HUNDRED_PLAYERS = 100;
+		final int NUMBER_OF_DECKS = 20;
+		CardFactory factory = new CardFactory();
+		List<Card> standardDeck = GameEngine.createInitialDeck(factory, MAX_PLAYERS);
+
+		List<Card> largeDeck = GameEngine.createInitialDeck(factory,
+				HUNDRED_PLAYERS, LobbyMode.LARGE);
+
+		assertEquals(standardDeck.size() * NUMBER_OF_DECKS, largeDeck.size());
+		for (CardType cardType : CardType.values()) {
+			assertEquals(countCards(standardDeck, cardType) * NUMBER_OF_DECKS,
+					countCards(largeDeck, cardType));
+		}
+	}
+
+	@Test
+	public void createHeadlessGame_withLargeLobby_playsToASingleWinner() {
+		final int THOUSAND_PLAYERS = 1000;
+		GameEngine engine = GameEngine.createHeadlessGame(THOUSAND_PLAYERS,
+				new RandomDecisionMaker(new SplittableRandom(1L)),
+				new FastGameRandom(1L));
+
+		engine.initializeGame();
+		engine.runGameLoop();
+
+		assertFalse(engine.getIsGameRunning());
+		int winner = engine.getWinningPlayerIndex();
+		assertTrue(winner >= 0 && winner < THOUSAND_PLAYERS);
+	}
+
+	@Test
+	public void getWinningPlayerIndex_withSeveralActivePlayers_returnsMinusOne() {
+		GameEngine engine = GameEngine.createHeadlessGame(THREE_PLAYERS,
+				new RandomDecisionMaker(new SplittableRandom(1L)),
+				new FastGameRandom(1L));
+		assertEquals(-1, engine.getWinningPlayerIndex());
+	}
+
+	@Test
+	public void initializeGame_withSecureRandom_usesItForKittenPositions() {
+		final int STARTING_CARDS = 4;
+		CardFactory cardFactory = new CardFactory();
+		Deck deck = new ListDeck(GameEngine.createInitialDeck(cardFactory, THREE_PLAYERS));
+		PlayerManager playerManager = new PlayerManager(deck);
+		playerManager.addPlayers(THREE_PLAYERS);
+		TurnManager turnManager = new TurnManager();
+		turnManager.setPlayerManager(playerManager);
+		int deckSizeAfterDeal =
+				deck.getDeckSize() - THREE_PLAYERS * STARTING_CARDS;
+		EasyMock.expect(mockSecureRandom.nextInt(deckSizeAfterDeal)).andReturn(0);
+		EasyMock.expect(mockSecureRandom.nextInt(deckSizeAfterDeal + 1)).andReturn(0);
+		mockUserInterface.displayHelp();
+		EasyMock.replay(mockSecureRandom, mockUserInterface);
+		GameEngine engine = new GameEngine(turnManager, playerManager, deck,
+				mockUserInterface, cardFactory, mockSecureRandom,
+				mockLocaleManager);
+
+		engine.initializeGame();
+
+		assertEquals(CardType.EXPLODING_KITTEN, deck.getCardAt(0).getCardType());
+		assertEquals(CardType.EXPLODING_KITTEN, deck.getCardAt(1).getCardType());
+		EasyMock.verify(mockSecureRandom, mockUserInterface);
+	}
+
+	@Test
+	public void createHeadlessGame_sameGameRandomSeed_playsSameGame() {
+		final long SEED = 11L;
+		int[] winners = new int[2];
+		for (int game = 0; game < winners.length; game++) {
+			GameEngine engine = GameEngine.createHeadlessGame(FOUR_PLAYERS,
+					new RandomDecisionMaker(new SplittableRandom(SEED)),
+					new FastGameRandom(SEED));
+			engine.initializeGame();
+			engine.runGameLoop();
+			winners[game] = engine.getWinningPlayerIndex();
+		}
+		assertEquals(winners[0], winners[1]);
+	}
 }
@@ -0,0 +1,230 @@
+package domain;
+
+import locale.LocaleManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ui.ConsoleRenderer;
+import ui.UserInterface;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static domain.GameTestSupport.describe;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameReplayerTest {
+	private static final long SEED = 42L;
+	private static final int FOUR_PLAYERS = 4;
+	private static final int TWO_PLAYERS = 2;
+	private static final int SCRIPTED_ROUNDS = 400;
+	private static final int STARTING_HAND_SIZE = 5;
+
+	private final InputStream originalIn = System.in;
+
+	@TempDir
+	Path temporaryDirectory;
+
+	@AfterEach
+	public void restoreInput() {
+		System.setIn(originalIn);
+	}
+
+	@Test
+	public void replayAll_headlessGame_reproducesFinalState() throws IOException {
+		Path logFile = temporaryDirectory.resolve("game.log");
+		GameEngine recorded = recordHeadlessGame(logFile, SEED, FOUR_PLAYERS);
+
+		GameReplayer replayer = GameReplayer.open(logFile);
+		GameEngine replayed = replayer.replayAll();
+
+		assertEquals(SEED, replayer.getSeed());
+		assertEquals(FOUR_PLAYERS, replayer.getNumberOfPlayers());
+		assertFalse(replayed.getIsGameRunning());
+		assertEquals(recorded.getWinningPlayerIndex(), replayed.getWinningPlayerIndex());
+		assertEquals(describe(recorded), describe(replayed));
+	}
+
+	@Test
+	public void replayAll_calledTwice_returnsIndependentGames() throws IOException {
+		Path logFile = temporaryDirectory.resolve("game.log");
+		GameEngine recorded = recordHeadlessGame(logFile, SEED, FOUR_PLAYERS);
+		GameReplayer replayer = GameReplayer.open(logFile);
+
+		GameEngine first = replayer.replayAll();
+		GameEngine second = replayer.replayAll();
+
+		assertNotSame(first, second);
+		assertEquals(describe(recorded), describe(first));
+		assertEquals(describe(recorded), describe(second));
+	}
+
+	@Test
+	public void replay_zeroCommands_stopsAfterDealing() throws IOException {
+		Path logFile = temporaryDirectory.resolve("game.log");
+		recordHeadlessGame(logFile, SEED, FOUR_PLAYERS);
+
+		GameEngine replayed = GameReplayer.open(logFile).replay(0);
+
+		assertTrue(replayed.getIsGameRunning());
+		for (Player player : replayed.getPlayerManager().getPlayers()) {
+			assertEquals(STARTING_HAND_SIZE, player.getNumberOfCards());
+			assertTrue(player.hasCardType(CardType.DEFUSE));
+		}
+	}
+
+	@Test
+	public void replay_prefixOfCommands_matchesGameAtThatPoint() throws IOException {
+		Path logFile = temporaryDirectory.resolve("game.log");
+		recordHeadlessGame(logFile, SEED, FOUR_PLAYERS);
+		final int commands = 10;
+
+		CountingListener counter = new CountingListener();
+		GameEngine original = GameEngine.createHeadlessGame(FOUR_PLAYERS,
+				new RandomDecisionMaker(new SplittableRandom(SEED)),
+				new FastGameRandom(SEED));
+		original.setEventListener(counter);
+		original.initializeGame();
+		while (counter.commands < commands) {
+			original.playTurn();
+		}
+
+		GameEngine replayed = GameReplayer.open(logFile).replay(commands);
+
+		assertEquals(describe(original), describe(replayed));
+	}
+
+	@Test
+	public void replayAll_interactiveGame_reproducesFinalState() throws IOException {
+		Path logFile = temporaryDirectory.resolve("interactive.log");
+		StringBuilder script = new StringBuilder();
+		for (int i = 0; i < SCRIPTED_ROUNDS; i++) {
+			script.append("hand\ndraw\n0\n");
+		}
+		System.setIn(new ByteArrayInputStream(
+				script.toString().getBytes(StandardCharsets.UTF_8)));
+
+		LocaleManager localeManager = new LocaleManager();
+		UserInterface userInterface = new UserInterface(localeManager,
+				ConsoleRenderer.nullRenderer());
+		CardFactory cardFactory = new CardFactory();
+		Deck deck = new ListDeck(GameEngine.createInitialDeck(cardFactory, TWO_PLAYERS));
+		GameRandom random = new FastGameRandom(SEED);
+		deck.shuffleDeck(random);
+		PlayerManager playerManager = new PlayerManager(deck);
+		playerManager.addPlayers(TWO_PLAYERS);
+		TurnManager turnManager = new CircularTurnManager();
+		turnManager.setPlayerManager(playerManager);
+		GameEngine recorded = new GameEngine(turnManager, playerManager, deck,
+				userInterface, cardFactory, random, localeManager, null);
+		recorded.setRenderer(ConsoleRenderer.nullRenderer());
+
+		try (GameEventLog eventLog = GameEventLog.create(logFile)) {
+			recorded.setEventListener(eventLog);
+			recorded.initializeGame();
+			recorded.runGameLoop();
+		}
+
+		GameEngine replayed = GameReplayer.open(logFile).replayAll();
+
+		assertEquals(recorded.getWinningPlayerIndex(), replayed.getWinningPlayerIndex());
+		assertEquals(describe(recorded), describe(replayed));
+	}
+
+	@Test
+	public void replayAll_tamperedRandomDraw_throwsIllegalStateException()
+			throws IOException {
+		Path logFile = temporaryDirectory.resolve("game.log");
+		recordHeadlessGame(logFile, SEED, FOUR_PLAYERS);
+		byte[] bytes = Files.readAllBytes(logFile);
+		int headerLength = Integer.BYTES + 2 + Long.BYTES + 2 * Integer.BYTES;
+		int firstEvent = headerLength + readInt(bytes, headerLength - Integer.BYTES);
+		assertEquals(GameEventLog.RANDOM, bytes[firstEvent]);
+		bytes[firstEvent + 1 + Integer.BYTES - 1]++;
+		Path tampered = temporaryDirectory.resolve("tampered.log");
+		Files.write(tampered, bytes);
+
+		GameReplayer replayer = GameReplayer.open(tampered);
+
+		assertThrows(IllegalStateException.class, replayer::replayAll);
+	}
+
+	@Test
+	public void replayAll_logCutMidEvent_throwsIllegalStateException()
+			throws IOException {
+		Path logFile = temporaryDirectory.resolve("game.log");
+		recordHeadlessGame(logFile, SEED, FOUR_PLAYERS);
+		byte[] bytes = Files.readAllBytes(logFile);
+		Path truncated = temporaryDirectory.resolve("truncated.log");
+		Files.write(truncated, Arrays.copyOf(bytes, bytes.length - 1));
+
+		GameReplayer replayer = GameReplayer.open(truncated);
+
+		assertThrows(IllegalStateException.class, replayer::replayAll);
+	}
+
+	@Test
+	public void open_withForeignFile_throwsIllegalArgumentException() throws IOException {
+		Path logFile = temporaryDirectory.resolve("foreign.log");
+		Files.write(logFile, "not a log".getBytes(StandardCharsets.UTF_8));
+
+		assertThrows(IllegalArgumentException.class, () -> GameReplayer.open(logFile));
+	}
+
+	@Test
+	public void create_withExistingFile_throwsFileAlreadyExistsException()
+			throws IOException {
+		Path logFile = temporaryDirectory.resolve("game.log");
+		recordHeadlessGame(logFile, SEED, TWO_PLAYERS);
+
+		assertThrows(FileAlreadyExistsException.class,
+				() -> GameEventLog.create(logFile));
+	}
+
+	@Test
+	public void setEventListener_calledTwice_throwsIllegalStateException() {
+		GameEngine gameEngine = GameEngine.createHeadlessGame(TWO_PLAYERS,
+				new RandomDecisionMaker(new SplittableRandom(SEED)),
+				new FastGameRandom(SEED));
+		gameEngine.setEventListener(new CountingListener());
+
+		assertThrows(IllegalStateException.class,
+				() -> gameEngine.setEventListener(new CountingListener()));
+	}
+
+	private static GameEngine recordHeadlessGame(Path logFile, long seed,
+			int numberOfPlayers) throws IOException {
+		GameEngine gameEngine = GameEngine.createHeadlessGame(numberOfPlayers,
+				new RandomDecisionMaker(new SplittableRandom(seed)),
+				new FastGameRandom(seed));
+		try (GameEventLog eventLog = GameEventLog.create(logFile)) {
+			gameEngine.setEventListener(eventLog);
+			gameEngine.initializeGame();
+			gameEngine.runGameLoop();
+		}
+		return gameEngine;
+	}
+
+
+	private static int readInt(byte[] bytes, int offset) {
+		return ByteBuffer.wrap(bytes, offset, Integer.BYTES).getInt();
+	}
+
+	private static final class CountingListener implements GameEventListener {
+		private int commands;
+
+		@Override
+		public void onCommand(int playerIndex, String command) {
+			commands++;
+		}
+	}
+}
@@ -0,0 +1,150 @@
+package domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameServerTest {
+	private static final long SEED = 3L;
+	private static final int THREADS = 4;
+	private static final int FOUR_PLAYERS = 4;
+	private static final int PLAYED_TABLES = 500;
+	private static final int IDLE_TABLES = 10_000;
+	private static final long TIMEOUT_SECONDS = 30;
+
+	@Test
+	public void openTable_withDrawingPlayers_everyTableFinishes() throws InterruptedException {
+		try (GameServer server = new GameServer(THREADS, RandomProvider.seeded(SEED))) {
+			CountDownLatch finished = new CountDownLatch(PLAYED_TABLES);
+			AtomicInteger winners = new AtomicInteger();
+			GameTable.Listener players = new DrawingPlayers(server, finished, winners);
+
+			for (int i = 0; i < PLAYED_TABLES; i++) {
+				server.openTable(FOUR_PLAYERS, players);
+			}
+
+			assertTrue(finished.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+			assertTrue(server.awaitTermination(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+			assertEquals(PLAYED_TABLES, winners.get());
+			assertEquals(0, server.getNumberOfOpenTables());
+		}
+	}
+
+	@Test
+	public void openTable_idleTables_holdNoThreads() throws InterruptedException {
+		try (GameServer server = new GameServer(THREADS, RandomProvider.seeded(SEED))) {
+			CountDownLatch waiting = new CountDownLatch(IDLE_TABLES);
+			GameTable.Listener players = new GameTable.Listener() {
+				@Override
+				public void onAwaitingInput(GameTable table, int seat,
+						GameTable.InputKind kind, int minimum,
+						int maximum) {
+					waiting.countDown();
+				}
+			};
+			int threadsBefore = Thread.activeCount();
+
+			for (int i = 0; i < IDLE_TABLES; i++) {
+				server.openTable(FOUR_PLAYERS, players);
+			}
+
+			assertTrue(waiting.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+			assertEquals(IDLE_TABLES, server.getNumberOfOpenTables());
+			assertTrue(Thread.activeCount() <= threadsBefore + THREADS);
+		}
+	}
+
+	@Test
+	public void submit_toUnknownTable_throwsIllegalArgumentException() {
+		try (GameServer server = new GameServer(1)) {
+			assertThrows(IllegalArgumentException.class,
+					() -> server.submit(1L, 0, "draw"));
+		}
+	}
+
+	@Test
+	public void inspect_openTable_runsOnTableWorker() throws InterruptedException {
+		try (GameServer server = new GameServer(THREADS, RandomProvider.seeded(SEED))) {
+			GameTable table = server.openTable(FOUR_PLAYERS, new GameTable.Listener() {
+			});
+			CountDownLatch inspected = new CountDownLatch(1);
+			AtomicInteger activePlayers = new AtomicInteger();
+
+			server.inspect(table.getId(), inspectedTable -> {
+				activePlayers.set(inspectedTable.getNumberOfActivePlayers());
+				inspected.countDown();
+			});
+
+			assertTrue(inspected.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+			assertEquals(FOUR_PLAYERS, activePlayers.get());
+		}
+	}
+
+	@Test
+	public void inspect_unknownTable_throwsIllegalArgumentException() {
+		try (GameServer server = new GameServer(1)) {
+			assertThrows(IllegalArgumentException.class,
+					() -> server.inspect(1L, table -> { }));
+		}
+	}
+
+	@Test
+	public void constructor_withoutThreads_throwsIllegalArgumentException() {
+		assertThrows(IllegalArgumentException.class, () -> new GameServer(0));
+	}
+
+	@Test
+	public void awaitTermination_afterGamesFinish_stopsWorkers() {
+		assertTimeoutPreemptively(Duration.ofSeconds(TIMEOUT_SECONDS), () -> {
+			GameServer server = new GameServer(THREADS, RandomProvider.seeded(SEED));
+			CountDownLatch finished = new CountDownLatch(1);
+			server.openTable(FOUR_PLAYERS,
+					new DrawingPlayers(server, finished, new AtomicInteger()));
+			assertTrue(finished.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+			assertTrue(server.awaitTermination(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+		});
+	}
+
+	private static final class DrawingPlayers implements GameTable.Listener {
+		private final GameServer server;
+		private final CountDownLatch finished;
+		private final AtomicInteger winners;
+
+		DrawingPlayers(GameServer server, CountDownLatch finished, AtomicInteger winners) {
+			this.server = server;
+			this.finished = finished;
+			this.winners = winners;
+		}
+
+		@Override
+		public void onAwaitingInput(GameTable table, int seat, GameTable.InputKind kind,
+				int minimum, int maximum) {
+			String answer;
+			if (kind == GameTable.InputKind.NUMBER) {
+				answer = Integer.toString(maximum);
+			} else if (kind == GameTable.InputKind.CARD) {
+				List<CardType> cards = table.getAvailableCardTypes(seat);
+				answer = cards.isEmpty() ? "none" : cards.get(0).name();
+			} else {
+				List<CardType> cards = table.getAvailableCardTypes(seat);
+				answer = cards.contains(CardType.FAVOR) ? "play favor" : "draw";
+			}
+			server.submit(table.getId(), seat, answer);
+		}
+
+		@Override
+		public void onGameOver(GameTable table, int winningSeat) {
+			if (winningSeat >= 0) {
+				winners.incrementAndGet();
+			}
+			finished.countDown();
+		}
+	}
+}
@@ -0,0 +1,434 @@
+package domain;
+
+import org.junit.jupiter.api.Test;
+import ui.SilentUserInterface;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static domain.GameTestSupport.describe;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameSnapshotTest {
+	private static final long SEED = 11L;
+	private static final long OTHER_SEED = 99L;
+	private static final int FOUR_PLAYERS = 4;
+	private static final int THREE_PLAYERS = 3;
+	private static final int TURNS_BEFORE_SNAPSHOT = 15;
+	private static final int HEADER_BYTES = 13;
+	private static final int TURN_BYTES = 12;
+	private static final int DECK_SIZE_OFFSET = 9;
+	private static final int PLAYER_BYTES = 1 + CardType.values().length * Short.BYTES;
+
+	@Test
+	public void restore_intoFreshGame_reproducesFullState() {
+		GameEngine original = headlessGame(FOUR_PLAYERS, SEED);
+		playTurns(original, TURNS_BEFORE_SNAPSHOT);
+		GameEngine copy = headlessGame(FOUR_PLAYERS, OTHER_SEED);
+
+		GameSnapshot.restore(copy, GameSnapshot.save(original));
+
+		assertEquals(describe(original), describe(copy));
+	}
+
+	@Test
+	public void restore_thenContinueWithSameChoices_playsIdenticalGame() {
+		SwitchableDecisionMaker originalChoices = new SwitchableDecisionMaker(SEED);
+		SwitchableRandom originalRandom = new SwitchableRandom(SEED);
+		GameEngine original = GameEngine.createHeadlessGame(FOUR_PLAYERS,
+				originalChoices, originalRandom);
+		original.initializeGame();
+		playTurns(original, TURNS_BEFORE_SNAPSHOT);
+		SwitchableDecisionMaker copyChoices = new SwitchableDecisionMaker(OTHER_SEED);
+		SwitchableRandom copyRandom = new SwitchableRandom(OTHER_SEED);
+		GameEngine copy = GameEngine.createHeadlessGame(FOUR_PLAYERS,
+				copyChoices, copyRandom);
+		copy.initializeGame();
+
+		GameSnapshot.restore(copy, GameSnapshot.save(original));
+		originalChoices.reseed(OTHER_SEED);
+		originalRandom.reseed(OTHER_SEED);
+		copyChoices.reseed(OTHER_SEED);
+		copyRandom.reseed(OTHER_SEED);
+		original.runGameLoop();
+		copy.runGameLoop();
+
+		assertEquals(original.getWinningPlayerIndex(), copy.getWinningPlayerIndex());
+		assertEquals(describe(original), describe(copy));
+	}
+
+	@Test
+	public void restore_finishedGameFromStartSnapshot_reactivatesEliminatedPlayers() {
+		GameEngine gameEngine = headlessGame(FOUR_PLAYERS, SEED);
+		ByteBuffer start = GameSnapshot.save(gameEngine);
+		gameEngine.runGameLoop();
+		assertEquals(1, gameEngine.getPlayerManager().getNumberOfActivePlayers());
+
+		GameSnapshot.restore(gameEngine, start);
+
+		assertTrue(gameEngine.getIsGameRunning());
+		assertEquals(FOUR_PLAYERS,
+				gameEngine.getPlayerManager().getNumberOfActivePlayers());
+		assertEquals(-1, gameEngine.getWinningPlayerIndex());
+	}
+
+	@Test
+	public void sizeOf_usesOneBytePerCardAndTwoPerHandSlot() {
+		GameEngine gameEngine = headlessGame(FOUR_PLAYERS, SEED);
+		int deckSize = gameEngine.getDeck().getDeckSize();
+		int handSlots = CardType.values().length;
+
+		int size = GameSnapshot.sizeOf(gameEngine);
+
+		assertEquals(HEADER_BYTES + deckSize + FOUR_PLAYERS * (1 + 2 * handSlots)
+				+ TURN_BYTES + 2 * FOUR_PLAYERS, size);
+		assertEquals(size, GameSnapshot.save(gameEngine).remaining());
+	}
+
+	@Test
+	public void save_intoSharedBuffer_restoreConsumesExactlyOneSnapshot() {
+		GameEngine first = headlessGame(FOUR_PLAYERS, SEED);
+		GameEngine second = headlessGame(FOUR_PLAYERS, OTHER_SEED);
+		playTurns(second, TURNS_BEFORE_SNAPSHOT);
+		ByteBuffer buffer = ByteBuffer.allocateDirect(
+				GameSnapshot.sizeOf(first) + GameSnapshot.sizeOf(second));
+		GameSnapshot.save(first, buffer);
+		GameSnapshot.save(second, buffer);
+		buffer.flip();
+		GameEngine target = headlessGame(FOUR_PLAYERS, SEED);
+
+		GameSnapshot.restore(target, buffer);
+		assertEquals(describe(first), describe(target));
+		GameSnapshot.restore(target, buffer);
+		assertEquals(describe(second), describe(target));
+		assertFalse(buffer.hasRemaining());
+	}
+
+	@Test
+	public void restore_withListDeckAndQueueTurnManager_keepsAttackState() {
+		GameEngine original = queueGame();
+		TurnManager turnManager = original.getTurnManager();
+		turnManager.addTurnForCurrentPlayer();
+		turnManager.setRequiredTurns(2);
+		turnManager.setCurrentPlayerTurnsTaken(1);
+		GameEngine copy = queueGame();
+
+		GameSnapshot.restore(copy, GameSnapshot.save(original));
+
+		assertEquals(describe(original), describe(copy));
+		assertEquals(2, copy.getTurnManager().getRequiredTurns());
+		assertEquals(1, copy.getTurnManager().getCurrentPlayerTurnsTaken());
+		assertTrue(copy.getTurnManager().isUnderAttack());
+	}
+
+	@Test
+	public void restore_circularTurnManagerWithPendingTurns_keepsTurnOrder() {
+		GameEngine original = headlessGame(FOUR_PLAYERS, SEED);
+		TurnManager turnManager = original.getTurnManager();
+		turnManager.reverseOrder();
+		turnManager.addTurnForCurrentPlayer();
+		turnManager.addTurnForCurrentPlayer();
+		GameEngine copy = headlessGame(FOUR_PLAYERS, OTHER_SEED);
+
+		GameSnapshot.restore(copy, GameSnapshot.save(original));
+		TurnManager restored = copy.getTurnManager();
+
+		assertEquals(describe(original), describe(copy));
+		Player current = restored.getCurrentActivePlayer();
+		assertEquals(THREE_PLAYERS, restored.getTurnsFor(current));
+		restored.advanceToNextPlayer();
+		turnManager.advanceToNextPlayer();
+		assertEquals(describe(original), describe(copy));
+	}
+
+	@Test
+	public void restore_reversedOrderThenElimination_seatsPlayersLikeOriginal() {
+		GameEngine original = headlessGame(FOUR_PLAYERS, SEED);
+		original.getTurnManager().reverseOrder();
+		GameEngine copy = headlessGame(FOUR_PLAYERS, OTHER_SEED);
+		GameSnapshot.restore(copy, GameSnapshot.save(original));
+
+		eliminateCurrentPlayer(original);
+		eliminateCurrentPlayer(copy);
+
+		assertEquals(describe(original), describe(copy));
+	}
+
+	@Test
+	public void restore_withDifferentNumberOfPlayers_throwsIllegalArgumentException() {
+		ByteBuffer snapshot = GameSnapshot.save(headlessGame(FOUR_PLAYERS, SEED));
+		GameEngine target = headlessGame(THREE_PLAYERS, SEED);
+
+		assertThrows(IllegalArgumentException.class,
+				() -> GameSnapshot.restore(target, snapshot));
+	}
+
+	@Test
+	public void restore_withForeignBytes_throwsIllegalArgumentException() {
+		GameEngine target = headlessGame(FOUR_PLAYERS, SEED);
+		ByteBuffer foreign = ByteBuffer.wrap(new byte[HEADER_BYTES * 2]);
+
+		assertThrows(IllegalArgumentException.class,
+				() -> GameSnapshot.restore(target, foreign));
+	}
+
+	@Test
+	public void restore_withTruncatedSnapshot_leavesGameUntouched() {
+		GameEngine target = headlessGame(FOUR_PLAYERS, SEED);
+		List<String> before = describe(target);
+		ByteBuffer snapshot = GameSnapshot.save(headlessGame(FOUR_PLAYERS, OTHER_SEED));
+		snapshot.limit(snapshot.limit() - 1);
+
+		assertThrows(IllegalArgumentException.class,
+				() -> GameSnapshot.restore(target, snapshot));
+		assertEquals(before, describe(target));
+	}
+
+	@Test
+	public void restore_withCorruptPlayersOrTurns_leavesGameUntouched() {
+		GameEngine target = headlessGame(FOUR_PLAYERS, SEED);
+		List<String> before = describe(target);
+		ByteBuffer snapshot = GameSnapshot.save(headlessGame(FOUR_PLAYERS, OTHER_SEED));
+		int playersStart = HEADER_BYTES + snapshot.getInt(DECK_SIZE_OFFSET);
+		int turnsStart = playersStart + FOUR_PLAYERS * PLAYER_BYTES;
+		int orderStart = turnsStart + TURN_BYTES;
+		int lastCount = turnsStart - Short.BYTES;
+
+		List<ByteBuffer> corrupted = List.of(
+				copy(snapshot).putShort(lastCount, (short) -1),
+				copy(snapshot).putInt(turnsStart, -1),
+				copy(snapshot).putInt(turnsStart + Integer.BYTES, -1),
+				copy(snapshot).putShort(orderStart, (short) FOUR_PLAYERS),
+				copy(snapshot).putShort(orderStart, (short) 1)
+						.putShort(orderStart + Short.BYTES, (short) 0));
+
+		for (ByteBuffer source : corrupted) {
+			assertThrows(IllegalArgumentException.class,
+					() -> GameSnapshot.restore(target, source));
+			assertEquals(before, describe(target));
+		}
+	}
+
+	@Test
+	public void restore_withUnknownCard_throwsIllegalArgumentException() {
+		GameEngine target = headlessGame(FOUR_PLAYERS, SEED);
+		ByteBuffer snapshot = GameSnapshot.save(headlessGame(FOUR_PLAYERS, OTHER_SEED));
+		snapshot.put(HEADER_BYTES, (byte) CardType.values().length);
+
+		assertThrows(IllegalArgumentException.class,
+				() -> GameSnapshot.restore(target, snapshot));
+	}
+
+	@Test
+	public void restore_withNullSource_throwsNullPointerException() {
+		GameEngine target = headlessGame(FOUR_PLAYERS, SEED);
+
+		assertThrows(NullPointerException.class,
+				() -> GameSnapshot.restore(target, null));
+	}
+
+	@Test
+	public void determinize_keepsObserverHandAndShuffledCardCounts() {
+		GameEngine original = headlessGame(FOUR_PLAYERS, SEED);
+		playTurns(original, TURNS_BEFORE_SNAPSHOT);
+		int observer = original.getPlayerManager().getPlayerIndex(
+				original.getTurnManager().getCurrentActivePlayer());
+		ByteBuffer snapshot = GameSnapshot.save(original);
+
+		GameSnapshot.determinize(snapshot, observer, new boolean[0],
+				new FastGameRandom(OTHER_SEED), new byte[snapshot.capacity()]);
+		GameEngine copy = headlessGame(FOUR_PLAYERS, OTHER_SEED);
+		GameSnapshot.restore(copy, snapshot);
+
+		List<String> before = describe(original);
+		List<String> after = describe(copy);
+		assertEquals(before.get(observer), after.get(observer));
+		assertNotEquals(before, after);
+		int[] originalCounts = hiddenCounts(original, observer);
+		assertArrayEquals(originalCounts, hiddenCounts(copy, observer));
+		for (int seat = 0; seat < FOUR_PLAYERS; seat++) {
+			Player originalPlayer = original.getPlayerManager().getPlayerByIndex(seat);
+			Player copiedPlayer = copy.getPlayerManager().getPlayerByIndex(seat);
+			assertEquals(originalPlayer.getNumberOfCards(),
+					copiedPlayer.getNumberOfCards());
+			assertEquals(originalPlayer.isInGame(), copiedPlayer.isInGame());
+		}
+		assertEquals(before.subList(FOUR_PLAYERS + 1, before.size()),
+				after.subList(FOUR_PLAYERS + 1, after.size()));
+	}
+
+	@Test
+	public void determinize_withKnownPositions_leavesThemInPlace() {
+		GameEngine original = headlessGame(FOUR_PLAYERS, SEED);
+		Deck originalDeck = original.getDeck();
+		int top = originalDeck.getDeckSize() - 1;
+		boolean[] knownPositions = new boolean[originalDeck.getDeckSize()];
+		knownPositions[0] = true;
+		knownPositions[top / 2] = true;
+		knownPositions[top] = true;
+		ByteBuffer snapshot = GameSnapshot.save(original);
+
+		GameSnapshot.determinize(snapshot, 0, knownPositions,
+				new FastGameRandom(OTHER_SEED), new byte[snapshot.capacity()]);
+		GameEngine copy = headlessGame(FOUR_PLAYERS, OTHER_SEED);
+		GameSnapshot.restore(copy, snapshot);
+
+		Deck copiedDeck = copy.getDeck();
+		for (int index : new int[] {0, top / 2, top}) {
+			assertEquals(originalDeck.getCardAt(index).getCardType(),
+					copiedDeck.getCardAt(index).getCardType());
+		}
+		assertArrayEquals(hiddenCounts(original, 0), hiddenCounts(copy, 0));
+	}
+
+	@Test
+	public void determinize_withBuriedKitten_keepsItWhereTheObserverPutIt() {
+		GameEngine original = headlessGame(FOUR_PLAYERS, SEED);
+		Deck deck = original.getDeck();
+		final int buryIndex = 3;
+		deck.insertCardAt(original.getCardFactory().createCard(CardType.EXPLODING_KITTEN),
+				buryIndex);
+		deck.revealCardAt(0, buryIndex);
+		boolean[] knownPositions = new boolean[deck.getDeckSize()];
+		for (int index = 0; index < deck.getDeckSize(); index++) {
+			knownPositions[index] = deck.kittenTracker.isKnownTo(0, index);
+		}
+		ByteBuffer snapshot = GameSnapshot.save(original);
+		GameEngine copy = headlessGame(FOUR_PLAYERS, OTHER_SEED);
+
+		final int determinizations = 10;
+		for (int seed = 0; seed < determinizations; seed++) {
+			ByteBuffer determinization = copy(snapshot);
+			GameSnapshot.determinize(determinization, 0, knownPositions,
+					new FastGameRandom(seed), new byte[snapshot.capacity()]);
+			GameSnapshot.restore(copy, determinization);
+
+			assertEquals(CardType.EXPLODING_KITTEN,
+					copy.getDeck().getCardAt(buryIndex).getCardType());
+		}
+	}
+
+	private static GameEngine headlessGame(int numberOfPlayers, long seed) {
+		GameEngine gameEngine = GameEngine.createHeadlessGame(numberOfPlayers,
+				new RandomDecisionMaker(new SplittableRandom(seed)),
+				new FastGameRandom(seed));
+		gameEngine.initializeGame();
+		return gameEngine;
+	}
+
+	private static GameEngine queueGame() {
+		CardFactory cardFactory = new CardFactory();
+		Deck deck = new ListDeck(GameEngine.createInitialDeck(cardFactory, THREE_PLAYERS));
+		PlayerManager playerManager = new PlayerManager(deck);
+		playerManager.addPlayers(THREE_PLAYERS);
+		TurnManager turnManager = new TurnManager();
+		turnManager.setPlayerManager(playerManager);
+		GameEngine gameEngine = new GameEngine(turnManager, playerManager, deck,
+				new SilentUserInterface(), cardFactory, new FastGameRandom(SEED),
+				null, new RandomDecisionMaker(new SplittableRandom(SEED)));
+		gameEngine.initializeGame();
+		return gameEngine;
+	}
+
+	private static int[] hiddenCounts(GameEngine gameEngine, int observer) {
+		int[] counts = new int[CardType.values().length];
+		Deck deck = gameEngine.getDeck();
+		for (int i = 0; i < deck.getDeckSize(); i++) {
+			counts[deck.getCardAt(i).getCardType().ordinal()]++;
+		}
+		List<Player> players = gameEngine.getPlayerManager().getPlayers();
+		for (int seat = 0; seat < players.size(); seat++) {
+			if (seat == observer || !players.get(seat).isInGame()) {
+				continue;
+			}
+			for (CardType cardType : CardType.values()) {
+				counts[cardType.ordinal()] +=
+						players.get(seat).getCardTypeCount(cardType);
+			}
+		}
+		return counts;
+	}
+
+	private static void eliminateCurrentPlayer(GameEngine gameEngine) {
+		PlayerManager playerManager = gameEngine.getPlayerManager();
+		playerManager.removePlayerFromGame(
+				gameEngine.getTurnManager().getCurrentActivePlayer());
+		gameEngine.handlePlayerGetsEliminated();
+		gameEngine.getTurnManager().advanceToNextPlayer();
+	}
+
+	private static void playTurns(GameEngine gameEngine, int turns) {
+		for (int i = 0; i < turns && gameEngine.getIsGameRunning(); i++) {
+			gameEngine.playTurn();
+		}
+	}
+
+	private static ByteBuffer copy(ByteBuffer snapshot) {
+		ByteBuffer copy = ByteBuffer.allocate(snapshot.remaining());
+		copy.put(snapshot.duplicate());
+		copy.flip();
+		return copy;
+	}
+
+
+	private static final class SwitchableDecisionMaker implements DecisionMaker {
+		private DecisionMaker delegate;
+
+		SwitchableDecisionMaker(long seed) {
+			reseed(seed);
+		}
+
+		void reseed(long seed) {
+			delegate = new RandomDecisionMaker(new SplittableRandom(seed));
+		}
+
+		@Override
+		public String chooseCommand(Player player) {
+			return delegate.chooseCommand(player);
+		}
+
+		@Override
+		public int choosePlayerToTakeCardFrom(Player player, int maxPlayerIndex) {
+			return delegate.choosePlayerToTakeCardFrom(player, maxPlayerIndex);
+		}
+
+		@Override
+		public CardType chooseCardToGive(Player giver) {
+			return delegate.chooseCardToGive(giver);
+		}
+
+		@Override
+		public int chooseBuryIndex(Player player, int deckSize) {
+			return delegate.chooseBuryIndex(player, deckSize);
+		}
+
+		@Override
+		public int chooseRearrangeIndex(Player player, int position,
+				int minIndex, int maxIndex) {
+			return delegate.chooseRearrangeIndex(player, position, minIndex, maxIndex);
+		}
+
+		@Override
+		public int chooseKittenPlacement(Player player, int deckSize) {
+			return delegate.chooseKittenPlacement(player, deckSize);
+		}
+	}
+
+	private static final class SwitchableRandom implements GameRandom {
+		private GameRandom delegate;
+
+		SwitchableRandom(long seed) {
+			reseed(seed);
+		}
+
+		void reseed(long seed) {
+			delegate = new FastGameRandom(seed);
+		}
+
+		@Override
+		public int nextInt(int bound) {
+			return delegate.nextInt(bound);
+		}
+	}
+}
@@ -0,0 +1,340 @@
+package domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static domain.GameTestSupport.answer;
+import static domain.GameTestSupport.describe;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameStateMachineTest {
+	private static final long SEED = 11L;
+	private static final int TWO_PLAYERS = 2;
+	private static final int FOUR_PLAYERS = 4;
+	private static final int SEEDS = 50;
+	private static final int INTERLEAVED_GAMES = 2_000;
+	private static final int FILLER_CARDS = 20;
+	private static final CardFactory CARD_FACTORY = new CardFactory();
+
+	@Test
+	public void submit_withRandomPlayers_matchesBlockingHeadlessGame() {
+		for (long seed = 0; seed < SEEDS; seed++) {
+			int numberOfPlayers = TWO_PLAYERS + (int) (seed % FOUR_PLAYERS);
+			GameEngine blocking = GameEngine.createHeadlessGame(numberOfPlayers,
+					new RandomDecisionMaker(new SplittableRandom(seed)),
+					new FastGameRandom(seed));
+			blocking.initializeGame();
+			blocking.runGameLoop();
+
+			GameStateMachine stateMachine = GameStateMachine.create(numberOfPlayers,
+					new FastGameRandom(seed));
+			DecisionMaker players = new RandomDecisionMaker(new SplittableRandom(seed));
+			while (!stateMachine.isGameOver()) {
+				assertTrue(stateMachine.submit(answer(stateMachine, players)));
+			}
+
+			assertEquals(blocking.getWinningPlayerIndex(),
+					stateMachine.getWinningSeat());
+			assertEquals(describe(blocking), describe(stateMachine.getGameEngine()));
+		}
+	}
+
+	@Test
+	public void submit_oneThreadInterleavingThousandsOfGames_finishesEveryGame() {
+		List<GameStateMachine> games = new ArrayList<>(INTERLEAVED_GAMES);
+		List<DecisionMaker> players = new ArrayList<>(INTERLEAVED_GAMES);
+		for (int game = 0; game < INTERLEAVED_GAMES; game++) {
+			games.add(GameStateMachine.create(FOUR_PLAYERS,
+					new FastGameRandom(SEED + game)));
+			players.add(new RandomDecisionMaker(new SplittableRandom(SEED + game)));
+		}
+
+		int running = INTERLEAVED_GAMES;
+		while (running > 0) {
+			running = 0;
+			for (int index = 0; index < INTERLEAVED_GAMES; index++) {
+				GameStateMachine game = games.get(index);
+				if (!game.isGameOver()) {
+					game.submit(answer(game, players.get(index)));
+					running++;
+				}
+			}
+		}
+
+		for (GameStateMachine stateMachine : games) {
+			assertTrue(stateMachine.getWinningSeat() >= 0);
+		}
+	}
+
+	@Test
+	public void submit_playFavor_suspendsForTargetThenGiversCard() {
+		GameStateMachine stateMachine = twoPlayerGame(
+				List.of(CardType.FAVOR), List.of(CardType.SKIP));
+
+		stateMachine.submit("play favor");
+		assertEquals(GameStateMachine.State.AWAITING_FAVOR_TARGET, stateMachine.getState());
+		assertEquals(0, stateMachine.getAwaitingSeat());
+		assertEquals(0, stateMachine.getMinimum());
+		assertEquals(1, stateMachine.getMaximum());
+
+		stateMachine.submit("1");
+		assertEquals(GameStateMachine.State.AWAITING_FAVOR_CARD, stateMachine.getState());
+		assertEquals(1, stateMachine.getAwaitingSeat());
+
+		stateMachine.submit("skip");
+		PlayerManager playerManager = stateMachine.getGameEngine().getPlayerManager();
+		assertEquals(GameStateMachine.State.AWAITING_COMMAND, stateMachine.getState());
+		assertEquals(0, stateMachine.getAwaitingSeat());
+		assertEquals(1, playerManager.getPlayerByIndex(0).getCardTypeCount(CardType.SKIP));
+		assertEquals(0, playerManager.getPlayerByIndex(1).getCardTypeCount(CardType.SKIP));
+		assertEquals(0, playerManager.getPlayerByIndex(0).getCardTypeCount(CardType.FAVOR));
+	}
+
+	@Test
+	public void submit_choiceOutOfRange_isRejectedAndKeepsWaiting() {
+		GameStateMachine stateMachine = twoPlayerGame(
+				List.of(CardType.FAVOR), List.of(CardType.SKIP));
+		stateMachine.submit("play favor");
+
+		assertFalse(stateMachine.submit("2"));
+		assertFalse(stateMachine.submit("-1"));
+		assertFalse(stateMachine.submit("one"));
+
+		assertEquals(GameStateMachine.State.AWAITING_FAVOR_TARGET, stateMachine.getState());
+		assertEquals(0, stateMachine.getAwaitingSeat());
+	}
+
+	@Test
+	public void submit_favorCardNotInHand_givesNothing() {
+		GameStateMachine stateMachine = twoPlayerGame(
+				List.of(CardType.FAVOR), List.of(CardType.SKIP));
+		stateMachine.submit("play favor");
+		stateMachine.submit("1");
+
+		stateMachine.submit("nuke");
+
+		Player giver = stateMachine.getGameEngine().getPlayerManager().getPlayerByIndex(1);
+		assertEquals(GameStateMachine.State.AWAITING_COMMAND, stateMachine.getState());
+		assertEquals(1, giver.getCardTypeCount(CardType.SKIP));
+	}
+
+	@Test
+	public void submit_playBury_insertsTopCardAndEndsTurn() {
+		GameStateMachine stateMachine = twoPlayerGame(
+				List.of(CardType.BURY), List.of(CardType.SKIP));
+		Deck deck = stateMachine.getGameEngine().getDeck();
+		Card topCard = deck.getCardAt(deck.getDeckSize() - 1);
+
+		stateMachine.submit("play bury");
+		assertEquals(GameStateMachine.State.AWAITING_BURY_INDEX, stateMachine.getState());
+		assertEquals(deck.getDeckSize(), stateMachine.getMaximum());
+		stateMachine.submit("0");
+
+		assertSame(topCard, deck.getCardAt(0));
+		assertEquals(GameStateMachine.State.AWAITING_COMMAND, stateMachine.getState());
+		assertEquals(1, stateMachine.getAwaitingSeat());
+	}
+
+	@Test
+	public void submit_playBury_reportsCommandCardAndChoiceToListener() {
+		GameStateMachine stateMachine = twoPlayerGame(
+				List.of(CardType.BURY), List.of(CardType.SKIP));
+		List<String> events = new ArrayList<>();
+		stateMachine.getGameEngine().setEventListener(new GameEventListener() {
+			@Override
+			public void onCommand(int playerIndex, String command) {
+				events.add(playerIndex + " " + command);
+			}
+
+			@Override
+			public void onNumericChoice(int choice) {
+				events.add("choice " + choice);
+			}
+
+			@Override
+			public void onCardPlayed(int playerIndex, CardType cardType) {
+				events.add(playerIndex + " played " + cardType);
+			}
+		});
+
+		stateMachine.submit("play bury");
+		stateMachine.submit("0");
+
+		assertEquals(List.of("0 play bury", "0 played BURY", "choice 0"), events);
+	}
+
+	@Test
+	public void submit_playAlterTheFuture_rearrangesTopThreeCards() {
+		GameStateMachine stateMachine = twoPlayerGame(
+				List.of(CardType.ALTER_THE_FUTURE), List.of(CardType.SKIP));
+		Deck deck = stateMachine.getGameEngine().getDeck();
+		deck.insertCardAt(CARD_FACTORY.createCard(CardType.ATTACK), deck.getDeckSize());
+		deck.insertCardAt(CARD_FACTORY.createCard(CardType.NUKE), deck.getDeckSize());
+		int top = deck.getDeckSize() - 1;
+		CardType third = deck.getCardAt(top - 2).getCardType();
+
+		stateMachine.submit("play alter the future");
+		assertEquals(GameStateMachine.State.AWAITING_REARRANGE_INDEX,
+				stateMachine.getState());
+		assertEquals(top - 2, stateMachine.getMinimum());
+		assertEquals(top, stateMachine.getMaximum());
+		stateMachine.submit(Integer.toString(top - 1));
+		assertEquals(1, stateMachine.getPosition());
+		stateMachine.submit(Integer.toString(top - 2));
+		stateMachine.submit(Integer.toString(top));
+
+		assertEquals(CardType.ATTACK, deck.getCardAt(top).getCardType());
+		assertEquals(third, deck.getCardAt(top - 1).getCardType());
+		assertEquals(CardType.NUKE, deck.getCardAt(top - 2).getCardType());
+		assertEquals(GameStateMachine.State.AWAITING_COMMAND, stateMachine.getState());
+		assertEquals(0, stateMachine.getAwaitingSeat());
+	}
+
+	@Test
+	public void submit_drawKittenWithDefuse_suspendsForPlacement() {
+		GameStateMachine stateMachine = twoPlayerGame(
+				List.of(CardType.SKIP), List.of(CardType.SKIP));
+		Deck deck = stateMachine.getGameEngine().getDeck();
+		Card kitten = CARD_FACTORY.createCard(CardType.EXPLODING_KITTEN);
+		deck.insertCardAt(kitten, deck.getDeckSize());
+
+		stateMachine.submit("draw");
+		assertEquals(GameStateMachine.State.AWAITING_KITTEN_PLACEMENT,
+				stateMachine.getState());
+		assertEquals(0, stateMachine.getAwaitingSeat());
+		stateMachine.submit("0");
+
+		Player player = stateMachine.getGameEngine().getPlayerManager().getPlayerByIndex(0);
+		assertSame(kitten, deck.getCardAt(0));
+		assertFalse(player.hasCardType(CardType.DEFUSE));
+		assertEquals(1, stateMachine.getAwaitingSeat());
+	}
+
+	@Test
+	public void submit_quit_endsGame() {
+		GameStateMachine stateMachine = twoPlayerGame(
+				List.of(CardType.SKIP), List.of(CardType.SKIP));
+
+		stateMachine.submit("quit");
+
+		assertTrue(stateMachine.isGameOver());
+		assertEquals(-1, stateMachine.getAwaitingSeat());
+		assertThrows(IllegalStateException.class, () -> stateMachine.submit("draw"));
+	}
+
+	@Test
+	public void forfeit_seatNotAwaited_keepsGameGoingWithoutThatSeat() {
+		final int threePlayers = 3;
+		GameStateMachine stateMachine = GameStateMachine.create(threePlayers,
+				new FastGameRandom(SEED));
+		PlayerManager playerManager = stateMachine.getGameEngine().getPlayerManager();
+
+		stateMachine.forfeit(1);
+
+		assertFalse(stateMachine.isGameOver());
+		assertEquals(0, stateMachine.getAwaitingSeat());
+		assertFalse(playerManager.isPlayerActive(1));
+		assertEquals(2, playerManager.getNumberOfActivePlayers());
+	}
+
+	@Test
+	public void forfeit_midBury_buriesCardAndEndsGameForOtherSeat() {
+		GameStateMachine stateMachine = twoPlayerGame(
+				List.of(CardType.BURY), List.of(CardType.SKIP));
+		Deck deck = stateMachine.getGameEngine().getDeck();
+		Card topCard = deck.getCardAt(deck.getDeckSize() - 1);
+		stateMachine.submit("play bury");
+
+		stateMachine.forfeit(0);
+
+		assertSame(topCard, deck.getCardAt(0));
+		assertTrue(stateMachine.isGameOver());
+		assertEquals(1, stateMachine.getWinningSeat());
+	}
+
+	@Test
+	public void forfeit_awaitedSeat_passesTurnOn() {
+		final int threePlayers = 3;
+		GameStateMachine stateMachine = GameStateMachine.create(threePlayers,
+				new FastGameRandom(SEED));
+
+		stateMachine.forfeit(0);
+		stateMachine.forfeit(0);
+
+		assertEquals(GameStateMachine.State.AWAITING_COMMAND, stateMachine.getState());
+		assertEquals(1, stateMachine.getAwaitingSeat());
+		assertEquals(2, stateMachine.getGameEngine().getPlayerManager()
+				.getNumberOfActivePlayers());
+	}
+
+	@Test
+	public void play_withDecisionMaker_matchesBlockingHeadlessGame() {
+		for (long seed = 0; seed < SEEDS; seed++) {
+			int numberOfPlayers = TWO_PLAYERS + (int) (seed % FOUR_PLAYERS);
+			GameEngine blocking = GameEngine.createHeadlessGame(numberOfPlayers,
+					new RandomDecisionMaker(new SplittableRandom(seed)),
+					new FastGameRandom(seed));
+			blocking.initializeGame();
+			blocking.runGameLoop();
+
+			GameStateMachine stateMachine = GameStateMachine.create(numberOfPlayers,
+					new FastGameRandom(seed));
+			DecisionMaker players = new RandomDecisionMaker(new SplittableRandom(seed));
+			while (!stateMachine.isGameOver()) {
+				assertTrue(stateMachine.play(players));
+			}
+
+			assertEquals(describe(blocking), describe(stateMachine.getGameEngine()));
+		}
+	}
+
+	@Test
+	public void restore_fromSnapshot_resumesWithCurrentPlayer() {
+		final int commands = 12;
+		GameStateMachine original = GameStateMachine.create(FOUR_PLAYERS,
+				new FastGameRandom(SEED));
+		DecisionMaker players = new RandomDecisionMaker(new SplittableRandom(SEED));
+		for (int i = 0; i < commands && !original.isGameOver(); i++) {
+			original.play(players);
+		}
+		while (original.getState() != GameStateMachine.State.AWAITING_COMMAND) {
+			original.play(players);
+		}
+		ByteBuffer snapshot = GameSnapshot.save(original.getGameEngine());
+
+		GameStateMachine copy = GameStateMachine.forSearch(FOUR_PLAYERS,
+				new FastGameRandom(SEED));
+		copy.restore(snapshot);
+
+		assertEquals(0, snapshot.position());
+		assertEquals(GameStateMachine.State.AWAITING_COMMAND, copy.getState());
+		assertEquals(original.getAwaitingSeat(), copy.getAwaitingSeat());
+		assertEquals(describe(original.getGameEngine()), describe(copy.getGameEngine()));
+	}
+
+	private static GameStateMachine twoPlayerGame(List<CardType> seatZero,
+			List<CardType> seatOne) {
+		final int handSize = 4;
+		List<Card> cards = new ArrayList<>();
+		for (int i = 0; i < FILLER_CARDS; i++) {
+			cards.add(CARD_FACTORY.createCard(CardType.NORMAL));
+		}
+		addHand(cards, seatOne, handSize);
+		addHand(cards, seatZero, handSize);
+		return GameStateMachine.create(new OrdinalDeck(cards), TWO_PLAYERS,
+				new FastGameRandom(SEED));
+	}
+
+	private static void addHand(List<Card> cards, List<CardType> hand, int handSize) {
+		for (int i = 0; i < handSize; i++) {
+			CardType cardType = i < hand.size() ? hand.get(i) : CardType.NORMAL;
+			cards.add(CARD_FACTORY.createCard(cardType));
+		}
+	}
+
+
+}
@@ -0,0 +1,241 @@
+package domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameTableTest {
+	private static final long SEED = 5L;
+	private static final int FOUR_PLAYERS = 4;
+	private static final int GAMES = 20;
+	private static final int NOT_FINISHED = -2;
+	private static final String[] COMMANDS = {"play attack", "play favor",
+			"play skip", "play shuffle", "play see the future", "play alter the future",
+			"play bury", "draw", "play nuke", "play reverse",
+			"play swap top and bottom", "hand", "draw"};
+	private static final String[] CARDS = {"normal", "defuse", "skip"};
+
+	@Test
+	public void advance_withScriptedInput_matchesHeadlessGameWithSameChoices() {
+		int choicesMidTurn = 0;
+		for (long game = 0; game < GAMES; game++) {
+			ScriptedPlayers tablePlayers = new ScriptedPlayers(FOUR_PLAYERS);
+			GameTable table = new GameTable(game, FOUR_PLAYERS,
+					new FastGameRandom(SEED + game), tablePlayers);
+			while (!table.isFinished()) {
+				table.advance();
+			}
+
+			ScriptedPlayers enginePlayers = new ScriptedPlayers(FOUR_PLAYERS);
+			GameEngine gameEngine = GameEngine.createHeadlessGame(FOUR_PLAYERS,
+					enginePlayers, new FastGameRandom(SEED + game));
+			gameEngine.initializeGame();
+			gameEngine.runGameLoop();
+
+			assertEquals(enginePlayers.answers, tablePlayers.answers);
+			assertEquals(gameEngine.getWinningPlayerIndex(), tablePlayers.winningSeat);
+			choicesMidTurn += tablePlayers.choicesMidTurn;
+		}
+		assertTrue(choicesMidTurn > 0);
+	}
+
+	@Test
+	public void advance_withoutInput_waitsForCurrentSeatCommand() {
+		ScriptedPlayers players = new ScriptedPlayers(FOUR_PLAYERS);
+		players.answering = false;
+		GameTable table = new GameTable(0, FOUR_PLAYERS, new FastGameRandom(SEED), players);
+
+		table.advance();
+		table.advance();
+
+		assertFalse(table.isFinished());
+		assertEquals(0, table.getCurrentSeat());
+		assertEquals(List.of("await 0 COMMAND", "await 0 COMMAND"), players.prompts);
+	}
+
+	@Test
+	public void advance_inputFromSeatNotPrompted_isRejectedAndNotReplayed() {
+		ScriptedPlayers players = new ScriptedPlayers(FOUR_PLAYERS);
+		players.answering = false;
+		GameTable table = new GameTable(0, FOUR_PLAYERS, new FastGameRandom(SEED), players);
+		table.submit(1, "hand");
+		table.advance();
+		assertTrue(players.played.isEmpty());
+		assertEquals(List.of("rejected 1 hand"), players.rejected);
+
+		table.submit(0, "draw");
+		table.advance();
+
+		assertEquals(List.of("played 0 draw"), players.played);
+		assertEquals(1, table.getCurrentSeat());
+		assertEquals(List.of("await 0 COMMAND", "await 1 COMMAND"), players.prompts);
+	}
+
+	@Test
+	public void advance_quitFromAnySeat_forfeitsOnlyThatSeat() {
+		ScriptedPlayers players = new ScriptedPlayers(FOUR_PLAYERS);
+		players.answering = false;
+		GameTable table = new GameTable(0, FOUR_PLAYERS, new FastGameRandom(SEED), players);
+		table.submit(2, "quit");
+		table.submit(0, "quit");
+		table.advance();
+
+		assertFalse(table.isFinished());
+		assertEquals(2, table.getNumberOfActivePlayers());
+		assertEquals(1, table.getCurrentSeat());
+		assertEquals(List.of("played 2 quit", "played 0 quit"), players.played);
+
+		table.submit(2, "quit");
+		table.submit(1, "quit");
+		table.advance();
+
+		assertEquals(List.of("rejected 2 quit"), players.rejected);
+		assertTrue(table.isFinished());
+		assertEquals(FOUR_PLAYERS - 1, players.winningSeat);
+	}
+
+	@Test
+	public void submit_beyondPendingInputLimit_throwsIllegalStateException() {
+		ScriptedPlayers players = new ScriptedPlayers(FOUR_PLAYERS);
+		players.answering = false;
+		GameTable table = new GameTable(0, FOUR_PLAYERS, new FastGameRandom(SEED), players);
+		for (int i = 0; i < GameTable.MAX_PENDING_INPUTS; i++) {
+			table.submit(1, "hand");
+		}
+
+		assertThrows(IllegalStateException.class, () -> table.submit(0, "draw"));
+		table.advance();
+		assertDoesNotThrow(() -> table.submit(0, "draw"));
+		assertEquals(GameTable.MAX_PENDING_INPUTS, players.rejected.size());
+	}
+
+	@Test
+	public void advance_withOnlyInspections_runsThemWithoutPrompting() {
+		ScriptedPlayers players = new ScriptedPlayers(FOUR_PLAYERS);
+		players.answering = false;
+		GameTable table = new GameTable(0, FOUR_PLAYERS, new FastGameRandom(SEED), players);
+		table.advance();
+		List<Integer> defuses = new ArrayList<>();
+
+		table.inspect(inspected -> defuses.add(inspected.getCardCount(1, CardType.DEFUSE)));
+		table.advance();
+
+		assertEquals(List.of(1), defuses);
+		assertEquals(List.of("await 0 COMMAND"), players.prompts);
+		assertEquals(FOUR_PLAYERS, table.getNumberOfActivePlayers());
+	}
+
+	@Test
+	public void submit_withSeatOutOfBounds_throwsIndexOutOfBoundsException() {
+		GameTable table = new GameTable(0, FOUR_PLAYERS, new FastGameRandom(SEED),
+				new ScriptedPlayers(FOUR_PLAYERS));
+
+		assertThrows(IndexOutOfBoundsException.class,
+				() -> table.submit(FOUR_PLAYERS, "draw"));
+	}
+
+	@Test
+	public void submit_withNullLine_throwsNullPointerException() {
+		GameTable table = new GameTable(0, FOUR_PLAYERS, new FastGameRandom(SEED),
+				new ScriptedPlayers(FOUR_PLAYERS));
+
+		assertThrows(NullPointerException.class, () -> table.submit(0, null));
+	}
+
+	private static final class ScriptedPlayers implements GameTable.Listener, DecisionMaker {
+		private final int[] answered;
+		private final List<String> answers = new ArrayList<>();
+		private final List<String> prompts = new ArrayList<>();
+		private final List<String> played = new ArrayList<>();
+		private final List<String> rejected = new ArrayList<>();
+		private boolean answering = true;
+		private int choicesMidTurn;
+		private int winningSeat = NOT_FINISHED;
+
+		ScriptedPlayers(int numberOfPlayers) {
+			this.answered = new int[numberOfPlayers];
+		}
+
+		@Override
+		public void onAwaitingInput(GameTable table, int seat, GameTable.InputKind kind,
+				int minimum, int maximum) {
+			prompts.add("await " + seat + " " + kind);
+			if (!answering) {
+				return;
+			}
+			if (kind != GameTable.InputKind.COMMAND) {
+				choicesMidTurn++;
+			}
+			table.submit(seat, answer(seat, kind, minimum, maximum));
+		}
+
+		@Override
+		public void onCommandPlayed(GameTable table, int seat, String command) {
+			played.add("played " + seat + " " + command);
+		}
+
+		@Override
+		public void onInputRejected(GameTable table, int seat, String line) {
+			rejected.add("rejected " + seat + " " + line);
+		}
+
+		@Override
+		public void onGameOver(GameTable table, int seat) {
+			winningSeat = seat;
+		}
+
+		@Override
+		public String chooseCommand(Player player) {
+			return answer(player.id, GameTable.InputKind.COMMAND, 0, 0);
+		}
+
+		@Override
+		public int choosePlayerToTakeCardFrom(Player player, int maxPlayerIndex) {
+			return Integer.parseInt(answer(player.id, GameTable.InputKind.NUMBER,
+					0, maxPlayerIndex));
+		}
+
+		@Override
+		public CardType chooseCardToGive(Player giver) {
+			return giver.parseCardType(
+					answer(giver.id, GameTable.InputKind.CARD, 0, 0));
+		}
+
+		@Override
+		public int chooseBuryIndex(Player player, int deckSize) {
+			return Integer.parseInt(answer(player.id, GameTable.InputKind.NUMBER,
+					0, deckSize));
+		}
+
+		@Override
+		public int chooseRearrangeIndex(Player player, int position,
+				int minIndex, int maxIndex) {
+			return Integer.parseInt(answer(player.id, GameTable.InputKind.NUMBER,
+					minIndex, maxIndex));
+		}
+
+		@Override
+		public int chooseKittenPlacement(Player player, int deckSize) {
+			return Integer.parseInt(answer(player.id, GameTable.InputKind.NUMBER,
+					0, deckSize));
+		}
+
+		private String answer(int seat, GameTable.InputKind kind,
+				int minimum, int maximum) {
+			int turn = answered[seat]++;
+			String answer;
+			if (kind == GameTable.InputKind.COMMAND) {
+				answer = COMMANDS[turn % COMMANDS.length];
+			} else if (kind == GameTable.InputKind.CARD) {
+				answer = CARDS[turn % CARDS.length];
+			} else {
+				answer = Integer.toString(minimum + turn % (maximum - minimum + 1));
+			}
+			answers.add(seat + " " + kind + " " + answer);
+			return answer;
+		}
+	}
+}
@@ -0,0 +1,63 @@
+package domain;
+
+import java.util.ArrayList;
+import java.util.List;
+
+final class GameTestSupport {
+	private GameTestSupport() {
+	}
+
+	static String answer(GameStateMachine stateMachine, DecisionMaker players) {
+		Player player = stateMachine.getAwaitingPlayer();
+		int minimum = stateMachine.getMinimum();
+		int maximum = stateMachine.getMaximum();
+		switch (stateMachine.getState()) {
+			case AWAITING_COMMAND:
+				return players.chooseCommand(player);
+			case AWAITING_FAVOR_TARGET:
+				int target = players.choosePlayerToTakeCardFrom(player, maximum);
+				return Integer.toString(target);
+			case AWAITING_FAVOR_CARD:
+				CardType cardType = players.chooseCardToGive(player);
+				return cardType == null ? "" : cardType.name();
+			case AWAITING_REARRANGE_INDEX:
+				return Integer.toString(players.chooseRearrangeIndex(player,
+						stateMachine.getPosition(), minimum, maximum));
+			case AWAITING_BURY_INDEX:
+				return Integer.toString(players.chooseBuryIndex(player, maximum));
+			default:
+				return Integer.toString(
+						players.chooseKittenPlacement(player, maximum));
+		}
+	}
+
+	static List<String> describe(GameEngine gameEngine) {
+		List<String> state = new ArrayList<>();
+		PlayerManager playerManager = gameEngine.getPlayerManager();
+		for (Player player : playerManager.getPlayers()) {
+			StringBuilder hand = new StringBuilder();
+			hand.append(player.isInGame());
+			for (CardType cardType : CardType.values()) {
+				hand.append(',').append(player.getCardTypeCount(cardType));
+			}
+			state.add(hand.toString());
+		}
+		Deck deck = gameEngine.getDeck();
+		StringBuilder deckOrder = new StringBuilder();
+		for (int i = 0; i < deck.getDeckSize(); i++) {
+			deckOrder.append(deck.getCardAt(i).getCardType().ordinal()).append(' ');
+		}
+		state.add(deckOrder.toString());
+		TurnManager turnManager = gameEngine.getTurnManager();
+		StringBuilder turnOrder = new StringBuilder();
+		for (Player player : turnManager.getTurnOrder()) {
+			turnOrder.append(playerManager.getPlayerIndex(player)).append(' ');
+		}
+		state.add(turnOrder.toString());
+		state.add(turnManager.getRequiredTurns() + "/"
+				+ turnManager.getCurrentPlayerTurnsTaken());
+		state.add(gameEngine.getIsGameRunning() + "/"
+				+ playerManager.getNumberOfActivePlayers());
+		return state;
+	}
+}
@@ -419,6 +419,51 @@ public class HandTest {
 		assertTrue(availableTypes1.containsAll(availableTypes2));
 	}
 
+	@Test
+	public void getAvailableCardTypes_returnsTypesInCardTypeOrder() {
+		Hand hand = new Hand();
+		hand.addCard(mockCard(CardType.SWAP_TOP_AND_BOTTOM));
+		hand.addCard(mockCard(CardType.NORMAL));
+		hand.addCard(mockCard(CardType.SKIP));
+
+		assertEquals(List.of(CardType.NORMAL, CardType.SKIP,
+				CardType.SWAP_TOP_AND_BOTTOM), hand.getAvailableCardTypes());
+	}
+
+	@Test
+	public void getNumberOfCards_afterAddsAndRemoves_tracksRunningTotal() {
+		Hand hand = handWithFiveCardsAndThreeDuplicates();
+		final int CARDS_AFTER_REMOVALS = 3;
+
+		hand.removeCard(mockCard(CardType.FAVOR));
+		hand.removeCard(mockCard(CardType.ATTACK));
+
+		assertEquals(CARDS_AFTER_REMOVALS, hand.getNumberOfCards());
+		assertFalse(hand.containsCardType(CardType.ATTACK));
+		assertTrue(hand.containsCardType(CardType.FAVOR));
+	}
+
+	@Test
+	public void removeDefuseCard_withoutDefuse_throwsIllegalArgumentException() {
+		Hand hand = handWithTwoCards();
+
+		Exception exception = assertThrows(IllegalArgumentException.class,
+				hand::removeDefuseCard);
+		assertEquals("Card not in hand: can not remove card", exception.getMessage());
+		assertEquals(2, hand.getNumberOfCards());
+	}
+
+	@Test
+	public void removeDefuseCard_lastDefuse_removesTypeFromHand() {
+		Hand hand = handWithOneCard(CardType.DEFUSE);
+
+		hand.removeDefuseCard();
+
+		assertTrue(hand.isEmpty());
+		assertFalse(hand.containsCardType(CardType.DEFUSE));
+		assertTrue(hand.getAvailableCardTypes().isEmpty());
+	}
+
 	@Test
 	public void parseCardType_withNullInput_returnsNull() {
 		Hand hand = handWithOneCard(CardType.ATTACK);
@@ -521,15 +566,49 @@ public class HandTest {
 	}
 
 	@Test
-	public void parseCardType_withMultiplePartialMatches_returnsFirstAvailableMatch() {
+	public void parseCardType_withMultiplePartialMatches_returnsNull() {
+		Hand hand = new Hand();
+		hand.addCard(mockCard(CardType.NORMAL));
+		hand.addCard(mockCard(CardType.NUKE));
+
+		assertNull(hand.parseCardType("N"));
+		assertEquals(List.of(CardType.NORMAL, CardType.NUKE),
+				hand.getMatchingCardTypes("N"));
+	}
+
+	@Test
+	public void parseCardType_range_resolvesOnlyTextInRange() {
 		Hand hand = new Hand();
 		hand.addCard(mockCard(CardType.NORMAL));
 		hand.addCard(mockCard(CardType.NUKE));
+		String input = "play nu now";
+		final int start = 5;
+		final int end = 7;
 
-		CardType result = hand.parseCardType("N");
-		assertNotNull(result);
-		assertTrue(result == CardType.NORMAL || result == CardType.NUKE);
-		assertTrue(hand.containsCardType(result));
+		assertEquals(CardType.NUKE, hand.parseCardType(input, start, end));
+		assertNull(hand.parseCardType(input, start, start + 1));
+	}
+
+	@Test
+	public void parseCardType_withLongerPrefix_resolvesAmbiguity() {
+		Hand hand = new Hand();
+		hand.addCard(mockCard(CardType.NORMAL));
+		hand.addCard(mockCard(CardType.NUKE));
+
+		assertEquals(CardType.NUKE, hand.parseCardType("nu"));
+	}
+
+	@Test
+	public void parseCardType_withLocalizedName_returnsCardType() {
+		Hand hand = handWithOneCard(CardType.NORMAL);
+		assertEquals(CardType.NORMAL, hand.parseCardType("Normal Cat"));
+	}
+
+	@Test
+	public void getMatchingCardTypes_withNoMatch_returnsEmptyList() {
+		Hand hand = handWithOneCard(CardType.ATTACK);
+		assertTrue(hand.getMatchingCardTypes("taco").isEmpty());
+		assertTrue(hand.getMatchingCardTypes(null).isEmpty());
 	}
 
 	@Test
@@ -0,0 +1,112 @@
+package domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HeadlessSimulationTest {
+	private static final long SEED = 7L;
+	private static final int NUMBER_OF_GAMES = 200;
+	private static final int FOUR_PLAYERS = 4;
+
+	@Test
+	public void playGame_returnsWinningSeat() {
+		HeadlessSimulation simulation = new HeadlessSimulation(FOUR_PLAYERS, SEED);
+		int winner = simulation.playGame();
+
+		assertTrue(winner >= 0 && winner < FOUR_PLAYERS);
+		assertEquals(1, simulation.getGamesPlayed());
+		assertEquals(1, simulation.getWinsForSeat(winner));
+	}
+
+	@Test
+	public void playGames_everyGameHasExactlyOneWinner() {
+		HeadlessSimulation simulation = new HeadlessSimulation(FOUR_PLAYERS, SEED);
+		simulation.playGames(NUMBER_OF_GAMES);
+
+		int totalWins = 0;
+		for (int seat = 0; seat < FOUR_PLAYERS; seat++) {
+			totalWins += simulation.getWinsForSeat(seat);
+		}
+		assertEquals(NUMBER_OF_GAMES, simulation.getGamesPlayed());
+		assertEquals(NUMBER_OF_GAMES, totalWins);
+	}
+
+	@Test
+	public void playGames_sameSeed_producesSameResults() {
+		HeadlessSimulation first = new HeadlessSimulation(FOUR_PLAYERS, SEED);
+		HeadlessSimulation second = new HeadlessSimulation(FOUR_PLAYERS, SEED);
+		first.playGames(NUMBER_OF_GAMES);
+		second.playGames(NUMBER_OF_GAMES);
+
+		for (int seat = 0; seat < FOUR_PLAYERS; seat++) {
+			assertEquals(first.getWinsForSeat(seat), second.getWinsForSeat(seat));
+		}
+	}
+
+	@Test
+	public void constructor_withNullRandomProvider_throwsNullPointerException() {
+		assertThrows(NullPointerException.class,
+				() -> new HeadlessSimulation(FOUR_PLAYERS, SEED, null));
+	}
+
+	@Test
+	public void playGames_withSecureRandomProvider_everyGameHasAWinner() {
+		HeadlessSimulation simulation = new HeadlessSimulation(FOUR_PLAYERS, SEED,
+				RandomProvider.secure());
+		simulation.playGames(NUMBER_OF_GAMES);
+
+		int totalWins = 0;
+		for (int seat = 0; seat < FOUR_PLAYERS; seat++) {
+			totalWins += simulation.getWinsForSeat(seat);
+		}
+		assertEquals(NUMBER_OF_GAMES, totalWins);
+	}
+
+	@Test
+	public void playGames_writesNothingToConsole() {
+		PrintStream originalOut = System.out;
+		PrintStream originalErr = System.err;
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		try {
+			PrintStream capture = new PrintStream(output, true, StandardCharsets.UTF_8);
+			System.setOut(capture);
+			System.setErr(capture);
+			new HeadlessSimulation(FOUR_PLAYERS, SEED).playGames(NUMBER_OF_GAMES);
+		} finally {
+			System.setOut(originalOut);
+			System.setErr(originalErr);
+		}
+		assertEquals(0, output.size());
+	}
+
+	@Test
+	public void getWinsForSeat_withInvalidSeat_throwsIndexOutOfBoundsException() {
+		HeadlessSimulation simulation = new HeadlessSimulation(FOUR_PLAYERS, SEED);
+		assertThrows(IndexOutOfBoundsException.class, () -> {
+			int wins = simulation.getWinsForSeat(FOUR_PLAYERS);
+		});
+		assertThrows(IndexOutOfBoundsException.class, () -> {
+			int wins = simulation.getWinsForSeat(-1);
+		});
+	}
+
+	@Test
+	public void main_printsSummaryForEverySeat() {
+		PrintStream originalOut = System.out;
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		try {
+			System.setOut(new PrintStream(output, true, StandardCharsets.UTF_8));
+			HeadlessSimulation.main(new String[] {"10", "3", "1"});
+		} finally {
+			System.setOut(originalOut);
+		}
+		String printed = output.toString(StandardCharsets.UTF_8);
+		assertTrue(printed.contains("Played 10 games with 3 players"));
+		assertTrue(printed.contains("Seat 2 won"));
+	}
+}
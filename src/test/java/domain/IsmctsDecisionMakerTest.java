@@ -0,0 +1,204 @@
+package domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IsmctsDecisionMakerTest {
+	private static final long SEED = 21L;
+	private static final int ITERATIONS = 400;
+	private static final int PLAYOUTS = 20;
+	private static final long LONG_BUDGET_MILLIS = 60_000;
+	private static final long ANSWER_DEADLINE_MILLIS = 50;
+	private static final int TWO_PLAYERS = 2;
+	private static final int FOUR_PLAYERS = 4;
+	private static final int NANOSECONDS_PER_MILLISECOND = 1_000_000;
+	private static final CardFactory CARD_FACTORY = new CardFactory();
+
+	@Test
+	public void constructor_withInvalidBudget_throwsIllegalArgumentException() {
+		SplittableRandom random = new SplittableRandom(SEED);
+		assertThrows(IllegalArgumentException.class,
+				() -> new IsmctsDecisionMaker(random, 0, LONG_BUDGET_MILLIS, 1));
+		assertThrows(IllegalArgumentException.class,
+				() -> new IsmctsDecisionMaker(random, ITERATIONS, 0, 1));
+		assertThrows(IllegalArgumentException.class,
+				() -> new IsmctsDecisionMaker(random, ITERATIONS,
+						LONG_BUDGET_MILLIS, 0));
+	}
+
+	@Test
+	public void constructor_withNullRandom_throwsNullPointerException() {
+		assertThrows(NullPointerException.class,
+				() -> new IsmctsDecisionMaker(null));
+	}
+
+	@Test
+	public void chooseCommand_withoutGame_fallsBackToHeuristic() {
+		Player player = new Player(new Hand());
+		IsmctsDecisionMaker decisionMaker = new IsmctsDecisionMaker(
+				new SplittableRandom(SEED), ITERATIONS, LONG_BUDGET_MILLIS, 1);
+		assertEquals("draw", decisionMaker.chooseCommand(player));
+	}
+
+	@Test
+	public void search_playsOutThroughEngineCommandsAndCards() {
+		GameEngine game = GameStateMachine.create(TWO_PLAYERS, new FastGameRandom(SEED))
+				.getGameEngine();
+		Deck deck = game.getDeck();
+		PlayerManager playerManager = game.getPlayerManager();
+		TurnManager turnManager = game.getTurnManager();
+		ByteBuffer snapshot = ByteBuffer.allocate(
+				GameSnapshot.sizeOf(deck, playerManager, turnManager));
+		GameSnapshot.save(deck, playerManager, turnManager, true, snapshot);
+		snapshot.flip();
+		int hiddenCapacity = deck.getDeckSize();
+		for (Player player : playerManager.getPlayers()) {
+			hiddenCapacity += player.getNumberOfCards();
+		}
+		IsmctsSearch search = new IsmctsSearch(TWO_PLAYERS, new SplittableRandom(SEED));
+		int[] commands = new int[1];
+		int[] cardsPlayed = new int[1];
+		search.getSimulation().getGameEngine().setEventListener(new GameEventListener() {
+			@Override
+			public void onCommand(int playerIndex, String command) {
+				commands[0]++;
+			}
+
+			@Override
+			public void onCardPlayed(int playerIndex, CardType cardType) {
+				cardsPlayed[0]++;
+			}
+		});
+
+		search.reroot(turnManager.getCurrentActivePlayer().id, deck.getDeckSize());
+		assertEquals(PLAYOUTS, search.search(snapshot, new boolean[0], hiddenCapacity,
+				System.nanoTime(), Long.MAX_VALUE, PLAYOUTS));
+
+		assertTrue(commands[0] > PLAYOUTS);
+		assertTrue(cardsPlayed[0] > 0);
+	}
+
+	@Test
+	public void chooseCommand_withKittenLikelyOnTop_playsSkip() {
+		GameEngine game = game(List.of(CardType.NORMAL, CardType.EXPLODING_KITTEN),
+				List.of(CardType.SKIP, CardType.SKIP), List.of(CardType.NORMAL));
+		IsmctsDecisionMaker decisionMaker = new IsmctsDecisionMaker(
+				new SplittableRandom(SEED), ITERATIONS, LONG_BUDGET_MILLIS, 1);
+
+		assertEquals("play skip", decisionMaker.chooseCommand(seat(game, 0)));
+		assertEquals(ITERATIONS, decisionMaker.getLastIterations());
+	}
+
+	@Test
+	public void chooseCommand_withIterationBudget_isReproducible() {
+		List<String> commands = new ArrayList<>();
+		for (int run = 0; run < 2; run++) {
+			GameEngine game = midGame(FOUR_PLAYERS);
+			IsmctsDecisionMaker decisionMaker = new IsmctsDecisionMaker(
+					new SplittableRandom(SEED), ITERATIONS,
+					LONG_BUDGET_MILLIS, 2);
+			commands.add(decisionMaker.chooseCommand(
+					game.getTurnManager().getCurrentActivePlayer()));
+			assertEquals(ITERATIONS, decisionMaker.getLastIterations());
+		}
+		assertEquals(commands.get(0), commands.get(1));
+	}
+
+	@Test
+	public void chooseCommand_withDefaultBudget_answersWithinFiftyMilliseconds() {
+		GameEngine game = midGame(FOUR_PLAYERS);
+		IsmctsDecisionMaker decisionMaker =
+				new IsmctsDecisionMaker(new SplittableRandom(SEED));
+		Player player = game.getTurnManager().getCurrentActivePlayer();
+		decisionMaker.chooseCommand(player);
+
+		long start = System.nanoTime();
+		String command = decisionMaker.chooseCommand(player);
+		long elapsedMillis = (System.nanoTime() - start) / NANOSECONDS_PER_MILLISECOND;
+
+		assertTrue(elapsedMillis < ANSWER_DEADLINE_MILLIS, elapsedMillis + " ms");
+		assertTrue(decisionMaker.getLastIterations() > 0);
+		assertTrue(command.equals("draw") || command.startsWith("play "));
+	}
+
+	@Test
+	public void chooseCommand_afterSeeTheFuture_reusesTree() {
+		GameEngine game = game(List.of(CardType.NORMAL, CardType.NORMAL,
+				CardType.EXPLODING_KITTEN), List.of(CardType.SEE_THE_FUTURE,
+				CardType.SEE_THE_FUTURE, CardType.NORMAL),
+				List.of(CardType.DEFUSE, CardType.NORMAL));
+		IsmctsDecisionMaker decisionMaker = new IsmctsDecisionMaker(
+				new SplittableRandom(SEED), ITERATIONS, LONG_BUDGET_MILLIS, 2);
+		Player player = seat(game, 0);
+
+		String command = decisionMaker.chooseCommand(player);
+		assertEquals(0, decisionMaker.getLastReusedTrees());
+		assertEquals("play see_the_future", command);
+		game.processCommand(command, player);
+
+		decisionMaker.chooseCommand(player);
+		assertEquals(2, decisionMaker.getLastReusedTrees());
+	}
+
+	@Test
+	public void headlessGames_againstRandomPlayers_winMoreThanFairShare() {
+		final int games = 20;
+		final int expectedWins = 12;
+		int wins = 0;
+		for (int game = 0; game < games; game++) {
+			DecisionMaker[] seats = {
+				new IsmctsDecisionMaker(new SplittableRandom(game), ITERATIONS / 2,
+						LONG_BUDGET_MILLIS, 1),
+				new RandomDecisionMaker(new SplittableRandom(game))
+			};
+			GameEngine engine = GameEngine.createHeadlessGame(seats,
+					new FastGameRandom(SEED + game));
+			engine.initializeGame();
+			engine.runGameLoop();
+			if (engine.getWinningPlayerIndex() == 0) {
+				wins++;
+			}
+		}
+		assertTrue(wins >= expectedWins, wins + " wins");
+	}
+
+	private static GameEngine midGame(int numberOfPlayers) {
+		final int turns = 6;
+		GameEngine game = GameEngine.createHeadlessGame(numberOfPlayers,
+				new RandomDecisionMaker(new SplittableRandom(SEED)),
+				new FastGameRandom(SEED));
+		game.initializeGame();
+		for (int turn = 0; turn < turns && game.getIsGameRunning(); turn++) {
+			game.playTurn();
+		}
+		return game;
+	}
+
+	private static GameEngine game(List<CardType> deckCards, List<CardType> seatZeroHand,
+			List<CardType> seatOneHand) {
+		List<Card> cards = new ArrayList<>();
+		for (CardType cardType : deckCards) {
+			cards.add(CARD_FACTORY.createCard(cardType));
+		}
+		GameEngine game = GameEngine.createHeadlessGame(new OrdinalDeck(cards),
+				TWO_PLAYERS, players -> new ProbabilityAwareDecisionMaker(),
+				new FastGameRandom(SEED));
+		for (CardType cardType : seatZeroHand) {
+			seat(game, 0).addCardToHand(CARD_FACTORY.createCard(cardType));
+		}
+		for (CardType cardType : seatOneHand) {
+			seat(game, 1).addCardToHand(CARD_FACTORY.createCard(cardType));
+		}
+		return game;
+	}
+
+	private static Player seat(GameEngine game, int seat) {
+		return game.getPlayerManager().getPlayerByIndex(seat);
+	}
+}
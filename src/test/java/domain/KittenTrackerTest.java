@@ -0,0 +1,279 @@
+package domain;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class KittenTrackerTest {
+	private static final double DELTA = 1e-9;
+	private static final int THREE_PLAYERS = 3;
+	private static final int GAMES = 20;
+
+	private final CardFactory cardFactory = new CardFactory();
+
+	@ParameterizedTest
+	@ValueSource(booleans = {false, true})
+	public void newDeck_withoutKnowledge_spreadsKittensEvenly(boolean ordinal) {
+		final int deckSize = 10;
+		final double chance = 0.2;
+		Deck deck = deckOf(ordinal, deckSize, 2, deckSize - 1);
+
+		assertEquals(2, deck.kittenTracker.getKittensInDeck());
+		assertEquals(chance, deck.kittenTracker.getDrawExplosionChance(0), DELTA);
+		assertEquals(chance, deck.kittenTracker.getKittenChance(1, deckSize - 1), DELTA);
+		assertEquals(0, deck.kittenTracker.getKittenChance(1, deckSize), DELTA);
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = {false, true})
+	public void revealTopCards_informsOnlyThatSeat(boolean ordinal) {
+		final int deckSize = 4;
+		Deck deck = deckOf(ordinal, deckSize, 2);
+		deck.revealTopCards(0, 2);
+
+		assertEquals(0, deck.kittenTracker.getKittenChance(0, 0), DELTA);
+		assertEquals(1, deck.kittenTracker.getKittenChance(0, 1), DELTA);
+		assertEquals(0, deck.kittenTracker.getKittenChance(0, 2), DELTA);
+		assertEquals(1.0 / deckSize, deck.kittenTracker.getDrawExplosionChance(1), DELTA);
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = {false, true})
+	public void draw_removesTopKnowledgeAndCountsKittens(boolean ordinal) {
+		final int deckSize = 4;
+		Deck deck = deckOf(ordinal, deckSize, 2);
+		deck.revealTopCards(0, 2);
+
+		deck.draw();
+		assertEquals(1, deck.kittenTracker.getDrawExplosionChance(0), DELTA);
+		assertEquals(1.0 / (deckSize - 1), deck.kittenTracker.getDrawExplosionChance(1),
+				DELTA);
+
+		deck.draw();
+		assertEquals(0, deck.kittenTracker.getKittensInDeck());
+		assertEquals(0, deck.kittenTracker.getDrawExplosionChance(1), DELTA);
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = {false, true})
+	public void insertCardAt_belowKnownCards_keepsThemKnown(boolean ordinal) {
+		final int deckSize = 4;
+		Deck deck = deckOf(ordinal, deckSize, 2);
+		deck.revealTopCards(0, 2);
+
+		deck.insertCardAt(cardFactory.createCard(CardType.EXPLODING_KITTEN), 0);
+		deck.revealCardAt(1, 0);
+
+		assertEquals(2, deck.kittenTracker.getKittensInDeck());
+		assertEquals(1, deck.kittenTracker.getKittenChance(0, 1), DELTA);
+		final double unknownCards = 3;
+		assertEquals(1 / unknownCards, deck.kittenTracker.getKittenChance(0, deckSize),
+				DELTA);
+		assertEquals(1, deck.kittenTracker.getKittenChance(1, deckSize), DELTA);
+		assertEquals(1.0 / deckSize, deck.kittenTracker.getDrawExplosionChance(1), DELTA);
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = {false, true})
+	public void drawAndInsertOnTop_keepBuriedKnowledge(boolean ordinal) {
+		final int deckSize = 6;
+		Deck deck = deckOf(ordinal, deckSize, 1);
+		deck.revealCardAt(0, 1);
+
+		deck.draw();
+		deck.draw();
+		deck.insertCardAt(cardFactory.createCard(CardType.NORMAL), deck.getDeckSize());
+
+		int depth = deck.getDeckSize() - 2;
+		assertEquals(1, deck.kittenTracker.getKittenChance(0, depth), DELTA);
+		assertEquals(0, deck.kittenTracker.getDrawExplosionChance(0), DELTA);
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = {false, true})
+	public void isKnownTo_buriedCardAfterInsertBelow_followsItsPosition(boolean ordinal) {
+		final int deckSize = 5;
+		final int buried = 2;
+		Deck deck = deckOf(ordinal, deckSize, buried);
+		deck.revealCardAt(0, buried);
+
+		deck.insertCardAt(cardFactory.createCard(CardType.NORMAL), 0);
+
+		assertFalse(deck.kittenTracker.isKnownTo(0, buried));
+		assertTrue(deck.kittenTracker.isKnownTo(0, buried + 1));
+		assertFalse(deck.kittenTracker.isKnownTo(1, buried + 1));
+		assertFalse(deck.kittenTracker.isKnownTo(0, deckSize + 1));
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = {false, true})
+	public void swapTopAndBottom_twiceAfterKittensMovedToTop_restoresKnownKittens(
+			boolean ordinal) {
+		final int deckSize = 6;
+		Deck deck = deckOf(ordinal, deckSize, 0, 2);
+		deck.moveAllExplodingKittensToTop();
+
+		deck.swapTopAndBottom();
+		deck.swapTopAndBottom();
+
+		assertEquals(1, deck.kittenTracker.getDrawExplosionChance(1), DELTA);
+		assertEquals(1, deck.kittenTracker.getKittenChance(1, 1), DELTA);
+		assertEquals(0, deck.kittenTracker.getKittenChance(1, 2), DELTA);
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = {false, true})
+	public void revealTopCards_seatBeyondThirtyTwo_isTracked(boolean ordinal) {
+		final int deckSize = 4;
+		final int lastSeat = 999;
+		Deck deck = deckOf(ordinal, deckSize, deckSize - 1);
+		deck.revealTopCards(lastSeat, 2);
+
+		assertEquals(1, deck.kittenTracker.getDrawExplosionChance(lastSeat), DELTA);
+		assertEquals(0, deck.kittenTracker.getKittenChance(lastSeat, 1), DELTA);
+		assertEquals(0, deck.kittenTracker.getKittenChance(lastSeat, 2), DELTA);
+		assertEquals(1.0 / deckSize,
+				deck.kittenTracker.getDrawExplosionChance(lastSeat - 1), DELTA);
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = {false, true})
+	public void shuffleDeck_thenRevealAndDraw_countsOnlyNewKnowledge(boolean ordinal) {
+		final int deckSize = 6;
+		Deck deck = deckOf(ordinal, deckSize, 0, deckSize - 1);
+		deck.revealTopCards(0, 2);
+		deck.revealCardAt(0, 0);
+
+		deck.shuffleDeck(new FastGameRandom(1L));
+		deck.revealCardAt(0, 0);
+		deck.draw();
+
+		double expected = Deck.isKitten(deck.getCardAt(0)) ? 1 : 0;
+		assertEquals(expected, deck.kittenTracker.getKittenChance(0, deckSize - 2), DELTA);
+		int kittensLeft = deck.kittenTracker.getKittensInDeck() - (int) expected;
+		assertEquals((double) kittensLeft / (deckSize - 2),
+				deck.kittenTracker.getDrawExplosionChance(0), DELTA);
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = {false, true})
+	public void shuffleDeck_forgetsWhatSeatsSaw(boolean ordinal) {
+		final int deckSize = 4;
+		Deck deck = deckOf(ordinal, deckSize, 2);
+		deck.revealTopCards(0, 2);
+
+		deck.shuffleDeck(new FastGameRandom(1L));
+
+		assertEquals(1.0 / deckSize, deck.kittenTracker.getKittenChance(0, 1), DELTA);
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = {false, true})
+	public void moveAllExplodingKittensToTop_isKnownToEverySeat(boolean ordinal) {
+		final int deckSize = 8;
+		Deck deck = deckOf(ordinal, deckSize, 1, deckSize / 2);
+
+		deck.moveAllExplodingKittensToTop();
+
+		assertEquals(1, deck.kittenTracker.getKittenChance(2, 0), DELTA);
+		assertEquals(1, deck.kittenTracker.getKittenChance(2, 1), DELTA);
+		assertEquals(0, deck.kittenTracker.getKittenChance(2, 2), DELTA);
+
+		deck.swapTopAndBottom();
+		assertEquals(1, deck.kittenTracker.getKittenChance(2, deckSize - 1), DELTA);
+		assertEquals(0, deck.kittenTracker.getDrawExplosionChance(2), DELTA);
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = {false, true})
+	public void rearrangeTopThreeCards_forgetsTopUntilSeenAgain(boolean ordinal) {
+		final int deckSize = 6;
+		final int cardsToRearrange = 3;
+		Deck deck = deckOf(ordinal, deckSize, deckSize - 1);
+		deck.revealTopCards(0, cardsToRearrange);
+		deck.revealTopCards(1, cardsToRearrange);
+
+		int top = deckSize - 1;
+		deck.rearrangeTopThreeCards(List.of(top - 2, top - 1, top));
+		deck.revealTopCards(0, cardsToRearrange);
+
+		assertEquals(1, deck.kittenTracker.getKittenChance(0, 2), DELTA);
+		assertEquals(0, deck.kittenTracker.getDrawExplosionChance(0), DELTA);
+		assertEquals(1.0 / deckSize, deck.kittenTracker.getDrawExplosionChance(1), DELTA);
+	}
+
+	@Test
+	public void seeTheFuture_informsThePlayerWhoPlayedIt() {
+		final int deckSize = 6;
+		Deck deck = deckOf(true, deckSize, deckSize - 2);
+		GameEngine game = GameEngine.createHeadlessGame(deck, THREE_PLAYERS,
+				players -> new RandomDecisionMaker(new SplittableRandom(1L)),
+				new FastGameRandom(1L));
+		Player seer = game.getPlayerManager().getPlayerByIndex(0);
+		Player other = game.getPlayerManager().getPlayerByIndex(1);
+
+		Card seeTheFuture = cardFactory.createCard(CardType.SEE_THE_FUTURE);
+		seer.addCardToHand(seeTheFuture);
+		game.playCard(seer, seeTheFuture);
+
+		assertEquals(0, seer.getDrawExplosionChance(), DELTA);
+		assertEquals(1, seer.getKittenChance(1), DELTA);
+		assertEquals(0, seer.getKittenChance(2), DELTA);
+		assertEquals(1.0 / deckSize, other.getDrawExplosionChance(), DELTA);
+	}
+
+	@Test
+	public void getDrawExplosionChance_withoutDeck_isZero() {
+		Player player = new Player(new Hand());
+		assertEquals(0, player.getDrawExplosionChance(), DELTA);
+	}
+
+	@Test
+	public void headlessGames_onlyClaimCertaintyThatHolds() {
+		for (long seed = 0; seed < GAMES; seed++) {
+			GameEngine game = GameEngine.createHeadlessGame(THREE_PLAYERS,
+					new RandomDecisionMaker(new SplittableRandom(seed)),
+					new FastGameRandom(seed));
+			game.initializeGame();
+			while (game.getIsGameRunning()) {
+				game.playTurn();
+				assertKnowledgeHolds(game.getDeck());
+			}
+		}
+	}
+
+	private void assertKnowledgeHolds(Deck deck) {
+		int kittens = 0;
+		for (int index = 0; index < deck.getDeckSize(); index++) {
+			boolean kitten = Deck.isKitten(deck.getCardAt(index));
+			if (kitten) {
+				kittens++;
+			}
+			int depth = deck.getDeckSize() - 1 - index;
+			for (int seat = -1; seat < THREE_PLAYERS; seat++) {
+				double chance = deck.kittenTracker.getKittenChance(seat, depth);
+				if (chance == 1 || chance == 0) {
+					assertEquals(kitten, chance == 1);
+				}
+			}
+		}
+		assertEquals(kittens, deck.kittenTracker.getKittensInDeck());
+	}
+
+	private Deck deckOf(boolean ordinal, int size, int... kittenIndices) {
+		List<Card> cards = new ArrayList<>();
+		for (int i = 0; i < size; i++) {
+			cards.add(cardFactory.createCard(CardType.NORMAL));
+		}
+		for (int index : kittenIndices) {
+			cards.set(index, cardFactory.createCard(CardType.EXPLODING_KITTEN));
+		}
+		return ordinal ? new OrdinalDeck(cards) : new ListDeck(cards);
+	}
+}
@@ -13,13 +13,13 @@ import java.util.stream.Stream;
 import static org.junit.jupiter.api.Assertions.*;
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
-public class DeckTest {
+public class ListDeckTest {
 
 	@Test
 	public void peekTop_emptyDeck_throwsNoSuchElementException() {
 		List<Card> emptyCardList = new ArrayList<>();
 
-		Deck deck = new Deck(emptyCardList);
+		Deck deck = new ListDeck(emptyCardList);
 
 		String expectedMessage = "Deck is empty";
 
@@ -35,7 +35,7 @@ public class DeckTest {
 		Card expectedCard = mockCard(testCardType);
 		List<Card> cardList = new ArrayList<>(List.of(expectedCard));
 
-		Deck deck = new Deck(cardList);
+		Deck deck = new ListDeck(cardList);
 		Card actualCard = deck.peekTop();
 
 		assertEquals(expectedCard, actualCard);
@@ -44,7 +44,7 @@ public class DeckTest {
 	@ParameterizedTest
 	@MethodSource("nonEmptyCardListsWithTwoCards")
 	public void peekTop_deckWithTwoCards_returnsCardInIndexOne(List<Card> cards) {
-		Deck deck = new Deck(cards);
+		Deck deck = new ListDeck(cards);
 
 		Card expectedCard = cards.get(1);
 		Card actualCard = deck.peekTop();
@@ -57,7 +57,7 @@ public class DeckTest {
 		Card card1 = mockCard(CardType.SEE_THE_FUTURE);
 		Card card2 = mockCard(CardType.NORMAL);
 		Card card3 = mockCard(CardType.NORMAL);
-		Deck deck = new Deck(List.of(card1, card2, card3));
+		Deck deck = new ListDeck(List.of(card1, card2, card3));
 
 		Card actualCard = deck.peekTop();
 
@@ -67,7 +67,7 @@ public class DeckTest {
 	@Test
 	public void getCardAt_emptyDeckWithIndexNegative_throwsIndexOutOfBoundsException() {
 		List<Card> emptyCardList = new ArrayList<>();
-		Deck deck = new Deck(emptyCardList);
+		Deck deck = new ListDeck(emptyCardList);
 		int index = -1;
 
 		Exception exception = assertThrows(IndexOutOfBoundsException.class, () -> {
@@ -85,7 +85,7 @@ public class DeckTest {
 		Card card1 = mockCard(CardType.NORMAL);
 		Card card2 = mockCard(CardType.NORMAL);
 		List<Card> cardList = new ArrayList<>(List.of(card1, card2));
-		Deck deck = new Deck(cardList);
+		Deck deck = new ListDeck(cardList);
 		int index = -1;
 
 		Exception exception = assertThrows(IndexOutOfBoundsException.class, () -> {
@@ -101,7 +101,7 @@ public class DeckTest {
 	@Test
 	public void getCardAt_emptyDeckWithIndexOne_throwsIndexOutOfBoundsException() {
 		List<Card> emptyCardList = new ArrayList<>();
-		Deck deck = new Deck(emptyCardList);
+		Deck deck = new ListDeck(emptyCardList);
 		int index = 1;
 
 		Exception exception = assertThrows(IndexOutOfBoundsException.class, () -> {
@@ -117,7 +117,7 @@ public class DeckTest {
 	@Test
 	public void getCardAt_emptyDeckWithIndexZero_throwsIndexOutOfBoundsException() {
 		List<Card> emptyCardList = new ArrayList<>();
-		Deck deck = new Deck(emptyCardList);
+		Deck deck = new ListDeck(emptyCardList);
 		int index = 0;
 
 		Exception exception = assertThrows(IndexOutOfBoundsException.class, () -> {
@@ -137,7 +137,7 @@ public class DeckTest {
 		Card card3 = mockCard(CardType.DEFUSE);
 		final int INDEX_OUT_OF_BOUNDS = 3;
 
-		Deck deck = new Deck(List.of(card1, card2, card3));
+		Deck deck = new ListDeck(List.of(card1, card2, card3));
 
 		Exception exception = assertThrows(IndexOutOfBoundsException.class, () -> {
 			Card card = deck.getCardAt(INDEX_OUT_OF_BOUNDS);
@@ -155,7 +155,7 @@ public class DeckTest {
 		Card card2 = mockCard(CardType.NORMAL);
 		final int INDEX_OUT_OF_BOUNDS = 2;
 
-		Deck deck = new Deck(List.of(card1, card2));
+		Deck deck = new ListDeck(List.of(card1, card2));
 
 		Exception exception = assertThrows(IndexOutOfBoundsException.class, () -> {
 			Card card = deck.getCardAt(INDEX_OUT_OF_BOUNDS);
@@ -175,7 +175,7 @@ public class DeckTest {
 		Card card3 = mockCard(CardType.NORMAL);
 		final int INDEX_OUT_OF_BOUNDS = 4;
 
-		Deck deck = new Deck(List.of(card1, card2, card3));
+		Deck deck = new ListDeck(List.of(card1, card2, card3));
 
 		Exception exception = assertThrows(IndexOutOfBoundsException.class, () -> {
 			Card card = deck.getCardAt(INDEX_OUT_OF_BOUNDS);
@@ -194,7 +194,7 @@ public class DeckTest {
 		Card card3 = mockCard(CardType.SHUFFLE);
 
 		final int INDEX = 1;
-		Deck deck = new Deck(List.of(card1, card2, card3));
+		Deck deck = new ListDeck(List.of(card1, card2, card3));
 
 		Card actualCard = deck.getCardAt(INDEX);
 		assertEquals(card2, actualCard);
@@ -204,7 +204,7 @@ public class DeckTest {
 	public void draw_emptyDeck_throwsNoSuchElementException() {
 		List<Card> emptyCardList = new ArrayList<>();
 
-		Deck deck = new Deck(emptyCardList);
+		Deck deck = new ListDeck(emptyCardList);
 
 		String expectedMessage = "Deck is empty";
 
@@ -220,7 +220,7 @@ public class DeckTest {
 		Card card = mockCard(testCardType);
 		List<Card> cardList = new ArrayList<>(List.of(card));
 
-		Deck deck = new Deck(cardList);
+		Deck deck = new ListDeck(cardList);
 
 		Card actualCard = deck.draw();
 
@@ -232,7 +232,7 @@ public class DeckTest {
 	@ParameterizedTest
 	@MethodSource("nonEmptyCardListsWithTwoCards")
 	public void drawAndGetDeckSize_deckWithTwoCards_returnsDeckWithOneCard(List<Card> cards) {
-		Deck deck = new Deck(cards);
+		Deck deck = new ListDeck(cards);
 
 		Card expectedCard = cards.get(1);
 		Card actualCard = deck.draw();
@@ -247,7 +247,7 @@ public class DeckTest {
 		Card card2 = mockCard(CardType.NORMAL);
 		Card card3 = mockCard(CardType.NORMAL);
 
-		Deck deck = new Deck(List.of(card1, card2, card3));
+		Deck deck = new ListDeck(List.of(card1, card2, card3));
 		Card actualCard = deck.draw();
 
 		assertEquals(card3, actualCard);
@@ -259,7 +259,7 @@ public class DeckTest {
 		Card card1 = mockCard(CardType.SEE_THE_FUTURE);
 		Card card2 = mockCard(CardType.NORMAL);
 
-		Deck deck = new Deck(List.of(card1, card2));
+		Deck deck = new ListDeck(List.of(card1, card2));
 
 		int expectedSize = 2;
 		int actualSize = deck.getDeckSize();
@@ -273,7 +273,7 @@ public class DeckTest {
 		Card card2 = mockCard(CardType.NORMAL);
 		Card card3 = mockCard(CardType.NORMAL);
 
-		Deck deck = new Deck(List.of(card1, card2, card3));
+		Deck deck = new ListDeck(List.of(card1, card2, card3));
 
 		final int DECK_SIZE = 3;
 		int actualSize = deck.getDeckSize();
@@ -287,7 +287,7 @@ public class DeckTest {
 		Card card = mockCard(CardType.NORMAL);
 		int index = -1;
 
-		Deck deck = new Deck(emptyCardList);
+		Deck deck = new ListDeck(emptyCardList);
 
 		Exception exception = assertThrows(IndexOutOfBoundsException.class,
 				() -> deck.insertCardAt(card, index));
@@ -304,7 +304,7 @@ public class DeckTest {
 		List<Card> nonEmptyCardList = new ArrayList<>(List.of(card));
 		int index = -1;
 
-		Deck deck = new Deck(nonEmptyCardList);
+		Deck deck = new ListDeck(nonEmptyCardList);
 
 		Exception exception = assertThrows(IndexOutOfBoundsException.class,
 				() -> deck.insertCardAt(card, index));
@@ -321,7 +321,7 @@ public class DeckTest {
 		List<Card> emptyCardList = new ArrayList<>();
 		int index = 1;
 
-		Deck deck = new Deck(emptyCardList);
+		Deck deck = new ListDeck(emptyCardList);
 
 		Exception exception = assertThrows(IndexOutOfBoundsException.class,
 				() -> deck.insertCardAt(card, index));
@@ -339,7 +339,7 @@ public class DeckTest {
 		Card card2 = mockCard(CardType.DEFUSE);
 		List<Card> nonEmptyCardList = new ArrayList<>(List.of(card1, card2));
 
-		Deck deck = new Deck(nonEmptyCardList);
+		Deck deck = new ListDeck(nonEmptyCardList);
 		final int INDEX = 3;
 
 		Exception exception = assertThrows(IndexOutOfBoundsException.class,
@@ -355,7 +355,7 @@ public class DeckTest {
 	public void insertCardAt_emptyDeckAndInsertNullCard_throwsNullPointerException() {
 		List<Card> emptyCardList = new ArrayList<>();
 
-		Deck deck = new Deck(emptyCardList);
+		Deck deck = new ListDeck(emptyCardList);
 
 		assertThrows(NullPointerException.class, () -> deck.insertCardAt(null, 0));
 	}
@@ -366,7 +366,7 @@ public class DeckTest {
 		Card card2 = mockCard(CardType.FAVOR);
 
 		List<Card> nonEmptyCardList = new ArrayList<>(List.of(card1, card2));
-		Deck deck = new Deck(nonEmptyCardList);
+		Deck deck = new ListDeck(nonEmptyCardList);
 
 		assertThrows(NullPointerException.class, () -> deck.insertCardAt(null, 0));
 	}
@@ -377,7 +377,7 @@ public class DeckTest {
 		List<Card> cardList = new ArrayList<>();
 		int index = 0;
 
-		Deck deck = new Deck(cardList);
+		Deck deck = new ListDeck(cardList);
 		deck.insertCardAt(card, index);
 
 		assertEquals(1, deck.getDeckSize());
@@ -391,7 +391,7 @@ public class DeckTest {
 		int index = 0;
 		final int FINAL_SIZE = 3;
 
-		Deck deck = new Deck(cards);
+		Deck deck = new ListDeck(cards);
 
 		deck.insertCardAt(card, index);
 		Card actualCard = deck.getCardAt(index);
@@ -407,7 +407,7 @@ public class DeckTest {
 		int index = 2;
 		final int FINAL_SIZE = 3;
 
-		Deck deck = new Deck(cards);
+		Deck deck = new ListDeck(cards);
 
 		deck.insertCardAt(card, index);
 
@@ -425,7 +425,7 @@ public class DeckTest {
 		int index = 1;
 		final int FINAL_SIZE = 3;
 
-		Deck deck = new Deck(cardsList);
+		Deck deck = new ListDeck(cardsList);
 		deck.insertCardAt(card, index);
 
 		assertEquals(card, deck.getCardAt(index));
@@ -436,9 +436,60 @@ public class DeckTest {
 	public void shuffleDeck_emptyDeckAndNullRandom_throwsNullPointerException() {
 		List<Card> emptyCardList = new ArrayList<>();
 
-		Deck deck = new Deck(emptyCardList);
+		Deck deck = new ListDeck(emptyCardList);
 
-		assertThrows(NullPointerException.class, () -> deck.shuffleDeck(null));
+		assertThrows(NullPointerException.class, () -> deck.shuffleDeck((Random) null));
+	}
+
+	@Test
+	public void shuffleDeck_nullGameRandom_throwsNullPointerException() {
+		Deck deck = new ListDeck(new ArrayList<>());
+
+		assertThrows(NullPointerException.class,
+				() -> deck.shuffleDeck((GameRandom) null));
+	}
+
+	@Test
+	public void shuffleDeck_sameSeedGameRandom_producesSameOrder() {
+		final int NUMBER_OF_CARDS = 20;
+		final long SEED = 7L;
+		CardFactory cardFactory = new CardFactory();
+		List<Card> cardList = new ArrayList<>();
+		for (CardType cardType : CardType.values()) {
+			if (cardType != CardType.UNKNOWN_CARD_FOR_TEST) {
+				cardList.add(cardFactory.createCard(cardType));
+			}
+		}
+		cardList.addAll(cardFactory.createCards(CardType.NORMAL, NUMBER_OF_CARDS));
+		Deck firstDeck = new ListDeck(cardList);
+		Deck secondDeck = new ListDeck(cardList);
+
+		firstDeck.shuffleDeck(new FastGameRandom(SEED));
+		secondDeck.shuffleDeck(new FastGameRandom(SEED));
+
+		for (int index = 0; index < cardList.size(); index++) {
+			assertSame(firstDeck.getCardAt(index), secondDeck.getCardAt(index));
+		}
+	}
+
+	@Test
+	public void shuffleDeck_gameRandom_swapsEachCardWithChosenIndex() {
+		Card bottom = mockCard(CardType.SKIP);
+		Card middle = mockCard(CardType.ATTACK);
+		Card top = mockCard(CardType.NUKE);
+		Deck deck = new ListDeck(List.of(bottom, middle, top));
+		GameRandom random = EasyMock.createMock(GameRandom.class);
+		final int THREE_CARDS = 3;
+		EasyMock.expect(random.nextInt(THREE_CARDS)).andReturn(0);
+		EasyMock.expect(random.nextInt(2)).andReturn(0);
+		EasyMock.replay(random);
+
+		deck.shuffleDeck(random);
+
+		assertEquals(middle, deck.getCardAt(0));
+		assertEquals(top, deck.getCardAt(1));
+		assertEquals(bottom, deck.getCardAt(2));
+		EasyMock.verify(random);
 	}
 
 	@Test
@@ -447,7 +498,7 @@ public class DeckTest {
 		Random rand = EasyMock.createMock(Random.class);
 		EasyMock.replay(rand);
 
-		Deck deck = new Deck(cardList);
+		Deck deck = new ListDeck(cardList);
 
 		deck.shuffleDeck(rand);
 
@@ -463,7 +514,7 @@ public class DeckTest {
 		Random rand = EasyMock.createMock(Random.class);
 		EasyMock.replay(rand);
 
-		Deck deck = new Deck(cardList);
+		Deck deck = new ListDeck(cardList);
 		deck.shuffleDeck(rand);
 
 		assertEquals(1, deck.getDeckSize());
@@ -478,7 +529,7 @@ public class DeckTest {
 		Card card2 = cards.get(1);
 		List<Card> cardsList = new ArrayList<>(List.of(card1, card2));
 		Random rand = EasyMock.createMock(Random.class);
-		Deck deck = new Deck(cardsList);
+		Deck deck = new ListDeck(cardsList);
 
 		EasyMock.expect(rand.nextInt(2)).andReturn(0);
 		EasyMock.replay(rand);
@@ -503,7 +554,7 @@ public class DeckTest {
 
 		List<Card> cardsList = new ArrayList<>(List.of(card1, card2, card3));
 		Random rand = EasyMock.createMock(Random.class);
-		Deck deck = new Deck(cardsList);
+		Deck deck = new ListDeck(cardsList);
 
 		EasyMock.expect(rand.nextInt(SHUFFLE_ROUND1)).andReturn(1);
 		EasyMock.expect(rand.nextInt(SHUFFLE_ROUND2)).andReturn(0);
@@ -531,7 +582,7 @@ public class DeckTest {
 
 		List<Card> cardsList = new ArrayList<>(List.of(card1, card2, card3));
 		Random rand = EasyMock.createMock(Random.class);
-		Deck deck = new Deck(cardsList);
+		Deck deck = new ListDeck(cardsList);
 
 		EasyMock.expect(rand.nextInt(SHUFFLE_ROUND1)).andReturn(0);
 		EasyMock.expect(rand.nextInt(SHUFFLE_ROUND2)).andReturn(0);
@@ -553,7 +604,7 @@ public class DeckTest {
 	public void peekTopTwoCards_emptyDeck_throwsNoSuchElementException() {
 		List<Card> emptyCardList = new ArrayList<>();
 
-		Deck deck = new Deck(emptyCardList);
+		Deck deck = new ListDeck(emptyCardList);
 
 		String expectedMessage = "Deck is empty";
 
@@ -570,7 +621,7 @@ public class DeckTest {
 		Card expectedCard = mockCard(testCardType);
 		List<Card> expectedCardList = new ArrayList<>(List.of(expectedCard));
 
-		Deck deck = new Deck(expectedCardList);
+		Deck deck = new ListDeck(expectedCardList);
 		List <Card> actualCardList = deck.peekTopTwoCards();
 
 		assertEquals(expectedCardList, actualCardList);
@@ -579,7 +630,7 @@ public class DeckTest {
 	@ParameterizedTest
 	@MethodSource("nonEmptyCardListsWithTwoCards")
 	public void peekTopTwoCards_deckWithTwoCards_returnsTwoLastCards(List<Card> cards) {
-		Deck deck = new Deck(cards);
+		Deck deck = new ListDeck(cards);
 
 		Card expectedCard1 = cards.get(1);
 		Card expectedCard2 = cards.get(0);
@@ -605,7 +656,7 @@ public class DeckTest {
 	@Test
 	public void swapTopAndBottom_emptyDeck_throwsNoSuchElementException() {
 		List<Card> emptyCardList = new ArrayList<>();
-		Deck deck = new Deck(emptyCardList);
+		Deck deck = new ListDeck(emptyCardList);
 
 		String expectedMessage = "Deck is empty";
 		Exception exception = assertThrows(NoSuchElementException.class,
@@ -620,7 +671,7 @@ public class DeckTest {
 			(CardType testCardType) {
 		Card mockCard = mockCard(testCardType);
 		List<Card> cardsList = new ArrayList<>(List.of(mockCard));
-		Deck deck = new Deck(cardsList);
+		Deck deck = new ListDeck(cardsList);
 
 		Card expectedCard = deck.getCardAt(0);
 		deck.swapTopAndBottom();
@@ -632,7 +683,7 @@ public class DeckTest {
 	@MethodSource("nonEmptyCardListsWithTwoCards")
 	public void swapTopAndBottom_deckWithTwoCards_swapsCards
 			(List<Card> cards) {
-		Deck deck = new Deck(cards);
+		Deck deck = new ListDeck(cards);
 		Card card1BeforeSwapping = deck.getCardAt(0);
 		Card card2BeforeSwapping = deck.getCardAt(1);
 
@@ -667,7 +718,7 @@ public class DeckTest {
 	public void peekTopThreeCards_emptyDeck_throwsNoSuchElementException() {
 		List<Card> emptyCardList = new ArrayList<>();
 
-		Deck deck = new Deck(emptyCardList);
+		Deck deck = new ListDeck(emptyCardList);
 
 		String expectedMessage = "Deck is empty";
 
@@ -684,7 +735,7 @@ public class DeckTest {
 		Card expectedCard = mockCard(testCardType);
 		List<Card> expectedCardList = new ArrayList<>(List.of(expectedCard));
 
-		Deck deck = new Deck(expectedCardList);
+		Deck deck = new ListDeck(expectedCardList);
 		List <Card> actualCardList = deck.peekTopThreeCards();
 
 		assertEquals(expectedCardList, actualCardList);
@@ -693,7 +744,7 @@ public class DeckTest {
 	@ParameterizedTest
 	@MethodSource("nonEmptyCardListsWithTwoCards")
 	public void peekTopThreeCards_deckWithTwoCards_returnsTwoLastCards(List<Card> cards) {
-		Deck deck = new Deck(cards);
+		Deck deck = new ListDeck(cards);
 
 		Card expectedCard1 = cards.get(1);
 		Card expectedCard2 = cards.get(0);
@@ -734,7 +785,7 @@ public class DeckTest {
 	@Test
 	public void rearrangeTopThreeCards_emptyDeck_throwsNoSuchElementException() {
 		List<Card> emptyCardList = new ArrayList<>();
-		Deck deck = new Deck(emptyCardList);
+		Deck deck = new ListDeck(emptyCardList);
 		String expectedMessage = "Deck is empty";
 
 		List<Integer> listOfIndices = new ArrayList<>(List.of(0, 1, 2));
@@ -751,7 +802,7 @@ public class DeckTest {
 	public void rearrangeTopThreeCards_oneCardDeckWithTwoIndices_throwsIllegalArgumentException(
 			CardType testCardType) {
 		Card testCard = mockCard(testCardType);
-		Deck deck = new Deck(List.of(testCard));
+		Deck deck = new ListDeck(List.of(testCard));
 
 		String expectedMessage = "Number of indices is larger than the deck size";
 
@@ -768,7 +819,7 @@ public class DeckTest {
 	@MethodSource("nonEmptyCardListsWithTwoCards")
 	public void rearrangeTopThreeCards_TwoCardsThreeIndices_throwsIllegalArgumentException(
 			List<Card> cards) {
-		Deck deck = new Deck(cards);
+		Deck deck = new ListDeck(cards);
 
 		String expectedMessage = "Number of indices is larger than the deck size";
 
@@ -802,7 +853,7 @@ public class DeckTest {
 	@MethodSource("nonEmptyCardListsWithTwoCards")
 	public void rearrangeTopThreeCards_withNegativeFirstIndex_throwsIllegalArgumentException(
 			List<Card> cards) {
-		Deck deck = new Deck(cards);
+		Deck deck = new ListDeck(cards);
 
 		String expectedMessage = "Negative indices are not allowed";
 
@@ -819,7 +870,7 @@ public class DeckTest {
 	@MethodSource("nonEmptyCardListsWithTwoCards")
 	public void rearrangeTopThreeCards_withNegativeSecondIndex_throwsIllegalArgumentException(
 			List<Card> cards) {
-		Deck deck = new Deck(cards);
+		Deck deck = new ListDeck(cards);
 
 		String expectedMessage = "Negative indices are not allowed";
 
@@ -889,7 +940,7 @@ public class DeckTest {
 			List<Card> cards
 	)
 	{
-		Deck deck = new Deck(cards);
+		Deck deck = new ListDeck(cards);
 
 		String expectedMessage =
 				"Duplicate indices are not allowed";
@@ -925,7 +976,7 @@ public class DeckTest {
 	public void rearrangeTopThreeCards_deckWithOneCard_orderRemainsTheSame(
 			CardType testCardType) {
 		Card testCard = mockCard(testCardType);
-		Deck deck = new Deck(List.of(testCard));
+		Deck deck = new ListDeck(List.of(testCard));
 		int expectedDeckSize = deck.getDeckSize();
 
 		List<Integer> listOfIndices = new ArrayList<>(List.of(0));
@@ -943,7 +994,7 @@ public class DeckTest {
 	@MethodSource("nonEmptyCardListsWithTwoCards")
 	public void rearrangeTopThreeCards_deckWithTwoCardsAndSameIndices_orderRemainsTheSame(
 			List<Card> cards) {
-		Deck deck = new Deck(cards);
+		Deck deck = new ListDeck(cards);
 		int expectedDeckSize = deck.getDeckSize();
 
 		List<Integer> listOfIndices = new ArrayList<>(List.of(1, 0));
@@ -961,7 +1012,7 @@ public class DeckTest {
 	@MethodSource("nonEmptyCardListsWithTwoCards")
 	public void rearrangeTopThreeCards_deckWithTwoCardsAndReversedIndices_reversesCards(
 			List<Card> cards) {
-		Deck deck = new Deck(cards);
+		Deck deck = new ListDeck(cards);
 		int expectedDeckSize = deck.getDeckSize();
 
 		List<Integer> listOfIndices = new ArrayList<>(List.of(0, 1));
@@ -1099,14 +1150,14 @@ public class DeckTest {
 		Card card1 = mockCard(CardType.SEE_THE_FUTURE);
 		Card card2 = mockCard(CardType.NORMAL);
 		Card card3 = mockCard(CardType.NORMAL);
-		return new Deck(List.of(card1, card2, card3));
+		return new ListDeck(List.of(card1, card2, card3));
 	}
 
 	private Deck deckWithThreeCards() {
 		Card card1 = mockCard(CardType.ALTER_THE_FUTURE);
 		Card card2 = mockCard(CardType.NUKE);
 		Card card3 = mockCard(CardType.FAVOR);
-		return new Deck(List.of(card1, card2, card3));
+		return new ListDeck(List.of(card1, card2, card3));
 	}
 
 	private Deck deckWithFourCardsAndDuplicate() {
@@ -1114,7 +1165,7 @@ public class DeckTest {
 		Card card2 = mockCard(CardType.SKIP);
 		Card card3 = mockCard(CardType.NORMAL);
 		Card card4 = mockCard(CardType.NORMAL);
-		return new Deck(List.of(card1, card2, card3, card4));
+		return new ListDeck(List.of(card1, card2, card3, card4));
 	}
 
 	private Card mockCard(CardType type) {
@@ -1129,7 +1180,7 @@ public class DeckTest {
 	public void moveAllExplodingKittensToTop_emptyDeck_deckRemainsEmpty() {
 		List<Card> emptyCardList = new ArrayList<>();
 
-		Deck deck = new Deck(emptyCardList);
+		Deck deck = new ListDeck(emptyCardList);
 		deck.moveAllExplodingKittensToTop();
 		final int ZERO_DECK_SIZE = 0;
 		assertEquals(ZERO_DECK_SIZE, deck.getDeckSize());
@@ -1145,7 +1196,7 @@ public class DeckTest {
 		List<Card> cardsList = new ArrayList<>(List.of(card1, card2, card3));
 		final int EXPECTED_SIZE = 3;
 
-		Deck deck = new Deck(cardsList);
+		Deck deck = new ListDeck(cardsList);
 		deck.moveAllExplodingKittensToTop();
 
 		assertEquals(EXPECTED_SIZE, deck.getDeckSize());
@@ -1162,7 +1213,7 @@ public class DeckTest {
 		List<Card> cardsList = new ArrayList<>(List.of(kitten1, kitten2));
 		final int EXPECTED_SIZE = 2;
 
-		Deck deck = new Deck(cardsList);
+		Deck deck = new ListDeck(cardsList);
 		deck.moveAllExplodingKittensToTop();
 
 		assertEquals(EXPECTED_SIZE, deck.getDeckSize());
@@ -1180,7 +1231,7 @@ public class DeckTest {
 				explodingKitten, favorCard));
 		final int EXPECTED_SIZE = 3;
 
-		Deck deck = new Deck(cardsList);
+		Deck deck = new ListDeck(cardsList);
 		deck.moveAllExplodingKittensToTop();
 
 		assertEquals(EXPECTED_SIZE, deck.getDeckSize());
@@ -1201,7 +1252,7 @@ public class DeckTest {
 				(defuseCard, kitten1, shuffleCard, kitten2, favorCard));
 		final int EXPECTED_SIZE = 5;
 
-		Deck deck = new Deck(cardsList);
+		Deck deck = new ListDeck(cardsList);
 		deck.moveAllExplodingKittensToTop();
 		final int CARD_AT_INDEX_ZERO = 0;
 		final int CARD_AT_INDEX_ONE = 1;
@@ -1225,7 +1276,7 @@ public class DeckTest {
 				shuffleCard, kitten1, kitten2));
 		final int EXPECTED_SIZE = 4;
 
-		Deck deck = new Deck(cardsList);
+		Deck deck = new ListDeck(cardsList);
 		deck.moveAllExplodingKittensToTop();
 		final int CARD_AT_INDEX_ZERO = 0;
 		final int CARD_AT_INDEX_ONE = 1;
@@ -1246,7 +1297,7 @@ public class DeckTest {
 				normalCard, defuseCard));
 		final int EXPECTED_SIZE = 3;
 
-		Deck deck = new Deck(cardsList);
+		Deck deck = new ListDeck(cardsList);
 		deck.moveAllExplodingKittensToTop();
 		final int CARD_AT_INDEX_ZERO = 0;
 		final int CARD_AT_INDEX_ONE = 1;
@@ -1267,7 +1318,7 @@ public class DeckTest {
 				favorCard2, kitten2, kitten3));
 		final int EXPECTED_SIZE = 5;
 
-		Deck deck = new Deck(cardsList);
+		Deck deck = new ListDeck(cardsList);
 		deck.moveAllExplodingKittensToTop();
 
 		final int CARD_AT_INDEX_ZERO = 0;
@@ -0,0 +1,46 @@
+package domain;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LobbyModeTest {
+	private static final int STANDARD_MAX_PLAYERS = 5;
+	private static final int SIX_PLAYERS = 6;
+	private static final int ELEVEN_PLAYERS = 11;
+	private static final int LARGE_MAX_PLAYERS = 1000;
+
+	@Test
+	public void allows_standardMode_acceptsTwoToFivePlayers() {
+		assertFalse(LobbyMode.STANDARD.allows(1));
+		assertTrue(LobbyMode.STANDARD.allows(2));
+		assertTrue(LobbyMode.STANDARD.allows(STANDARD_MAX_PLAYERS));
+		assertFalse(LobbyMode.STANDARD.allows(SIX_PLAYERS));
+	}
+
+	@Test
+	public void allows_largeMode_acceptsUpToOneThousandPlayers() {
+		assertFalse(LobbyMode.LARGE.allows(1));
+		assertTrue(LobbyMode.LARGE.allows(SIX_PLAYERS));
+		assertTrue(LobbyMode.LARGE.allows(LARGE_MAX_PLAYERS));
+		assertFalse(LobbyMode.LARGE.allows(LARGE_MAX_PLAYERS + 1));
+	}
+
+	@Test
+	public void getNumberOfDecks_scalesWithPlayersOnlyInLargeMode() {
+		assertEquals(1, LobbyMode.STANDARD.getNumberOfDecks(ELEVEN_PLAYERS));
+		assertEquals(1, LobbyMode.LARGE.getNumberOfDecks(STANDARD_MAX_PLAYERS));
+		assertEquals(2, LobbyMode.LARGE.getNumberOfDecks(SIX_PLAYERS));
+		assertEquals(SIX_PLAYERS / 2, LobbyMode.LARGE.getNumberOfDecks(ELEVEN_PLAYERS));
+		assertEquals(LARGE_MAX_PLAYERS / STANDARD_MAX_PLAYERS,
+				LobbyMode.LARGE.getNumberOfDecks(LARGE_MAX_PLAYERS));
+	}
+
+	@Test
+	public void forNumberOfPlayers_picksSmallestModeThatFits() {
+		assertEquals(LobbyMode.STANDARD, LobbyMode.forNumberOfPlayers(2));
+		assertEquals(LobbyMode.STANDARD,
+				LobbyMode.forNumberOfPlayers(STANDARD_MAX_PLAYERS));
+		assertEquals(LobbyMode.LARGE, LobbyMode.forNumberOfPlayers(SIX_PLAYERS));
+	}
+}
@@ -0,0 +1,73 @@
+package domain;
+
+import locale.LocaleManager;
+import org.junit.jupiter.api.Test;
+
+import java.util.MissingResourceException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LocaleManagerTest {
+	private static final int US_LOCALE = 2;
+
+	@Test
+	public void getCardName_returnsLocalizedNameForEveryPlayableCard() {
+		LocaleManager localeManager = new LocaleManager();
+
+		assertEquals("Skip", localeManager.getCardName(CardType.SKIP));
+		assertEquals("See the Future",
+				localeManager.getCardName(CardType.SEE_THE_FUTURE));
+		assertEquals(localeManager.get("card.name.swap_top_and_bottom"),
+				localeManager.getCardName(CardType.SWAP_TOP_AND_BOTTOM));
+	}
+
+	@Test
+	public void getCardName_withoutMessage_returnsBlank() {
+		LocaleManager localeManager = new LocaleManager();
+
+		assertEquals("", localeManager.getCardName(CardType.UNKNOWN_CARD_FOR_TEST));
+	}
+
+	@Test
+	public void getCardEffect_matchesBundleMessage() {
+		LocaleManager localeManager = new LocaleManager();
+
+		assertEquals(localeManager.get("card.effect.attack"),
+				localeManager.getCardEffect(CardType.ATTACK));
+		assertEquals(localeManager.get("card.effect.bury"),
+				localeManager.getCardEffect(CardType.BURY));
+		assertEquals("", localeManager.getCardEffect(CardType.EXPLODING_KITTEN));
+	}
+
+	@Test
+	public void chooseLocale_switchesCachedTables() {
+		LocaleManager localeManager = new LocaleManager();
+		String englishTitle = localeManager.get("exploding.kittens");
+
+		localeManager.chooseLocale(US_LOCALE);
+
+		assertNotEquals(englishTitle, localeManager.get("exploding.kittens"));
+		assertTrue(localeManager.get("exploding.kittens").contains("US VERSION"));
+	}
+
+	@Test
+	public void format_matchesStringFormat() {
+		LocaleManager localeManager = new LocaleManager();
+		final int PLAYER = 3;
+
+		assertEquals(String.format(localeManager.get("player.change.message"), PLAYER),
+				localeManager.format("player.change.message", PLAYER));
+		assertSame(localeManager.getTemplate("player.change.message"),
+				localeManager.getTemplate("player.change.message"));
+	}
+
+	@Test
+	public void get_withUnknownKey_throwsMissingResourceException() {
+		LocaleManager localeManager = new LocaleManager();
+
+		MissingResourceException exception = assertThrows(
+				MissingResourceException.class,
+				() -> localeManager.get("no.such.key"));
+		assertEquals("no.such.key", exception.getKey());
+	}
+}
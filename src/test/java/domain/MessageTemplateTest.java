@@ -0,0 +1,54 @@
+package domain;
+
+import locale.MessageTemplate;
+import org.junit.jupiter.api.Test;
+
+import java.util.MissingFormatArgumentException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MessageTemplateTest {
+	@Test
+	public void format_withStringAndNumberArguments_matchesStringFormat() {
+		final int COUNT = 12;
+		MessageTemplate template = MessageTemplate.compile("	 %s x%d (%s: %s)%n");
+
+		assertEquals(String.format("	 %s x%d (%s: %s)%n", "Skip", COUNT, "type", "skip"),
+				template.format("Skip", COUNT, "type", "skip"));
+		assertEquals(2 + 2, template.getArgumentCount());
+	}
+
+	@Test
+	public void format_withEscapedPercent_keepsLiteralPercent() {
+		MessageTemplate template = MessageTemplate.compile("%s won 100%% of games");
+
+		assertEquals("Seat 1 won 100% of games", template.format("Seat 1"));
+	}
+
+	@Test
+	public void format_withUnsupportedConversion_fallsBackToStringFormat() {
+		final double WIN_RATE = 12.3456;
+		MessageTemplate template = MessageTemplate.compile("Win rate: %.2f%%");
+
+		assertEquals(String.format("Win rate: %.2f%%", WIN_RATE),
+				template.format(WIN_RATE));
+		assertEquals(-1, template.getArgumentCount());
+	}
+
+	@Test
+	public void formatTo_appendsToExistingBuilder() {
+		StringBuilder out = new StringBuilder("> ");
+
+		MessageTemplate.compile("Player %d").formatTo(out, 2);
+
+		assertEquals("> Player 2", out.toString());
+	}
+
+	@Test
+	public void format_withMissingArgument_throwsMissingFormatArgumentException() {
+		MessageTemplate template = MessageTemplate.compile("%s and %s");
+
+		assertThrows(MissingFormatArgumentException.class,
+				() -> template.format("one"));
+	}
+}
@@ -0,0 +1,204 @@
+package domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OrdinalDeckTest {
+	private static final int FOUR_PLAYERS = 4;
+	private static final int OPERATIONS = 5000;
+	private static final long SEED = 5L;
+
+	private final CardFactory cardFactory = new CardFactory();
+
+	@Test
+	public void constructor_nullCardList_throwsNullPointerException() {
+		NullPointerException exception = assertThrows(NullPointerException.class,
+				() -> new OrdinalDeck(null));
+		assertEquals("List of Cards cannot be null", exception.getMessage());
+	}
+
+	@Test
+	public void draw_returnsCardsFromTopInOrder() {
+		Card skip = cardFactory.createCard(CardType.SKIP);
+		Card nuke = cardFactory.createCard(CardType.NUKE);
+		OrdinalDeck deck = new OrdinalDeck(List.of(skip, nuke));
+
+		assertSame(nuke, deck.draw());
+		assertSame(skip, deck.draw());
+		assertEquals(0, deck.getDeckSize());
+		Exception exception = assertThrows(NoSuchElementException.class, deck::draw);
+		assertEquals("Deck is empty", exception.getMessage());
+	}
+
+	@Test
+	public void draw_sameCardType_returnsSameInstance() {
+		OrdinalDeck deck = new OrdinalDeck(
+				cardFactory.createCards(CardType.NORMAL, FOUR_PLAYERS));
+
+		Card first = deck.draw();
+
+		assertSame(first, deck.draw());
+	}
+
+	@Test
+	public void insertCardAt_beyondCapacity_growsDeck() {
+		final int CARDS_TO_INSERT = 40;
+		OrdinalDeck deck = new OrdinalDeck(List.of());
+		Card defuse = cardFactory.createCard(CardType.DEFUSE);
+		Card kitten = cardFactory.createCard(CardType.EXPLODING_KITTEN);
+
+		for (int i = 0; i < CARDS_TO_INSERT; i++) {
+			deck.insertCardAt(defuse, deck.getDeckSize());
+		}
+		deck.insertCardAt(kitten, 1);
+
+		assertEquals(CARDS_TO_INSERT + 1, deck.getDeckSize());
+		assertEquals(CardType.EXPLODING_KITTEN, deck.getCardAt(1).getCardType());
+		assertEquals(CardType.DEFUSE, deck.peekTop().getCardType());
+	}
+
+	@Test
+	public void insertCardAt_invalidIndex_throwsIndexOutOfBoundsException() {
+		OrdinalDeck deck = new OrdinalDeck(List.of());
+		Card defuse = cardFactory.createCard(CardType.DEFUSE);
+
+		assertThrows(IndexOutOfBoundsException.class, () -> deck.insertCardAt(defuse, 1));
+		assertThrows(IndexOutOfBoundsException.class,
+				() -> deck.insertCardAt(defuse, -1));
+		assertThrows(NullPointerException.class, () -> deck.insertCardAt(null, 0));
+	}
+
+	@Test
+	public void getCardAt_indexEqualToSize_throwsIndexOutOfBoundsException() {
+		OrdinalDeck deck = new OrdinalDeck(List.of(cardFactory.createCard(CardType.SKIP)));
+
+		assertThrows(IndexOutOfBoundsException.class, () -> {
+			Card card = deck.getCardAt(1);
+		});
+	}
+
+	@Test
+	public void moveAllExplodingKittensToTop_keepsOrderOfOtherCards() {
+		Card kitten = cardFactory.createCard(CardType.EXPLODING_KITTEN);
+		Card skip = cardFactory.createCard(CardType.SKIP);
+		Card attack = cardFactory.createCard(CardType.ATTACK);
+		Card nuke = cardFactory.createCard(CardType.NUKE);
+		OrdinalDeck deck = new OrdinalDeck(List.of(kitten, skip, kitten, attack, nuke));
+
+		deck.moveAllExplodingKittensToTop();
+
+		assertSame(skip, deck.getCardAt(0));
+		assertSame(attack, deck.getCardAt(1));
+		assertSame(nuke, deck.getCardAt(2));
+		assertEquals(List.of(kitten, kitten), deck.peekTopTwoCards());
+	}
+
+	@Test
+	public void rearrangeTopThreeCards_invalidIndices_throwSameErrorsAsDeck() {
+		List<Card> cards = cardFactory.createCards(CardType.NORMAL, FOUR_PLAYERS);
+		OrdinalDeck deck = new OrdinalDeck(cards);
+		final int SECOND_CARD = 1;
+		final int TOP_CARD = 3;
+
+		Exception duplicate = assertThrows(IllegalArgumentException.class,
+				() -> deck.rearrangeTopThreeCards(List.of(TOP_CARD, TOP_CARD)));
+		assertEquals("Duplicate indices are not allowed", duplicate.getMessage());
+		Exception notAllowed = assertThrows(IllegalArgumentException.class,
+				() -> deck.rearrangeTopThreeCards(List.of(0)));
+		assertEquals("With deck size s, indices must be [s - 1, s - 3]",
+				notAllowed.getMessage());
+		Exception tooMany = assertThrows(IllegalArgumentException.class,
+				() -> deck.rearrangeTopThreeCards(
+						List.of(0, SECOND_CARD, 2, TOP_CARD, 2)));
+		assertEquals("Number of indices is larger than the deck size",
+				tooMany.getMessage());
+		assertThrows(NoSuchElementException.class,
+				() -> new OrdinalDeck(List.of()).rearrangeTopThreeCards(List.of()));
+	}
+
+	@Test
+	public void rearrangeTopThreeCards_negativeIndexOnSmallDeck_throwsException() {
+		OrdinalDeck deck = new OrdinalDeck(cardFactory.createCards(CardType.SKIP, 2));
+
+		Exception exception = assertThrows(IllegalArgumentException.class,
+				() -> deck.rearrangeTopThreeCards(List.of(-1)));
+		assertEquals("Negative indices are not allowed", exception.getMessage());
+	}
+
+	@Test
+	public void peekTopCards_smallDeck_returnsAvailableCards() {
+		Card skip = cardFactory.createCard(CardType.SKIP);
+		Card nuke = cardFactory.createCard(CardType.NUKE);
+		OrdinalDeck deck = new OrdinalDeck(List.of(skip, nuke));
+
+		assertEquals(List.of(nuke, skip), deck.peekTopThreeCards());
+		assertEquals(List.of(nuke, skip), deck.peekTopTwoCards());
+		assertThrows(NoSuchElementException.class,
+				() -> new OrdinalDeck(List.of()).peekTopTwoCards());
+	}
+
+	@Test
+	public void swapTopAndBottom_emptyDeck_throwsNoSuchElementException() {
+		OrdinalDeck deck = new OrdinalDeck(List.of());
+
+		assertThrows(NoSuchElementException.class, deck::swapTopAndBottom);
+		assertThrows(NoSuchElementException.class, deck::peekTop);
+	}
+
+	@Test
+	public void randomOperations_matchListBackedDeck() {
+		List<Card> cards = new ArrayList<>(
+				GameEngine.createInitialDeck(cardFactory, FOUR_PLAYERS));
+		cards.addAll(cardFactory.createCards(CardType.EXPLODING_KITTEN,
+				FOUR_PLAYERS - 1));
+		Deck expected = new ListDeck(cards);
+		OrdinalDeck actual = new OrdinalDeck(cards);
+		SplittableRandom random = new SplittableRandom(SEED);
+		final int OPERATION_KINDS = 6;
+		final int SHUFFLE = 3;
+		final int MOVE_KITTENS = 4;
+
+		for (int operation = 0; operation < OPERATIONS; operation++) {
+			int size = expected.getDeckSize();
+			int kind = random.nextInt(OPERATION_KINDS);
+			if (kind == 0 && size > 0) {
+				assertEquals(expected.draw(), actual.draw());
+			} else if (kind == 1 || size == 0) {
+				Card card = expected.getDeckSize() > 0 && random.nextBoolean()
+						? expected.peekTop()
+						: cardFactory.createCard(CardType.DEFUSE);
+				int index = random.nextInt(size + 1);
+				expected.insertCardAt(card, index);
+				actual.insertCardAt(card, index);
+			} else if (kind == 2) {
+				expected.swapTopAndBottom();
+				actual.swapTopAndBottom();
+			} else if (kind == SHUFFLE) {
+				long shuffleSeed = random.nextLong();
+				expected.shuffleDeck(new FastGameRandom(shuffleSeed));
+				actual.shuffleDeck(new FastGameRandom(shuffleSeed));
+			} else if (kind == MOVE_KITTENS) {
+				expected.moveAllExplodingKittensToTop();
+				actual.moveAllExplodingKittensToTop();
+			} else if (size >= FOUR_PLAYERS) {
+				List<Integer> indices = List.of(size - 2, size - 1, size - SHUFFLE);
+				expected.rearrangeTopThreeCards(indices);
+				actual.rearrangeTopThreeCards(indices);
+			}
+			assertSameCards(expected, actual);
+		}
+	}
+
+	private void assertSameCards(Deck expected, Deck actual) {
+		assertEquals(expected.getDeckSize(), actual.getDeckSize());
+		for (int index = 0; index < expected.getDeckSize(); index++) {
+			assertEquals(expected.getCardAt(index), actual.getCardAt(index));
+		}
+	}
+}
@@ -37,6 +37,14 @@ public class PlayerManagerTest {
 		assertEquals("Deck cannot be null", exception.getMessage());
 	}
 
+	@Test
+	public void setTurnManager_withNullTurnManager_throwsNullPointerException() {
+		PlayerManager pm = new PlayerManager(mockDeck);
+
+		assertThrows(NullPointerException.class, () -> pm.setTurnManager(null));
+		assertNull(pm.getTurnManager());
+	}
+
 	@Test
 	public void constructor_withValidDeck_initializesEmptyManager() {
 		PlayerManager pm = new PlayerManager(mockDeck);
@@ -283,6 +291,98 @@ public class PlayerManagerTest {
 		assertEquals("Index out of bounds", ex.getMessage());
 	}
 
+	@Test
+	public void getNumberOfActivePlayers_afterAddingPlayers_countsAllPlayers() {
+		playerManager.addPlayers(DEFAULT_PLAYERS);
+
+		assertEquals(DEFAULT_PLAYERS, playerManager.getNumberOfActivePlayers());
+	}
+
+	@Test
+	public void getNumberOfActivePlayers_afterRemovingSamePlayerTwice_decrementsOnce() {
+		playerManager.addPlayers(DEFAULT_PLAYERS);
+		Player player = playerManager.getPlayerByIndex(ZERO_INDEX);
+
+		playerManager.removePlayerFromGame(player);
+		playerManager.removePlayerFromGame(player);
+
+		assertEquals(DEFAULT_PLAYERS - 1, playerManager.getNumberOfActivePlayers());
+		assertFalse(playerManager.isPlayerActive(ZERO_INDEX));
+		assertEquals(1, playerManager.getNextActivePlayerIndex(ZERO_INDEX));
+	}
+
+	@Test
+	public void getNumberOfActivePlayers_afterPlayerExplodes_isUpdated() {
+		playerManager.addPlayers(DEFAULT_PLAYERS);
+		Player player = playerManager.getPlayerByIndex(1);
+		Card explodingKitten = new CardFactory().createCard(CardType.EXPLODING_KITTEN);
+		Deck deck = new ListDeck(List.of(explodingKitten));
+
+		player.drawCard(deck);
+
+		assertFalse(player.isInGame());
+		assertEquals(DEFAULT_PLAYERS - 1, playerManager.getNumberOfActivePlayers());
+		assertEquals(List.of(playerManager.getPlayerByIndex(ZERO_INDEX),
+				playerManager.getPlayerByIndex(2)),
+				playerManager.getActivePlayers());
+	}
+
+	@Test
+	public void getPlayerIndex_returnsStableIdOrMinusOneForUnknownPlayer() {
+		playerManager.addPlayers(DEFAULT_PLAYERS);
+		Player player = playerManager.getPlayerByIndex(2);
+
+		playerManager.removePlayerFromGame(playerManager.getPlayerByIndex(ZERO_INDEX));
+
+		assertEquals(2, playerManager.getPlayerIndex(player));
+		assertEquals(NEGATIVE_INDEX, playerManager.getPlayerIndex(mockPlayer()));
+	}
+
+	@Test
+	public void getNextActivePlayerIndex_withNoActivePlayerAfterIndex_returnsMinusOne() {
+		playerManager.addPlayers(MIN_NUMBER_OF_PLAYERS);
+		playerManager.removePlayerFromGame(playerManager.getPlayerByIndex(1));
+
+		assertEquals(NEGATIVE_INDEX, playerManager.getNextActivePlayerIndex(1));
+		assertThrows(IndexOutOfBoundsException.class,
+				() -> playerManager.getNextActivePlayerIndex(NEGATIVE_INDEX));
+	}
+
+	@Test
+	public void addPlayers_inLargeLobby_acceptsHundredsOfPlayers() {
+		final int LARGE_LOBBY = 500;
+		PlayerManager largeLobby = new PlayerManager(mockDeck, LobbyMode.LARGE);
+
+		largeLobby.addPlayers(LARGE_LOBBY);
+
+		assertEquals(LARGE_LOBBY, largeLobby.getNumberOfPlayers());
+		assertEquals(LARGE_LOBBY, largeLobby.getNumberOfActivePlayers());
+		assertEquals(LARGE_LOBBY - 1, largeLobby.getPlayerIndex(
+				largeLobby.getPlayerByIndex(LARGE_LOBBY - 1)));
+	}
+
+	@Test
+	public void addPlayers_inLargeLobbyAboveLimit_throwsIllegalArgumentException() {
+		final int TOO_LARGE_LOBBY = 1001;
+		PlayerManager largeLobby = new PlayerManager(mockDeck, LobbyMode.LARGE);
+
+		IllegalArgumentException exception = assertThrows(
+				IllegalArgumentException.class,
+				() -> largeLobby.addPlayers(TOO_LARGE_LOBBY)
+		);
+		assertEquals("Number of players must be between 2 and 1000",
+				exception.getMessage());
+	}
+
+	@Test
+	public void constructor_withNullLobbyMode_throwsNullPointerException() {
+		NullPointerException exception = assertThrows(
+				NullPointerException.class,
+				() -> new PlayerManager(mockDeck, null)
+		);
+		assertEquals("LobbyMode cannot be null", exception.getMessage());
+	}
+
 	private Deck mockDeck() {
 		return EasyMock.createMock(Deck.class);
 	}
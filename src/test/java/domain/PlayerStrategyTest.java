@@ -0,0 +1,83 @@
+package domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PlayerStrategyTest {
+	private static final int FOUR_PLAYERS = 4;
+	private static final long NUMBER_OF_GAMES = 200;
+	private static final long SEED = 5L;
+	private static final List<String> BUILT_IN_NAMES =
+			List.of("random", "greedy-defuse-hoarder", "probability-aware");
+
+	@Test
+	public void builtIn_namesRandomHoarderAndProbabilityAware() {
+		List<String> names = new ArrayList<>();
+		for (PlayerStrategy strategy : PlayerStrategy.builtIn()) {
+			names.add(strategy.getName());
+		}
+		assertEquals(BUILT_IN_NAMES, names);
+	}
+
+	@Test
+	public void forName_withBuiltInName_createsThatStrategy() {
+		DecisionMaker decisionMaker = PlayerStrategy.forName("probability-aware")
+				.create(new SplittableRandom(SEED));
+		assertInstanceOf(ProbabilityAwareDecisionMaker.class, decisionMaker);
+	}
+
+	@Test
+	public void forName_ismcts_searchesOnCallingThreadOnly() {
+		DecisionMaker decisionMaker = PlayerStrategy.forName("ismcts")
+				.create(new SplittableRandom(SEED));
+		assertInstanceOf(IsmctsDecisionMaker.class, decisionMaker);
+		assertEquals(1, ((IsmctsDecisionMaker) decisionMaker).getParallelism());
+	}
+
+	@Test
+	public void forName_withUnknownName_throwsIllegalArgumentException() {
+		IllegalArgumentException exception = assertThrows(
+				IllegalArgumentException.class,
+				() -> PlayerStrategy.forName("psychic"));
+		assertEquals("Unknown strategy: psychic", exception.getMessage());
+	}
+
+	@Test
+	public void of_withNullFactory_throwsNullPointerException() {
+		assertThrows(NullPointerException.class, () -> PlayerStrategy.of("none", null));
+	}
+
+	@Test
+	public void builtIn_everyStrategyFinishesHeadlessGames() {
+		for (PlayerStrategy strategy : PlayerStrategy.builtIn()) {
+			HeadlessSimulation simulation = new HeadlessSimulation(FOUR_PLAYERS, SEED,
+					RandomProvider.seeded(SEED), strategy);
+			simulation.playGames(NUMBER_OF_GAMES);
+
+			long wins = 0;
+			for (int seat = 0; seat < FOUR_PLAYERS; seat++) {
+				wins += simulation.getWinsForSeat(seat);
+			}
+			assertEquals(NUMBER_OF_GAMES, wins, strategy.getName());
+		}
+	}
+
+	@Test
+	public void builtIn_playAgainstEachOtherInTournament() {
+		TournamentRunner runner = new TournamentRunner(FOUR_PLAYERS, 1);
+		for (PlayerStrategy strategy : PlayerStrategy.builtIn()) {
+			runner.addStrategy(strategy);
+		}
+
+		TournamentResult result = runner.run(NUMBER_OF_GAMES, SEED);
+
+		assertEquals(BUILT_IN_NAMES, runner.getStrategyNames());
+		assertEquals(NUMBER_OF_GAMES, result.getWinsForStrategy(0)
+				+ result.getWinsForStrategy(1) + result.getWinsForStrategy(2));
+	}
+}
@@ -466,6 +466,19 @@ public class PlayerTest {
 		EasyMock.verify(mockHand);
 	}
 
+	@Test
+	public void getMatchingCardTypes_delegatesToHand() {
+		Hand mockHand = EasyMock.createMock(Hand.class);
+		List<CardType> matches = List.of(CardType.NORMAL, CardType.NUKE);
+		EasyMock.expect(mockHand.getMatchingCardTypes("N")).andReturn(matches);
+		EasyMock.replay(mockHand);
+
+		Player player = new Player(mockHand);
+		assertEquals(matches, player.getMatchingCardTypes("N"));
+
+		EasyMock.verify(mockHand);
+	}
+
 	@Test
 	public void parseCardType_withNoMatch_returnsNull() {
 		Hand mockHand = EasyMock.createMock(Hand.class);
@@ -0,0 +1,145 @@
+package domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ProbabilityAwareDecisionMakerTest {
+	private static final int THREE_PLAYERS = 3;
+	private static final int SAFE_DECK_SIZE = 20;
+	private static final int RISKY_DECK_SIZE = 5;
+	private static final int KITTENS = THREE_PLAYERS - 1;
+
+	private final CardFactory cardFactory = new CardFactory();
+	private final ProbabilityAwareDecisionMaker decisionMaker =
+			new ProbabilityAwareDecisionMaker();
+	private Deck deck;
+	private PlayerManager playerManager;
+
+	@Test
+	public void chooseCommand_withLowRisk_draws() {
+		Player player = seatWith(normalCards(SAFE_DECK_SIZE), CardType.SKIP);
+		assertEquals("draw", decisionMaker.chooseCommand(player));
+	}
+
+	@Test
+	public void chooseCommand_withHighRisk_playsSkip() {
+		Player player = seatWith(buriedKittens(RISKY_DECK_SIZE), CardType.SKIP);
+		assertEquals("play skip", decisionMaker.chooseCommand(player));
+	}
+
+	@Test
+	public void chooseCommand_withSafeTopSeen_drawsDespiteHighRisk() {
+		Player player = seatWith(buriedKittens(RISKY_DECK_SIZE), CardType.SKIP);
+		deck.revealTopCards(player.id, 1);
+		assertEquals("draw", decisionMaker.chooseCommand(player));
+	}
+
+	@Test
+	public void chooseCommand_withHighRiskAndNoEscape_draws() {
+		Player player = seatWith(buriedKittens(RISKY_DECK_SIZE), CardType.NORMAL);
+		assertEquals("draw", decisionMaker.chooseCommand(player));
+	}
+
+	@Test
+	public void getExplosionRisk_withDefuse_isDiscounted() {
+		final int deckSize = 8;
+		final double risk = 0.25;
+		final double delta = 1e-9;
+		Player player = seatWith(buriedKittens(deckSize), CardType.NORMAL);
+		assertEquals(risk, decisionMaker.getExplosionRisk(player, deck), delta);
+
+		player.addCardToHand(cardFactory.createCard(CardType.DEFUSE));
+		assertEquals(risk / 2, decisionMaker.getExplosionRisk(player, deck), delta);
+		assertEquals("draw", decisionMaker.chooseCommand(player));
+	}
+
+	@Test
+	public void chooseCommand_withoutDefuse_playsFavorOnOpponent() {
+		Player player = seatWith(normalCards(SAFE_DECK_SIZE), CardType.FAVOR);
+		playerManager.getPlayerByIndex(2).addCardToHand(
+				cardFactory.createCard(CardType.DEFUSE));
+
+		assertEquals("play favor", decisionMaker.chooseCommand(player));
+		assertEquals(2, decisionMaker.choosePlayerToTakeCardFrom(player, 2));
+	}
+
+	@Test
+	public void alterTheFuture_movesKittenDownThenDraws() {
+		List<Card> cards = buriedKittens(RISKY_DECK_SIZE);
+		cards.add(cardFactory.createCard(CardType.EXPLODING_KITTEN));
+		Player player = seatWith(cards, CardType.ALTER_THE_FUTURE);
+		final int cardsToRearrange = 3;
+		int maxIndex = deck.getDeckSize() - 1;
+		int minIndex = maxIndex - cardsToRearrange + 1;
+
+		assertEquals("play alter_the_future", decisionMaker.chooseCommand(player));
+		List<Integer> indices = new ArrayList<>();
+		for (int position = 0; position < cardsToRearrange; position++) {
+			indices.add(decisionMaker.chooseRearrangeIndex(player, position,
+					minIndex, maxIndex));
+		}
+		assertEquals(List.of(maxIndex - 1, minIndex, maxIndex), indices);
+		deck.rearrangeTopThreeCards(indices);
+
+		assertEquals("draw", decisionMaker.chooseCommand(player));
+	}
+
+	@Test
+	public void seeTheFuture_withKittenOnTop_swapsItAway() {
+		List<Card> cards = buriedKittens(RISKY_DECK_SIZE);
+		cards.add(cardFactory.createCard(CardType.EXPLODING_KITTEN));
+		Player player = seatWith(cards, CardType.SEE_THE_FUTURE,
+				CardType.SWAP_TOP_AND_BOTTOM);
+
+		assertEquals("play see_the_future", decisionMaker.chooseCommand(player));
+		player.removeCardFromHand(cardFactory.createCard(CardType.SEE_THE_FUTURE));
+
+		assertEquals("play swap_top_and_bottom", decisionMaker.chooseCommand(player));
+	}
+
+	@Test
+	public void placementChoices_buryAtBottomAndKittenOnTop() {
+		Player player = seatWith(normalCards(RISKY_DECK_SIZE), CardType.NORMAL);
+		assertEquals(0, decisionMaker.chooseBuryIndex(player, RISKY_DECK_SIZE));
+		assertEquals(RISKY_DECK_SIZE,
+				decisionMaker.chooseKittenPlacement(player, RISKY_DECK_SIZE));
+	}
+
+	@Test
+	public void chooseCardToGive_keepsDefuse() {
+		Player giver = seatWith(normalCards(RISKY_DECK_SIZE), CardType.DEFUSE,
+				CardType.ATTACK);
+		assertEquals(CardType.ATTACK, decisionMaker.chooseCardToGive(giver));
+	}
+
+	private Player seatWith(List<Card> deckCards, CardType... hand) {
+		deck = new OrdinalDeck(deckCards);
+		playerManager = new PlayerManager(deck);
+		playerManager.addPlayers(THREE_PLAYERS);
+		Player player = playerManager.getPlayerByIndex(0);
+		for (CardType cardType : hand) {
+			player.addCardToHand(cardFactory.createCard(cardType));
+		}
+		return player;
+	}
+
+	private List<Card> normalCards(int count) {
+		List<Card> cards = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			cards.add(cardFactory.createCard(CardType.NORMAL));
+		}
+		return cards;
+	}
+
+	private List<Card> buriedKittens(int count) {
+		List<Card> cards = normalCards(count);
+		for (int i = 0; i < KITTENS; i++) {
+			cards.set(i, cardFactory.createCard(CardType.EXPLODING_KITTEN));
+		}
+		return cards;
+	}
+}
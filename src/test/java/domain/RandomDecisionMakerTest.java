@@ -0,0 +1,146 @@
+package domain;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RandomDecisionMakerTest {
+	private static final long SEED = 42L;
+	private static final int REPETITIONS = 200;
+	private static final int DECK_SIZE = 10;
+	private static final int MAX_PLAYER_INDEX = 3;
+
+	private Player player;
+	private CardFactory cardFactory;
+
+	@BeforeEach
+	public void setUp() {
+		player = new Player(new Hand());
+		cardFactory = new CardFactory();
+	}
+
+	@Test
+	public void constructor_withNullRandom_throwsNullPointerException() {
+		NullPointerException exception = assertThrows(
+				NullPointerException.class,
+				() -> new RandomDecisionMaker(null)
+		);
+		assertEquals("Random cannot be null", exception.getMessage());
+	}
+
+	@Test
+	public void chooseCommand_withEmptyHand_returnsDraw() {
+		RandomDecisionMaker decisionMaker =
+				new RandomDecisionMaker(new SplittableRandom(SEED), 1);
+		assertEquals("draw", decisionMaker.chooseCommand(player));
+	}
+
+	@Test
+	public void chooseCommand_withZeroPlayChance_alwaysDraws() {
+		player.addCardToHand(cardFactory.createCard(CardType.SKIP));
+		RandomDecisionMaker decisionMaker =
+				new RandomDecisionMaker(new SplittableRandom(SEED), 0);
+		for (int i = 0; i < REPETITIONS; i++) {
+			assertEquals("draw", decisionMaker.chooseCommand(player));
+		}
+	}
+
+	@Test
+	public void chooseCommand_withOnlySkipAndFullPlayChance_playsSkip() {
+		player.addCardToHand(cardFactory.createCard(CardType.SKIP));
+		RandomDecisionMaker decisionMaker =
+				new RandomDecisionMaker(new SplittableRandom(SEED), 1);
+		assertEquals("play skip", decisionMaker.chooseCommand(player));
+	}
+
+	@ParameterizedTest
+	@EnumSource(value = CardType.class, names = {"NORMAL", "DEFUSE"})
+	public void chooseCommand_withOnlyUnplayableCards_returnsDraw(CardType cardType) {
+		player.addCardToHand(cardFactory.createCard(cardType));
+		RandomDecisionMaker decisionMaker =
+				new RandomDecisionMaker(new SplittableRandom(SEED), 1);
+		assertEquals("draw", decisionMaker.chooseCommand(player));
+	}
+
+	@Test
+	public void chooseCommand_withMultiWordCardType_returnsParsableCommand() {
+		player.addCardToHand(cardFactory.createCard(CardType.SEE_THE_FUTURE));
+		RandomDecisionMaker decisionMaker =
+				new RandomDecisionMaker(new SplittableRandom(SEED), 1);
+		String command = decisionMaker.chooseCommand(player);
+
+		assertEquals("play see_the_future", command);
+		assertEquals(CardType.SEE_THE_FUTURE,
+				player.parseCardType(command.substring("play ".length())));
+	}
+
+	@Test
+	public void chooseCardToGive_withEmptyHand_returnsNull() {
+		RandomDecisionMaker decisionMaker =
+				new RandomDecisionMaker(new SplittableRandom(SEED));
+		assertNull(decisionMaker.chooseCardToGive(player));
+	}
+
+	@Test
+	public void chooseCardToGive_withCards_returnsCardFromHand() {
+		player.addCardToHand(cardFactory.createCard(CardType.DEFUSE));
+		player.addCardToHand(cardFactory.createCard(CardType.NORMAL));
+		RandomDecisionMaker decisionMaker =
+				new RandomDecisionMaker(new SplittableRandom(SEED));
+		for (int i = 0; i < REPETITIONS; i++) {
+			assertTrue(player.hasCardType(decisionMaker.chooseCardToGive(player)));
+		}
+	}
+
+	@Test
+	public void choosePlayerToTakeCardFrom_staysWithinBounds() {
+		RandomDecisionMaker decisionMaker =
+				new RandomDecisionMaker(new SplittableRandom(SEED));
+		Set<Integer> chosen = new HashSet<>();
+		for (int i = 0; i < REPETITIONS; i++) {
+			int index = decisionMaker.choosePlayerToTakeCardFrom(player,
+					MAX_PLAYER_INDEX);
+			assertTrue(index >= 0 && index <= MAX_PLAYER_INDEX);
+			chosen.add(index);
+		}
+		assertEquals(MAX_PLAYER_INDEX + 1, chosen.size());
+	}
+
+	@Test
+	public void chooseBuryIndexAndKittenPlacement_stayWithinDeckBounds() {
+		RandomDecisionMaker decisionMaker =
+				new RandomDecisionMaker(new SplittableRandom(SEED));
+		for (int i = 0; i < REPETITIONS; i++) {
+			int buryIndex = decisionMaker.chooseBuryIndex(player, DECK_SIZE);
+			int kittenIndex = decisionMaker.chooseKittenPlacement(player, DECK_SIZE);
+			assertTrue(buryIndex >= 0 && buryIndex <= DECK_SIZE);
+			assertTrue(kittenIndex >= 0 && kittenIndex <= DECK_SIZE);
+		}
+	}
+
+	@Test
+	public void chooseRearrangeIndex_returnsDistinctIndicesInRange() {
+		RandomDecisionMaker decisionMaker =
+				new RandomDecisionMaker(new SplittableRandom(SEED));
+		final int MIN_INDEX = 7;
+		final int MAX_INDEX = 9;
+		final int CARDS_TO_REARRANGE = 3;
+		for (int i = 0; i < REPETITIONS; i++) {
+			Set<Integer> indices = new HashSet<>();
+			for (int position = 0; position < CARDS_TO_REARRANGE; position++) {
+				int index = decisionMaker.chooseRearrangeIndex(player, position,
+						MIN_INDEX, MAX_INDEX);
+				assertTrue(index >= MIN_INDEX && index <= MAX_INDEX);
+				indices.add(index);
+			}
+			assertEquals(CARDS_TO_REARRANGE, indices.size());
+		}
+	}
+}
@@ -0,0 +1,38 @@
+package domain;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RandomProviderTest {
+	private static final long SEED = 99L;
+	private static final int GAMES = 10;
+
+	@Test
+	public void seeded_sameSeed_givesSameGameSeeds() {
+		RandomProvider first = RandomProvider.seeded(SEED);
+		RandomProvider second = RandomProvider.seeded(SEED);
+		for (int game = 0; game < GAMES; game++) {
+			FastGameRandom firstGame = (FastGameRandom) first.nextGameRandom();
+			FastGameRandom secondGame = (FastGameRandom) second.nextGameRandom();
+			assertEquals(firstGame.getSeed(), secondGame.getSeed());
+		}
+	}
+
+	@Test
+	public void seeded_consecutiveGames_getDifferentSeeds() {
+		RandomProvider provider = RandomProvider.seeded(SEED);
+		FastGameRandom firstGame = (FastGameRandom) provider.nextGameRandom();
+		FastGameRandom secondGame = (FastGameRandom) provider.nextGameRandom();
+		assertNotEquals(firstGame.getSeed(), secondGame.getSeed());
+	}
+
+	@Test
+	public void secure_givesNewSecureGameRandomPerGame() {
+		RandomProvider provider = RandomProvider.secure();
+		GameRandom firstGame = provider.nextGameRandom();
+		GameRandom secondGame = provider.nextGameRandom();
+		assertTrue(firstGame instanceof SecureGameRandom);
+		assertNotSame(firstGame, secondGame);
+	}
+}
@@ -0,0 +1,93 @@
+package domain;
+
+import org.easymock.EasyMock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SeatedDecisionMakerTest {
+	private static final int DECK_SIZE = 6;
+	private static final int FIRST_REARRANGE_INDEX = 3;
+
+	private Player firstPlayer;
+	private Player secondPlayer;
+	private DecisionMaker firstDecisionMaker;
+	private DecisionMaker secondDecisionMaker;
+	private SeatedDecisionMaker seatedDecisionMaker;
+
+	@BeforeEach
+	public void setUp() {
+		firstPlayer = new Player(new Hand());
+		secondPlayer = new Player(new Hand());
+		firstPlayer.id = 0;
+		secondPlayer.id = 1;
+		firstDecisionMaker = EasyMock.createMock(DecisionMaker.class);
+		secondDecisionMaker = EasyMock.createMock(DecisionMaker.class);
+		seatedDecisionMaker = new SeatedDecisionMaker(
+				List.of(firstPlayer, secondPlayer),
+				new DecisionMaker[] {firstDecisionMaker, secondDecisionMaker});
+	}
+
+	@Test
+	public void constructor_withNullSeats_throwsNullPointerException() {
+		assertThrows(NullPointerException.class,
+				() -> new SeatedDecisionMaker(List.of(firstPlayer), null));
+	}
+
+	@Test
+	public void chooseCommand_routesToDecisionMakerOfPlayerSeat() {
+		EasyMock.expect(secondDecisionMaker.chooseCommand(secondPlayer))
+				.andReturn("draw");
+		EasyMock.expect(firstDecisionMaker.chooseCommand(firstPlayer))
+				.andReturn("play skip");
+		EasyMock.replay(firstDecisionMaker, secondDecisionMaker);
+
+		assertEquals("draw", seatedDecisionMaker.chooseCommand(secondPlayer));
+		assertEquals("play skip", seatedDecisionMaker.chooseCommand(firstPlayer));
+		EasyMock.verify(firstDecisionMaker, secondDecisionMaker);
+	}
+
+	@Test
+	public void prompts_routeToDecisionMakerOfAskedPlayer() {
+		EasyMock.expect(firstDecisionMaker.choosePlayerToTakeCardFrom(firstPlayer, 1))
+				.andReturn(1);
+		EasyMock.expect(secondDecisionMaker.chooseCardToGive(secondPlayer))
+				.andReturn(CardType.NUKE);
+		EasyMock.expect(firstDecisionMaker.chooseBuryIndex(firstPlayer, DECK_SIZE))
+				.andReturn(2);
+		EasyMock.expect(secondDecisionMaker.chooseRearrangeIndex(secondPlayer, 0,
+				FIRST_REARRANGE_INDEX, DECK_SIZE - 1)).andReturn(DECK_SIZE - 1);
+		EasyMock.expect(secondDecisionMaker.chooseKittenPlacement(secondPlayer,
+				DECK_SIZE)).andReturn(0);
+		EasyMock.replay(firstDecisionMaker, secondDecisionMaker);
+
+		assertEquals(1, seatedDecisionMaker.choosePlayerToTakeCardFrom(firstPlayer, 1));
+		assertEquals(CardType.NUKE, seatedDecisionMaker.chooseCardToGive(secondPlayer));
+		assertEquals(2, seatedDecisionMaker.chooseBuryIndex(firstPlayer, DECK_SIZE));
+		assertEquals(DECK_SIZE - 1, seatedDecisionMaker.chooseRearrangeIndex(
+				secondPlayer, 0, FIRST_REARRANGE_INDEX, DECK_SIZE - 1));
+		assertEquals(0, seatedDecisionMaker.chooseKittenPlacement(secondPlayer,
+				DECK_SIZE));
+		EasyMock.verify(firstDecisionMaker, secondDecisionMaker);
+	}
+
+	@Test
+	public void chooseCommand_withPlayerNotSeated_throwsIllegalArgumentException() {
+		Player stranger = new Player(new Hand());
+		EasyMock.replay(firstDecisionMaker, secondDecisionMaker);
+		assertThrows(IllegalArgumentException.class,
+				() -> seatedDecisionMaker.chooseCommand(stranger));
+	}
+
+	@Test
+	public void chooseCommand_withOtherGamePlayerInSeat_throwsIllegalArgumentException() {
+		Player otherGamePlayer = new Player(new Hand());
+		otherGamePlayer.id = 1;
+		EasyMock.replay(firstDecisionMaker, secondDecisionMaker);
+		assertThrows(IllegalArgumentException.class,
+				() -> seatedDecisionMaker.chooseCommand(otherGamePlayer));
+	}
+}
@@ -0,0 +1,36 @@
+package domain;
+
+import org.easymock.EasyMock;
+import org.junit.jupiter.api.Test;
+
+import java.security.SecureRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SecureGameRandomTest {
+	private static final int BOUND = 56;
+
+	@Test
+	public void constructor_nullSecureRandom_throwsNullPointerException() {
+		NullPointerException exception = assertThrows(NullPointerException.class,
+				() -> new SecureGameRandom(null));
+		assertEquals("SecureRandom cannot be null", exception.getMessage());
+	}
+
+	@Test
+	public void nextInt_delegatesToSecureRandom() {
+		final int DRAWN_INDEX = 17;
+		SecureRandom secureRandom = EasyMock.createMock(SecureRandom.class);
+		EasyMock.expect(secureRandom.nextInt(BOUND)).andReturn(DRAWN_INDEX);
+		EasyMock.replay(secureRandom);
+
+		assertEquals(DRAWN_INDEX, new SecureGameRandom(secureRandom).nextInt(BOUND));
+		EasyMock.verify(secureRandom);
+	}
+
+	@Test
+	public void nextInt_defaultConstructor_staysWithinBound() {
+		int value = new SecureGameRandom().nextInt(BOUND);
+		assertTrue(value >= 0 && value < BOUND);
+	}
+}
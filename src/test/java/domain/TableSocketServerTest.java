@@ -0,0 +1,263 @@
+package domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TableSocketServerTest {
+	private static final long SEED = 8L;
+	private static final long TIMEOUT_SECONDS = 30;
+	private static final int THREE_PLAYERS = 3;
+	private static final int CARDS_DEALT = 4;
+	private static final int MANY_CLIENTS = 500;
+	private static final long PAUSE_MILLIS = 50;
+	private static final String HELP =
+			"commands play <card>, draw, hand, status, help, quit";
+
+	@Test
+	public void loopbackClients_playGameToTheEnd() {
+		assertTimeoutPreemptively(Duration.ofSeconds(TIMEOUT_SECONDS), () -> {
+			GameServer gameServer = new GameServer(2, RandomProvider.seeded(SEED));
+			try (gameServer; TableSocketServer server = start(gameServer);
+					Client first = new Client(server.getPort());
+					Client second = new Client(server.getPort())) {
+				first.send("open 2");
+				String table = first.read();
+				assertTrue(table.startsWith("table "));
+				String tableId = table.substring("table ".length());
+				first.send("join " + tableId + " 0");
+				assertEquals("joined " + tableId + " 0", first.read());
+				second.send("join " + tableId + " 1");
+				assertEquals("joined " + tableId + " 1", second.read());
+
+				int winner = playUntilOver(first, new Client[] {first, second});
+
+				assertTrue(winner == 0 || winner == 1);
+			}
+		});
+	}
+
+	@Test
+	public void inputBeforeJoining_isRejected() {
+		assertTimeoutPreemptively(Duration.ofSeconds(TIMEOUT_SECONDS), () -> {
+			GameServer gameServer = new GameServer(1, RandomProvider.seeded(SEED));
+			try (gameServer; TableSocketServer server = start(gameServer);
+					Client client = new Client(server.getPort())) {
+				client.send("draw");
+				assertEquals("error join a table first", client.read());
+				client.send("join 42 0");
+				assertEquals("error No open table with id 42", client.read());
+			}
+		});
+	}
+
+	@Test
+	public void commandSplitAcrossWrites_isFramedAsOneLine() {
+		assertTimeoutPreemptively(Duration.ofSeconds(TIMEOUT_SECONDS), () -> {
+			GameServer gameServer = new GameServer(1, RandomProvider.seeded(SEED));
+			try (gameServer; TableSocketServer server = start(gameServer);
+					Client client = new Client(server.getPort())) {
+				client.sendRaw("he");
+				client.sendRaw("lp\r\nhelp\n");
+
+				assertEquals(HELP, client.read());
+				assertEquals(HELP, client.read());
+			}
+		});
+	}
+
+	@Test
+	public void overlongLine_isRejectedAndConnectionKeepsWorking() {
+		assertTimeoutPreemptively(Duration.ofSeconds(TIMEOUT_SECONDS), () -> {
+			GameServer gameServer = new GameServer(1, RandomProvider.seeded(SEED));
+			try (gameServer; TableSocketServer server = start(gameServer);
+					Client client = new Client(server.getPort())) {
+				client.send("x".repeat(TableSocketServer.MAX_LINE_BYTES + 1));
+				client.send("help");
+
+				assertTrue(client.read().startsWith("error line longer than"));
+				assertEquals(HELP, client.read());
+			}
+		});
+	}
+
+	@Test
+	public void handAndStatus_areAnsweredForAnySeat() {
+		assertTimeoutPreemptively(Duration.ofSeconds(TIMEOUT_SECONDS), () -> {
+			GameServer gameServer = new GameServer(1, RandomProvider.seeded(SEED));
+			try (gameServer; TableSocketServer server = start(gameServer);
+					Client client = new Client(server.getPort())) {
+				client.send("open 3");
+				String tableId = client.read().substring("table ".length());
+				client.send("join " + tableId + " 2");
+				assertEquals("joined " + tableId + " 2", client.read());
+				assertEquals("await 0 command", client.read());
+
+				client.send("hand");
+				String hand = client.readSkippingPrompts();
+				client.send("status");
+				String status = client.readSkippingPrompts();
+
+				assertTrue(hand.startsWith("hand "));
+				assertTrue(hand.contains("defuse=1"));
+				int deckSize = deckSizeAfterDealing(THREE_PLAYERS);
+				final double kittens = 2;
+				String chance = String.format(Locale.ROOT, "%.3f",
+						kittens / deckSize);
+				assertEquals("status 3 " + deckSize + " 0 " + chance, status);
+			}
+		});
+	}
+
+	@Test
+	public void join_withSeatOutsideTable_isRejected() {
+		assertTimeoutPreemptively(Duration.ofSeconds(TIMEOUT_SECONDS), () -> {
+			GameServer gameServer = new GameServer(1, RandomProvider.seeded(SEED));
+			try (gameServer; TableSocketServer server = start(gameServer);
+					Client client = new Client(server.getPort())) {
+				client.send("open 2");
+				String tableId = client.read().substring("table ".length());
+				client.send("join " + tableId + " 2");
+
+				assertEquals("error No seat 2 at table " + tableId, client.read());
+			}
+		});
+	}
+
+	@Test
+	public void join_withTakenSeat_isRejectedUntilOwnerLeaves() {
+		assertTimeoutPreemptively(Duration.ofSeconds(TIMEOUT_SECONDS), () -> {
+			GameServer gameServer = new GameServer(1, RandomProvider.seeded(SEED));
+			try (gameServer; TableSocketServer server = start(gameServer);
+					Client second = new Client(server.getPort())) {
+				String tableId;
+				try (Client first = new Client(server.getPort())) {
+					first.send("open 2");
+					tableId = first.read().substring("table ".length());
+					first.send("join " + tableId + " 0");
+					assertEquals("joined " + tableId + " 0", first.read());
+
+					second.send("join " + tableId + " 0");
+					String seatTaken = "error Seat 0 at table " + tableId;
+					assertEquals(seatTaken + " is taken",
+							second.readSkippingPrompts());
+				}
+
+				String reply = "";
+				while (!reply.startsWith("joined")) {
+					Thread.sleep(PAUSE_MILLIS);
+					second.send("join " + tableId + " 0");
+					reply = second.readSkippingPrompts();
+				}
+				assertEquals("joined " + tableId + " 0", reply);
+			}
+		});
+	}
+
+	@Test
+	public void manyLoopbackClients_areServedBySelectorThread() {
+		assertTimeoutPreemptively(Duration.ofSeconds(TIMEOUT_SECONDS), () -> {
+			GameServer gameServer = new GameServer(1, RandomProvider.seeded(SEED));
+			List<Client> clients = new ArrayList<>();
+			try (gameServer; TableSocketServer server = start(gameServer)) {
+				for (int i = 0; i < MANY_CLIENTS; i++) {
+					clients.add(new Client(server.getPort()));
+				}
+				for (Client client : clients) {
+					client.send("help");
+				}
+				for (Client client : clients) {
+					assertEquals(HELP, client.read());
+				}
+
+				assertEquals(MANY_CLIENTS, server.getNumberOfConnections());
+			} finally {
+				for (Client client : clients) {
+					client.close();
+				}
+			}
+		});
+	}
+
+	private static int deckSizeAfterDealing(int numberOfPlayers) {
+		int cards = GameEngine.createInitialDeck(new CardFactory(), numberOfPlayers,
+				LobbyMode.forNumberOfPlayers(numberOfPlayers)).size();
+		return cards - numberOfPlayers * CARDS_DEALT + numberOfPlayers - 1;
+	}
+
+	private static TableSocketServer start(GameServer gameServer) throws IOException {
+		return TableSocketServer.start(gameServer, 0);
+	}
+
+	private static int playUntilOver(Client observer, Client[] seats) throws IOException {
+		String line = observer.read();
+		while (!line.startsWith("over ")) {
+			String[] parts = line.split(" ");
+			if ("await".equals(parts[0])) {
+				Client seat = seats[Integer.parseInt(parts[1])];
+				boolean number = "number".equals(parts[2]);
+				seat.send(number ? parts[parts.length - 1] : "draw");
+			}
+			line = observer.read();
+		}
+		return Integer.parseInt(line.substring("over ".length()));
+	}
+
+	private static final class Client implements AutoCloseable {
+		private final SocketChannel channel;
+		private final BufferedReader reader;
+		private final PrintWriter writer;
+
+		Client(int port) throws IOException {
+			this.channel = SocketChannel.open(new InetSocketAddress(
+					InetAddress.getLoopbackAddress(), port));
+			this.reader = new BufferedReader(new InputStreamReader(
+					channel.socket().getInputStream(), StandardCharsets.UTF_8));
+			this.writer = new PrintWriter(new OutputStreamWriter(
+					channel.socket().getOutputStream(), StandardCharsets.UTF_8),
+					true);
+		}
+
+		void send(String line) {
+			writer.print(line + "\n");
+			writer.flush();
+		}
+
+		void sendRaw(String text) throws InterruptedException {
+			writer.print(text);
+			writer.flush();
+			Thread.sleep(PAUSE_MILLIS);
+		}
+
+		String read() throws IOException {
+			return reader.readLine();
+		}
+
+		String readSkippingPrompts() throws IOException {
+			String line = read();
+			while (line.startsWith("await ")) {
+				line = read();
+			}
+			return line;
+		}
+
+		@Override
+		public void close() throws IOException {
+			channel.close();
+		}
+	}
+}
@@ -0,0 +1,75 @@
+package domain;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TournamentResultTest {
+	private static final int THREE_PLAYERS = 3;
+	private static final int TWO_STRATEGIES = 2;
+	private static final double DELTA = 1e-9;
+	private static final double HALF = 0.5;
+
+	@Test
+	public void newResult_hasNoGamesAndZeroRates() {
+		TournamentResult result = new TournamentResult(THREE_PLAYERS, TWO_STRATEGIES);
+
+		assertEquals(0, result.getGamesPlayed());
+		assertEquals(0, result.getWinRateForSeat(0), DELTA);
+		assertEquals(0, result.getWinRateForStrategy(1), DELTA);
+	}
+
+	@Test
+	public void recordGame_countsWinnerSeatAndStrategy() {
+		TournamentResult result = new TournamentResult(THREE_PLAYERS, TWO_STRATEGIES);
+		result.recordGame(2, new int[] {0, 1, 1});
+		result.recordGame(0, new int[] {1, 0, 0});
+
+		assertEquals(2, result.getGamesPlayed());
+		assertEquals(1, result.getWinsForSeat(2));
+		assertEquals(1, result.getWinsForSeat(0));
+		assertEquals(0, result.getWinsForSeat(1));
+		assertEquals(HALF, result.getWinRateForSeat(2), DELTA);
+		assertEquals(0, result.getWinsForStrategy(0));
+		assertEquals(2, result.getWinsForStrategy(1));
+		assertEquals(2.0 / THREE_PLAYERS, result.getWinRateForStrategy(1), DELTA);
+	}
+
+	@Test
+	public void recordGame_withoutWinner_onlyCountsGame() {
+		TournamentResult result = new TournamentResult(THREE_PLAYERS, TWO_STRATEGIES);
+		result.recordGame(-1, new int[] {0, 1, 0});
+
+		assertEquals(1, result.getGamesPlayed());
+		assertEquals(0, result.getWinsForStrategy(0));
+		assertEquals(0, result.getWinRateForStrategy(1), DELTA);
+	}
+
+	@Test
+	public void recordGame_withNullStrategies_throwsNullPointerException() {
+		TournamentResult result = new TournamentResult(THREE_PLAYERS, TWO_STRATEGIES);
+		assertThrows(NullPointerException.class, () -> result.recordGame(0, null));
+	}
+
+	@Test
+	public void merge_addsCountsOfOtherResult() {
+		TournamentResult first = new TournamentResult(THREE_PLAYERS, TWO_STRATEGIES);
+		TournamentResult second = new TournamentResult(THREE_PLAYERS, TWO_STRATEGIES);
+		first.recordGame(1, new int[] {0, 1, 0});
+		second.recordGame(1, new int[] {1, 0, 1});
+
+		first.merge(second);
+
+		assertEquals(2, first.getGamesPlayed());
+		assertEquals(2, first.getWinsForSeat(1));
+		assertEquals(1, first.getWinsForStrategy(0));
+		assertEquals(1, first.getWinsForStrategy(1));
+	}
+
+	@Test
+	public void merge_withDifferentShape_throwsIllegalArgumentException() {
+		TournamentResult first = new TournamentResult(THREE_PLAYERS, TWO_STRATEGIES);
+		TournamentResult second = new TournamentResult(TWO_STRATEGIES, TWO_STRATEGIES);
+		assertThrows(IllegalArgumentException.class, () -> first.merge(second));
+	}
+}
@@ -0,0 +1,176 @@
+package domain;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TournamentRunnerTest {
+	private static final int FOUR_PLAYERS = 4;
+	private static final int TWO_THREADS = 2;
+	private static final long NUMBER_OF_GAMES = 101;
+	private static final long SEED = 3L;
+
+	@Test
+	public void run_withoutStrategies_throwsIllegalStateException() {
+		TournamentRunner runner = new TournamentRunner(FOUR_PLAYERS, TWO_THREADS);
+		assertThrows(IllegalStateException.class,
+				() -> runner.run(NUMBER_OF_GAMES, SEED));
+	}
+
+	@Test
+	public void run_withoutThreads_throwsIllegalStateException() {
+		TournamentRunner runner = new TournamentRunner(FOUR_PLAYERS, 0);
+		runner.addStrategy("random", RandomDecisionMaker::new);
+		assertThrows(IllegalStateException.class,
+				() -> runner.run(NUMBER_OF_GAMES, SEED));
+	}
+
+	@Test
+	public void addStrategy_withNullName_throwsNullPointerException() {
+		TournamentRunner runner = new TournamentRunner(FOUR_PLAYERS, TWO_THREADS);
+		assertThrows(NullPointerException.class,
+				() -> runner.addStrategy(null, RandomDecisionMaker::new));
+	}
+
+	@Test
+	public void setDeckProfile_withNull_throwsNullPointerException() {
+		TournamentRunner runner = new TournamentRunner(FOUR_PLAYERS, TWO_THREADS);
+		assertThrows(NullPointerException.class, () -> runner.setDeckProfile(null));
+	}
+
+	@Test
+	public void run_splitsGamesOverThreadsAndCountsEveryWinner() {
+		TournamentRunner runner = new TournamentRunner(FOUR_PLAYERS, TWO_THREADS);
+		runner.addStrategy("random", RandomDecisionMaker::new);
+		runner.addStrategy("aggressive", random -> new RandomDecisionMaker(random, 1));
+
+		TournamentResult result = runner.run(NUMBER_OF_GAMES, SEED);
+
+		assertEquals(NUMBER_OF_GAMES, result.getGamesPlayed());
+		long seatWins = 0;
+		for (int seat = 0; seat < FOUR_PLAYERS; seat++) {
+			seatWins += result.getWinsForSeat(seat);
+		}
+		assertEquals(NUMBER_OF_GAMES, seatWins);
+		assertEquals(NUMBER_OF_GAMES,
+				result.getWinsForStrategy(0) + result.getWinsForStrategy(1));
+		assertTrue(result.getElapsedNanoseconds() > 0);
+		assertEquals(List.of("random", "aggressive"), runner.getStrategyNames());
+	}
+
+	@Test
+	public void run_givesEveryStrategySeatsInEveryPosition() {
+		TournamentRunner runner = new TournamentRunner(FOUR_PLAYERS, 1);
+		runner.addStrategy("always draws", random -> new RandomDecisionMaker(random, 0));
+		runner.addStrategy("always plays", random -> new RandomDecisionMaker(random, 1));
+		runner.addStrategy("random", RandomDecisionMaker::new);
+
+		TournamentResult result = runner.run(NUMBER_OF_GAMES, SEED);
+
+		for (int strategy = 0; strategy < runner.getStrategyNames().size(); strategy++) {
+			double winRate = result.getWinRateForStrategy(strategy);
+			assertTrue(winRate >= 0 && winRate <= 1);
+		}
+	}
+
+	@Test
+	public void run_sameSeedAndThreads_producesSameResults() {
+		TournamentResult[] results = new TournamentResult[2];
+		for (int run = 0; run < results.length; run++) {
+			TournamentRunner runner = new TournamentRunner(FOUR_PLAYERS, TWO_THREADS);
+			runner.addStrategy("random", RandomDecisionMaker::new);
+			runner.addStrategy("aggressive",
+					random -> new RandomDecisionMaker(random, 1));
+			results[run] = runner.run(NUMBER_OF_GAMES, SEED);
+		}
+
+		for (int seat = 0; seat < FOUR_PLAYERS; seat++) {
+			assertEquals(results[0].getWinsForSeat(seat),
+					results[1].getWinsForSeat(seat));
+		}
+	}
+
+	@Test
+	public void main_printsSeatAndStrategySummaries() throws IOException {
+		PrintStream originalOut = System.out;
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		try {
+			System.setOut(new PrintStream(output, true, StandardCharsets.UTF_8));
+			TournamentRunner.main(new String[] {"20", "3", "2", "1"});
+		} finally {
+			System.setOut(originalOut);
+		}
+		String printed = output.toString(StandardCharsets.UTF_8);
+		assertTrue(printed.contains("Played 20 games on 2 threads"));
+		assertTrue(printed.contains("Seat 2 win rate"));
+		assertTrue(printed.contains("Strategy aggressive win rate"));
+	}
+
+	@Test
+	public void main_withStrategyNames_playsOnlyThoseStrategies() throws IOException {
+		PrintStream originalOut = System.out;
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		try {
+			System.setOut(new PrintStream(output, true, StandardCharsets.UTF_8));
+			TournamentRunner.main(new String[] {"20", "3", "2", "1",
+				"random, greedy-defuse-hoarder"});
+		} finally {
+			System.setOut(originalOut);
+		}
+		String printed = output.toString(StandardCharsets.UTF_8);
+		assertTrue(printed.contains("Strategy greedy-defuse-hoarder win rate"));
+		assertFalse(printed.contains("Strategy aggressive win rate"));
+	}
+
+	@Test
+	public void run_recordingCardBalance_keepsResultsAndCountsEveryGame() {
+		TournamentResult[] results = new TournamentResult[2];
+		for (int run = 0; run < results.length; run++) {
+			TournamentRunner runner = new TournamentRunner(FOUR_PLAYERS, TWO_THREADS);
+			runner.addStrategy("random", RandomDecisionMaker::new);
+			runner.setRecordingCardBalance(run == 1);
+			results[run] = runner.run(NUMBER_OF_GAMES, SEED);
+		}
+
+		for (int seat = 0; seat < FOUR_PLAYERS; seat++) {
+			assertEquals(results[0].getWinsForSeat(seat),
+					results[1].getWinsForSeat(seat));
+		}
+		assertEquals(0, results[0].getCardBalance().getGamesPlayed());
+		CardBalanceStats cardBalance = results[1].getCardBalance();
+		assertEquals(NUMBER_OF_GAMES, cardBalance.getGamesPlayed());
+		assertTrue(cardBalance.getPlays(CardType.SKIP) > 0);
+		assertTrue(cardBalance.getAverageGameLength() > 0);
+		assertTrue(cardBalance.getAverageEliminationTurn() > 0);
+		assertTrue(cardBalance.getAverageEliminationTurn()
+				< cardBalance.getAverageGameLength());
+	}
+
+	@Test
+	public void main_withCardBalanceFile_writesJsonSummary(@TempDir Path directory)
+			throws IOException {
+		Path file = directory.resolve("balance.json");
+		PrintStream originalOut = System.out;
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		try {
+			System.setOut(new PrintStream(output, true, StandardCharsets.UTF_8));
+			TournamentRunner.main(new String[] {"20", "3", "2", "1", "random",
+				file.toString()});
+		} finally {
+			System.setOut(originalOut);
+		}
+		String json = Files.readString(file);
+		assertTrue(json.startsWith("{\"games\":20,"));
+		assertTrue(json.contains("\"cardType\":\"SKIP\""));
+		assertTrue(output.toString(StandardCharsets.UTF_8).contains(file.toString()));
+	}
+}
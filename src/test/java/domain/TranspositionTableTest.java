@@ -0,0 +1,69 @@
+package domain;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TranspositionTableTest {
+	private static final long KEY = 0x1234_5678_9ABC_DEF0L;
+	private static final long DATA = 42;
+	private static final int HIGH_PRIORITY = 20;
+	private static final int LOW_PRIORITY = 3;
+	private static final int LOG2_ENTRIES = 4;
+	private static final int LARGE_LOG2_ENTRIES = 10;
+	private static final int TOO_MANY_LOG2_ENTRIES = 27;
+
+	@Test
+	public void probe_emptyTable_returnsZero() {
+		TranspositionTable table = new TranspositionTable(LOG2_ENTRIES);
+		assertEquals(0, table.probe(KEY));
+	}
+
+	@Test
+	public void store_thenProbe_returnsData() {
+		TranspositionTable table = new TranspositionTable(LOG2_ENTRIES);
+		table.store(KEY, DATA, 1);
+		assertEquals(DATA, table.probe(KEY));
+		assertEquals(0, table.probe(KEY + 1));
+	}
+
+	@Test
+	public void store_sameKeyTwice_keepsLatestData() {
+		TranspositionTable table = new TranspositionTable(LOG2_ENTRIES);
+		table.store(KEY, DATA, HIGH_PRIORITY);
+		table.store(KEY, DATA + 1, LOW_PRIORITY);
+		assertEquals(DATA + 1, table.probe(KEY));
+	}
+
+	@Test
+	public void store_collidingKeys_keepsExpensiveEntry() {
+		TranspositionTable table = new TranspositionTable(1);
+		table.store(KEY, DATA, HIGH_PRIORITY);
+		for (long key = 1; key <= HIGH_PRIORITY; key++) {
+			table.store(KEY + key, key, LOW_PRIORITY);
+		}
+		assertEquals(DATA, table.probe(KEY));
+		assertEquals(HIGH_PRIORITY, table.probe(KEY + HIGH_PRIORITY));
+	}
+
+	@Test
+	public void clear_forgetsEntries() {
+		TranspositionTable table = new TranspositionTable(LOG2_ENTRIES);
+		table.store(KEY, DATA, 1);
+		table.clear();
+		assertEquals(0, table.probe(KEY));
+	}
+
+	@Test
+	public void getNumberOfEntries_isPowerOfTwo() {
+		assertEquals(1 << LARGE_LOG2_ENTRIES,
+				new TranspositionTable(LARGE_LOG2_ENTRIES).getNumberOfEntries());
+	}
+
+	@Test
+	public void constructor_sizeOutOfRange_throwsException() {
+		assertThrows(IllegalArgumentException.class, () -> new TranspositionTable(0));
+		assertThrows(IllegalArgumentException.class,
+				() -> new TranspositionTable(TOO_MANY_LOG2_ENTRIES));
+	}
+}
@@ -22,7 +22,7 @@ public class TurnManagerIntegrationTest {
 		for (int i = 0; i < NUM_CARDS; i++) {
 			cards.add(new SkipCard());
 		}
-		deck = new Deck(cards);
+		deck = new ListDeck(cards);
 		turnManager = new TurnManager();
 
 		playerManager = new PlayerManager(deck);
@@ -638,6 +638,38 @@ public class TurnManagerTest {
 		assertEquals(2, turnManager.getCurrentPlayerTurnsTaken());
 	}
 
+	@Test
+	public void getTurnsEnded_underAttack_countsEachTurnOnce() {
+		turnManager.setPlayerManager(mockPlayerManager(DEFAULT_NUM_PLAYERS));
+		turnManager.advanceToNextPlayer();
+		turnManager.endTurnWithoutDrawForAttacks();
+		assertEquals(2, turnManager.getTurnsEnded());
+
+		turnManager.endTurnWithoutDraw();
+		turnManager.endTurnWithoutDraw();
+
+		final int turnsEnded = 4;
+		assertEquals(turnsEnded, turnManager.getTurnsEnded());
+	}
+
+	@Test
+	public void removeEliminatedCurrentPlayer_withExtraTurns_keepsEachSeatOnceInSeatOrder() {
+		final int numPlayers = 4;
+		PlayerManager playerManager = new PlayerManager(new ListDeck(List.of()));
+		playerManager.addPlayers(numPlayers);
+		List<Player> players = playerManager.getPlayers();
+		turnManager.setPlayerManager(playerManager);
+		turnManager.reverseOrder();
+		turnManager.addTurnForCurrentPlayer();
+		turnManager.advanceToNextPlayer();
+		turnManager.advanceToNextPlayer();
+
+		turnManager.removeEliminatedCurrentPlayer();
+
+		assertEquals(List.of(players.get(0), players.get(1), players.get(numPlayers - 1)),
+				turnManager.getTurnOrder());
+	}
+
 	private PlayerManager mockPlayerManager(int numPlayers) {
 		PlayerManager playerManager = EasyMock.createMock(PlayerManager.class);
 		List<Player> players = new ArrayList<>();
@@ -5,6 +5,7 @@ import org.easymock.EasyMock;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
+import ui.ConsoleRenderer;
 import ui.UserInterface;
 
 import java.io.*;
@@ -209,6 +210,50 @@ public class UserInterfaceTest {
 	}
 
 
+	@Test
+	public void getNumberOfPlayers_inLargeLobby_acceptsPlayersAboveStandardLimit() {
+		System.setIn(new ByteArrayInputStream("1001\n250\n"
+				.getBytes(StandardCharsets.UTF_8)));
+		UserInterface ui = new UserInterface(localeManager);
+
+		EasyMock.expect(localeManager.get("how.many.players.range"))
+				.andReturn("How many players? (%d-%d)").anyTimes();
+		EasyMock.expect(localeManager.get("error.players.range"))
+				.andReturn("Please enter a number between %d and %d");
+		EasyMock.expect(localeManager.get("error")).andReturn("Error: ");
+		EasyMock.replay(localeManager);
+
+		final int LARGE_LOBBY = 250;
+		assertEquals(LARGE_LOBBY, ui.getNumberOfPlayers(LobbyMode.LARGE));
+		assertTrue(outContent.toString(StandardCharsets.UTF_8)
+				.contains("How many players? (2-1000)"));
+		assertTrue(errContent.toString(StandardCharsets.UTF_8)
+				.contains("Please enter a number between 2 and 1000"));
+		EasyMock.verify(localeManager);
+	}
+
+	@Test
+	public void getUserInput_withFrameRenderer_emitsBufferedFrameBeforeReading() {
+		EasyMock.expect(localeManager.get("hand.usage"))
+				.andReturn("Usage: play <card>");
+		EasyMock.replay(localeManager);
+		System.setIn(new ByteArrayInputStream("draw\n".getBytes(StandardCharsets.UTF_8)));
+		ByteArrayOutputStream frameOutput = new ByteArrayOutputStream();
+		UserInterface ui = new UserInterface(localeManager,
+				ConsoleRenderer.buffered(frameOutput,
+						ConsoleRenderer.FlushPolicy.EVERY_FRAME));
+
+		ui.displayInstructions();
+		assertEquals(0, frameOutput.size());
+		String input = ui.getUserInput();
+
+		assertEquals("draw", input);
+		String frame = frameOutput.toString(StandardCharsets.UTF_8);
+		assertTrue(frame.startsWith("Usage: play <card>"));
+		assertTrue(frame.endsWith("> "));
+		assertEquals("", outContent.toString(StandardCharsets.UTF_8));
+	}
+
 	@Test
 	public void getNumberOfPlayers_mustUsePrintNotPrintlnForPrompt() {
 		EasyMock.expect(localeManager.get("how.many.players"))
@@ -313,9 +358,9 @@ public class UserInterfaceTest {
 
 		EasyMock.expect(localeManager.get("card.played"))
 				.andReturn("You played: ");
-		EasyMock.expect(localeManager.get("card.effect.skip"))
+		EasyMock.expect(localeManager.getCardEffect(CardType.SKIP))
 				.andReturn("→ End your turn without drawing a card");
-		EasyMock.expect(localeManager.get("card.name.skip"))
+		EasyMock.expect(localeManager.getCardName(CardType.SKIP))
 				.andReturn("Skip").anyTimes();
 		EasyMock.replay(localeManager);
 
@@ -331,9 +376,9 @@ public class UserInterfaceTest {
 	public void displayCardPlayed_trailingBlankLine() {
 		EasyMock.expect(localeManager.get("card.played"))
 				.andReturn("You played: ");
-		EasyMock.expect(localeManager.get("card.name.skip"))
+		EasyMock.expect(localeManager.getCardName(CardType.SKIP))
 				.andReturn("Skip").anyTimes();
-		EasyMock.expect(localeManager.get("card.effect.skip"))
+		EasyMock.expect(localeManager.getCardEffect(CardType.SKIP))
 				.andReturn("");
 		EasyMock.replay(localeManager);
 
@@ -361,7 +406,7 @@ public class UserInterfaceTest {
 				.andReturn("cards");
 		EasyMock.expect(localeManager.get("hand.type"))
 				.andReturn("type").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.skip"))
+		EasyMock.expect(localeManager.getCardName(CardType.SKIP))
 				.andReturn("Skip").anyTimes();
 		EasyMock.replay(localeManager);
 
@@ -390,7 +435,7 @@ public class UserInterfaceTest {
 				.andReturn("cards");
 		EasyMock.expect(localeManager.get("hand.type"))
 				.andReturn("type").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.skip"))
+		EasyMock.expect(localeManager.getCardName(CardType.SKIP))
 				.andReturn("Skip").anyTimes();
 		EasyMock.replay(localeManager);
 
@@ -418,9 +463,9 @@ public class UserInterfaceTest {
 				.andReturn("cards");
 		EasyMock.expect(localeManager.get("hand.type"))
 				.andReturn("type").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.attack"))
+		EasyMock.expect(localeManager.getCardName(CardType.ATTACK))
 				.andReturn("Attack").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.skip"))
+		EasyMock.expect(localeManager.getCardName(CardType.SKIP))
 				.andReturn("Skip").anyTimes();
 		EasyMock.replay(localeManager);
 
@@ -443,9 +488,9 @@ public class UserInterfaceTest {
 				.andReturn("You played: ");
 		EasyMock.expect(localeManager.get("card.drawn"))
 				.andReturn("You drew: ");
-		EasyMock.expect(localeManager.get("card.effect.skip"))
+		EasyMock.expect(localeManager.getCardEffect(CardType.SKIP))
 				.andReturn("→ End your turn without drawing a card");
-		EasyMock.expect(localeManager.get("card.name.skip"))
+		EasyMock.expect(localeManager.getCardName(CardType.SKIP))
 				.andReturn("Skip").anyTimes();
 		EasyMock.replay(localeManager);
 
@@ -470,7 +515,7 @@ public class UserInterfaceTest {
 				.andReturn("OH NO! You drew: ");
 		EasyMock.expect(localeManager.get("card.drawn"))
 				.andReturn("You drew: ");
-		EasyMock.expect(localeManager.get("card.name.exploding_kitten"))
+		EasyMock.expect(localeManager.getCardName(CardType.EXPLODING_KITTEN))
 				.andReturn("Exploding Kitten").anyTimes();
 		EasyMock.replay(localeManager);
 
@@ -484,7 +529,7 @@ public class UserInterfaceTest {
 	public void displayDrawnCard_mustAlwaysEndWithBlankLine() {
 		EasyMock.expect(localeManager.get("card.drawn"))
 				.andReturn("You drew: ");
-		EasyMock.expect(localeManager.get("card.name.normal"))
+		EasyMock.expect(localeManager.getCardName(CardType.NORMAL))
 				.andReturn("Normal Cat")
 				.anyTimes();
 		EasyMock.replay(localeManager);
@@ -508,9 +553,9 @@ public class UserInterfaceTest {
 
 		EasyMock.expect(localeManager.get("card.played"))
 				.andReturn("You played: ");
-		EasyMock.expect(localeManager.get("card.effect.skip"))
+		EasyMock.expect(localeManager.getCardEffect(CardType.SKIP))
 				.andReturn("→ End your turn without drawing a card");
-		EasyMock.expect(localeManager.get("card.name.skip"))
+		EasyMock.expect(localeManager.getCardName(CardType.SKIP))
 				.andReturn("Skip").anyTimes();
 		EasyMock.replay(localeManager);
 
@@ -525,36 +570,36 @@ public class UserInterfaceTest {
 	public void displayCardEffect_allCardTypes_printsCorrectEffects() {
 		UserInterface ui = new UserInterface(localeManager);
 
-		EasyMock.expect(localeManager.get("card.effect.attack"))
+		EasyMock.expect(localeManager.getCardEffect(CardType.ATTACK))
 				.andReturn("→ End your turn without drawing, " +
 						"next player takes 2 turns");
-		EasyMock.expect(localeManager.get("card.effect.skip"))
+		EasyMock.expect(localeManager.getCardEffect(CardType.SKIP))
 				.andReturn("→ End your turn without drawing " +
 						"a card");
-		EasyMock.expect(localeManager.get("card.effect.see_the_future"))
+		EasyMock.expect(localeManager.getCardEffect(CardType.SEE_THE_FUTURE))
 				.andReturn("→ Peek at the top cards of the deck");
-		EasyMock.expect(localeManager.get("card.effect.shuffle"))
+		EasyMock.expect(localeManager.getCardEffect(CardType.SHUFFLE))
 				.andReturn("→ Shuffle the deck");
-		EasyMock.expect(localeManager.get("card.effect.favor"))
+		EasyMock.expect(localeManager.getCardEffect(CardType.FAVOR))
 				.andReturn("→ Force another player to give you a card");
-		EasyMock.expect(localeManager.get("card.effect.alter_the_future"))
+		EasyMock.expect(localeManager.getCardEffect(CardType.ALTER_THE_FUTURE))
 				.andReturn("→ Rearrange the top cards of the deck");
-		EasyMock.expect(localeManager.get("card.effect.defuse"))
+		EasyMock.expect(localeManager.getCardEffect(CardType.DEFUSE))
 				.andReturn("→ Used automatically when you draw " +
 						"an Exploding Kitten");
-		EasyMock.expect(localeManager.get("card.effect.nuke"))
+		EasyMock.expect(localeManager.getCardEffect(CardType.NUKE))
 				.andReturn("→ Nuclear option - " +
 						"ends the game!");
-		EasyMock.expect(localeManager.get("card.effect.reverse"))
+		EasyMock.expect(localeManager.getCardEffect(CardType.REVERSE))
 				.andReturn("→ Reverse the order of play and end " +
 						"your turn without drawing a card");
-		EasyMock.expect(localeManager.get("card.effect.swap_top_and_bottom"))
+		EasyMock.expect(localeManager.getCardEffect(CardType.SWAP_TOP_AND_BOTTOM))
 				.andReturn("→ Swap the top and bottom cards of the deck");
-		EasyMock.expect(localeManager.get("card.effect.exploding_kitten"))
+		EasyMock.expect(localeManager.getCardEffect(CardType.EXPLODING_KITTEN))
 				.andReturn("");
-		EasyMock.expect(localeManager.get("card.effect.normal"))
+		EasyMock.expect(localeManager.getCardEffect(CardType.NORMAL))
 				.andReturn("→ Just a cute cat - no special effect");
-		EasyMock.expect(localeManager.get("card.effect.bury"))
+		EasyMock.expect(localeManager.getCardEffect(CardType.BURY))
 				.andReturn("→ Draw a card and secretly put into " +
 						"anywhere in draw pile");
 		EasyMock.replay(localeManager);
@@ -627,7 +672,7 @@ public class UserInterfaceTest {
 
 	@Test
 	public void displayCardEffect_mustHandleSwapTopAndBottom() {
-		EasyMock.expect(localeManager.get("card.effect.swap_top_and_bottom"))
+		EasyMock.expect(localeManager.getCardEffect(CardType.SWAP_TOP_AND_BOTTOM))
 				.andReturn("→ Swap the top and bottom cards of the deck");
 		EasyMock.replay(localeManager);
 
@@ -644,33 +689,33 @@ public class UserInterfaceTest {
 	@Test
 	public void formatCardName_allCardTypes_returnsCorrectFormat() {
 		UserInterface ui = new UserInterface(localeManager);
-		EasyMock.expect(localeManager.get("card.name.skip"))
+		EasyMock.expect(localeManager.getCardName(CardType.SKIP))
 				.andReturn("Skip").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.attack"))
+		EasyMock.expect(localeManager.getCardName(CardType.ATTACK))
 				.andReturn("Attack").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.defuse"))
+		EasyMock.expect(localeManager.getCardName(CardType.DEFUSE))
 				.andReturn("Defuse").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.see_the_future"))
+		EasyMock.expect(localeManager.getCardName(CardType.SEE_THE_FUTURE))
 				.andReturn("See the Future").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.exploding_kitten"))
+		EasyMock.expect(localeManager.getCardName(CardType.EXPLODING_KITTEN))
 				.andReturn("Exploding Kitten").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.normal"))
+		EasyMock.expect(localeManager.getCardName(CardType.NORMAL))
 				.andReturn("Normal Cat").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.favor"))
+		EasyMock.expect(localeManager.getCardName(CardType.FAVOR))
 				.andReturn("Favor").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.shuffle"))
+		EasyMock.expect(localeManager.getCardName(CardType.SHUFFLE))
 				.andReturn("Shuffle").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.unknown_card_for_test"))
+		EasyMock.expect(localeManager.getCardName(CardType.UNKNOWN_CARD_FOR_TEST))
 				.andReturn("").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.alter_the_future"))
+		EasyMock.expect(localeManager.getCardName(CardType.ALTER_THE_FUTURE))
 				.andReturn("Alter the Future").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.nuke"))
+		EasyMock.expect(localeManager.getCardName(CardType.NUKE))
 				.andReturn("Nuke").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.reverse"))
+		EasyMock.expect(localeManager.getCardName(CardType.REVERSE))
 				.andReturn("Reverse").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.swap_top_and_bottom"))
+		EasyMock.expect(localeManager.getCardName(CardType.SWAP_TOP_AND_BOTTOM))
 				.andReturn("Swap Top and Bottom").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.bury"))
+		EasyMock.expect(localeManager.getCardName(CardType.BURY))
 				.andReturn("Bury").anyTimes();
 		EasyMock.replay(localeManager);
 
@@ -942,13 +987,13 @@ public class UserInterfaceTest {
 				.andReturn("cards");
 		EasyMock.expect(localeManager.get("hand.type"))
 				.andReturn("type");
-		EasyMock.expect(localeManager.get("card.name.defuse"))
+		EasyMock.expect(localeManager.getCardName(CardType.DEFUSE))
 				.andReturn("Defuse").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.attack"))
+		EasyMock.expect(localeManager.getCardName(CardType.ATTACK))
 				.andReturn("Attack").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.skip"))
+		EasyMock.expect(localeManager.getCardName(CardType.SKIP))
 				.andReturn("Skip").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.favor"))
+		EasyMock.expect(localeManager.getCardName(CardType.FAVOR))
 				.andReturn("Favor").anyTimes();
 		EasyMock.replay(localeManager);
 
@@ -980,9 +1025,9 @@ public class UserInterfaceTest {
 				.andReturn("cards");
 		EasyMock.expect(localeManager.get("hand.type"))
 				.andReturn("type").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.attack"))
+		EasyMock.expect(localeManager.getCardName(CardType.ATTACK))
 				.andReturn("Attack").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.skip"))
+		EasyMock.expect(localeManager.getCardName(CardType.SKIP))
 				.andReturn("Skip").anyTimes();
 		EasyMock.replay(localeManager);
 
@@ -1015,7 +1060,7 @@ public class UserInterfaceTest {
 				.andReturn("cards");
 		EasyMock.expect(localeManager.get("hand.type"))
 				.andReturn("type");
-		EasyMock.expect(localeManager.get("card.name.skip"))
+		EasyMock.expect(localeManager.getCardName(CardType.SKIP))
 				.andReturn("Skip").anyTimes();
 		EasyMock.replay(localeManager);
 
@@ -1050,11 +1095,11 @@ public class UserInterfaceTest {
 				.andReturn("cards");
 		EasyMock.expect(localeManager.get("hand.type"))
 				.andReturn("type").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.skip"))
+		EasyMock.expect(localeManager.getCardName(CardType.SKIP))
 				.andReturn("Skip").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.attack"))
+		EasyMock.expect(localeManager.getCardName(CardType.ATTACK))
 				.andReturn("Attack").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.defuse"))
+		EasyMock.expect(localeManager.getCardName(CardType.DEFUSE))
 				.andReturn("Defuse").anyTimes();
 		EasyMock.replay(localeManager);
 
@@ -1073,9 +1118,9 @@ public class UserInterfaceTest {
 
 	@Test
 	public void formatCardName_verifyExactStringMatching() {
-		EasyMock.expect(localeManager.get("card.name.attack"))
+		EasyMock.expect(localeManager.getCardName(CardType.ATTACK))
 				.andReturn("Attack").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.skip"))
+		EasyMock.expect(localeManager.getCardName(CardType.SKIP))
 				.andReturn("Skip").anyTimes();
 		EasyMock.replay(localeManager);
 
@@ -1093,33 +1138,33 @@ public class UserInterfaceTest {
 	@Test
 	public void formatCardName_defaultCase_returnsToString() {
 		UserInterface ui = new UserInterface(localeManager);
-		EasyMock.expect(localeManager.get("card.name.skip"))
+		EasyMock.expect(localeManager.getCardName(CardType.SKIP))
 				.andReturn("Skip").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.attack"))
+		EasyMock.expect(localeManager.getCardName(CardType.ATTACK))
 				.andReturn("Attack").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.defuse"))
+		EasyMock.expect(localeManager.getCardName(CardType.DEFUSE))
 				.andReturn("Defuse").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.see_the_future"))
+		EasyMock.expect(localeManager.getCardName(CardType.SEE_THE_FUTURE))
 				.andReturn("See the Future").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.exploding_kitten"))
+		EasyMock.expect(localeManager.getCardName(CardType.EXPLODING_KITTEN))
 				.andReturn("Exploding Kitten").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.normal"))
+		EasyMock.expect(localeManager.getCardName(CardType.NORMAL))
 				.andReturn("Normal Cat").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.favor"))
+		EasyMock.expect(localeManager.getCardName(CardType.FAVOR))
 				.andReturn("Favor").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.shuffle"))
+		EasyMock.expect(localeManager.getCardName(CardType.SHUFFLE))
 				.andReturn("Shuffle").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.unknown_card_for_test"))
+		EasyMock.expect(localeManager.getCardName(CardType.UNKNOWN_CARD_FOR_TEST))
 				.andReturn("").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.alter_the_future"))
+		EasyMock.expect(localeManager.getCardName(CardType.ALTER_THE_FUTURE))
 				.andReturn("Alter the Future").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.nuke"))
+		EasyMock.expect(localeManager.getCardName(CardType.NUKE))
 				.andReturn("Nuke").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.reverse"))
+		EasyMock.expect(localeManager.getCardName(CardType.REVERSE))
 				.andReturn("Reverse").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.swap_top_and_bottom"))
+		EasyMock.expect(localeManager.getCardName(CardType.SWAP_TOP_AND_BOTTOM))
 				.andReturn("Swap Top and Bottom").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.bury"))
+		EasyMock.expect(localeManager.getCardName(CardType.BURY))
 				.andReturn("Bury").anyTimes();
 		EasyMock.replay(localeManager);
 
@@ -1146,33 +1191,33 @@ public class UserInterfaceTest {
 				.andReturn("cards");
 		EasyMock.expect(localeManager.get("hand.empty"))
 				.andReturn("(empty hand)");
-		EasyMock.expect(localeManager.get("card.name.normal"))
+		EasyMock.expect(localeManager.getCardName(CardType.NORMAL))
 				.andReturn("Normal").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.exploding_kitten"))
+		EasyMock.expect(localeManager.getCardName(CardType.EXPLODING_KITTEN))
 				.andReturn("Exploding Kitten").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.see_the_future"))
+		EasyMock.expect(localeManager.getCardName(CardType.SEE_THE_FUTURE))
 				.andReturn("See the Future").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.defuse"))
+		EasyMock.expect(localeManager.getCardName(CardType.DEFUSE))
 				.andReturn("Defuse").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.attack"))
+		EasyMock.expect(localeManager.getCardName(CardType.ATTACK))
 				.andReturn("Attack").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.skip"))
+		EasyMock.expect(localeManager.getCardName(CardType.SKIP))
 				.andReturn("Skip").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.alter_the_future"))
+		EasyMock.expect(localeManager.getCardName(CardType.ALTER_THE_FUTURE))
 				.andReturn("Alter the Future").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.shuffle"))
+		EasyMock.expect(localeManager.getCardName(CardType.SHUFFLE))
 				.andReturn("Shuffle").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.nuke"))
+		EasyMock.expect(localeManager.getCardName(CardType.NUKE))
 				.andReturn("Nuke").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.reverse"))
+		EasyMock.expect(localeManager.getCardName(CardType.REVERSE))
 				.andReturn("Reverse").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.swap_top_and_bottom"))
+		EasyMock.expect(localeManager.getCardName(CardType.SWAP_TOP_AND_BOTTOM))
 				.andReturn("Swap Top and Bottom").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.favor"))
+		EasyMock.expect(localeManager.getCardName(CardType.FAVOR))
 				.andReturn("Favor").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.unknown_card_for_test"))
+		EasyMock.expect(localeManager.getCardName(CardType.UNKNOWN_CARD_FOR_TEST))
 				.andReturn("").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.bury"))
+		EasyMock.expect(localeManager.getCardName(CardType.BURY))
 				.andReturn("Bury").anyTimes();
 		EasyMock.replay(localeManager);
 
@@ -1232,7 +1277,7 @@ public class UserInterfaceTest {
 				.andReturn("cards");
 		EasyMock.expect(localeManager.get("hand.type"))
 				.andReturn("type").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.skip"))
+		EasyMock.expect(localeManager.getCardName(CardType.SKIP))
 				.andReturn("Skip").anyTimes();
 		EasyMock.replay(localeManager);
 
@@ -1281,7 +1326,7 @@ public class UserInterfaceTest {
 				.andReturn("type");
 		EasyMock.expect(localeManager.get("hand.usage"))
 				.andReturn("Use 'play <type>' to play a card (e.g., 'play skip')");
-		EasyMock.expect(localeManager.get("card.name.attack"))
+		EasyMock.expect(localeManager.getCardName(CardType.ATTACK))
 				.andReturn("Attack").anyTimes();
 		EasyMock.replay(localeManager);
 
@@ -1325,9 +1370,9 @@ public class UserInterfaceTest {
 				.andReturn("cards");
 		EasyMock.expect(localeManager.get("hand.type"))
 				.andReturn("type");
-		EasyMock.expect(localeManager.get("card.name.skip"))
+		EasyMock.expect(localeManager.getCardName(CardType.SKIP))
 				.andReturn("Skip").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.defuse"))
+		EasyMock.expect(localeManager.getCardName(CardType.DEFUSE))
 				.andReturn("Defuse").anyTimes();
 		EasyMock.replay(localeManager);
 
@@ -1675,37 +1720,37 @@ public class UserInterfaceTest {
 	) {
 		UserInterface ui = new UserInterface(localeManager);
 
-		EasyMock.expect(localeManager.get("card.name.normal"))
+		EasyMock.expect(localeManager.getCardName(CardType.NORMAL))
 				.andReturn("Normal Cat").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.exploding_kitten"))
+		EasyMock.expect(localeManager.getCardName(CardType.EXPLODING_KITTEN))
 				.andReturn("Exploding Kitten").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.defuse"))
+		EasyMock.expect(localeManager.getCardName(CardType.DEFUSE))
 				.andReturn("Defuse").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.attack"))
+		EasyMock.expect(localeManager.getCardName(CardType.ATTACK))
 				.andReturn("Attack").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.skip"))
+		EasyMock.expect(localeManager.getCardName(CardType.SKIP))
 				.andReturn("Skip").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.favor"))
+		EasyMock.expect(localeManager.getCardName(CardType.FAVOR))
 				.andReturn("Favor").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.shuffle"))
+		EasyMock.expect(localeManager.getCardName(CardType.SHUFFLE))
 				.andReturn("Shuffle").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.see_the_future"))
+		EasyMock.expect(localeManager.getCardName(CardType.SEE_THE_FUTURE))
 				.andReturn("See the Future").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.alter_the_future"))
+		EasyMock.expect(localeManager.getCardName(CardType.ALTER_THE_FUTURE))
 				.andReturn("Alter the Future").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.nuke"))
+		EasyMock.expect(localeManager.getCardName(CardType.NUKE))
 				.andReturn("Nuke").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.reverse"))
+		EasyMock.expect(localeManager.getCardName(CardType.REVERSE))
 				.andReturn("Reverse").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.swap_top_and_bottom"))
+		EasyMock.expect(localeManager.getCardName(CardType.SWAP_TOP_AND_BOTTOM))
 				.andReturn("Swap Top and Bottom").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.unknown_card_for_test"))
+		EasyMock.expect(localeManager.getCardName(CardType.UNKNOWN_CARD_FOR_TEST))
 				.andReturn("").anyTimes();
 		EasyMock.expect(localeManager.get("deck.view.top"))
 				.andReturn(":Top of deck:");
 		EasyMock.expect(localeManager.get("deck.view.entry"))
 				.andReturn("%s, index: %d").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.bury"))
+		EasyMock.expect(localeManager.getCardName(CardType.BURY))
 				.andReturn("Bury").anyTimes();
 		EasyMock.replay(localeManager);
 
@@ -1748,9 +1793,9 @@ public class UserInterfaceTest {
 		List<Card> twoCardList = new ArrayList<>
 				(List.of(testCard1, testCard2));
 
-		EasyMock.expect(localeManager.get("card.name.normal"))
+		EasyMock.expect(localeManager.getCardName(CardType.NORMAL))
 				.andReturn("Normal Cat").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.alter_the_future"))
+		EasyMock.expect(localeManager.getCardName(CardType.ALTER_THE_FUTURE))
 				.andReturn("Alter the Future").anyTimes();
 		EasyMock.expect(localeManager.get("deck.view.top"))
 				.andReturn(":Top of deck:");
@@ -1786,9 +1831,9 @@ public class UserInterfaceTest {
 
 		int deckSizeOneMoreThanCardsSize = threeCardList.size() + 1;
 
-		EasyMock.expect(localeManager.get("card.name.see_the_future"))
+		EasyMock.expect(localeManager.getCardName(CardType.SEE_THE_FUTURE))
 				.andReturn("See the Future").anyTimes();
-		EasyMock.expect(localeManager.get("card.name.exploding_kitten"))
+		EasyMock.expect(localeManager.getCardName(CardType.EXPLODING_KITTEN))
 				.andReturn("Exploding Kitten").anyTimes();
 		EasyMock.expect(localeManager.get("deck.view.top"))
 				.andReturn(":Top of deck:");